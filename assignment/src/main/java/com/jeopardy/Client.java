@@ -1,23 +1,45 @@
 package com.jeopardy;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import com.jeopardy.game.GameEngine;
+import com.jeopardy.game.GameState;
+import com.jeopardy.harness.Warmup;
+import com.jeopardy.journal.CommandJournal;
+import com.jeopardy.journal.GameJournal;
+import com.jeopardy.journal.JournalReplayer;
+import com.jeopardy.profile.ProfileRecorder;
+import com.jeopardy.profile.ProfileStore;
 import com.jeopardy.question.Question;
 import com.jeopardy.report.ReportGenerator;
-import com.jeopardy.report.format.CSVReportFormat;
-import com.jeopardy.report.format.DOCXReportFormat;
-import com.jeopardy.report.format.PDFReportFormat;
-import com.jeopardy.report.format.ReportFormat;
-import com.jeopardy.report.format.TXTReportFormat;
+import com.jeopardy.report.format.ReportFormats;
+import com.jeopardy.timer.TimingWheel;
 import com.jeopardy.ui.ConsoleUI;
+import com.jeopardy.ui.GameIO;
+import com.jeopardy.ui.TerminalGameIO;
 import com.jeopardy.utils.GameConstants;
 
 /**
  * Client is the main entry point for the Jeopardy game application.
+ *
+ * With -Djeopardy.moveTimeout=&lt;seconds&gt;, each selection and answer has a time limit;
+ * a player who runs out of time loses the turn as if they had answered incorrectly.
  */
 public class Client {
+
+    /**
+     * Time limit for each move in seconds, or 0 for none. Read once, when the class is first used.
+     */
+    private static final long MOVE_TIMEOUT_SECONDS = Long.getLong("jeopardy.moveTimeout", 0);
+
     private static GameEngine gameEngine;
+    private static CommandJournal journal;
+    private static ProfileStore profiles;
+    private static ProfileRecorder profileRecorder;
     
     // ==================== Main Entry Point ====================
     /**
@@ -36,11 +58,119 @@ public class Client {
         // Add shutdown hook to handle Ctrl+C gracefully
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             System.out.println(GameConstants.MESSAGE_GAME_QUIT);
+            if (profileRecorder != null && !gameEngine.isGameOver()) {
+                // A quit game is not finished; it is recorded once resumed and played to the end
+                gameEngine.unsubscribe(profileRecorder);
+            }
             generateReports(reportGenerator, gameEngine);
+            closeJournal();
+            closeProfiles();
         }));
 
-        ConsoleUI.showBanner();
-        gameEngine.start();
+        openProfiles();
+        if (MOVE_TIMEOUT_SECONDS > 0) {
+            TerminalGameIO.system().setMoveTimeout(new TimingWheel("console-timer"), MOVE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        TerminalGameIO.system().clear();
+        if (Warmup.ENABLED) {
+            // Compile the turn path while the player reads the banner
+            new Warmup(Warmup.DEFAULT_GAMES).start();
+        }
+        GameState recovered = recoverGame();
+        openJournal(recovered != null);
+
+        if (recovered != null) {
+            gameEngine.resume(recovered);
+        } else {
+            gameEngine.start();
+        }
+    }
+
+    // ==================== Crash Recovery ====================
+
+    /**
+     * Looks for a game left unfinished in the journal and offers to resume it.
+     *
+     * @return the rebuilt game state if the player chose to resume, otherwise null
+     */
+    private static GameState recoverGame() {
+        GameState recovered;
+        try {
+            recovered = JournalReplayer.recoverUnfinished(CommandJournal.recover(GameConstants.JOURNAL_FILE),
+                    GameConstants.PLAYER_DATA_DIRECTORY)
+                .get(gameEngine.getState().getCaseId());
+        } catch (IOException e) {
+            System.err.println("[Error]: Could not read game journal: " + e.getMessage());
+            return null;
+        }
+        if (recovered == null || recovered.getPlayers().isEmpty()) {
+            return null;
+        }
+
+        String[] options = {"Resume it", "Start a new game"};
+        int choice = prompt("An unfinished game was found. ", options, TerminalGameIO.system());
+        return choice == 1 ? recovered : null;
+    }
+
+    /**
+     * Opens the journal and attaches it to the game. A new game starts a fresh journal;
+     * a resumed game keeps appending to its existing one.
+     *
+     * @param resuming true if a recovered game is being resumed
+     */
+    private static void openJournal(boolean resuming) {
+        try {
+            if (!resuming) {
+                Files.deleteIfExists(GameConstants.JOURNAL_FILE);
+            }
+            journal = CommandJournal.open(GameConstants.JOURNAL_FILE, true);
+            gameEngine.setJournal(new GameJournal(journal, gameEngine.getState().getCaseId()));
+        } catch (IOException e) {
+            System.err.println("[Error]: Could not open game journal, this game cannot be resumed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes any buffered journal records and closes the journal.
+     */
+    private static void closeJournal() {
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                System.err.println("[Error]: Could not close game journal: " + e.getMessage());
+            }
+        }
+    }
+
+    // ==================== Player Profiles ====================
+
+    /**
+     * Opens the player profile store, so returning players are welcomed and every
+     * finished game is added to the players' lifetime statistics.
+     */
+    private static void openProfiles() {
+        try {
+            profiles = ProfileStore.open(GameConstants.PLAYER_DATA_DIRECTORY);
+            gameEngine.setProfileStore(profiles);
+            profileRecorder = new ProfileRecorder(profiles);
+            gameEngine.subscribe(profileRecorder);
+        } catch (IOException e) {
+            System.err.println("[Error]: Could not open player profiles, statistics will not be kept: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the player profiles to disk and closes the store.
+     */
+    private static void closeProfiles() {
+        if (profiles != null) {
+            try {
+                profiles.close();
+            } catch (IOException e) {
+                System.err.println("[Error]: Could not close player profiles: " + e.getMessage());
+            }
+        }
     }
 
     // ==================== UI Helper Methods (Delegated to ConsoleUI) ====================
@@ -81,51 +211,62 @@ public class Client {
 
     /**
      * Prompts the user for an integer input within a specified range.
-     * Displays options in a numbered list format.
+     * Displays options in a numbered list format and re-prompts until a valid choice is entered.
+     * Each re-prompt starts a new screen, so invalid entries do not pile up on the terminal.
      *
      * @param message the prompt message to display after the options
      * @param options the array of options to display
-     * @param scanner the Scanner instance to use for input
-     * @return the validated integer input (1-indexed)
+     * @param io the GameIO to prompt on
+     * @return the validated integer input (1-indexed), or 0 if the game is over
+     */
+    public static int prompt(String message, String[] options, GameIO io) {
+        return prompt(message, Arrays.asList(options), new StringBuilder(), io);
+    }
+
+    /**
+     * Prompts the user to choose one of a list of options, composing each option line
+     * in a reusable buffer so that a game prompting every turn allocates nothing.
+     * Behaves like {@link #prompt(String, String[], GameIO)}.
+     *
+     * @param message the prompt message to display after the options
+     * @param options the options to display, e.g. a list refilled every turn
+     * @param line the buffer option lines are composed in
+     * @param io the GameIO to prompt on
+     * @return the validated integer input (1-indexed), or 0 if the game is over
      */
-    public static int prompt(String message, String[] options, java.util.Scanner scanner) {
-        int value;
+    public static int prompt(String message, List<? extends CharSequence> options, StringBuilder line, GameIO io) {
         int min = 1;
-        int max = options.length;
+        int max = options.size();
 
-        do {
-            value = -1;
-            if (gameEngine.isGameOver()) {
-                System.out.println("Game is over. No further input accepted.");
+        while (true) {
+            if (gameEngine != null && gameEngine.isGameOver()) {
+                io.println("Game is over. No further input accepted.");
                 return 0;
             }
             // Display options in numbered list
-            for (int i = 0; i < options.length; i++) {
-                System.out.println(String.format("%d) %s", i + 1, options[i]));
+            for (int i = 0; i < options.size(); i++) {
+                line.setLength(0);
+                io.println(line.append(i + 1).append(") ").append(options.get(i)));
             }
-            System.out.print(message);
-
-            while (!scanner.hasNextInt()) {
-                System.out.println(GameConstants.ERROR_INVALID_NUMBER);
+            io.print(message);
 
-                // Re-display options
-                for (int i = 0; i < options.length; i++) {
-                    System.out.println(String.format("%d) %s", i + 1, options[i]));
-                }
-                System.out.print(message);
-                scanner.next(); // consume invalid input
+            int value;
+            try {
+                value = Integer.parseInt(io.readLine().trim());
+            } catch (NumberFormatException e) {
+                io.clear();
+                io.println(GameConstants.ERROR_INVALID_NUMBER);
+                continue;
             }
 
-            value = scanner.nextInt();
-            scanner.nextLine(); // consume newline
-
             if (value < min || value > max) {
-                System.out.println(String.format(GameConstants.ERROR_OUT_OF_RANGE_FORMAT, min, max));
+                io.clear();
+                io.println(String.format(GameConstants.ERROR_OUT_OF_RANGE_FORMAT, min, max));
+                continue;
             }
-        } while (value < min || value > max);
-        clear();
-
-        return value;
+            io.clear();
+            return value;
+        }
     }
 
     /**
@@ -133,28 +274,28 @@ public class Client {
      * Displays the question text and multiple choice options.
      *
      * @param question the Question object to present to the user
-     * @param scanner the Scanner instance to use for input
+     * @param io the GameIO to prompt on
      * @return the user's selected answer (A, B, C, D, etc.)
      */
-    public static String prompt(Question question, java.util.Scanner scanner) {
-        System.out.print(question.promptString());
+    public static String prompt(Question question, GameIO io) {
+        io.print(question.promptString());
 
         String answer;
-        java.util.Map<String, String> options = question.getOptions();
 
         do {
-            answer = scanner.nextLine().trim().toUpperCase();
-            if (gameEngine.isGameOver()) {
-                System.out.println("Game is over. No further input accepted.");
+            answer = io.readLine().trim().toUpperCase();
+            if (gameEngine != null && gameEngine.isGameOver()) {
+                io.println("Game is over. No further input accepted.");
                 break;
             }
 
-            if (answer.isEmpty() || !options.containsKey(answer)) {
-                System.out.println(GameConstants.ERROR_INVALID_ANSWER);
-                System.out.print(question.promptString());
+            if (!question.hasOption(answer)) {
+                io.clear();
+                io.println(GameConstants.ERROR_INVALID_ANSWER);
+                io.print(question.promptString());
             }
-        } while (answer.isEmpty() || !options.containsKey(answer));
-        clear();
+        } while (!question.hasOption(answer));
+        io.clear();
 
         return answer;
     }
@@ -162,26 +303,24 @@ public class Client {
     // ==================== Report Generation ====================
 
     /**
-     * Generates reports in multiple formats (CSV, PDF, DOCX, TXT) when the game ends.
+     * Generates reports in every available format (see ReportFormats) when the game ends.
      * Creates an output directory if it doesn't exist and saves the reports there.
+     * The event log is written last, after the game over event.
      *
      * @param reportGenerator the ReportGenerator containing collected activity logs
      * @param gameEngine the GameEngine instance to notify of game over
      */
     private static void generateReports(ReportGenerator reportGenerator, GameEngine gameEngine) {
         try {
-            ArrayList<ReportFormat> nonCsvFormats = new ArrayList<>();
-            nonCsvFormats.add(new PDFReportFormat());
-            nonCsvFormats.add(new DOCXReportFormat());
-            nonCsvFormats.add(new TXTReportFormat());
-
-            for (ReportFormat f : nonCsvFormats) {
-                reportGenerator.setFormat(f);
-                reportGenerator.createReport();
+            for (String name : ReportFormats.getNames()) {
+                if (!ReportFormats.EVENT_LOG.equals(name)) {
+                    reportGenerator.setFormat(ReportFormats.create(name));
+                    reportGenerator.createReport();
+                }
             }
 
             gameEngine.onGameOver();
-            reportGenerator.setFormat(new CSVReportFormat());
+            reportGenerator.setFormat(ReportFormats.create(ReportFormats.EVENT_LOG));
             reportGenerator.createReport();
 
             System.out.println(GameConstants.MESSAGE_REPORTS_SAVED);
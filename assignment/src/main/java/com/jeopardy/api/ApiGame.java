@@ -0,0 +1,368 @@
+package com.jeopardy.api;
+
+import com.jeopardy.exception.ApiRequestException;
+import com.jeopardy.game.GameState;
+import com.jeopardy.game.Player;
+import com.jeopardy.game.TurnPhase;
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.logging.observer.Subscriber;
+import com.jeopardy.question.Question;
+import com.jeopardy.question.QuestionService;
+import com.jeopardy.session.CommandResult;
+import com.jeopardy.session.CommandSession;
+import com.jeopardy.session.SessionCommand;
+import com.jeopardy.session.SessionManager;
+import com.jeopardy.utils.GameConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * ApiGame is one game played through the HTTP API.
+ *
+ * Players join by name and take turns in join order. Once started, the game is hosted
+ * by a CommandSession: each move request is submitted as a SessionCommand and waits
+ * for its result, so moves are applied on the session's thread through the same
+ * command objects as every other game. The session's activity logs are relayed to the
+ * game's subscribers, which is where the event stream of the API gets its events.
+ *
+ * Every request method is synchronized, and a move holds the lock until the session has
+ * applied it. As the game is the session's only producer, the session's state is at
+ * rest whenever the lock is held, so requests read it without racing the session's
+ * thread. Subscribing and relaying take no lock, so a move waiting under the lock never
+ * holds up the logs it produces. Replies are maps ready to be written as JSON.
+ *
+ * Design patterns used:
+ * - Command: Player moves are submitted as SessionCommands
+ * - Observer: Activity logs are relayed to the game's subscribers
+ */
+class ApiGame {
+
+    private final String id;
+    private final SessionManager sessions;
+    private final List<String> players;
+    private final List<Subscriber> subscribers;
+    private CommandSession session;
+    private GameState state;
+    private volatile long lastActiveNanos;
+
+    /**
+     * Constructs a game that is waiting for players.
+     *
+     * @param id the game ID, also the case ID of its activity logs
+     * @param sessions the session manager that hosts the game once it starts
+     * @param subscribers the subscribers to publish activity logs to
+     */
+    ApiGame(String id, SessionManager sessions, List<Subscriber> subscribers) {
+        this.id = id;
+        this.sessions = sessions;
+        this.players = new ArrayList<>();
+        this.subscribers = new CopyOnWriteArrayList<>(subscribers);
+        this.lastActiveNanos = System.nanoTime();
+    }
+
+    /**
+     * Gets the game ID.
+     *
+     * @return the game ID
+     */
+    String getId() {
+        return this.id;
+    }
+
+    /**
+     * Checks whether the game has ended.
+     *
+     * @return true if the game is over
+     */
+    synchronized boolean isOver() {
+        return this.session != null && this.session.isOver();
+    }
+
+    /**
+     * Records that a client used the game just now.
+     */
+    void touch() {
+        this.lastActiveNanos = System.nanoTime();
+    }
+
+    /**
+     * Gets how long the game has gone without a client using it.
+     *
+     * @param now the current System.nanoTime()
+     * @return the idle time in nanoseconds
+     */
+    long getIdleNanos(long now) {
+        return now - this.lastActiveNanos;
+    }
+
+    /**
+     * Subscribes to the activity logs of this game.
+     *
+     * @param subscriber the subscriber to register
+     */
+    void subscribe(Subscriber subscriber) {
+        this.subscribers.add(subscriber);
+    }
+
+    /**
+     * Unsubscribes from the activity logs of this game.
+     *
+     * @param subscriber the subscriber to remove
+     */
+    void unsubscribe(Subscriber subscriber) {
+        this.subscribers.remove(subscriber);
+    }
+
+    /**
+     * Ends the game's session, if it has one. Moves already queued are still applied.
+     */
+    synchronized void close() {
+        if (this.session != null) {
+            this.session.close();
+        }
+    }
+
+    // ==================== Requests ====================
+
+    /**
+     * Adds a player to the game.
+     *
+     * @param name the player's name
+     * @return the game ID and the player's seat
+     * @throws ApiRequestException if the game has started, is full or the name is taken
+     */
+    synchronized Map<String, Object> join(String name) throws ApiRequestException {
+        if (this.session != null) {
+            throw new ApiRequestException(409, "Game already started");
+        }
+        if (this.players.size() == GameConstants.MAX_PLAYERS) {
+            throw new ApiRequestException(409, "Game is full");
+        }
+        if (this.players.contains(name)) {
+            throw new ApiRequestException(409, "Name already taken");
+        }
+        this.players.add(name);
+
+        Map<String, Object> reply = new LinkedHashMap<>();
+        reply.put("game", this.id);
+        reply.put("player", name);
+        reply.put("seat", this.players.size() - 1);
+        return reply;
+    }
+
+    /**
+     * Starts the game: hands the players to a new session, which draws a board and
+     * gives the first player the turn.
+     *
+     * @return the game summary
+     * @throws ApiRequestException if the game has started or nobody has joined
+     */
+    synchronized Map<String, Object> start() throws ApiRequestException {
+        if (this.session != null) {
+            throw new ApiRequestException(409, "Game already started");
+        }
+        if (this.players.isEmpty()) {
+            throw new ApiRequestException(409, "No players have joined");
+        }
+        this.session = this.sessions.createCommandSession(this.id, this.players,
+            Collections.singletonList(this::relay));
+        this.state = this.session.getState();
+        return summary();
+    }
+
+    /**
+     * Lists the unanswered board and whose turn it is.
+     *
+     * @return the categories with their unanswered values
+     * @throws ApiRequestException if the game has not started
+     */
+    synchronized Map<String, Object> board() throws ApiRequestException {
+        if (this.session == null) {
+            throw new ApiRequestException(409, "Game not started");
+        }
+        QuestionService board = this.state.getQuestionService();
+        List<Object> categories = new ArrayList<>();
+        for (String category : board.getCategories()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", category);
+            entry.put("values", new ArrayList<>(board.getCategoryQuestionValues(category)));
+            categories.add(entry);
+        }
+
+        Map<String, Object> reply = summary();
+        reply.put("categories", categories);
+        return reply;
+    }
+
+    /**
+     * Selects a category and a value for the current player and reveals the question.
+     *
+     * @param name the player making the move
+     * @param category the category name
+     * @param value the question value
+     * @return the revealed question and its options
+     * @throws ApiRequestException if the move is not allowed or the question does not exist
+     */
+    synchronized Map<String, Object> select(String name, String category, int value) throws ApiRequestException {
+        checkMove(name, TurnPhase.SELECT_CATEGORY);
+        QuestionService board = this.state.getQuestionService();
+        if (!board.getCategories().contains(category)) {
+            throw new ApiRequestException(404, "Unknown category " + category);
+        }
+        if (!board.getCategoryQuestionValues(category).contains(value)) {
+            throw new ApiRequestException(404, "No unanswered " + value + " question in " + category);
+        }
+
+        int turn = this.session.getTurn();
+        SessionCommand selectCategory = this.session.submit(SessionCommand.selectCategory(name, turn, category));
+        SessionCommand selectQuestion = this.session.submit(SessionCommand.selectQuestion(name, turn, value));
+        await(selectCategory);
+        await(selectQuestion);
+
+        Question question = this.state.getCurrentQuestion();
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i < question.getOptionCount(); i++) {
+            options.put(String.valueOf((char) ('A' + i)), question.getOption(i));
+        }
+        Map<String, Object> reply = new LinkedHashMap<>();
+        reply.put("category", question.getCategory());
+        reply.put("value", question.getValue());
+        reply.put("question", question.getQuestion());
+        reply.put("options", options);
+        return reply;
+    }
+
+    /**
+     * Answers the revealed question for the current player and passes the turn on.
+     *
+     * @param name the player making the move
+     * @param answer the answer label
+     * @return the result, the player's score and the game summary
+     * @throws ApiRequestException if the move is not allowed or the label is invalid
+     */
+    synchronized Map<String, Object> answer(String name, String answer) throws ApiRequestException {
+        checkMove(name, TurnPhase.ANSWER);
+        Question question = this.state.getCurrentQuestion();
+        String label = answer.trim().toUpperCase();
+        if (label.isEmpty() || (question.getOptionCount() > 0 && !question.hasOption(label))) {
+            throw new ApiRequestException(400, GameConstants.ERROR_INVALID_ANSWER);
+        }
+
+        boolean correct = question.isCorrect(label);
+        Player player = this.state.getCurrentPlayer();
+        await(this.session.submit(SessionCommand.answer(name, this.session.getTurn(), label)));
+
+        Map<String, Object> reply = summary();
+        reply.put("result", correct ? GameConstants.RESULT_CORRECT : GameConstants.RESULT_INCORRECT);
+        reply.put("score", player.getCurrentScore());
+        return reply;
+    }
+
+    /**
+     * Lists every player's score.
+     *
+     * @return the game summary with scores
+     */
+    synchronized Map<String, Object> scores() {
+        return summary();
+    }
+
+    /**
+     * Describes the game: its status, whose turn it is and every player's score.
+     *
+     * @return the game summary
+     */
+    synchronized Map<String, Object> summary() {
+        Map<String, Object> scores = new LinkedHashMap<>();
+        if (this.session == null) {
+            for (String player : this.players) {
+                scores.put(player, 0);
+            }
+        } else {
+            for (Player p : this.state.getPlayers()) {
+                scores.put(p.getId(), p.getCurrentScore());
+            }
+        }
+        boolean over = isOver();
+        Map<String, Object> reply = new LinkedHashMap<>();
+        reply.put("game", this.id);
+        reply.put("status", over ? "over" : this.session != null ? "playing" : "waiting");
+        if (this.session != null && !over) {
+            reply.put("turn", this.state.getCurrentPlayer().getId());
+        }
+        reply.put("scores", scores);
+        return reply;
+    }
+
+    // ==================== Turn Flow ====================
+
+    /**
+     * Checks that a move comes from the current player at the right point of the turn.
+     * A session that has not yet begun its first turn already expects its first move.
+     *
+     * @param name the player making the move
+     * @param expected the phase the move belongs to
+     * @throws ApiRequestException if the move is not allowed
+     */
+    private void checkMove(String name, TurnPhase expected) throws ApiRequestException {
+        if (this.session == null || isOver()) {
+            throw new ApiRequestException(409, this.session != null ? "Game is over" : "Game not started");
+        }
+        if (findPlayer(name) == null) {
+            throw new ApiRequestException(404, "Unknown player " + name);
+        }
+        if (!this.state.getCurrentPlayer().getId().equals(name)) {
+            throw new ApiRequestException(409, "Not your turn");
+        }
+        TurnPhase phase = this.session.getPhase() == TurnPhase.TURN_START
+                ? TurnPhase.SELECT_CATEGORY : this.session.getPhase();
+        if (phase != expected) {
+            throw new ApiRequestException(409, "Expected " + phase.name());
+        }
+    }
+
+    /**
+     * Waits until the session has applied or refused a move.
+     *
+     * @param command the submitted move
+     * @throws ApiRequestException if the session refused the move
+     */
+    private static void await(SessionCommand command) throws ApiRequestException {
+        CommandResult result = command.getResult().join();
+        if (!result.isApplied()) {
+            throw new ApiRequestException(409, result.getMessage());
+        }
+    }
+
+    /**
+     * Finds a player by name.
+     *
+     * @param name the player's name
+     * @return the player, or null if nobody has that name
+     */
+    private Player findPlayer(String name) {
+        for (Player p : this.state.getPlayers()) {
+            if (p.getId().equals(name)) {
+                return p;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Relays an activity log published by the session to every subscriber.
+     * Runs on the session's thread, so it must not take the game's lock.
+     *
+     * @param log the activity log
+     */
+    private void relay(ActivityLog log) {
+        for (Subscriber s : this.subscribers) {
+            s.update(log);
+        }
+    }
+}
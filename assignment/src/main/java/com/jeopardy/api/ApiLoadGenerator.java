@@ -0,0 +1,346 @@
+package com.jeopardy.api;
+
+import com.jeopardy.utils.VirtualThreads;
+
+import org.json.simple.JSONValue;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiLoadGenerator plays games against a GameApiServer from many concurrent clients
+ * and measures request latency.
+ *
+ * Each client plays whole games one after another: it creates a game, joins it,
+ * starts it, and then lists the board, selects the first unanswered question and
+ * answers "A" until the game is over. Every request's round trip is recorded, and the
+ * run reports throughput with p50 and p99 latency.
+ *
+ * Usage:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass=com.jeopardy.api.ApiLoadGenerator \
+ *     -Dexec.args="http://localhost:8080 32 20"
+ * </pre>
+ * Arguments are optional: base URL, client count and games per client.
+ */
+public class ApiLoadGenerator {
+
+    private static final int DEFAULT_CLIENTS = 32;
+    private static final int DEFAULT_GAMES_PER_CLIENT = 20;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Summary of a load run.
+     */
+    public static final class Result {
+        private final int clients;
+        private final int games;
+        private final int requests;
+        private final int errors;
+        private final long elapsedNanos;
+        private final long p50Nanos;
+        private final long p99Nanos;
+
+        Result(int clients, int games, int requests, int errors, long elapsedNanos, long p50Nanos, long p99Nanos) {
+            this.clients = clients;
+            this.games = games;
+            this.requests = requests;
+            this.errors = errors;
+            this.elapsedNanos = elapsedNanos;
+            this.p50Nanos = p50Nanos;
+            this.p99Nanos = p99Nanos;
+        }
+
+        /**
+         * Gets the number of games played to the end.
+         *
+         * @return the finished game count
+         */
+        public int getGames() {
+            return this.games;
+        }
+
+        /**
+         * Gets the number of requests sent.
+         *
+         * @return the request count
+         */
+        public int getRequests() {
+            return this.requests;
+        }
+
+        /**
+         * Gets the number of requests that failed or got an unexpected status.
+         *
+         * @return the error count
+         */
+        public int getErrors() {
+            return this.errors;
+        }
+
+        /**
+         * Gets the request throughput.
+         *
+         * @return requests per second
+         */
+        public double getRequestsPerSecond() {
+            return this.requests / (this.elapsedNanos / 1e9);
+        }
+
+        /**
+         * Gets the median request latency.
+         *
+         * @return the p50 latency in nanoseconds
+         */
+        public long getP50Nanos() {
+            return this.p50Nanos;
+        }
+
+        /**
+         * Gets the 99th percentile request latency.
+         *
+         * @return the p99 latency in nanoseconds
+         */
+        public long getP99Nanos() {
+            return this.p99Nanos;
+        }
+
+        /**
+         * Formats the result as a one-line summary.
+         *
+         * @return the summary
+         */
+        @Override
+        public String toString() {
+            return String.format("%d clients played %d games: %d requests (%d errors) in %.2f s (%.0f req/s), latency p50 %.0f us, p99 %.0f us",
+                this.clients, this.games, this.requests, this.errors, this.elapsedNanos / 1e9, getRequestsPerSecond(),
+                this.p50Nanos / 1e3, this.p99Nanos / 1e3);
+        }
+    }
+
+    /**
+     * One client: plays its games and records the latency of each request.
+     */
+    private static final class Client {
+        private final HttpClient http;
+        private final URI base;
+        private final String name;
+        private long[] latencies = new long[1024];
+        private int requests;
+        private int errors;
+        private int games;
+
+        Client(HttpClient http, URI base, String name) {
+            this.http = http;
+            this.base = base;
+            this.name = name;
+        }
+
+        /**
+         * Plays the given number of games, stopping a game at its first error.
+         *
+         * @param count the number of games
+         * @return this client
+         */
+        Client play(int count) {
+            for (int i = 0; i < count; i++) {
+                try {
+                    if (playGame()) {
+                        this.games++;
+                    }
+                } catch (IOException | ParseException e) {
+                    this.errors++;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Plays one game to the end.
+         *
+         * @return true if the game reached game over
+         * @throws IOException if a request fails
+         * @throws InterruptedException if interrupted while waiting for a reply
+         * @throws ParseException if a reply is not JSON
+         */
+        private boolean playGame() throws IOException, InterruptedException, ParseException {
+            Map<?, ?> game = send("POST", "/games", null);
+            if (game == null) {
+                return false;
+            }
+            String path = "/games/" + game.get("game");
+            if (send("POST", path + "/players", body("name", this.name)) == null
+                    || send("POST", path + "/start", null) == null) {
+                return false;
+            }
+
+            while (true) {
+                Map<?, ?> board = send("GET", path + "/board", null);
+                if (board == null) {
+                    return false;
+                }
+                if ("over".equals(board.get("status"))) {
+                    return true;
+                }
+                Map<?, ?> first = (Map<?, ?>) ((List<?>) board.get("categories")).stream()
+                    .filter(c -> !((List<?>) ((Map<?, ?>) c).get("values")).isEmpty())
+                    .findFirst().orElseThrow(() -> new IOException("Board has no questions but game is not over"));
+                Object value = ((List<?>) first.get("values")).get(0);
+
+                Map<String, Object> selection = body("player", this.name);
+                selection.put("category", first.get("name"));
+                selection.put("value", value);
+                Map<String, Object> answer = body("player", this.name);
+                answer.put("answer", "A");
+                if (send("POST", path + "/select", selection) == null || send("POST", path + "/answer", answer) == null) {
+                    return false;
+                }
+            }
+        }
+
+        /**
+         * Sends one request and records its latency.
+         *
+         * @param method the request method
+         * @param path the request path
+         * @param body the JSON body, or null
+         * @return the JSON reply, or null if the status was not 2xx
+         * @throws IOException if the request fails
+         * @throws InterruptedException if interrupted while waiting for the reply
+         * @throws ParseException if the reply is not JSON
+         */
+        private Map<?, ?> send(String method, String path, Map<String, Object> body)
+                throws IOException, InterruptedException, ParseException {
+            HttpRequest request = HttpRequest.newBuilder(this.base.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofString(JSONValue.toJSONString(body)))
+                .build();
+
+            long start = System.nanoTime();
+            HttpResponse<String> response = this.http.send(request, HttpResponse.BodyHandlers.ofString());
+            record(System.nanoTime() - start);
+
+            if (response.statusCode() / 100 != 2) {
+                this.errors++;
+                return null;
+            }
+            return (Map<?, ?>) new JSONParser().parse(response.body());
+        }
+
+        /**
+         * Records one request latency.
+         *
+         * @param nanos the round-trip time
+         */
+        private void record(long nanos) {
+            if (this.requests == this.latencies.length) {
+                this.latencies = Arrays.copyOf(this.latencies, this.requests * 2);
+            }
+            this.latencies[this.requests++] = nanos;
+        }
+    }
+
+    /**
+     * Prevents instantiation; use {@link #run} or {@link #main(String[])}.
+     */
+    private ApiLoadGenerator() {
+    }
+
+    /**
+     * Runs the clients concurrently and measures every request.
+     *
+     * @param base the server's base URL, for example http://localhost:8080
+     * @param clients the number of concurrent clients
+     * @param gamesPerClient the number of games each client plays
+     * @return the run summary
+     * @throws InterruptedException if interrupted while waiting for the clients
+     */
+    public static Result run(URI base, int clients, int gamesPerClient) throws InterruptedException {
+        ExecutorService threads = VirtualThreads.newThreadPerTaskExecutor("api-load");
+        HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(threads)
+            .build();
+
+        long start = System.nanoTime();
+        List<Future<Client>> futures = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            Client client = new Client(http, base, "bot" + i);
+            futures.add(threads.submit(() -> client.play(gamesPerClient)));
+        }
+
+        int games = 0;
+        int requests = 0;
+        int errors = 0;
+        long[] latencies = new long[0];
+        for (Future<Client> future : futures) {
+            Client client;
+            try {
+                client = future.get();
+            } catch (ExecutionException e) {
+                System.err.println("Load client failed: " + e.getCause());
+                errors++;
+                continue;
+            }
+            games += client.games;
+            errors += client.errors;
+            latencies = Arrays.copyOf(latencies, requests + client.requests);
+            System.arraycopy(client.latencies, 0, latencies, requests, client.requests);
+            requests += client.requests;
+        }
+        long elapsed = System.nanoTime() - start;
+        threads.shutdown();
+        threads.awaitTermination(5, TimeUnit.SECONDS);
+
+        Arrays.sort(latencies);
+        long p50 = requests == 0 ? 0 : latencies[(int) (requests * 0.50)];
+        long p99 = requests == 0 ? 0 : latencies[Math.min(requests - 1, (int) (requests * 0.99))];
+        return new Result(clients, games, requests, errors, elapsed, p50, p99);
+    }
+
+    /**
+     * Builds a request body with one field.
+     *
+     * @param name the field name
+     * @param value the field value
+     * @return the mutable body map
+     */
+    private static Map<String, Object> body(String name, Object value) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put(name, value);
+        return body;
+    }
+
+    /**
+     * Runs a load test against a running server and prints the summary.
+     *
+     * @param args optional base URL, client count and games per client
+     * @throws InterruptedException if interrupted while waiting for the clients
+     */
+    public static void main(String[] args) throws InterruptedException {
+        URI base = URI.create(args.length > 0 ? args[0] : "http://localhost:" + GameApiServer.DEFAULT_PORT);
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_CLIENTS;
+        int games = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_GAMES_PER_CLIENT;
+        System.out.println(run(base, clients, games));
+    }
+}
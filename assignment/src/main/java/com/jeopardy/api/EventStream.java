@@ -0,0 +1,89 @@
+package com.jeopardy.api;
+
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.logging.observer.Subscriber;
+import com.jeopardy.utils.ActivityType;
+
+import org.json.simple.JSONValue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventStream subscribes one push client to a game's activity logs.
+ *
+ * Logs are published while the game holds its lock, so update() only converts the
+ * log to JSON and queues it; the client's own request thread takes events from the
+ * queue and writes them to the socket. A slow client therefore never delays the game.
+ *
+ * Design patterns used:
+ * - Observer: Subscribes to the game's ActivityPublisher
+ */
+class EventStream implements Subscriber {
+
+    private final LinkedBlockingQueue<String> events;
+
+    /**
+     * Constructs an empty stream.
+     */
+    EventStream() {
+        this.events = new LinkedBlockingQueue<>();
+    }
+
+    /**
+     * Queues an activity log as a JSON event.
+     *
+     * @param activity the published activity log
+     */
+    @Override
+    public void update(ActivityLog activity) {
+        this.events.add(toJson(activity));
+    }
+
+    /**
+     * Waits for the next event.
+     *
+     * @param timeout the longest time to wait
+     * @param unit the unit of the timeout
+     * @return the event JSON, or null if none arrived in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    String next(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.events.poll(timeout, unit);
+    }
+
+    /**
+     * Checks whether an event JSON reports the end of the game.
+     *
+     * @param event the event JSON
+     * @return true for the game-over event
+     */
+    static boolean isGameOver(String event) {
+        return event.contains("\"activity\":\"" + ActivityType.GAME_OVER.name() + "\"");
+    }
+
+    /**
+     * Converts an activity log to a JSON object, leaving out empty fields.
+     *
+     * @param log the activity log
+     * @return the JSON text
+     */
+    static String toJson(ActivityLog log) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("caseId", log.getCaseId());
+        json.put("playerId", log.getPlayerId());
+        json.put("activity", log.getActivity() == null ? null : log.getActivity().name());
+        json.put("timestamp", log.getTimestamp() == null ? null : log.getTimestamp().toString());
+        json.put("turn", log.getTurn());
+        json.put("category", log.getCategory());
+        json.put("questionValue", log.getQuestionValue());
+        json.put("question", log.getQuestion() == null ? null : log.getQuestion().getQuestion());
+        json.put("answer", log.getAnswerGiven());
+        json.put("result", log.getResult());
+        json.put("score", log.getScoreAfterPlay());
+        json.values().removeIf(value -> value == null || "".equals(value));
+        return JSONValue.toJSONString(json);
+    }
+}
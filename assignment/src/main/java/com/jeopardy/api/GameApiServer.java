@@ -0,0 +1,579 @@
+package com.jeopardy.api;
+
+import com.jeopardy.exception.ApiRequestException;
+import com.jeopardy.leaderboard.Leaderboard;
+import com.jeopardy.leaderboard.Standing;
+import com.jeopardy.logging.observer.Subscriber;
+import com.jeopardy.question.QuestionService;
+import com.jeopardy.question.loader.CSVQuestionLoader;
+import com.jeopardy.session.SessionManager;
+import com.jeopardy.utils.GameConstants;
+import com.jeopardy.utils.VirtualThreads;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import org.json.simple.JSONValue;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * GameApiServer serves games to browser and mobile front-ends as an HTTP/JSON API.
+ *
+ * It runs on the JDK's built-in com.sun.net.httpserver.HttpServer, so no external
+ * server is needed. Each request runs on its own virtual thread (or a small-stack
+ * platform thread on runtimes without virtual threads), which keeps long-lived event
+ * streams cheap.
+ *
+ * Routes (request and reply bodies are JSON objects):
+ * <pre>
+ * POST /games                        create a game                  -&gt; {"game": id, ...}
+ * GET  /games                        list games
+ * POST /games/{id}/players           {"name": n}                    join as a new player
+ * POST /games/{id}/start             draw the board and begin
+ * GET  /games/{id}/board             unanswered categories and values
+ * POST /games/{id}/select            {"player", "category", "value"} reveal a question
+ * POST /games/{id}/answer            {"player", "answer"}           answer it
+ * GET  /games/{id}/scores            status, turn and scores
+ * GET  /games/{id}/events            server-sent event stream of activity logs
+ * GET  /leaderboard                  the best players of all games by total points
+ * </pre>
+ * Errors reply with the matching status code and {"error": message}.
+ *
+ * Started games are hosted by a SessionManager as CommandSessions; request threads
+ * submit the moves and wait for them to be applied on the session's thread.
+ *
+ * The event stream is fed from each game's session: every activity log is
+ * sent as an "activity" event whose data is the log as JSON. The stream ends after
+ * the GAME_OVER event.
+ *
+ * Clients may abandon a game at any point, so games that no request or event stream
+ * has used for the idle timeout (30 minutes by default) are dropped, finished or not.
+ * Idle games are looked for when games are created, at most a few times per timeout,
+ * so the games held are bounded by the games created within about one timeout.
+ *
+ * Usage: mvn exec:java -Dexec.mainClass=com.jeopardy.api.GameApiServer -Dexec.args="8080"
+ */
+public class GameApiServer {
+
+    /**
+     * Default HTTP port.
+     */
+    public static final int DEFAULT_PORT = 8080;
+
+    private static final String GAMES_PATH = "/games";
+    private static final String LEADERBOARD_PATH = "/leaderboard";
+    private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+    private static final String JSON_TYPE = "application/json; charset=utf-8";
+    private static final int ACCEPT_BACKLOG = 4096;
+    private static final int MAX_RETAINED_GAMES = 10_000;
+    private static final long DEFAULT_IDLE_TIMEOUT_MINUTES = 30;
+    private static final int SWEEPS_PER_IDLE_TIMEOUT = 4;
+    private static final long KEEP_ALIVE_MILLIS = 15_000;
+    private static final long EVENT_POLL_MILLIS = 500;
+
+    private final QuestionService bank;
+    private final int port;
+    private final Map<String, ApiGame> games;
+    private final List<Subscriber> subscribers;
+    private final Leaderboard leaderboard;
+    private final AtomicLong nextGameId;
+    private final AtomicLong nextSweepNanos;
+    private volatile long idleTimeoutNanos;
+    private HttpServer server;
+    private ExecutorService executor;
+    private SessionManager sessions;
+    private volatile boolean running;
+
+    /**
+     * Constructs a server; call start() to begin accepting requests.
+     *
+     * @param bank the shared question bank (read only)
+     * @param port the HTTP port, or 0 for any free port
+     */
+    public GameApiServer(QuestionService bank, int port) {
+        this.bank = bank;
+        this.bank.getIndex();
+        this.port = port;
+        this.games = new ConcurrentHashMap<>();
+        this.subscribers = new CopyOnWriteArrayList<>();
+        this.leaderboard = new Leaderboard();
+        // The leaderboard is thread-safe, so it is not serialized like other subscribers
+        this.subscribers.add(this.leaderboard);
+        this.nextGameId = new AtomicLong();
+        this.idleTimeoutNanos = TimeUnit.MINUTES.toNanos(DEFAULT_IDLE_TIMEOUT_MINUTES);
+        this.nextSweepNanos = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Sets how long a game may go unused before it is dropped.
+     *
+     * @param timeout the idle time limit
+     * @param unit the unit of the time limit
+     */
+    public void setIdleTimeout(long timeout, TimeUnit unit) {
+        this.idleTimeoutNanos = unit.toNanos(timeout);
+        this.nextSweepNanos.set(System.nanoTime());
+    }
+
+    // ==================== Lifecycle ====================
+
+    /**
+     * Binds the port and starts serving requests.
+     *
+     * @throws IOException if the port cannot be bound
+     */
+    public void start() throws IOException {
+        // Replies are small and written in two parts (headers, body); without TCP_NODELAY
+        // Nagle's algorithm and delayed ACKs add tens of milliseconds to every request.
+        // The JDK server reads this once, when the first server is created.
+        if (System.getProperty(NODELAY_PROPERTY) == null) {
+            System.setProperty(NODELAY_PROPERTY, "true");
+        }
+        this.sessions = new SessionManager(this.bank);
+        this.executor = VirtualThreads.newThreadPerTaskExecutor("game-api");
+        this.server = HttpServer.create(new InetSocketAddress(this.port), ACCEPT_BACKLOG);
+        this.server.createContext(GAMES_PATH, this::handle);
+        this.server.createContext(LEADERBOARD_PATH, this::handleLeaderboard);
+        this.server.setExecutor(this.executor);
+        this.running = true;
+        this.server.start();
+    }
+
+    /**
+     * Stops accepting requests, ends open event streams and stops the request and session threads.
+     *
+     * @throws InterruptedException if interrupted while waiting for requests to finish
+     */
+    public void stop() throws InterruptedException {
+        this.running = false;
+        if (this.server != null) {
+            this.server.stop(0);
+        }
+        if (this.executor != null) {
+            this.executor.shutdown();
+            this.executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        if (this.sessions != null) {
+            this.sessions.shutdown(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Gets the port the server is bound to.
+     *
+     * @return the local port
+     */
+    public int getPort() {
+        return this.server.getAddress().getPort();
+    }
+
+    /**
+     * Gets the number of games the server currently holds.
+     *
+     * @return the game count
+     */
+    public int getGameCount() {
+        return this.games.size();
+    }
+
+    /**
+     * Gets the leaderboard of all games.
+     *
+     * @return the leaderboard
+     */
+    public Leaderboard getLeaderboard() {
+        return this.leaderboard;
+    }
+
+    /**
+     * Subscribes to the activity logs of every game created from now on.
+     * Games are played on many session threads, so updates to one subscriber are serialized.
+     *
+     * @param subscriber the subscriber to register
+     */
+    public void subscribe(Subscriber subscriber) {
+        this.subscribers.add(log -> {
+            synchronized (subscriber) {
+                subscriber.update(log);
+            }
+        });
+    }
+
+    // ==================== Routing ====================
+
+    /**
+     * Handles one request under /games.
+     *
+     * @param exchange the HTTP exchange
+     * @throws IOException if the reply cannot be written
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            String rest = exchange.getRequestURI().getPath().substring(GAMES_PATH.length());
+            if (!rest.isEmpty() && rest.charAt(0) != '/') {
+                throw new ApiRequestException(404, "Not found");
+            }
+            String[] path = rest.split("/");
+            // path[0] is empty; path[1] is the game ID and path[2] the action, when present
+            if (path.length <= 1) {
+                if ("POST".equals(method)) {
+                    reply(exchange, 201, createGame().summary());
+                } else {
+                    requireMethod(method, "GET");
+                    reply(exchange, 200, listGames());
+                }
+                return;
+            }
+            if (path.length > 3) {
+                throw new ApiRequestException(404, "Not found");
+            }
+
+            ApiGame game = this.games.get(path[1]);
+            if (game == null) {
+                throw new ApiRequestException(404, "Unknown game " + path[1]);
+            }
+            game.touch();
+            String action = path.length == 3 ? path[2] : "scores";
+            switch (action) {
+                case "players":
+                    requireMethod(method, "POST");
+                    reply(exchange, 201, game.join(stringField(readBody(exchange), "name")));
+                    break;
+                case "start":
+                    requireMethod(method, "POST");
+                    reply(exchange, 200, game.start());
+                    break;
+                case "board":
+                    requireMethod(method, "GET");
+                    reply(exchange, 200, game.board());
+                    break;
+                case "select": {
+                    requireMethod(method, "POST");
+                    Map<?, ?> body = readBody(exchange);
+                    reply(exchange, 200, game.select(stringField(body, "player"),
+                        stringField(body, "category"), intField(body, "value")));
+                    break;
+                }
+                case "answer": {
+                    requireMethod(method, "POST");
+                    Map<?, ?> body = readBody(exchange);
+                    reply(exchange, 200, game.answer(stringField(body, "player"), stringField(body, "answer")));
+                    break;
+                }
+                case "scores":
+                    requireMethod(method, "GET");
+                    reply(exchange, 200, game.scores());
+                    break;
+                case "events":
+                    requireMethod(method, "GET");
+                    streamEvents(exchange, game);
+                    break;
+                default:
+                    throw new ApiRequestException(404, "Unknown action " + action);
+            }
+        } catch (ApiRequestException e) {
+            replyError(exchange, e.getStatus(), e.getMessage());
+        } catch (RuntimeException e) {
+            System.err.println("Game API error: " + e.getMessage());
+            replyError(exchange, 500, "Internal error");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Handles GET /leaderboard.
+     *
+     * @param exchange the HTTP exchange
+     * @throws IOException if the reply cannot be written
+     */
+    private void handleLeaderboard(HttpExchange exchange) throws IOException {
+        try {
+            if (!LEADERBOARD_PATH.equals(exchange.getRequestURI().getPath())) {
+                throw new ApiRequestException(404, "Not found");
+            }
+            requireMethod(exchange.getRequestMethod(), "GET");
+            List<Object> leaders = new ArrayList<>();
+            for (Standing standing : this.leaderboard.getTop(Leaderboard.DEFAULT_TOP)) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("player", standing.getPlayerId());
+                entry.put("score", standing.getScore());
+                entry.put("answers", standing.getAnswers());
+                leaders.add(entry);
+            }
+            Map<String, Object> reply = new LinkedHashMap<>();
+            reply.put("players", this.leaderboard.size());
+            reply.put("leaders", leaders);
+            reply(exchange, 200, reply);
+        } catch (ApiRequestException e) {
+            replyError(exchange, e.getStatus(), e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Creates a game, first dropping idle games when a sweep is due, and finished
+     * games if too many are held. Dropped games have their sessions closed.
+     *
+     * @return the new game
+     */
+    private ApiGame createGame() {
+        long now = System.nanoTime();
+        long due = this.nextSweepNanos.get();
+        if (now - due >= 0 && this.nextSweepNanos.compareAndSet(due, now + this.idleTimeoutNanos / SWEEPS_PER_IDLE_TIMEOUT)) {
+            long timeout = this.idleTimeoutNanos;
+            drop(g -> g.getIdleNanos(now) >= timeout);
+        }
+        if (this.games.size() >= MAX_RETAINED_GAMES) {
+            drop(ApiGame::isOver);
+        }
+        String id = "g" + this.nextGameId.incrementAndGet();
+        ApiGame game = new ApiGame(id, this.sessions, this.subscribers);
+        this.games.put(id, game);
+        return game;
+    }
+
+    /**
+     * Removes the games that match a condition and closes their sessions.
+     *
+     * @param condition the games to drop
+     */
+    private void drop(Predicate<ApiGame> condition) {
+        Iterator<ApiGame> it = this.games.values().iterator();
+        while (it.hasNext()) {
+            ApiGame game = it.next();
+            if (condition.test(game)) {
+                it.remove();
+                game.close();
+            }
+        }
+    }
+
+    /**
+     * Lists the summary of every game.
+     *
+     * @return the reply object
+     */
+    private Map<String, Object> listGames() {
+        List<Object> summaries = new ArrayList<>();
+        for (ApiGame game : this.games.values()) {
+            summaries.add(game.summary());
+        }
+        Map<String, Object> reply = new LinkedHashMap<>();
+        reply.put("games", summaries);
+        return reply;
+    }
+
+    // ==================== Event Stream ====================
+
+    /**
+     * Streams a game's activity logs as server-sent events until the game ends,
+     * the client disconnects or the server stops.
+     *
+     * @param exchange the HTTP exchange
+     * @param game the game to follow
+     * @throws IOException if the stream cannot be opened
+     */
+    private void streamEvents(HttpExchange exchange, ApiGame game) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+
+        EventStream stream = new EventStream();
+        game.subscribe(stream);
+        OutputStream out = exchange.getResponseBody();
+        try {
+            out.write(": connected\n\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            long lastWrite = System.currentTimeMillis();
+            while (this.running && !game.isOver()) {
+                // A watched game is in use even when nobody moves
+                game.touch();
+                String event = stream.next(EVENT_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    writeEvent(out, event);
+                    lastWrite = System.currentTimeMillis();
+                    if (EventStream.isGameOver(event)) {
+                        return;
+                    }
+                } else if (System.currentTimeMillis() - lastWrite >= KEEP_ALIVE_MILLIS) {
+                    out.write(": keep-alive\n\n".getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                    lastWrite = System.currentTimeMillis();
+                }
+            }
+            // The game may have ended between polls; send what is still queued
+            String event;
+            while ((event = stream.next(0, TimeUnit.MILLISECONDS)) != null) {
+                writeEvent(out, event);
+            }
+        } catch (IOException e) {
+            // Client went away; nothing left to send
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            game.unsubscribe(stream);
+        }
+    }
+
+    /**
+     * Writes one server-sent event.
+     *
+     * @param out the response stream
+     * @param json the event data
+     * @throws IOException if the client has gone away
+     */
+    private static void writeEvent(OutputStream out, String json) throws IOException {
+        out.write(("event: activity\ndata: " + json + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    // ==================== JSON ====================
+
+    /**
+     * Reads the request body as a JSON object.
+     *
+     * @param exchange the HTTP exchange
+     * @return the parsed object
+     * @throws ApiRequestException if the body is not a JSON object
+     * @throws IOException if the body cannot be read
+     */
+    private static Map<?, ?> readBody(HttpExchange exchange) throws ApiRequestException, IOException {
+        try (Reader reader = new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8)) {
+            Object parsed = new JSONParser().parse(reader);
+            if (!(parsed instanceof Map)) {
+                throw new ApiRequestException(400, "Body must be a JSON object");
+            }
+            return (Map<?, ?>) parsed;
+        } catch (ParseException e) {
+            throw new ApiRequestException(400, "Malformed JSON body");
+        }
+    }
+
+    /**
+     * Gets a required, non-blank string field.
+     *
+     * @param body the request object
+     * @param name the field name
+     * @return the field value, trimmed
+     * @throws ApiRequestException if the field is missing or blank
+     */
+    private static String stringField(Map<?, ?> body, String name) throws ApiRequestException {
+        Object value = body.get(name);
+        if (value == null || value.toString().trim().isEmpty()) {
+            throw new ApiRequestException(400, "Missing field " + name);
+        }
+        return value.toString().trim();
+    }
+
+    /**
+     * Gets a required integer field, given either as a number or a numeric string.
+     *
+     * @param body the request object
+     * @param name the field name
+     * @return the field value
+     * @throws ApiRequestException if the field is missing or not an integer
+     */
+    private static int intField(Map<?, ?> body, String name) throws ApiRequestException {
+        Object value = body.get(name);
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        try {
+            return Integer.parseInt(stringField(body, name));
+        } catch (NumberFormatException e) {
+            throw new ApiRequestException(400, "Field " + name + " must be an integer");
+        }
+    }
+
+    /**
+     * Rejects a request made with the wrong method.
+     *
+     * @param method the request method
+     * @param allowed the method the route accepts
+     * @throws ApiRequestException if the methods differ
+     */
+    private static void requireMethod(String method, String allowed) throws ApiRequestException {
+        if (!allowed.equals(method)) {
+            throw new ApiRequestException(405, "Use " + allowed);
+        }
+    }
+
+    /**
+     * Writes a JSON reply.
+     *
+     * @param exchange the HTTP exchange
+     * @param status the status code
+     * @param body the reply object
+     * @throws IOException if the reply cannot be written
+     */
+    private static void reply(HttpExchange exchange, int status, Map<String, Object> body) throws IOException {
+        byte[] bytes = JSONValue.toJSONString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Writes an error reply, unless a reply was already started.
+     *
+     * @param exchange the HTTP exchange
+     * @param status the status code
+     * @param message the error message
+     * @throws IOException if the reply cannot be written
+     */
+    private static void replyError(HttpExchange exchange, int status, String message) throws IOException {
+        if (exchange.getResponseCode() != -1) {
+            return;
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("error", message);
+        reply(exchange, status, body);
+    }
+
+    // ==================== Entry Point ====================
+
+    /**
+     * Runs a server until the process is stopped.
+     *
+     * @param args optional port and question file
+     * @throws IOException if the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        String fileName = args.length > 1 ? args[1]
+                : GameConstants.DATA_DIRECTORY.resolve("sample_game_CSV.csv").toString();
+
+        QuestionService bank = new QuestionService();
+        if (!bank.setQuestions(new CSVQuestionLoader(), fileName)) {
+            System.out.println("[Error]: Could not load questions from " + fileName);
+            return;
+        }
+
+        GameApiServer server = new GameApiServer(bank, port);
+        server.start();
+        System.out.println("Game API listening on http://localhost:" + server.getPort() + GAMES_PATH);
+    }
+}
@@ -2,6 +2,8 @@ package com.jeopardy.command;
 
 import com.jeopardy.game.GameController;
 import com.jeopardy.logging.ActivityLogBuilder;
+import com.jeopardy.metrics.Metrics;
+import com.jeopardy.metrics.Probe;
 import com.jeopardy.question.Question;
 import com.jeopardy.utils.ActivityType;
 import com.jeopardy.utils.GameConstants;
@@ -11,6 +13,7 @@ import com.jeopardy.utils.GameConstants;
  *
  * This command implements the Command pattern and handles:
  * - Validation of the question and answer
+ * - Atomically claiming the question so that only one concurrent attempt can score it
  * - Evaluation of the player's answer
  * - Notification of game state changes via the GameController
  * - User feedback on answer correctness
@@ -22,12 +25,18 @@ import com.jeopardy.utils.GameConstants;
  *
  * The command evaluates the player's choice against the correct answer and provides
  * appropriate feedback, including the correct answer when the player's response is incorrect.
+ *
+ * A command may be executed any number of times: GameEngine keeps one per game, gives
+ * it each turn's answer with setChoice, and reuses it together with its activity log
+ * builder and message buffer.
  */
 public class AnswerQuestionCommand implements Command {
 
-    private final Question question;
-    private final String choice;
     private final GameController controller;
+    private final ActivityLogBuilder builder;
+    private final StringBuilder message = new StringBuilder(GameConstants.MESSAGE_INCORRECT_PREFIX.length() + 32);
+    private Question question;
+    private String choice;
 
     /**
      * Constructs an AnswerQuestionCommand with the specified answer choice and controller.
@@ -38,68 +47,80 @@ public class AnswerQuestionCommand implements Command {
      */
     public AnswerQuestionCommand(GameController controller, String choice) {
         this.controller = controller;
+        this.builder = new ActivityLogBuilder(controller.getClock());
+        setChoice(choice);
+    }
+
+    /**
+     * Sets the answer the next execution evaluates, against the controller's current question.
+     *
+     * @param choice the player's answer choice
+     * @return this command, for chaining
+     */
+    public AnswerQuestionCommand setChoice(String choice) {
         this.question = this.controller.getState().getCurrentQuestion();
         this.choice = choice;
+        return this;
     }
 
     /**
      * Executes the answer question command.
-     * Evaluates the player's answer, updates score if correct, provides feedback,
-     * and logs the activity.
+     * Evaluates the player's answer and claims the question; if another attempt
+     * already claimed it, nothing is scored or logged. Otherwise updates the score
+     * if correct, provides feedback, and logs the activity if anyone subscribes.
      */
     @Override
     public void execute() {
         if (question == null) {
-            System.out.println(GameConstants.ERROR_NO_QUESTION);
+            controller.getIO().println(GameConstants.ERROR_NO_QUESTION);
             return;
         }
 
-        boolean isCorrect = question.evaluate(choice);
+        long start = Metrics.start();
+        boolean isCorrect = question.isCorrect(choice);
+        boolean claimed = question.tryClaim();
+        Metrics.stop(Probe.EVALUATION, start);
+        if (!claimed) {
+            controller.getIO().println(GameConstants.ERROR_ALREADY_ANSWERED);
+            return;
+        }
+        controller.getState().markQuestionSeen(question);
 
         if (isCorrect) {
             // Award points for correct answer
             controller.updateCurrentPlayerScore(question.getValue());
-            System.out.println(GameConstants.MESSAGE_CORRECT);
-
-            // Log correct answer activity
-            controller.setCurrentActivityLog(
-                new ActivityLogBuilder()
-                        .setCaseId(GameConstants.DEFAULT_CASE_ID)
-                        .setPlayerId(controller.getState().getCurrentPlayer())
-                        .setActivity(ActivityType.ANSWER_QUESTION)
-                        .setTimestamp()
-                        .setResult(GameConstants.RESULT_CORRECT)
-                        .setCategory(controller.getState().getCurrentCategory())
-                        .setQuestionValue(controller.getState().getCurrentQuestion().getValue())
-                        .setQuestion(question)
-                        .setTurn(controller.getState().getCurrentTurn() + GameConstants.TURN_DISPLAY_OFFSET)
-                        .setScoreAfterPlay(controller.getState().getCurrentPlayer().getCurrentScore())
-                        .setAnswerGiven(choice)
-                        .createActivityLog()
-            );
+            controller.getIO().println(GameConstants.MESSAGE_CORRECT);
         } else {
             // No points for incorrect answer
-            System.out.println(String.format(GameConstants.MESSAGE_INCORRECT_FORMAT, question.getCorrectAnswer()));
+            this.message.setLength(0);
+            controller.getIO().println(this.message.append(GameConstants.MESSAGE_INCORRECT_PREFIX).append(question.getCorrectAnswer()));
+        }
 
-            // Log incorrect answer activity
-            controller.setCurrentActivityLog(
-                new ActivityLogBuilder()
-                        .setCaseId(GameConstants.DEFAULT_CASE_ID)
-                        .setPlayerId(controller.getState().getCurrentPlayer())
-                        .setActivity(ActivityType.ANSWER_QUESTION)
-                        .setTimestamp()
-                        .setResult(GameConstants.RESULT_INCORRECT)
-                        .setCategory(controller.getState().getCurrentCategory())
-                        .setQuestionValue(controller.getState().getCurrentQuestion().getValue())
-                        .setTurn(controller.getState().getCurrentTurn() + GameConstants.TURN_DISPLAY_OFFSET)
-                        .setQuestion(question)
-                        .setScoreAfterPlay(controller.getState().getCurrentPlayer().getCurrentScore())
-                        .setAnswerGiven(choice)
-                        .createActivityLog()
-            );
+        if (!controller.hasSubscribers()) {
+            Metrics.stop(Probe.ANSWER, start);
+            return;
         }
 
+        // Log the answer activity
+        controller.setCurrentActivityLog(
+            this.builder
+                    .setCaseId(controller.getState().getCaseId())
+                    .setPlayerId(controller.getState().getCurrentPlayer())
+                    .setActivity(ActivityType.ANSWER_QUESTION)
+                    .setTimestamp()
+                    .setResult(isCorrect ? GameConstants.RESULT_CORRECT : GameConstants.RESULT_INCORRECT)
+                    .setCategory(controller.getState().getCurrentCategory())
+                    .setQuestionValue(controller.getState().getCurrentQuestion().getValue())
+                    .setQuestion(question)
+                    .setTurn(controller.getState().getCurrentTurn() + GameConstants.TURN_DISPLAY_OFFSET)
+                    .setScoreAfterPlay(controller.getState().getCurrentPlayer().getCurrentScore())
+                    .setAnswerGiven(choice)
+                    .createActivityLog()
+        );
+        this.builder.reset();
+
         // Notify all subscribers of the activity
         controller.notifySubscribers();
+        Metrics.stop(Probe.ANSWER, start);
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,8 @@ package com.jeopardy.command;
 
 import com.jeopardy.game.GameController;
 import com.jeopardy.logging.ActivityLogBuilder;
+import com.jeopardy.metrics.Metrics;
+import com.jeopardy.metrics.Probe;
 import com.jeopardy.utils.ActivityType;
 import com.jeopardy.utils.GameConstants;
 
@@ -19,10 +21,14 @@ import com.jeopardy.utils.GameConstants;
  * - Enables dependency injection for better testability and loose coupling
  *
  * The command validates that a valid question has been provided before executing.
+ *
+ * A command may be executed any number of times: GameEngine keeps one per game and
+ * reuses it every turn, together with its activity log builder.
  */
 public class SelectQuestionCommand implements Command {
 
     private final GameController controller;
+    private final ActivityLogBuilder builder;
 
     /**
      * Constructs a SelectQuestionCommand with the given controller.
@@ -32,21 +38,29 @@ public class SelectQuestionCommand implements Command {
      */
     public SelectQuestionCommand(GameController controller) {
         this.controller = controller;
+        this.builder = new ActivityLogBuilder(controller.getClock());
     }
 
     /**
      * Executes the question selection command.
-     * Prompts the user to select a question and logs the activity.
+     * Prompts the user to select a question and logs the activity, if anyone subscribes.
      */
     @Override
     public void execute() {
+        long start = Metrics.start();
+
         // Prompt player to select a question
         controller.selectQuestion();
 
+        if (!controller.hasSubscribers()) {
+            Metrics.stop(Probe.QUESTION_SELECTION, start);
+            return;
+        }
+
         // Log the question selection activity
         controller.setCurrentActivityLog(
-            new ActivityLogBuilder()
-                    .setCaseId(GameConstants.DEFAULT_CASE_ID)
+            this.builder
+                    .setCaseId(controller.getState().getCaseId())
                     .setPlayerId(controller.getState().getCurrentPlayer())
                     .setActivity(ActivityType.SELECT_QUESTION)
                     .setTimestamp()
@@ -56,8 +70,10 @@ public class SelectQuestionCommand implements Command {
                     .setScoreAfterPlay(controller.getState().getCurrentPlayer().getCurrentScore())
                     .createActivityLog()
         );
+        this.builder.reset();
 
         // Notify all subscribers of the activity
         controller.notifySubscribers();
+        Metrics.stop(Probe.QUESTION_SELECTION, start);
     }
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.jeopardy.command;
+
+import com.jeopardy.game.GameController;
+import com.jeopardy.game.Player;
+import com.jeopardy.logging.ActivityLogBuilder;
+import com.jeopardy.question.Question;
+import com.jeopardy.utils.ActivityType;
+import com.jeopardy.utils.GameConstants;
+
+/**
+ * TimeoutCommand resolves a turn whose player ran out of time as an incorrect answer.
+ *
+ * The current question, if one has been selected, is claimed exactly as an answer
+ * would claim it, so it leaves the board and a late answer cannot score it. No points
+ * are awarded, as for any incorrect answer. If time ran out before a question was
+ * revealed, the lowest-value question of the chosen category (or of the board) is
+ * forfeited instead, so the board shrinks every turn and a game whose players never
+ * move still ends. The timeout is logged as a TIMEOUT activity; advancing the turn
+ * is left to the controller.
+ *
+ * SOLID principles:
+ * - Follows Dependency Inversion Principle (DIP) by depending on GameController interface
+ */
+public class TimeoutCommand implements Command {
+
+    private final GameController controller;
+    private final boolean questionRevealed;
+
+    /**
+     * Constructs a TimeoutCommand for the controller's current player.
+     *
+     * @param controller the GameController instance to interact with
+     * @param questionRevealed true if time ran out on the answer, false if on a selection
+     */
+    public TimeoutCommand(GameController controller, boolean questionRevealed) {
+        this.controller = controller;
+        this.questionRevealed = questionRevealed;
+    }
+
+    /**
+     * Executes the timeout: claims the current question and logs the timeout.
+     */
+    @Override
+    public void execute() {
+        Player player = controller.getState().getCurrentPlayer();
+        if (!this.questionRevealed) {
+            controller.getState().setCurrentQuestion(forfeitedQuestion());
+        }
+        Question question = controller.getState().getCurrentQuestion();
+        if (question != null && !question.tryClaim()) {
+            // Answered before the deadline; nothing is left to resolve
+            return;
+        }
+        if (question != null) {
+            controller.getState().markQuestionSeen(question);
+        }
+        controller.getIO().println(String.format(GameConstants.MESSAGE_TIMEOUT_FORMAT, player.getId()));
+
+        controller.setCurrentActivityLog(
+            new ActivityLogBuilder(controller.getClock())
+                    .setCaseId(controller.getState().getCaseId())
+                    .setPlayerId(player)
+                    .setActivity(ActivityType.TIMEOUT)
+                    .setTimestamp()
+                    .setResult(GameConstants.RESULT_INCORRECT)
+                    .setCategory(controller.getState().getCurrentCategory())
+                    .setQuestionValue(question == null ? 0 : question.getValue())
+                    .setQuestion(question)
+                    .setTurn(controller.getState().getCurrentTurn() + GameConstants.TURN_DISPLAY_OFFSET)
+                    .setScoreAfterPlay(player.getCurrentScore())
+                    .createActivityLog()
+        );
+
+        // Notify all subscribers of the activity
+        controller.notifySubscribers();
+    }
+
+    /**
+     * Picks the question a player forfeits by not selecting one in time.
+     *
+     * @return the lowest-value unanswered question of the current category, or of the
+     *         whole board if the category has none; null if the board is empty
+     */
+    private Question forfeitedQuestion() {
+        String category = controller.getState().getCurrentCategory();
+        Question lowest = null;
+        Question lowestInCategory = null;
+        for (Question q : controller.getState().getQuestionService().getUnansweredQuestions()) {
+            if (lowest == null || q.getValue() < lowest.getValue()) {
+                lowest = q;
+            }
+            if (q.getCategory().equals(category) && (lowestInCategory == null || q.getValue() < lowestInCategory.getValue())) {
+                lowestInCategory = q;
+            }
+        }
+        if (lowestInCategory != null) {
+            return lowestInCategory;
+        }
+        if (lowest != null) {
+            controller.getState().setCurrentCategory(lowest.getCategory());
+        }
+        return lowest;
+    }
+}
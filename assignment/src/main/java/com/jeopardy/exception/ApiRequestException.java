@@ -0,0 +1,41 @@
+package com.jeopardy.exception;
+
+/**
+ * ApiRequestException is thrown when an HTTP API request cannot be carried out.
+ *
+ * It carries the HTTP status code to reply with, for example:
+ * - 400 when the request body is malformed or a field is missing
+ * - 404 when the game does not exist
+ * - 409 when the move is not allowed right now (wrong turn, game not started)
+ *
+ * Example usage:
+ * <pre>
+ * if (!started) {
+ *     throw new ApiRequestException(409, "Game not started");
+ * }
+ * </pre>
+ */
+public class ApiRequestException extends GameException {
+
+    private final int status;
+
+    /**
+     * Constructs an ApiRequestException with an HTTP status and a descriptive message.
+     *
+     * @param status the HTTP status code to reply with
+     * @param message the detail message returned to the client
+     */
+    public ApiRequestException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    /**
+     * Gets the HTTP status code to reply with.
+     *
+     * @return the status code
+     */
+    public int getStatus() {
+        return this.status;
+    }
+}
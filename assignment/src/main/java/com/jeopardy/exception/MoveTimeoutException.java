@@ -0,0 +1,32 @@
+package com.jeopardy.exception;
+
+/**
+ * MoveTimeoutException is thrown when a player runs out of time for a move.
+ *
+ * This is an unchecked (runtime) exception raised by a GameIO with a move time limit
+ * while the game waits for input. It unwinds the prompt and the command that was
+ * waiting, so the engine can resolve the move as a timeout.
+ *
+ * Example usage:
+ * <pre>
+ * io.beginMove();
+ * try {
+ *     String answer = io.readLine();
+ * } catch (MoveTimeoutException e) {
+ *     // resolve the move as a timeout
+ * } finally {
+ *     io.endMove();
+ * }
+ * </pre>
+ */
+public class MoveTimeoutException extends RuntimeException {
+
+    /**
+     * Constructs a MoveTimeoutException with a descriptive message.
+     *
+     * @param message the detail message naming the move that ran out of time
+     */
+    public MoveTimeoutException(String message) {
+        super(message);
+    }
+}
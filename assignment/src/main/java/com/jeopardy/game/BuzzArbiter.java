@@ -0,0 +1,244 @@
+package com.jeopardy.game;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * BuzzArbiter decides who buzzed in first during a buzz-in round.
+ *
+ * Once a question is revealed the arbiter is opened, and every player may call
+ * buzz() from their own input thread. Each buzz is stamped with System.nanoTime()
+ * and then tries one compareAndSet on the arbiter's state: the first CAS to succeed
+ * wins, every later buzz loses. There are no locks and no allocation, so arbitration
+ * costs a few tens of nanoseconds even with many threads buzzing at once.
+ *
+ * Each open() starts a new round, and the round number is part of the state the CAS
+ * compares, so a buzz that read the state in one round can only win or lose that
+ * round, never a later one (no ABA between rounds).
+ *
+ * Every seat's first buzz is recorded as a reaction time measured from open(), so
+ * losers can be told how far behind the winner they were. The CAS order is the
+ * authority: a loser that read the clock a moment before the winner but reached the
+ * CAS second is reported as zero behind.
+ *
+ * Usage:
+ * <pre>
+ * arbiter.open();                          // question revealed
+ * if (arbiter.buzz(seat) == Outcome.WON) { // from any thread
+ *     ...
+ * }
+ * arbiter.close();                         // question answered
+ * </pre>
+ */
+public class BuzzArbiter {
+
+    /**
+     * Outcome of one buzz.
+     */
+    public enum Outcome {
+        /**
+         * First to buzz; the seat answers the question.
+         */
+        WON,
+
+        /**
+         * Buzzed after the winner.
+         */
+        LOST,
+
+        /**
+         * The seat already buzzed in this round.
+         */
+        REPEAT,
+
+        /**
+         * The buzzers are not open.
+         */
+        CLOSED
+    }
+
+    private static final int CLOSED = -2;
+    private static final int OPEN = -1;
+
+    /**
+     * The round number in the high 32 bits; CLOSED, OPEN or the winning seat in the low 32.
+     * The round changes on every open(), so a buzz that read the state in an earlier
+     * round can never win a later one.
+     */
+    private final AtomicLong state;
+
+    /**
+     * Reaction time of each seat's first buzz, in nanoseconds after open(), or the
+     * round's negative not-buzzed marker.
+     */
+    private final AtomicLongArray reactions;
+
+    private volatile long openedAt;
+
+    /**
+     * Constructs a closed arbiter.
+     *
+     * @param seats the number of seats that may buzz
+     */
+    public BuzzArbiter(int seats) {
+        this.state = new AtomicLong(pack(0, CLOSED));
+        this.reactions = new AtomicLongArray(seats);
+        for (int i = 0; i < seats; i++) {
+            this.reactions.set(i, notBuzzed(0));
+        }
+    }
+
+    /**
+     * Packs a round and its status into a state word.
+     *
+     * @param round the round number
+     * @param status CLOSED, OPEN or the winning seat
+     * @return the state word
+     */
+    private static long pack(int round, int status) {
+        return ((long) round << 32) | (status & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Gets the round of a state word.
+     *
+     * @param state the state word
+     * @return the round number
+     */
+    private static int roundOf(long state) {
+        return (int) (state >>> 32);
+    }
+
+    /**
+     * Gets the status of a state word.
+     *
+     * @param state the state word
+     * @return CLOSED, OPEN or the winning seat
+     */
+    private static int statusOf(long state) {
+        return (int) state;
+    }
+
+    /**
+     * Gets the marker of a seat that has not buzzed in a round. Markers differ between
+     * rounds and are negative, so they never equal a reaction time.
+     *
+     * @param round the round number
+     * @return the marker
+     */
+    private static long notBuzzed(int round) {
+        return -1L - (round & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Opens the buzzers for a new question, forgetting the previous round.
+     * Called by one thread at a time, e.g. the room's.
+     */
+    public void open() {
+        int round = roundOf(this.state.get()) + 1;
+        this.state.set(pack(round, CLOSED));
+        for (int i = 0; i < this.reactions.length(); i++) {
+            this.reactions.set(i, notBuzzed(round));
+        }
+        this.openedAt = System.nanoTime();
+        this.state.set(pack(round, OPEN));
+    }
+
+    /**
+     * Closes the buzzers; later buzzes report CLOSED. The last winner is forgotten.
+     */
+    public void close() {
+        this.state.set(pack(roundOf(this.state.get()), CLOSED));
+    }
+
+    /**
+     * Buzzes in for a seat. Safe to call from any thread.
+     *
+     * @param seat the seat buzzing
+     * @return WON for the first buzz of the round, LOST after it, REPEAT for a seat's
+     *         second buzz, or CLOSED when the buzzers are not open
+     */
+    public Outcome buzz(int seat) {
+        return buzz(seat, this.state.get());
+    }
+
+    /**
+     * Buzzes in for a seat that read the arbiter's state earlier. A buzz only counts in
+     * the round it read; if that round has been closed or replaced it reports CLOSED.
+     *
+     * @param seat the seat buzzing
+     * @param observed the state word the buzz read
+     * @return the outcome, as for {@link #buzz(int)}
+     */
+    Outcome buzz(int seat, long observed) {
+        if (statusOf(observed) == CLOSED) {
+            return Outcome.CLOSED;
+        }
+        int round = roundOf(observed);
+        // The state was published after openedAt, so the reaction is never negative
+        long reaction = System.nanoTime() - this.openedAt;
+        if (!this.reactions.compareAndSet(seat, notBuzzed(round), reaction)) {
+            return roundOf(this.state.get()) == round ? Outcome.REPEAT : Outcome.CLOSED;
+        }
+        if (statusOf(observed) == OPEN && this.state.compareAndSet(pack(round, OPEN), pack(round, seat))) {
+            return Outcome.WON;
+        }
+        long current = this.state.get();
+        return roundOf(current) == round && statusOf(current) != CLOSED ? Outcome.LOST : Outcome.CLOSED;
+    }
+
+    /**
+     * Gets the arbiter's state word, for a buzz that is applied later.
+     *
+     * @return the current state word
+     */
+    long getState() {
+        return this.state.get();
+    }
+
+    /**
+     * Checks whether the buzzers are open and nobody has won yet.
+     *
+     * @return true while waiting for the first buzz
+     */
+    public boolean isOpen() {
+        return statusOf(this.state.get()) == OPEN;
+    }
+
+    /**
+     * Gets the seat that won the current round.
+     *
+     * @return the winning seat, or -1 if nobody has won or the arbiter is closed
+     */
+    public int getWinner() {
+        int status = statusOf(this.state.get());
+        return status >= 0 ? status : -1;
+    }
+
+    /**
+     * Gets how long after open() a seat first buzzed.
+     *
+     * @param seat the seat
+     * @return the reaction time in nanoseconds, or -1 if the seat has not buzzed
+     */
+    public long getReactionNanos(int seat) {
+        long reaction = this.reactions.get(seat);
+        return reaction < 0 ? -1 : reaction;
+    }
+
+    /**
+     * Gets how far behind the winner a seat buzzed.
+     *
+     * @param seat the seat
+     * @return the seat's reaction time minus the winner's in nanoseconds (at least 0),
+     *         or -1 if there is no winner or the seat has not buzzed
+     */
+    public long getDeltaNanos(int seat) {
+        int winner = getWinner();
+        long reaction = getReactionNanos(seat);
+        if (winner < 0 || reaction < 0) {
+            return -1;
+        }
+        return Math.max(0, reaction - getReactionNanos(winner));
+    }
+}
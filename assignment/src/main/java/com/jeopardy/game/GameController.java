@@ -1,6 +1,10 @@
 package com.jeopardy.game;
 
 import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.ui.GameIO;
+import com.jeopardy.ui.TerminalGameIO;
+
+import java.time.Clock;
 
 /**
  * GameController defines the contract for game control operations.
@@ -26,6 +30,26 @@ public interface GameController {
      */
     GameState getState();
 
+    /**
+     * Gets the channel used to talk to the players of this game.
+     * Defaults to the standard console.
+     *
+     * @return the GameIO of this game
+     */
+    default GameIO getIO() {
+        return TerminalGameIO.system();
+    }
+
+    /**
+     * Gets the clock that timestamps the activity logs of this game.
+     * Defaults to the system clock.
+     *
+     * @return the clock of this game
+     */
+    default Clock getClock() {
+        return Clock.systemUTC();
+    }
+
     /**
      * Handles category selection during gameplay.
      * Prompts the player to select a category from available options.
@@ -57,4 +81,15 @@ public interface GameController {
      * Used by the Observer pattern to publish game state changes.
      */
     void notifySubscribers();
+
+    /**
+     * Checks whether any subscriber will receive game events.
+     * Commands skip building activity logs when nobody listens; controllers that
+     * cannot tell keep the default, so logs are always built.
+     *
+     * @return true if game events have subscribers
+     */
+    default boolean hasSubscribers() {
+        return true;
+    }
 }
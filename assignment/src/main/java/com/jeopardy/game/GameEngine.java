@@ -7,10 +7,22 @@ import com.jeopardy.logging.observer.Subscriber;
 import com.jeopardy.Client;
 import com.jeopardy.command.AnswerQuestionCommand;
 import com.jeopardy.command.SelectCategoryCommand;
+import com.jeopardy.command.Command;
 import com.jeopardy.command.SelectQuestionCommand;
+import com.jeopardy.command.TimeoutCommand;
+import com.jeopardy.exception.MoveTimeoutException;
+import com.jeopardy.journal.GameJournal;
 import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.metrics.Metrics;
+import com.jeopardy.metrics.Probe;
+import com.jeopardy.profile.PlayerProfile;
+import com.jeopardy.profile.ProfileStore;
 import com.jeopardy.utils.ActivityType;
+import com.jeopardy.ui.TerminalGameIO;
+import com.jeopardy.ui.GameIO;
 import com.jeopardy.utils.GameConstants;
+import java.io.IOException;
+import java.time.Clock;
 import java.util.*;
 
 /**
@@ -29,34 +41,78 @@ import java.util.*;
  * Design patterns used:
  * - Singleton: Ensures single game instance via Instance() method
  * - Observer: Publishes game events to subscribers (e.g., ReportGenerator)
+ * - State: Turns are driven by a TurnStateMachine over TurnPhase values
+ * - Command: Each turn runs one reusable command per move, created with the engine
  *
  * SOLID principles:
  * - Implements GameController interface for Dependency Inversion Principle (DIP)
  *
  * The GameEngine orchestrates all game components and serves as the primary
  * interface for game control and state management.
+ *
+ * A steady-state turn allocates nothing on the engine side: the commands and their
+ * log builders are reused, prompts are composed in GameState's buffers, and no
+ * activity log is built while the engine has no subscribers.
  */
-public class GameEngine implements GameController, Publisher {
+public class GameEngine implements GameController, Publisher, TurnStateMachine.PhaseHandler {
 
     private static GameEngine instance;
-    private Scanner scanner;
+    private final GameIO io;
     private GameState state;
     private final ActivityPublisher activityPublisher;
     private final ActivityLogBuilder activityLogBuilder;
+    private final Clock clock;
     private boolean isGameOver;
+    private final TurnStateMachine turnStateMachine;
+    private GameJournal journal;
+    private ProfileStore profiles;
+    private final SelectCategoryCommand selectCategoryCommand;
+    private final SelectQuestionCommand selectQuestionCommand;
+    private final AnswerQuestionCommand answerQuestionCommand;
 
     // ==================== Singleton Pattern ====================
 
     /**
      * Private constructor used by the Singleton pattern.
-     * Use Instance() to get the game engine instance.
+     * Use Instance() to get the console game engine instance.
+     * The console game keeps its players' question history on disk.
      */
     private GameEngine() {
-        this.state = new GameState();
+        this(new GameState(new Random(), new SeenQuestionStore(GameConstants.PLAYER_DATA_DIRECTORY)), TerminalGameIO.system());
+    }
+
+    /**
+     * Constructs an independent game engine over its own state and IO.
+     * Used to host several games in one JVM (see SessionManager) or to play
+     * headlessly (see HeadlessGameIO); the console game uses the singleton
+     * returned by Instance().
+     *
+     * @param state the GameState this engine plays
+     * @param io the GameIO this engine talks to players through
+     */
+    public GameEngine(GameState state, GameIO io) {
+        this(state, io, Clock.systemUTC());
+    }
+
+    /**
+     * Constructs an independent game engine whose activity logs are timestamped by
+     * the given clock, so that a scripted game can log the same times on every run.
+     *
+     * @param state the GameState this engine plays
+     * @param io the GameIO this engine talks to players through
+     * @param clock the clock that timestamps the activity logs
+     */
+    public GameEngine(GameState state, GameIO io, Clock clock) {
+        this.state = state;
+        this.clock = clock;
         this.activityPublisher = new ActivityPublisher();
-        this.activityLogBuilder = new ActivityLogBuilder();
+        this.activityLogBuilder = new ActivityLogBuilder(clock);
         this.isGameOver = false;
-        this.scanner = new Scanner(System.in);
+        this.turnStateMachine = new TurnStateMachine();
+        this.io = io;
+        this.selectCategoryCommand = new SelectCategoryCommand(this);
+        this.selectQuestionCommand = new SelectQuestionCommand(this);
+        this.answerQuestionCommand = new AnswerQuestionCommand(this, null);
     }
 
     /**
@@ -85,11 +141,62 @@ public class GameEngine implements GameController, Publisher {
         return this.state;
     }
 
+    /**
+     * Gets the channel this engine talks to players through.
+     *
+     * @return the GameIO of this game
+     */
+    @Override
+    public GameIO getIO() {
+        return this.io;
+    }
+
+    /**
+     * Gets the clock that timestamps this engine's activity logs.
+     *
+     * @return the clock of this game
+     */
+    @Override
+    public Clock getClock() {
+        return this.clock;
+    }
+
+    /**
+     * Journals this game's setup and every executed command, so it can be resumed
+     * after a crash (see JournalReplayer).
+     *
+     * @param journal the journal for this game, or null to stop journaling
+     */
+    public void setJournal(GameJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Looks up the players' lifetime profiles when the game starts, to welcome back
+     * returning players. Profiles are updated at game over by a ProfileRecorder
+     * subscribed to this engine.
+     *
+     * @param profiles the profile store, or null to skip the lookup
+     */
+    public void setProfileStore(ProfileStore profiles) {
+        this.profiles = profiles;
+    }
+
+    /**
+     * Records how long each turn phase takes (see TurnStateMachine).
+     *
+     * @param timer the timer to record into, or null to stop timing
+     */
+    public void setPhaseTimer(PhaseTimer timer) {
+        this.turnStateMachine.setPhaseTimer(timer);
+    }
+
     /**
      * Checks if the game is over.
      *
      * @return true if the game has ended, false otherwise
      */
+    @Override
     public boolean isGameOver() {
         return this.isGameOver;
     }
@@ -126,7 +233,10 @@ public class GameEngine implements GameController, Publisher {
             state.getCurrentTurn();
         }
 
-        if (this.state.getQuestionService().getUnansweredQuestions().size() == 0) {
+        if (!this.state.getQuestionService().hasUnansweredQuestions()) {
+            if (this.journal != null) {
+                this.journal.gameOver();
+            }
             this.onGameOver();
         }
     }
@@ -141,13 +251,14 @@ public class GameEngine implements GameController, Publisher {
 
     /**
      * Handles the game over condition.
-     * Sets game over flag and notifies all subscribers.
+     * Sets game over flag, saves the players' question history and notifies all subscribers.
      */
     public void onGameOver() {
         this.isGameOver = true;
+        this.state.saveSeenQuestions();
         this.activityPublisher.setCurrentActivityLog(
             this.activityLogBuilder
-                    .setCaseId(GameConstants.DEFAULT_CASE_ID)
+                    .setCaseId(this.state.getCaseId())
                     .setPlayerId(GameConstants.SYSTEM_PLAYER_ID)
                     .setActivity(ActivityType.GAME_OVER)
                     .setTimestamp()
@@ -165,7 +276,7 @@ public class GameEngine implements GameController, Publisher {
     public void onGameStart() {
         this.activityPublisher.setCurrentActivityLog(
             this.activityLogBuilder
-                    .setCaseId(GameConstants.DEFAULT_CASE_ID)
+                    .setCaseId(this.state.getCaseId())
                     .setPlayerId(GameConstants.SYSTEM_PLAYER_ID)
                     .setActivity(ActivityType.START_GAME)
                     .setTimestamp()
@@ -185,7 +296,7 @@ public class GameEngine implements GameController, Publisher {
     public void onFileLoad(String state) {
         this.activityPublisher.setCurrentActivityLog(
             this.activityLogBuilder
-                    .setCaseId(GameConstants.DEFAULT_CASE_ID)
+                    .setCaseId(this.state.getCaseId())
                     .setPlayerId(GameConstants.SYSTEM_PLAYER_ID)
                     .setActivity(ActivityType.LOAD_FILE)
                     .setTimestamp()
@@ -205,7 +316,7 @@ public class GameEngine implements GameController, Publisher {
      */
     public void selectCategory() {
         if (state != null) {
-            state.setCurrentCategory(scanner);
+            state.setCurrentCategory(this.io);
         }
     }
 
@@ -215,7 +326,7 @@ public class GameEngine implements GameController, Publisher {
      */
     public void selectQuestion() {
         if (state != null) {
-            state.setCurrentQuestion(this.scanner);
+            state.setCurrentQuestion(this.io);
         }
     }
 
@@ -252,6 +363,17 @@ public class GameEngine implements GameController, Publisher {
         this.activityPublisher.notifySubscribers();
     }
 
+    /**
+     * Checks whether any subscriber will receive game events.
+     * Delegates to the ActivityPublisher (SRP).
+     *
+     * @return true if at least one subscriber is registered
+     */
+    @Override
+    public boolean hasSubscribers() {
+        return this.activityPublisher.hasSubscribers();
+    }
+
     /**
      * Subscribes all players to the given subscriber.
      * Should be called after players are initialized.
@@ -262,7 +384,7 @@ public class GameEngine implements GameController, Publisher {
         if (state != null && state.getPlayers() != null) {
             for (Player player : state.getPlayers()) {
                 player.subscribe(s);
-                player.notifySubscribers();
+                player.notifySubscribers(this.state.getCaseId(), this.clock);
             }
         }
     }
@@ -275,18 +397,19 @@ public class GameEngine implements GameController, Publisher {
     public void start() {
         this.onGameStart();
 
-        this.state.setPlayers(this.scanner);
+        this.state.setPlayers(this.io);
 
         // Subscribe all players to the same subscribers as the GameEngine
         for (Subscriber subscriber : activityPublisher.getSubscribers()) {
             subscribePlayersTo(subscriber);
         }
 
-        Client.clear();
+        this.io.clear();
+        welcomeReturningPlayers();
 
         this.activityPublisher.setCurrentActivityLog(
             this.activityLogBuilder
-                    .setCaseId(GameConstants.DEFAULT_CASE_ID)
+                    .setCaseId(this.state.getCaseId())
                     .setTimestamp()
                     .setPlayerId(GameConstants.SYSTEM_PLAYER_ID)
                     .setActivity(ActivityType.SELECT_PLAYER_COUNT)
@@ -296,9 +419,13 @@ public class GameEngine implements GameController, Publisher {
         this.activityLogBuilder.reset();
         this.notifySubscribers();
 
-        if (this.state.setQuestionService(scanner)) {
+        if (this.state.setQuestionService(this.io)) {
             this.onFileLoad(GameConstants.RESULT_SUCCESS);
-            Client.clear();
+            if (this.journal != null) {
+                this.journal.gameStarted(this.state);
+            }
+            this.io.showBoard(this.state.getQuestionService());
+            this.io.clear();
 
             this.update();
         } else {
@@ -307,48 +434,189 @@ public class GameEngine implements GameController, Publisher {
     }
 
     /**
-     * Main game loop that handles a single turn.
-     * Recursively calls itself until the game is over.
-     * Each turn consists of: category selection, question selection, and answering.
+     * Greets each player who has a stored profile with their lifetime statistics.
      */
-    public void update() {
-        this.onTurnStart();
+    private void welcomeReturningPlayers() {
+        if (this.profiles == null) {
+            return;
+        }
+        for (Player player : this.state.getPlayers()) {
+            try {
+                PlayerProfile profile = this.profiles.get(player.getId());
+                if (profile != null) {
+                    this.io.println(String.format(GameConstants.MESSAGE_WELCOME_BACK_FORMAT, profile.getPlayerId(),
+                        profile.getGamesPlayed(), profile.getGamesWon(), profile.getBestScore(), profile.getAccuracy() * 100));
+                }
+            } catch (IOException e) {
+                System.err.println("[Error]: Could not read the profile of " + player.getId() + ": " + e.getMessage());
+            }
+        }
+    }
 
-        Client.clear();
+    /**
+     * Resumes a game recovered from a journal, continuing at the start of its next turn.
+     *
+     * @param recovered the state rebuilt by JournalReplayer
+     */
+    public void resume(GameState recovered) {
+        this.state = recovered;
+        this.onGameStart();
 
-        Player currentPlayer = this.state.getCurrentPlayer();
+        // Subscribe all players to the same subscribers as the GameEngine
+        for (Subscriber subscriber : activityPublisher.getSubscribers()) {
+            subscribePlayersTo(subscriber);
+        }
 
-        // Display current player and score
-        System.out.println(String.format("=== %s's Turn (Score %s) ===", currentPlayer.getId(), currentPlayer.getCurrentScore()));
+        this.io.showBoard(this.state.getQuestionService());
+        this.io.clear();
+        this.update();
+    }
 
-        // Step 1: Select category (using dependency injection for DIP)
-        currentPlayer.setCommand(new SelectCategoryCommand(this));
-        currentPlayer.doCommand();
-        if(this.isGameOver()){
-            return;
-        }
+    /**
+     * Main game loop.
+     * Drives the turn state machine until the game is over. Each turn consists of:
+     * turn start, category selection, question selection, answering, and turn end.
+     * The loop is iterative, so stack depth does not grow with the number of turns.
+     */
+    public void update() {
+        this.turnStateMachine.run(this);
+    }
 
-        Client.clear();
+    /**
+     * Performs the work of a single turn phase.
+     * Called by the turn state machine (State pattern).
+     *
+     * @param phase the phase to perform
+     */
+    @Override
+    public void handle(TurnPhase phase) {
+        Player currentPlayer = this.state.getCurrentPlayer();
 
-        // Step 2: Select question (using dependency injection for DIP)
-        currentPlayer.setCommand(new SelectQuestionCommand(this));
-        currentPlayer.doCommand();
+        switch (phase) {
+            case TURN_START:
+                this.onTurnStart();
+                if (!this.isGameOver) {
+                    this.io.clear();
+                    // Display current player and score
+                    this.state.printTurnHeader(this.io);
+                }
+                break;
+
+            case SELECT_CATEGORY:
+                // Select category (using dependency injection for DIP)
+                if (move(currentPlayer, this.selectCategoryCommand, phase) && this.journal != null && !this.isGameOver) {
+                    long start = Metrics.start();
+                    this.journal.categorySelected(this.state.getCurrentTurn(), this.state.getCurrentCategory());
+                    Metrics.stop(Probe.JOURNAL, start);
+                }
+                break;
+
+            case SELECT_QUESTION:
+                this.io.clear();
+                // Select question (using dependency injection for DIP)
+                if (move(currentPlayer, this.selectQuestionCommand, phase) && this.journal != null && !this.isGameOver) {
+                    long start = Metrics.start();
+                    this.journal.questionSelected(this.state.getCurrentTurn(), this.state.getCurrentQuestion());
+                    Metrics.stop(Probe.JOURNAL, start);
+                }
+                break;
+
+            case ANSWER:
+                this.io.clear();
+                // Answer question (using dependency injection for DIP)
+                this.state.printTurnHeader(this.io);
+                long promptStart = Metrics.start();
+                String answer = promptAnswer(currentPlayer);
+                Metrics.stop(Probe.ANSWER_PROMPT, promptStart);
+                if (answer == null) {
+                    break;
+                }
+                currentPlayer.setCommand(this.answerQuestionCommand.setChoice(answer));
+                currentPlayer.doCommand();
+                if (this.journal != null && !this.isGameOver) {
+                    long start = Metrics.start();
+                    this.journal.answered(this.state.getCurrentTurn(), answer);
+                    Metrics.stop(Probe.JOURNAL, start);
+                }
+                break;
+
+            case TURN_END:
+                this.onTurnEnd();
+                this.io.await();
+                break;
+
+            default:
+                break;
+        }
+    }
 
-        Client.clear();
+    // ==================== Move Deadlines ====================
 
-        // Step 3: Answer question (using dependency injection for DIP)
-        System.out.println(String.format("=== %s's Turn (Score %s) ===", currentPlayer.getId(), currentPlayer.getCurrentScore()));
-        String answer = Client.prompt(this.state.getCurrentQuestion(), this.scanner);
-        currentPlayer.setCommand(new AnswerQuestionCommand(this, answer));
-        currentPlayer.doCommand();
+    /**
+     * Runs a move's command within the move's time limit.
+     *
+     * @param player the current player
+     * @param command the command that prompts for and applies the move
+     * @param phase the phase of the move
+     * @return true if the player moved, false if time ran out
+     */
+    private boolean move(Player player, Command command, TurnPhase phase) {
+        player.setCommand(command);
+        this.io.beginMove();
+        try {
+            player.doCommand();
+            return true;
+        } catch (MoveTimeoutException e) {
+            timeOut(player, phase);
+            return false;
+        } finally {
+            this.io.endMove();
+        }
+    }
 
-        this.onTurnEnd();
+    /**
+     * Prompts for the answer to the current question within the move's time limit.
+     *
+     * @param player the current player
+     * @return the answer label, or null if time ran out
+     */
+    private String promptAnswer(Player player) {
+        this.io.beginMove();
+        try {
+            return Client.prompt(this.state.getCurrentQuestion(), this.io);
+        } catch (MoveTimeoutException e) {
+            timeOut(player, TurnPhase.ANSWER);
+            return null;
+        } finally {
+            this.io.endMove();
+        }
+    }
 
-        Client.await();
+    /**
+     * Resolves a move that ran out of time as an incorrect answer, as hosted games do,
+     * journals the turn and ends it.
+     *
+     * @param player the current player
+     * @param phase the phase that ran out of time
+     */
+    private void timeOut(Player player, TurnPhase phase) {
+        if (phase == TurnPhase.SELECT_CATEGORY) {
+            // The category of an earlier turn is not this player's choice
+            this.state.setCurrentCategory((String) null);
+        }
+        player.setCommand(new TimeoutCommand(this, phase == TurnPhase.ANSWER));
+        player.doCommand();
 
-        // Continue to next turn if game is not over
-        if (!this.isGameOver) {
-            this.update();
+        if (this.journal != null && !this.isGameOver) {
+            int turn = this.state.getCurrentTurn();
+            if (phase == TurnPhase.SELECT_CATEGORY) {
+                this.journal.categorySelected(turn, this.state.getCurrentCategory());
+            }
+            if (phase != TurnPhase.ANSWER) {
+                this.journal.questionSelected(turn, this.state.getCurrentQuestion());
+            }
+            this.journal.timedOut(turn);
         }
+        this.turnStateMachine.endTurn();
     }
 }
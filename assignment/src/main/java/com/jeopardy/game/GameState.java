@@ -1,17 +1,21 @@
 package com.jeopardy.game;
 
 import com.jeopardy.Client;
+import com.jeopardy.question.Board;
+import com.jeopardy.question.BoardSampler;
 import com.jeopardy.question.Question;
 import com.jeopardy.question.QuestionService;
+import com.jeopardy.question.dedup.DeduplicatingQuestionLoader;
 import com.jeopardy.question.loader.QuestionLoader;
-import com.jeopardy.question.loader.CSVQuestionLoader;
-import com.jeopardy.question.loader.JSONQuestionLoader;
-import com.jeopardy.question.loader.XMLQuestionLoader;
+import com.jeopardy.question.loader.QuestionLoaderProvider;
+import com.jeopardy.question.loader.QuestionLoaders;
+import com.jeopardy.ui.GameIO;
 import com.jeopardy.utils.GameConstants;
-import java.util.Scanner;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 /**
  * GameState maintains the current state of a Jeopardy game session.
@@ -29,6 +33,10 @@ import java.util.Map;
  * - Tracking turn progression
  * - Managing category and question selection
  * - Loading questions from various file formats
+ *
+ * Prompting for a category and a value reuses buffers kept here (the option lists, the
+ * question values and their labels, and the line prompts are composed in), so once they
+ * have grown to the size of the board a turn allocates nothing.
  */
 public class GameState {
 
@@ -37,22 +45,101 @@ public class GameState {
     private QuestionService questionService;
     private String currentCategory;
     private Question currentQuestion;
-    private final Map<Integer, QuestionLoader> loaderRegistry;
+    private Map<String, QuestionLoader> loaderRegistry;
+    private final Random random;
+    private final SeenQuestionStore seenQuestionStore;
+    private String caseId;
+    private QuestionService bank;
+    private Player responder;
+
+    // Reusable turn buffers, grown on demand
+    private final ArrayList<String> categoryOptions = new ArrayList<>();
+    private final ArrayList<CharSequence> valueOptions = new ArrayList<>();
+    private final ArrayList<StringBuilder> valueLabels = new ArrayList<>();
+    private int[] values = new int[0];
+    private final StringBuilder line = new StringBuilder(64);
 
     /**
      * Constructs a new GameState with default initial values.
      * Initializes an empty player list and turn counter at 0.
-     * Registers available question loaders for the Strategy pattern.
+     * Question loaders (Strategy pattern) are registered on first use.
+     * The players' question history is kept in memory only.
      */
     public GameState() {
+        this(new Random());
+    }
+
+    /**
+     * Constructs a new GameState that draws its board with the given random source.
+     * Passing a seeded Random makes board generation reproducible.
+     * The players' question history is kept in memory only, so the game neither reads
+     * nor writes any history on disk.
+     *
+     * @param random the random source used to sample the game board
+     */
+    public GameState(Random random) {
+        this(random, new SeenQuestionStore(null));
+    }
+
+    /**
+     * Constructs a new GameState that draws its board with the given random source and
+     * keeps the players' question history in the given store.
+     * A seeded Random and a memory-only store make a game fully reproducible; the
+     * console game passes a store on disk so history carries over between games.
+     *
+     * @param random the random source used to sample the game board
+     * @param seenQuestionStore the store of the players' seen questions
+     */
+    public GameState(Random random, SeenQuestionStore seenQuestionStore) {
         this.players = new ArrayList<>();
         this.currentTurn = 0;
+        this.random = random;
+        this.seenQuestionStore = seenQuestionStore;
+        this.caseId = GameConstants.DEFAULT_CASE_ID;
+    }
 
-        // Register question loaders (Open/Closed Principle)
-        this.loaderRegistry = new HashMap<>();
-        this.loaderRegistry.put(1, new CSVQuestionLoader());
-        this.loaderRegistry.put(2, new JSONQuestionLoader());
-        this.loaderRegistry.put(3, new XMLQuestionLoader());
+    /**
+     * Gets the loader of a question file format, creating it on first use.
+     * Only the chosen format's loader is ever created, and games that play from a
+     * shared bank never load files, so they never pay for any.
+     *
+     * @param provider the chosen format
+     * @return the format's loader, dropping near-duplicate questions when dedup is enabled
+     */
+    private QuestionLoader getLoader(QuestionLoaderProvider provider) {
+        if (this.loaderRegistry == null) {
+            this.loaderRegistry = new HashMap<>();
+        }
+        // Formats are discovered as services (Open/Closed Principle)
+        QuestionLoader loader = this.loaderRegistry.get(provider.getFormat());
+        if (loader == null) {
+            loader = provider.create();
+            if (DeduplicatingQuestionLoader.ENABLED) {
+                loader = new DeduplicatingQuestionLoader(loader);
+            }
+            this.loaderRegistry.put(provider.getFormat(), loader);
+        }
+        return loader;
+    }
+
+    // ==================== Case Identity ====================
+
+    /**
+     * Gets the case ID that identifies this game in activity logs.
+     *
+     * @return the case ID
+     */
+    public String getCaseId() {
+        return this.caseId;
+    }
+
+    /**
+     * Sets the case ID that identifies this game in activity logs.
+     *
+     * @param caseId the case ID to use
+     */
+    public void setCaseId(String caseId) {
+        this.caseId = caseId;
     }
 
     // ==================== Turn Management ====================
@@ -67,10 +154,30 @@ public class GameState {
     }
 
     /**
-     * Advances to the next turn.
+     * Advances to the next turn and clears any buzz-in responder.
      */
     public void nextTurn() {
         this.currentTurn++;
+        this.responder = null;
+    }
+
+    /**
+     * Gets the player who won the buzz-in for the current question.
+     *
+     * @return the responder, or null outside a buzz-in
+     */
+    public Player getResponder() {
+        return this.responder;
+    }
+
+    /**
+     * Sets the player who won the buzz-in for the current question. Until the next
+     * turn, they are the current player, so their answer is scored to them.
+     *
+     * @param responder the buzz-in winner, or null to return to turn order
+     */
+    public void setResponder(Player responder) {
+        this.responder = responder;
     }
 
     // ==================== Player Management ====================
@@ -88,48 +195,66 @@ public class GameState {
      * Prompts for and sets the list of players for the game.
      * Validates player count (1-4) and ensures non-empty player names.
      *
-     * @param scanner the Scanner instance to use for input
+     * @param io the GameIO to prompt on
      */
-    public void setPlayers(Scanner scanner) {
+    public void setPlayers(GameIO io) {
         int playerCount = 0;
 
         // Get number of players
         do {
-            System.out.print("How many players (1-4)? ");
-            playerCount = scanner.nextInt();
-            scanner.nextLine(); // Consume newline after nextInt()
+            io.print("How many players (1-4)? ");
+            try {
+                playerCount = Integer.parseInt(io.readLine().trim());
+            } catch (NumberFormatException e) {
+                io.println(GameConstants.ERROR_INVALID_NUMBER);
+                continue;
+            }
 
             if (playerCount < 1 || playerCount > 4) {
-                System.out.println("[Error]: Invalid number of players. Must be between 1 and 4 (inclusive).");
+                io.println("[Error]: Invalid number of players. Must be between 1 and 4 (inclusive).");
             }
         } while (playerCount < 1 || playerCount > 4);
 
         // Get player names
-        System.out.println("Please provide player names.");
+        io.println("Please provide player names.");
         for (int i = 0; i < playerCount; i++) {
             String playerName;
             do {
-                System.out.print(String.format("Player %d: ", i + 1));
-                playerName = scanner.nextLine();
+                io.print(String.format("Player %d: ", i + 1));
+                playerName = io.readLine();
 
                 if (playerName.trim().isEmpty()) {
-                    System.out.println("[Error]: Invalid name. Must be at least 1 character long.");
+                    io.println("[Error]: Invalid name. Must be at least 1 character long.");
                 }
             } while (playerName.trim().isEmpty());
             
 
-            Player newPlayer = new Player(playerName.trim());//
+            Player newPlayer = new Player(playerName.trim());
+            newPlayer.setSeenQuestions(this.seenQuestionStore.load(newPlayer.getId()));
             this.players.add(newPlayer);
         }
     }
 
+    /**
+     * Adds a player to the game without prompting, e.g. for programmatic or networked play.
+     *
+     * @param player the Player to add
+     */
+    public void addPlayer(Player player) {
+        this.players.add(player);
+    }
+
     /**
      * Gets the player whose turn it currently is.
-     * Uses modulo arithmetic to rotate through players based on turn number.
+     * Uses modulo arithmetic to rotate through players based on turn number,
+     * unless a buzz-in responder currently holds the question.
      *
      * @return the Player object for the current turn, or null if no players exist
      */
     public Player getCurrentPlayer() {
+        if (this.responder != null) {
+            return this.responder;
+        }
         if (this.players == null || this.players.isEmpty()) {
             return null;
         }
@@ -137,6 +262,41 @@ public class GameState {
         return this.players.get(playerIndex);
     }
 
+    // ==================== Question History ====================
+
+    /**
+     * Checks whether any player in the game has already seen a question.
+     *
+     * @param question the question to check
+     * @return true if at least one player has probably seen the question
+     */
+    public boolean isSeenByAnyPlayer(Question question) {
+        for (Player player : this.players) {
+            if (player.getSeenQuestions().contains(question)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records that every player in the game has now seen a question.
+     *
+     * @param question the question that was revealed
+     */
+    public void markQuestionSeen(Question question) {
+        for (int i = 0; i < this.players.size(); i++) {
+            this.players.get(i).getSeenQuestions().add(question);
+        }
+    }
+
+    /**
+     * Writes the seen-question history of every player to disk.
+     */
+    public void saveSeenQuestions() {
+        this.seenQuestionStore.saveAll();
+    }
+
     // ==================== Question Service Management ====================
 
     /**
@@ -152,23 +312,93 @@ public class GameState {
      * Prompts for file type and loads questions into the question service.
      * Uses a registry-based approach to select the appropriate loader (Strategy pattern).
      * Uses Path API for cross-platform file access.
+     * Once the bank is loaded, a board is drawn from it (see {@link #setBoard(QuestionService)}).
+     * If a shared bank was provided with {@link #setBank(QuestionService)}, no prompt is shown
+     * and the board is drawn from that bank instead.
      *
-     * @param scanner the Scanner instance to use for input
+     * @param io the GameIO to prompt on
      * @return true if questions loaded successfully, false otherwise
      */
-    public boolean setQuestionService(Scanner scanner) {
-        String[] options = {"CSV", "JSON", "XML"};
-        int optionIndex = Client.prompt("What file type do you wish to load the game data with? ", options, scanner);
+    public boolean setQuestionService(GameIO io) {
+        if (this.bank != null) {
+            this.setBoard(this.bank);
+            return true;
+        }
 
-        int arrayIndex = optionIndex - 1;
+        String[] options = QuestionLoaders.getFormats();
+        int optionIndex = Client.prompt("What file type do you wish to load the game data with? ", options, io);
+
+        QuestionLoaderProvider provider = QuestionLoaders.getProviders().get(optionIndex - 1);
         String fileName = GameConstants.DATA_DIRECTORY.resolve(
-            String.format("sample_game_%s.%s", options[arrayIndex], options[arrayIndex].toLowerCase())
+            String.format("sample_game_%s.%s", provider.getFormat(), provider.getExtension())
         ).toString();
 
-        QuestionLoader questionLoader = loaderRegistry.get(optionIndex);
+        QuestionLoader questionLoader = getLoader(provider);
+
+        QuestionService bank = new QuestionService();
+        if (!bank.setQuestions(questionLoader, fileName)) {
+            this.questionService = bank;
+            return false;
+        }
+
+        this.setBoard(bank);
+        return true;
+    }
+
+    /**
+     * Provides an already loaded question bank to draw the board from.
+     * The bank is only read, so one bank can be shared by many games.
+     *
+     * @param bank the loaded question bank
+     */
+    public void setBank(QuestionService bank) {
+        this.bank = bank;
+    }
+
+    /**
+     * Draws a board of {@link GameConstants#BOARD_CATEGORIES} categories by
+     * {@link GameConstants#BOARD_VALUES} values from a question bank and plays on it.
+     * Questions no player has seen yet are preferred. The board's questions are copies,
+     * so answering them never changes the bank.
+     * If the bank cannot fill a board of that shape, the whole bank is played instead.
+     *
+     * @param bank the loaded question bank to draw from
+     */
+    public void setBoard(QuestionService bank) {
+        try {
+            Board board = new BoardSampler(bank.getIndex())
+                    .sample(GameConstants.BOARD_CATEGORIES, GameConstants.BOARD_VALUES, this.random, this::isSeenByAnyPlayer);
+            this.questionService = new QuestionService();
+            this.questionService.setQuestions(copyOf(board.getQuestions()));
+        } catch (IllegalArgumentException e) {
+            this.questionService = new QuestionService();
+            this.questionService.setQuestions(copyOf(bank.getQuestions()));
+        }
+    }
 
+    /**
+     * Plays on exactly the given questions instead of drawing a board,
+     * for example to restore a board recorded in a journal.
+     *
+     * @param questions the board's questions; they become this game's own
+     */
+    public void setBoardQuestions(List<Question> questions) {
         this.questionService = new QuestionService();
-        return this.questionService.setQuestions(questionLoader, fileName);
+        this.questionService.setQuestions(questions);
+    }
+
+    /**
+     * Copies questions so this game has its own answered state.
+     *
+     * @param questions the questions to copy
+     * @return unanswered copies of the questions
+     */
+    private static ArrayList<Question> copyOf(ArrayList<Question> questions) {
+        ArrayList<Question> copies = new ArrayList<>(questions.size());
+        for (Question q : questions) {
+            copies.add(q.copy());
+        }
+        return copies;
     }
 
     // ==================== Category Management ====================
@@ -185,25 +415,33 @@ public class GameState {
     /**
      * Prompts the user to select a category from available categories.
      *
-     * @param scanner the Scanner instance to use for input
+     * @param io the GameIO to prompt on
      * @return the selected category name
      */
-    public String setCurrentCategory(Scanner scanner) {
-        ArrayList<String> categories = this.questionService.getCategories();
-        String[] categoryArray = categories.toArray(new String[0]);
+    public String setCurrentCategory(GameIO io) {
+        ArrayList<String> categories = this.questionService.getCategories(this.categoryOptions);
 
-        int categoryIndex = Client.prompt("What category of question? ", categoryArray, scanner);
+        int categoryIndex = Client.prompt("What category of question? ", categories, this.line, io);
         if (categoryIndex <= 0){
             String selectedCategory = "END GAME";
             this.currentCategory = selectedCategory;
             return selectedCategory;
         }
-        String selectedCategory = categoryArray[categoryIndex - 1];
+        String selectedCategory = categories.get(categoryIndex - 1);
         this.currentCategory = selectedCategory;
 
         return selectedCategory;
     }
 
+    /**
+     * Sets the current category directly, without prompting.
+     *
+     * @param category the category to make current
+     */
+    public void setCurrentCategory(String category) {
+        this.currentCategory = category;
+    }
+
     /**
      * Gets all unique categories from unanswered questions.
      * Delegates to the question service.
@@ -228,24 +466,55 @@ public class GameState {
     /**
      * Prompts the user to select a question from available questions in the current category.
      * Displays available point values and validates user selection.
+     * Among equally valued questions, one the current player has not seen is preferred.
      *
-     * @param scanner the Scanner instance to use for input
+     * @param io the GameIO to prompt on
      * @return the selected Question object
      */
-    public Question setCurrentQuestion(Scanner scanner) {
-        ArrayList<Integer> questionValues = this.questionService.getCategoryQuestionValues(this.currentCategory);
-        String[] questionValueArray = new String[questionValues.size()];
+    public Question setCurrentQuestion(GameIO io) {
+        if (this.values.length < this.questionService.getQuestionCount()) {
+            this.values = new int[this.questionService.getQuestionCount()];
+        }
+        int count = this.questionService.getCategoryQuestionValues(this.currentCategory, this.values);
 
-        for (int i = 0; i < questionValues.size(); i++) {
-            questionValueArray[i] = String.valueOf(questionValues.get(i));
+        this.valueOptions.clear();
+        for (int i = 0; i < count; i++) {
+            if (i == this.valueLabels.size()) {
+                this.valueLabels.add(new StringBuilder());
+            }
+            StringBuilder label = this.valueLabels.get(i);
+            label.setLength(0);
+            this.valueOptions.add(label.append(this.values[i]));
         }
 
-        System.out.println(String.format("=== %s's Turn (Score %s) ===", getCurrentPlayer().getId(), getCurrentPlayer().getCurrentScore()));
-        int questionValueIndex = Client.prompt("What question value? ", questionValueArray, scanner) - 1;
+        printTurnHeader(io);
+        int questionValueIndex = Client.prompt("What question value? ", this.valueOptions, this.line, io) - 1;
 
-        Question selectedQuestion = this.questionService.getCategoryQuestionByValue(this.currentCategory, questionValues.get(questionValueIndex));
+        Question selectedQuestion = this.questionService.getCategoryQuestionByValue(
+            this.currentCategory, this.values[questionValueIndex], getCurrentPlayer().getSeenQuestions());
         this.currentQuestion = selectedQuestion;
 
         return selectedQuestion;
     }
+
+    /**
+     * Prints the heading of the current player's turn with their score.
+     *
+     * @param io the GameIO to print on
+     */
+    public void printTurnHeader(GameIO io) {
+        Player player = getCurrentPlayer();
+        this.line.setLength(0);
+        io.println(this.line.append("=== ").append(player.getId()).append("'s Turn (Score ")
+            .append(player.getCurrentScore()).append(") ==="));
+    }
+
+    /**
+     * Sets the current question directly, without prompting.
+     *
+     * @param question the Question to make current
+     */
+    public void setCurrentQuestion(Question question) {
+        this.currentQuestion = question;
+    }
 }
@@ -0,0 +1,114 @@
+package com.jeopardy.game;
+
+import java.util.Arrays;
+
+/**
+ * PhaseTimer accumulates how long each turn phase takes.
+ *
+ * For every TurnPhase it keeps the number of times the phase ran and the total,
+ * shortest and longest time it took. A TurnStateMachine records into it when one is
+ * set (see GameEngine.setPhaseTimer), which gives a timing profile of a game by phase.
+ *
+ * Not thread-safe; each game uses its own instance.
+ */
+public class PhaseTimer {
+
+    private static final TurnPhase[] PHASES = TurnPhase.values();
+
+    private final long[] counts;
+    private final long[] totals;
+    private final long[] minimums;
+    private final long[] maximums;
+
+    /**
+     * Constructs an empty timer.
+     */
+    public PhaseTimer() {
+        this.counts = new long[PHASES.length];
+        this.totals = new long[PHASES.length];
+        this.minimums = new long[PHASES.length];
+        this.maximums = new long[PHASES.length];
+        Arrays.fill(this.minimums, Long.MAX_VALUE);
+    }
+
+    /**
+     * Records one run of a phase.
+     *
+     * @param phase the phase
+     * @param nanos the time it took in nanoseconds
+     */
+    public void record(TurnPhase phase, long nanos) {
+        int p = phase.ordinal();
+        this.counts[p]++;
+        this.totals[p] += nanos;
+        this.minimums[p] = Math.min(this.minimums[p], nanos);
+        this.maximums[p] = Math.max(this.maximums[p], nanos);
+    }
+
+    /**
+     * Gets the number of times a phase ran.
+     *
+     * @param phase the phase
+     * @return the run count
+     */
+    public long getCount(TurnPhase phase) {
+        return this.counts[phase.ordinal()];
+    }
+
+    /**
+     * Gets the total time spent in a phase.
+     *
+     * @param phase the phase
+     * @return the total time in nanoseconds
+     */
+    public long getTotalNanos(TurnPhase phase) {
+        return this.totals[phase.ordinal()];
+    }
+
+    /**
+     * Gets the shortest run of a phase.
+     *
+     * @param phase the phase
+     * @return the shortest time in nanoseconds, or 0 if the phase never ran
+     */
+    public long getMinNanos(TurnPhase phase) {
+        return this.counts[phase.ordinal()] == 0 ? 0 : this.minimums[phase.ordinal()];
+    }
+
+    /**
+     * Gets the longest run of a phase.
+     *
+     * @param phase the phase
+     * @return the longest time in nanoseconds, or 0 if the phase never ran
+     */
+    public long getMaxNanos(TurnPhase phase) {
+        return this.maximums[phase.ordinal()];
+    }
+
+    /**
+     * Gets the mean run of a phase.
+     *
+     * @param phase the phase
+     * @return the mean time in nanoseconds, or 0 if the phase never ran
+     */
+    public double getMeanNanos(TurnPhase phase) {
+        long count = this.counts[phase.ordinal()];
+        return count == 0 ? 0 : (double) this.totals[phase.ordinal()] / count;
+    }
+
+    /**
+     * Returns a table with one row per phase: runs, total, mean, min and max in microseconds.
+     *
+     * @return the timing profile
+     */
+    @Override
+    public String toString() {
+        StringBuilder table = new StringBuilder(String.format("%-16s %6s %12s %10s %10s %10s%n",
+            "Phase", "Runs", "Total (us)", "Mean (us)", "Min (us)", "Max (us)"));
+        for (TurnPhase phase : PHASES) {
+            table.append(String.format("%-16s %6d %12.1f %10.1f %10.1f %10.1f%n", phase, getCount(phase),
+                getTotalNanos(phase) / 1e3, getMeanNanos(phase) / 1e3, getMinNanos(phase) / 1e3, getMaxNanos(phase) / 1e3));
+        }
+        return table.toString();
+    }
+}
@@ -5,9 +5,11 @@ import com.jeopardy.command.Command;
 import com.jeopardy.logging.ActivityLogBuilder;
 import com.jeopardy.logging.observer.Subscriber;
 import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.question.SeenQuestionFilter;
 import com.jeopardy.utils.ActivityType;
 import com.jeopardy.utils.GameConstants;
 
+import java.time.Clock;
 import java.util.*;
 
 /**
@@ -32,6 +34,7 @@ public class Player implements Publisher {
     private Command command;
     private final ArrayList<Subscriber> subscribers;
     private int currentScore;
+    private SeenQuestionFilter seenQuestions;
 
     /**
      * Constructs a new Player with the specified ID.
@@ -43,8 +46,7 @@ public class Player implements Publisher {
         this.id = id;
         this.subscribers = new ArrayList<>();
         this.currentScore = 0;
-
-
+        this.seenQuestions = new SeenQuestionFilter();
     }
 
     // ==================== Player Identity ====================
@@ -88,6 +90,26 @@ public class Player implements Publisher {
         this.currentScore += s;
     }
 
+    // ==================== Question History ====================
+
+    /**
+     * Gets the filter of questions this player has already seen, across games.
+     *
+     * @return the player's seen-question filter
+     */
+    public SeenQuestionFilter getSeenQuestions() {
+        return this.seenQuestions;
+    }
+
+    /**
+     * Sets the filter of questions this player has already seen, e.g. one restored from disk.
+     *
+     * @param seenQuestions the seen-question filter to use
+     */
+    public void setSeenQuestions(SeenQuestionFilter seenQuestions) {
+        this.seenQuestions = seenQuestions;
+    }
+
     // ==================== Command Pattern Implementation ====================
 
     /**
@@ -144,14 +166,26 @@ public class Player implements Publisher {
      */
     @Override
     public void notifySubscribers() {
+        notifySubscribers(GameConstants.DEFAULT_CASE_ID, Clock.systemUTC());
+    }
+
+    /**
+     * Notifies all registered subscribers that the player is seated in a game.
+     * The log carries the player's score, which is not 0 in a resumed game.
+     *
+     * @param caseId the case ID of the player's game
+     * @param clock the clock of the player's game
+     */
+    public void notifySubscribers(String caseId, Clock clock) {
         if (this.subscribers != null) {
             for (Subscriber subscriber : this.subscribers) {
                 if (subscriber != null) {
-                    ActivityLog activity = new ActivityLogBuilder()
-                        .setCaseId(GameConstants.DEFAULT_CASE_ID)
+                    ActivityLog activity = new ActivityLogBuilder(clock)
+                        .setCaseId(caseId)
                         .setAnswerGiven(this.id)
                         .setPlayerId(this)
                         .setResult("N/A")
+                        .setScoreAfterPlay(this.currentScore)
                         .setActivity(ActivityType.ENTER_PLAYER_NAME)
                         .setTimestamp()
                         .createActivityLog();
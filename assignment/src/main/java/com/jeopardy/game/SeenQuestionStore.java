@@ -0,0 +1,115 @@
+package com.jeopardy.game;
+
+import com.jeopardy.question.SeenQuestionFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SeenQuestionStore persists each player's {@link SeenQuestionFilter} between games.
+ *
+ * Filters are keyed by {@link Player#getId()} and stored one file per player in the
+ * store's directory. A filter is read from disk the first time a player is looked up
+ * and written back by {@link #save(String)} or {@link #saveAll()}.
+ *
+ * Missing or unreadable files simply yield an empty filter, so a corrupt history never
+ * prevents a game from starting. A store without a directory keeps filters in memory
+ * only, so games played with it neither depend on nor change any history on disk.
+ */
+public class SeenQuestionStore {
+
+    private static final String FILE_EXTENSION = ".seen";
+
+    private final Path directory;
+    private final Map<String, SeenQuestionFilter> filters;
+
+    /**
+     * Constructs a store backed by the given directory.
+     * The directory is created on the first save.
+     *
+     * @param directory the directory holding the per-player filter files, or null to keep
+     *                  filters in memory only
+     */
+    public SeenQuestionStore(Path directory) {
+        this.directory = directory;
+        this.filters = new HashMap<>();
+    }
+
+    /**
+     * Gets the seen-question filter of a player, loading it from disk on first use.
+     *
+     * @param playerId the player's ID
+     * @return the player's filter, empty if the player has no history
+     */
+    public synchronized SeenQuestionFilter load(String playerId) {
+        SeenQuestionFilter filter = this.filters.get(playerId);
+        if (filter != null) {
+            return filter;
+        }
+
+        Path file = fileFor(playerId);
+        filter = new SeenQuestionFilter();
+        if (file != null && Files.exists(file)) {
+            try {
+                filter = SeenQuestionFilter.fromBytes(Files.readAllBytes(file));
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("Error reading seen questions for " + playerId + ": " + e.getMessage());
+            }
+        }
+
+        this.filters.put(playerId, filter);
+        return filter;
+    }
+
+    /**
+     * Writes a player's filter to disk if it has been loaded.
+     *
+     * @param playerId the player's ID
+     */
+    public synchronized void save(String playerId) {
+        SeenQuestionFilter filter = this.filters.get(playerId);
+        if (filter == null || this.directory == null) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(this.directory);
+            Files.write(fileFor(playerId), filter.toBytes());
+        } catch (IOException e) {
+            System.err.println("Error saving seen questions for " + playerId + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes every loaded filter to disk.
+     */
+    public synchronized void saveAll() {
+        for (String playerId : this.filters.keySet()) {
+            save(playerId);
+        }
+    }
+
+    /**
+     * Maps a player ID to a file name that is safe on every platform.
+     * Unsafe characters are replaced, and a hash of the raw ID keeps distinct IDs apart.
+     *
+     * @param playerId the player's ID
+     * @return the path of the player's filter file, or null for a memory-only store
+     */
+    private Path fileFor(String playerId) {
+        if (this.directory == null) {
+            return null;
+        }
+        StringBuilder name = new StringBuilder();
+        for (char c : playerId.toCharArray()) {
+            name.append(Character.isLetterOrDigit(c) && c < 128 ? c : '_');
+        }
+        int hash = java.util.Arrays.hashCode(playerId.getBytes(StandardCharsets.UTF_8));
+        name.append('-').append(Integer.toHexString(hash)).append(FILE_EXTENSION);
+        return this.directory.resolve(name.toString());
+    }
+}
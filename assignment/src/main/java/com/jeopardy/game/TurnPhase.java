@@ -0,0 +1,73 @@
+package com.jeopardy.game;
+
+import com.jeopardy.utils.ActivityType;
+
+/**
+ * TurnPhase enumerates the phases of a single player turn.
+ *
+ * A turn always moves through the phases in declaration order:
+ * TURN_START, SELECT_CATEGORY, SELECT_QUESTION, ANSWER, TURN_END,
+ * after which the next turn starts again at TURN_START.
+ *
+ * Each phase maps onto the ActivityType that is logged while it runs, which ties the
+ * turn state machine to the activity log and to the reports built from it.
+ *
+ * @see TurnStateMachine
+ */
+public enum TurnPhase {
+    /**
+     * Start of a player's turn; checks whether the game is over.
+     */
+    TURN_START(ActivityType.TURN_START),
+
+    /**
+     * The current player selects a category.
+     */
+    SELECT_CATEGORY(ActivityType.SELECT_CATEGORY),
+
+    /**
+     * The current player selects a question value within the category.
+     */
+    SELECT_QUESTION(ActivityType.SELECT_QUESTION),
+
+    /**
+     * The current player answers the selected question.
+     */
+    ANSWER(ActivityType.ANSWER_QUESTION),
+
+    /**
+     * End of a player's turn; play passes to the next player.
+     */
+    TURN_END(ActivityType.TURN_END);
+
+    private static final TurnPhase[] PHASES = values();
+
+    private final ActivityType activityType;
+
+    /**
+     * Constructs a TurnPhase mapped to an activity type.
+     *
+     * @param activityType the activity logged during this phase
+     */
+    TurnPhase(ActivityType activityType) {
+        this.activityType = activityType;
+    }
+
+    /**
+     * Gets the activity type logged during this phase.
+     *
+     * @return the ActivityType for this phase
+     */
+    public ActivityType getActivityType() {
+        return this.activityType;
+    }
+
+    /**
+     * Gets the phase that follows this one, wrapping from TURN_END to TURN_START.
+     *
+     * @return the next phase
+     */
+    public TurnPhase next() {
+        return PHASES[(ordinal() + 1) % PHASES.length];
+    }
+}
@@ -0,0 +1,114 @@
+package com.jeopardy.game;
+
+/**
+ * TurnStateMachine drives the game loop as an explicit sequence of turn phases.
+ *
+ * Instead of a method that handles one turn and then calls itself for the next one,
+ * the state machine keeps the current {@link TurnPhase} as data and runs a plain loop:
+ * each step hands the current phase to a {@link PhaseHandler} and then advances to
+ * the next phase. Stack usage therefore stays constant however many turns are played.
+ *
+ * Design patterns used:
+ * - State: the current phase decides what the next step does
+ *
+ * Usage example:
+ * <pre>
+ * TurnStateMachine machine = new TurnStateMachine();
+ * machine.run(engine);  // returns once engine.isGameOver() is true
+ * </pre>
+ */
+public class TurnStateMachine {
+
+    /**
+     * PhaseHandler performs the work of each turn phase.
+     */
+    public interface PhaseHandler {
+
+        /**
+         * Performs the work of a single phase.
+         *
+         * @param phase the phase to perform
+         */
+        void handle(TurnPhase phase);
+
+        /**
+         * Checks whether the game has ended, which stops the state machine.
+         *
+         * @return true if the game is over, false otherwise
+         */
+        boolean isGameOver();
+    }
+
+    private TurnPhase phase;
+    private PhaseTimer timer;
+    private boolean turnEnded;
+
+    /**
+     * Constructs a state machine positioned at the start of a turn.
+     */
+    public TurnStateMachine() {
+        this.phase = TurnPhase.TURN_START;
+    }
+
+    /**
+     * Gets the phase that the next step will perform.
+     *
+     * @return the current phase
+     */
+    public TurnPhase getPhase() {
+        return this.phase;
+    }
+
+    /**
+     * Performs the current phase and advances to the next one.
+     *
+     * @param handler the handler that performs the phase
+     */
+    public void step(PhaseHandler handler) {
+        if (this.timer == null) {
+            handler.handle(this.phase);
+        } else {
+            long start = System.nanoTime();
+            handler.handle(this.phase);
+            this.timer.record(this.phase, System.nanoTime() - start);
+        }
+        this.phase = this.turnEnded ? TurnPhase.TURN_END : this.phase.next();
+        this.turnEnded = false;
+    }
+
+    /**
+     * Ends the turn early: the phase being performed is followed by TURN_END rather
+     * than by the next phase, e.g. when a player runs out of time for a move.
+     */
+    public void endTurn() {
+        this.turnEnded = true;
+    }
+
+    /**
+     * Times every phase performed from now on.
+     *
+     * @param timer the timer to record into, or null to stop timing
+     */
+    public void setPhaseTimer(PhaseTimer timer) {
+        this.timer = timer;
+    }
+
+    /**
+     * Steps through phases until the handler reports that the game is over.
+     *
+     * @param handler the handler that performs each phase
+     */
+    public void run(PhaseHandler handler) {
+        while (!handler.isGameOver()) {
+            step(handler);
+        }
+    }
+
+    /**
+     * Moves the state machine back to the start of a turn.
+     */
+    public void reset() {
+        this.phase = TurnPhase.TURN_START;
+        this.turnEnded = false;
+    }
+}
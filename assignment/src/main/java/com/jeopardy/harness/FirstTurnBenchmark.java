@@ -0,0 +1,185 @@
+package com.jeopardy.harness;
+
+import com.jeopardy.game.GameEngine;
+import com.jeopardy.game.GameState;
+import com.jeopardy.game.PhaseTimer;
+import com.jeopardy.game.SeenQuestionStore;
+import com.jeopardy.game.TurnPhase;
+import com.jeopardy.ui.TerminalGameIO;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * FirstTurnBenchmark measures how long the first turn of a console game takes in a
+ * fresh JVM, with and without a warm-up.
+ *
+ * Each measurement launches a new JVM, so the JIT starts cold every time. The JVM
+ * plays one turn of a console game on a TerminalGameIO with scripted input and
+ * discarded output, with questions loaded from the sample CSV file like a player
+ * choosing it. The first turn is timed from the category prompt to the evaluated
+ * answer (the category, question and answer phases), so it excludes the time a real
+ * player would spend reading and typing at the start. In the warm mode a Warmup is
+ * played to the end first, as if the player took at least that long at the banner.
+ *
+ * Usage:
+ * <pre>
+ * java -cp target/classes:... com.jeopardy.harness.FirstTurnBenchmark [runs=10] [games=20]
+ * </pre>
+ * prints the median first turn without and with a warm-up of the given number of games.
+ */
+public final class FirstTurnBenchmark {
+
+    private static final int DEFAULT_RUNS = 10;
+    private static final long SEED = 7;
+    private static final String FIRST_TURN = "2\nAlice\nBob\n1\n1\n1\nA\n";
+    private static final TurnPhase[] TIMED_PHASES = {
+        TurnPhase.SELECT_CATEGORY, TurnPhase.SELECT_QUESTION, TurnPhase.ANSWER
+    };
+
+    // Prevent instantiation
+    private FirstTurnBenchmark() {
+        throw new AssertionError("Cannot instantiate FirstTurnBenchmark");
+    }
+
+    // ==================== Measuring ====================
+
+    /**
+     * Plays the first turn of a console game in this JVM and times it.
+     *
+     * @return the time of the first turn in nanoseconds
+     */
+    public static long measureFirstTurn() {
+        Charset charset = Charset.defaultCharset();
+        GameState state = new GameState(new Random(SEED), new SeenQuestionStore(null));
+        TerminalGameIO io = new TerminalGameIO(new ByteArrayInputStream(FIRST_TURN.getBytes(charset)),
+            OutputStream.nullOutputStream(), charset);
+        GameEngine engine = new GameEngine(state, io);
+        PhaseTimer timer = new PhaseTimer();
+        engine.setPhaseTimer(timer);
+        try {
+            engine.start();
+        } catch (NoSuchElementException e) {
+            // The input ends after the first turn
+        }
+
+        long nanos = 0;
+        for (TurnPhase phase : TIMED_PHASES) {
+            if (timer.getCount(phase) != 1) {
+                throw new IllegalStateException("The first turn did not complete its " + phase + " phase");
+            }
+            nanos += timer.getTotalNanos(phase);
+        }
+        return nanos;
+    }
+
+    /**
+     * Launches a fresh JVM that measures its first turn.
+     *
+     * @param games the warm-up games it plays first, 0 for none
+     * @return the time of the first turn in nanoseconds
+     * @throws IOException if the JVM fails or prints no measurement
+     * @throws InterruptedException if interrupted while waiting for the JVM
+     */
+    private static long launch(int games) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(FirstTurnBenchmark.class.getName());
+        command.add("--child");
+        command.add(Integer.toString(games));
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        process.getOutputStream().close();
+        String last = null;
+        try (BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = out.readLine()) != null) {
+                last = line;
+            }
+        }
+        if (process.waitFor() != 0 || last == null) {
+            throw new IOException("The measuring JVM failed: " + last);
+        }
+        try {
+            return Long.parseLong(last.trim());
+        } catch (NumberFormatException e) {
+            throw new IOException("The measuring JVM printed no measurement: " + last);
+        }
+    }
+
+    /**
+     * Measures the first turn in several fresh JVMs.
+     *
+     * @param runs the number of JVMs to launch
+     * @param games the warm-up games each plays first, 0 for none
+     * @return the sorted first turn times in nanoseconds
+     * @throws IOException if a JVM fails
+     * @throws InterruptedException if interrupted while waiting for a JVM
+     */
+    private static long[] measure(int runs, int games) throws IOException, InterruptedException {
+        long[] nanos = new long[runs];
+        for (int r = 0; r < runs; r++) {
+            nanos[r] = launch(games);
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    /**
+     * Formats sorted first turn times.
+     *
+     * @param label what was measured
+     * @param nanos the sorted times in nanoseconds
+     * @return a one-line summary in milliseconds
+     */
+    private static String format(String label, long[] nanos) {
+        return String.format("%-24s runs=%d min=%.2fms median=%.2fms max=%.2fms", label, nanos.length,
+            nanos[0] / 1e6, nanos[nanos.length / 2] / 1e6, nanos[nanos.length - 1] / 1e6);
+    }
+
+    // ==================== Main ====================
+
+    /**
+     * Runs the benchmark, or one measurement when launched by it.
+     *
+     * @param args optional number of launches and warm-up games; "--child" and the
+     *             warm-up games in a measuring JVM
+     * @throws IOException if a launch fails
+     * @throws InterruptedException if interrupted while waiting for a launch
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length > 1 && "--child".equals(args[0])) {
+            int games = Integer.parseInt(args[1]);
+            if (games > 0) {
+                new Warmup(games).run();
+            }
+            System.out.println(measureFirstTurn());
+            return;
+        }
+
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RUNS;
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : Warmup.DEFAULT_GAMES;
+
+        long start = System.nanoTime();
+        new Warmup(games).run();
+        long warmupNanos = System.nanoTime() - start;
+
+        System.out.println("=== First turn of a console game in a fresh JVM ===");
+        System.out.println(format("(cold)", measure(runs, 0)));
+        System.out.println(format(String.format("(warm-up of %d games)", games), measure(runs, games)));
+        System.out.println(String.format("A cold warm-up of %d games takes about %.0f ms", games, warmupNanos / 1e6));
+    }
+}
@@ -0,0 +1,235 @@
+package com.jeopardy.harness;
+
+import com.jeopardy.game.GameEngine;
+import com.jeopardy.game.GameState;
+import com.jeopardy.game.PhaseTimer;
+import com.jeopardy.game.SeenQuestionStore;
+import com.jeopardy.game.TurnPhase;
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.metrics.Metrics;
+import com.jeopardy.ui.HeadlessGameIO;
+import com.jeopardy.utils.GameConstants;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.zip.CRC32C;
+
+/**
+ * ScriptedRun plays a console game deterministically, for comparing timings across builds.
+ *
+ * The game's input comes from a script of lines, fed exactly as a player would type
+ * them (player count, names, question file choice, then category, value and answer for
+ * every turn). Everything else that could vary between runs is fixed:
+ * - the board is drawn with a Random seeded from the given seed;
+ * - the players' question history is kept in memory, so runs neither read nor change
+ *   the history on disk;
+ * - activity logs are timestamped by a SteppingClock instead of the system clock;
+ * - categories are offered in the order of the question file (QuestionService keeps it).
+ * Two runs of the same script and seed therefore produce identical activity logs, and
+ * any difference in their phase timings comes from the code, not from the game.
+ *
+ * Usage:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass=com.jeopardy.harness.ScriptedRun \
+ *     -Dexec.args="data/sample_script.txt 42 5"
+ * </pre>
+ * Arguments are optional: the script, the seed and the number of runs. The last run's
+ * timing profile is printed, with every run's total time and activity log digest.
+ * Run with -Djeopardy.metrics=true to also print the probe latencies of all runs.
+ */
+public class ScriptedRun {
+
+    private static final String DEFAULT_SCRIPT = "sample_script.txt";
+    private static final long DEFAULT_SEED = 42;
+    private static final int DEFAULT_RUNS = 5;
+    private static final Instant CLOCK_START = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Duration CLOCK_STEP = Duration.ofMillis(1);
+
+    private final List<String> script;
+    private final long seed;
+
+    /**
+     * The outcome of one scripted run.
+     */
+    public static final class Result {
+        private final List<ActivityLog> logs;
+        private final PhaseTimer timer;
+        private final long elapsedNanos;
+        private final boolean finished;
+
+        Result(List<ActivityLog> logs, PhaseTimer timer, long elapsedNanos, boolean finished) {
+            this.logs = Collections.unmodifiableList(logs);
+            this.timer = timer;
+            this.elapsedNanos = elapsedNanos;
+            this.finished = finished;
+        }
+
+        /**
+         * Gets the activity logs the game published, in order.
+         *
+         * @return the activity logs
+         */
+        public List<ActivityLog> getActivityLogs() {
+            return this.logs;
+        }
+
+        /**
+         * Gets the time spent in each turn phase.
+         *
+         * @return the timing profile
+         */
+        public PhaseTimer getPhaseTimer() {
+            return this.timer;
+        }
+
+        /**
+         * Gets the time the whole run took, setup included.
+         *
+         * @return the elapsed time in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return this.elapsedNanos;
+        }
+
+        /**
+         * Gets the time spent outside the turn phases: choosing players and loading questions.
+         *
+         * @return the setup time in nanoseconds
+         */
+        public long getSetupNanos() {
+            long phases = 0;
+            for (TurnPhase phase : TurnPhase.values()) {
+                phases += this.timer.getTotalNanos(phase);
+            }
+            return this.elapsedNanos - phases;
+        }
+
+        /**
+         * Checks whether the game reached game over before the script ran out.
+         *
+         * @return true if the game finished
+         */
+        public boolean isFinished() {
+            return this.finished;
+        }
+
+        /**
+         * Computes a CRC-32C digest of the activity logs in their CSV form.
+         * Runs with equal digests produced the same logs.
+         *
+         * @return the digest as 8 hex digits
+         */
+        public String getDigest() {
+            CRC32C crc = new CRC32C();
+            for (ActivityLog log : this.logs) {
+                crc.update(log.toCSVString().getBytes(StandardCharsets.UTF_8));
+            }
+            return String.format("%08x", crc.getValue());
+        }
+    }
+
+    /**
+     * Constructs a run of a script.
+     *
+     * @param script the input lines, in order
+     * @param seed the seed of the board's random source
+     */
+    public ScriptedRun(List<String> script, long seed) {
+        this.script = new ArrayList<>(script);
+        this.seed = seed;
+    }
+
+    /**
+     * Reads a script file. Lines starting with # and blank lines are skipped.
+     *
+     * @param file the script file
+     * @return the input lines, in order
+     * @throws IOException if the file cannot be read
+     */
+    public static List<String> readScript(Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (!line.trim().isEmpty() && !line.startsWith("#")) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Plays the script once.
+     * The run's engine timestamps its activity logs with its own SteppingClock, so runs
+     * may overlap with each other and with other games.
+     *
+     * @return the run's activity logs and timings
+     */
+    public Result run() {
+        GameState state = new GameState(new Random(this.seed), new SeenQuestionStore(null));
+        HeadlessGameIO io = new HeadlessGameIO().submit(this.script.toArray(new String[0]));
+        GameEngine engine = new GameEngine(state, io, new SteppingClock(CLOCK_START, CLOCK_STEP));
+        List<ActivityLog> logs = new ArrayList<>();
+        engine.subscribe(logs::add);
+        PhaseTimer timer = new PhaseTimer();
+        engine.setPhaseTimer(timer);
+
+        long start = System.nanoTime();
+        try {
+            engine.start();
+        } catch (NoSuchElementException e) {
+            // The script ran out before the game ended
+        }
+        return new Result(logs, timer, System.nanoTime() - start, engine.isGameOver());
+    }
+
+    /**
+     * Plays a script several times and prints the timing profile.
+     *
+     * @param args optional script file, seed and number of runs
+     */
+    public static void main(String[] args) {
+        Path file = args.length > 0 ? Paths.get(args[0]) : GameConstants.DATA_DIRECTORY.resolve(DEFAULT_SCRIPT);
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_SEED;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_RUNS;
+
+        List<String> script;
+        try {
+            script = readScript(file);
+        } catch (IOException e) {
+            System.out.println("[Error]: Could not read script " + file + ": " + e.getMessage());
+            return;
+        }
+
+        ScriptedRun scriptedRun = new ScriptedRun(script, seed);
+        Result last = null;
+        String digest = null;
+        for (int r = 1; r <= runs; r++) {
+            last = scriptedRun.run();
+            System.out.println(String.format("Run %d: %.2f ms, %d activity logs, digest %s%s", r,
+                last.getElapsedNanos() / 1e6, last.getActivityLogs().size(), last.getDigest(),
+                last.isFinished() ? "" : " (script ended before game over)"));
+            if (digest != null && !digest.equals(last.getDigest())) {
+                System.out.println("[Error]: Run " + r + " produced different activity logs than run 1");
+            }
+            digest = last.getDigest();
+        }
+        if (last != null) {
+            System.out.println(String.format("=== Timing profile of run %d (seed %d) ===", runs, seed));
+            System.out.println(String.format("%-16s %26.1f", "Setup (us)", last.getSetupNanos() / 1e3));
+            System.out.print(last.getPhaseTimer());
+        }
+        if (Metrics.isEnabled()) {
+            System.out.println(String.format("=== Probe latencies over %d runs ===", runs));
+            System.out.print(Metrics.report(Metrics.snapshotAndReset()));
+        }
+    }
+}
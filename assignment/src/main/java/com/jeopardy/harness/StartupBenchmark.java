@@ -0,0 +1,307 @@
+package com.jeopardy.harness;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * StartupBenchmark measures how long the console game takes from JVM launch to its first prompt.
+ *
+ * Each launch starts a fresh JVM running com.jeopardy.Client, in an empty temporary
+ * working directory so the game's journal and player profiles are never touched, and
+ * times it until the player count prompt appears on its output. The JVM is then killed,
+ * so no reports are written. One untimed launch warms the disk cache first.
+ *
+ * Given an archive file, the launches are timed twice: as they are, then with the
+ * archive as a class data sharing (CDS) archive. A training launch (re)creates the
+ * archive first: it runs the game to the first prompt, closes its input so the game
+ * ends (writing its reports, so those classes are archived too), and lets the JVM list
+ * the classes it loaded (-XX:DumpLoadedClassList). A second JVM then dumps the listed
+ * classes into the archive (-Xshare:dump), the way Java 11 creates application CDS
+ * archives. CDS only archives classes from jars, so the game must then be
+ * launched from its jar; the classpath of the launched JVMs is taken from the
+ * jeopardy.startup.classpath system property when it is set. The jeopardy.startup.main
+ * property launches another main class instead, e.g. one that only prints the prompt,
+ * to measure the JVM's own start-up.
+ *
+ * Usage:
+ * <pre>
+ * mvn -Pcds package
+ * </pre>
+ * builds the jar, creates target/jeopardy.jsa and prints both timings. The game is
+ * then started with the archive as:
+ * <pre>
+ * java -XX:SharedArchiveFile=target/jeopardy.jsa -cp target/assignment-1.0.jar:... com.jeopardy.Client
+ * </pre>
+ * By hand, the benchmark runs as:
+ * <pre>
+ * java -cp target/classes:... com.jeopardy.harness.StartupBenchmark 10 [archive.jsa]
+ * </pre>
+ */
+public final class StartupBenchmark {
+
+    private static final int DEFAULT_RUNS = 10;
+    private static final String MAIN_CLASS = System.getProperty("jeopardy.startup.main", "com.jeopardy.Client");
+    private static final String FIRST_PROMPT = "How many players";
+    private static final long PROMPT_TIMEOUT_SECONDS = 60;
+    private static final long TRAINING_TIMEOUT_SECONDS = 300;
+
+    private final String java;
+    private final String classpath;
+
+    /**
+     * Constructs a benchmark launching the given JVM with the given classpath.
+     *
+     * @param java the java executable
+     * @param classpath the classpath of the launched game; relative entries are
+     *                  resolved against the current directory
+     */
+    public StartupBenchmark(String java, String classpath) {
+        List<String> entries = new ArrayList<>();
+        for (String entry : classpath.split(File.pathSeparator)) {
+            if (!entry.isEmpty()) {
+                entries.add(Paths.get(entry).toAbsolutePath().toString());
+            }
+        }
+        this.java = java;
+        this.classpath = String.join(File.pathSeparator, entries);
+    }
+
+    /**
+     * The launch times of one JVM configuration.
+     */
+    public static final class Result {
+        private final List<String> options;
+        private final long[] nanos;
+
+        Result(List<String> options, long[] nanos) {
+            this.options = options;
+            this.nanos = nanos.clone();
+            Arrays.sort(this.nanos);
+        }
+
+        /**
+         * Gets the JVM options of the launches.
+         *
+         * @return the options, empty for a default launch
+         */
+        public List<String> getOptions() {
+            return this.options;
+        }
+
+        /**
+         * Gets the number of timed launches.
+         *
+         * @return the launch count
+         */
+        public int getRuns() {
+            return this.nanos.length;
+        }
+
+        /**
+         * Gets the fastest launch.
+         *
+         * @return the shortest time to the first prompt in nanoseconds
+         */
+        public long getMinNanos() {
+            return this.nanos[0];
+        }
+
+        /**
+         * Gets the median launch.
+         *
+         * @return the median time to the first prompt in nanoseconds
+         */
+        public long getMedianNanos() {
+            return this.nanos[this.nanos.length / 2];
+        }
+
+        /**
+         * Gets the slowest launch.
+         *
+         * @return the longest time to the first prompt in nanoseconds
+         */
+        public long getMaxNanos() {
+            return this.nanos[this.nanos.length - 1];
+        }
+
+        /**
+         * Formats the launch times in milliseconds.
+         *
+         * @return a one-line summary
+         */
+        @Override
+        public String toString() {
+            return String.format("%-28s runs=%d min=%.1fms median=%.1fms max=%.1fms",
+                this.options.isEmpty() ? "(default)" : String.join(" ", this.options),
+                getRuns(), getMinNanos() / 1e6, getMedianNanos() / 1e6, getMaxNanos() / 1e6);
+        }
+    }
+
+    // ==================== Measuring ====================
+
+    /**
+     * Times launches to the first prompt, after one untimed warm-up launch.
+     *
+     * @param runs the number of timed launches
+     * @param options the JVM options to launch with
+     * @return the launch times
+     * @throws IOException if a launch fails or never shows the prompt
+     * @throws InterruptedException if interrupted while waiting for a launch
+     */
+    public Result measure(int runs, List<String> options) throws IOException, InterruptedException {
+        launch(options, false);
+        long[] nanos = new long[runs];
+        for (int r = 0; r < runs; r++) {
+            nanos[r] = launch(options, false);
+        }
+        return new Result(options, nanos);
+    }
+
+    /**
+     * Creates a CDS archive, replacing any old one, from the classes loaded by one game
+     * played to its first prompt and then ended. The class list is kept next to the
+     * archive, with a .classlist extension.
+     *
+     * @param archive the archive file to write
+     * @throws IOException if a launch fails or the archive is not written
+     * @throws InterruptedException if interrupted while waiting for a launch
+     */
+    public void train(Path archive) throws IOException, InterruptedException {
+        Path archiveFile = archive.toAbsolutePath();
+        Path classList = archiveFile.resolveSibling(archiveFile.getFileName() + ".classlist");
+        Files.deleteIfExists(archiveFile);
+        Files.deleteIfExists(classList);
+        launch(List.of("-XX:DumpLoadedClassList=" + classList), true);
+        if (!Files.exists(classList)) {
+            throw new IOException("The JVM did not write " + classList);
+        }
+
+        List<String> command = List.of(this.java, "-Xshare:dump", "-XX:SharedClassListFile=" + classList,
+            "-XX:SharedArchiveFile=" + archiveFile, "-cp", this.classpath);
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        process.getOutputStream().close();
+        process.getInputStream().transferTo(OutputStream.nullOutputStream());
+        if (!process.waitFor(TRAINING_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+        if (process.exitValue() != 0 || !Files.exists(archiveFile)) {
+            throw new IOException("The JVM did not write " + archive);
+        }
+    }
+
+    /**
+     * Launches the game in a new JVM and times it to the first prompt.
+     *
+     * @param options the JVM options to launch with
+     * @param finish true to end the game and wait for the JVM to exit, false to kill it
+     * @return the time from launch to the first prompt in nanoseconds
+     * @throws IOException if the launch fails or never shows the prompt
+     * @throws InterruptedException if interrupted while waiting for the JVM
+     */
+    private long launch(List<String> options, boolean finish) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(this.java);
+        command.addAll(options);
+        command.add("-cp");
+        command.add(this.classpath);
+        command.add(MAIN_CLASS);
+
+        Path dir = Files.createTempDirectory("jeopardy-startup");
+        try {
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command).directory(dir.toFile()).redirectErrorStream(true).start();
+            CompletableFuture.delayedExecutor(finish ? TRAINING_TIMEOUT_SECONDS : PROMPT_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .execute(process::destroyForcibly);
+            try {
+                InputStream out = process.getInputStream();
+                awaitPrompt(out);
+                long elapsed = System.nanoTime() - start;
+                if (finish) {
+                    process.getOutputStream().close();
+                    out.transferTo(OutputStream.nullOutputStream());
+                    process.waitFor();
+                }
+                return elapsed;
+            } finally {
+                process.destroyForcibly().waitFor();
+            }
+        } finally {
+            delete(dir);
+        }
+    }
+
+    /**
+     * Reads the game's output until the first prompt appears.
+     *
+     * @param out the game's output
+     * @throws IOException if the output ends before the prompt
+     */
+    private static void awaitPrompt(InputStream out) throws IOException {
+        StringBuilder seen = new StringBuilder();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = out.read(buffer)) >= 0) {
+            seen.append(new String(buffer, 0, read, StandardCharsets.ISO_8859_1));
+            if (seen.indexOf(FIRST_PROMPT) >= 0) {
+                return;
+            }
+        }
+        throw new IOException("The game exited before its first prompt:\n" + seen);
+    }
+
+    /**
+     * Deletes a launch's working directory and everything the game wrote in it.
+     *
+     * @param dir the directory
+     * @throws IOException if it cannot be deleted
+     */
+    private static void delete(Path dir) throws IOException {
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(dir)) {
+            paths = walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        }
+        for (Path path : paths) {
+            Files.delete(path);
+        }
+    }
+
+    // ==================== Main ====================
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args optional number of timed launches, then optional CDS archive file
+     * @throws IOException if a launch fails
+     * @throws InterruptedException if interrupted while waiting for a launch
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RUNS;
+        Path archive = args.length > 1 ? Paths.get(args[1]) : null;
+
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        String classpath = System.getProperty("jeopardy.startup.classpath", System.getProperty("java.class.path"));
+        StartupBenchmark benchmark = new StartupBenchmark(java, classpath);
+
+        System.out.println("=== Time from JVM launch to first prompt ===");
+        System.out.println(benchmark.measure(runs, List.of()));
+        if (archive != null) {
+            benchmark.train(archive);
+            System.out.println("Created CDS archive " + archive);
+            System.out.println(benchmark.measure(runs, List.of("-XX:SharedArchiveFile=" + archive.toAbsolutePath())));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.jeopardy.harness;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SteppingClock is a clock that advances by a fixed step every time it is read.
+ *
+ * The n-th reading is always start + n * step, whenever it is taken, so activity logs
+ * timestamped with it are identical from run to run while still being in order.
+ */
+class SteppingClock extends Clock {
+
+    private final Instant start;
+    private final Duration step;
+    private final AtomicLong readings;
+
+    /**
+     * Constructs a clock whose first reading is the start instant.
+     *
+     * @param start the first reading
+     * @param step the amount each reading advances the clock
+     */
+    SteppingClock(Instant start, Duration step) {
+        this.start = start;
+        this.step = step;
+        this.readings = new AtomicLong();
+    }
+
+    /**
+     * Reads the clock and advances it by one step.
+     *
+     * @return the current reading
+     */
+    @Override
+    public Instant instant() {
+        return this.start.plus(this.step.multipliedBy(this.readings.getAndIncrement()));
+    }
+
+    /**
+     * Gets the clock's time zone.
+     *
+     * @return UTC
+     */
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    /**
+     * Returns this clock; its instants do not depend on a zone.
+     *
+     * @param zone the requested zone
+     * @return this clock
+     */
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+}
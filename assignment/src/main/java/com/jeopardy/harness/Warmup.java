@@ -0,0 +1,164 @@
+package com.jeopardy.harness;
+
+import com.jeopardy.game.GameEngine;
+import com.jeopardy.game.GameState;
+import com.jeopardy.game.SeenQuestionStore;
+import com.jeopardy.question.QuestionBanks;
+import com.jeopardy.question.QuestionService;
+import com.jeopardy.ui.TerminalGameIO;
+import com.jeopardy.utils.GameConstants;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Warmup plays synthetic games before the real one, so the JIT has compiled the turn
+ * path by the time a player takes the first turn.
+ *
+ * A fresh JVM interprets the category, question and answer commands, the question
+ * service lookups, the activity log builder and the terminal renderer until they have
+ * run often enough to be compiled, which makes the first turns of a kiosk game
+ * noticeably slower than the rest. A warm-up plays whole games through the same code:
+ * a GameEngine on a TerminalGameIO, fed scripted input and writing to a discarded
+ * stream, on a board drawn from a small in-memory bank.
+ *
+ * Nothing of a warm-up game reaches the real one: it has its own engine and publisher,
+ * whose only subscriber formats each activity log as a report line and drops it; its
+ * players' question history is kept in memory; it has no journal, profile store or
+ * question file. Only the metrics probes are shared, so run without warm-up when
+ * measuring probe latencies.
+ *
+ * The console game starts a warm-up in the background with -Djeopardy.warmup=true,
+ * while its banner waits for the player count.
+ */
+public final class Warmup {
+
+    /**
+     * Whether the console game warms up. Read once, when the class is first used.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("jeopardy.warmup");
+
+    /**
+     * Games played by a default warm-up, enough for the turn path to be compiled.
+     */
+    public static final int DEFAULT_GAMES = 20;
+
+    private static final String[] PLAYERS = {"Warm", "Up"};
+    private static final String[] OPTIONS = {"First", "Second", "Third", "Fourth"};
+    private static final String[] ANSWERS = {"A", "B", "C", "D"};
+    private static final long SEED = 42;
+
+    private final int games;
+    private final QuestionService bank;
+    private long formattedChars;
+
+    /**
+     * Constructs a warm-up of the given number of games.
+     *
+     * @param games the number of synthetic games to play
+     */
+    public Warmup(int games) {
+        this.games = games;
+        this.bank = createBank();
+    }
+
+    /**
+     * Creates an in-memory bank with exactly one board of questions.
+     *
+     * @return the bank
+     */
+    public static QuestionService createBank() {
+        return QuestionBanks.generate("Warm-up", GameConstants.BOARD_CATEGORIES, 1, OPTIONS, true);
+    }
+
+    /**
+     * Creates the input of one game: two players, then the first open category and
+     * value with a rotating answer every turn, and Enter after each turn.
+     *
+     * @param charset the character set of the input
+     * @return the typed input
+     */
+    private static byte[] createScript(Charset charset) {
+        StringBuilder script = new StringBuilder();
+        script.append(PLAYERS.length).append('\n');
+        for (String player : PLAYERS) {
+            script.append(player).append('\n');
+        }
+        int turns = GameConstants.BOARD_CATEGORIES * GameConstants.BOARD_VALUES;
+        for (int t = 0; t < turns; t++) {
+            script.append("1\n1\n").append(ANSWERS[t % ANSWERS.length]).append("\n\n");
+        }
+        return script.toString().getBytes(charset);
+    }
+
+    // ==================== Warming Up ====================
+
+    /**
+     * Plays the warm-up games on the calling thread.
+     * Stops early, between games, if the thread is interrupted.
+     *
+     * @return the number of turns played
+     */
+    public int run() {
+        Charset charset = Charset.defaultCharset();
+        byte[] script = createScript(charset);
+        Random random = new Random(SEED);
+        int turns = 0;
+
+        for (int g = 0; g < this.games && !Thread.currentThread().isInterrupted(); g++) {
+            GameState state = new GameState(random, new SeenQuestionStore(null));
+            state.setBank(this.bank);
+            TerminalGameIO io = new TerminalGameIO(new ByteArrayInputStream(script), OutputStream.nullOutputStream(), charset);
+            GameEngine engine = new GameEngine(state, io);
+            engine.subscribe(log -> this.formattedChars += log.toCSVString().length());
+            try {
+                engine.start();
+            } catch (NoSuchElementException e) {
+                // The script ran out before the game ended; the turns played still count
+            }
+            turns += state.getCurrentTurn();
+        }
+        return turns;
+    }
+
+    /**
+     * Plays the warm-up games on a background daemon thread, so they never delay the
+     * real game's output or keep the JVM alive.
+     *
+     * @return the started thread
+     */
+    public Thread start() {
+        Thread thread = new Thread(() -> {
+            try {
+                run();
+            } catch (RuntimeException e) {
+                System.err.println("[Error]: Warm-up failed, the first turns will be slower: " + e.getMessage());
+            }
+        }, "jeopardy-warmup");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Gets the bank the warm-up games draw their boards from.
+     *
+     * @return the in-memory bank
+     */
+    QuestionService getBank() {
+        return this.bank;
+    }
+
+    /**
+     * Gets the number of characters the warm-up games' activity logs formatted to.
+     *
+     * @return the formatted length, 0 before any game
+     */
+    public long getFormattedChars() {
+        return this.formattedChars;
+    }
+}
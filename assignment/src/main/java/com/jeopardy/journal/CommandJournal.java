@@ -0,0 +1,300 @@
+package com.jeopardy.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * CommandJournal is an append-only, crash-safe log of journal records.
+ *
+ * Each record is framed as its payload length (4 bytes), a CRC-32C of the payload
+ * (4 bytes) and the payload itself. A crash can leave a partly written frame at the
+ * end of the file; reading stops at the first frame that is incomplete or fails its
+ * checksum, and recover() cuts the file back to the last good frame.
+ *
+ * Appending only copies the frame into a memory buffer. Durability is requested with
+ * sync(sequence), which uses group commit: the first thread to ask becomes the leader,
+ * takes everything appended so far, writes it with one write and one fsync, and
+ * marks it durable. Threads that appended meanwhile either find their record already
+ * durable or lead the next batch with everything that piled up during the fsync.
+ * So many games journaling at once share fsyncs instead of paying for one each.
+ *
+ * A failed write or fsync leaves it unknown which bytes of the batch reached the disk,
+ * so the journal fails for good: the failing sync and every later one throw, appends
+ * are refused, and no record past the last forced batch is ever reported durable.
+ *
+ * Usage:
+ * <pre>
+ * CommandJournal journal = CommandJournal.open(path, true);
+ * long seq = journal.append(record);
+ * journal.sync(seq);     // returns once the record is on disk
+ * </pre>
+ */
+public class CommandJournal implements AutoCloseable {
+
+    private static final int FRAME_HEADER = 8;
+    private static final int INITIAL_BUFFER = 16 * 1024;
+
+    private final FileChannel channel;
+    private final boolean fsync;
+    private final Object appendLock = new Object();
+    private final Object syncLock = new Object();
+    private ByteBuffer pending;
+    private ByteBuffer spare;
+    private long appended;
+    private volatile long durable;
+    private long syncCount;
+    private boolean closed;
+    private volatile Exception failure;
+
+    /**
+     * Constructs a journal over an open channel positioned at its end.
+     *
+     * @param channel the journal file channel
+     * @param fsync true to force each committed batch to disk
+     */
+    CommandJournal(FileChannel channel, boolean fsync) {
+        this.channel = channel;
+        this.fsync = fsync;
+        this.pending = ByteBuffer.allocate(INITIAL_BUFFER);
+        this.spare = ByteBuffer.allocate(INITIAL_BUFFER);
+    }
+
+    /**
+     * Opens a journal for appending, creating the file if needed. Call recover() first
+     * if the file may end in a torn frame.
+     *
+     * @param file the journal file
+     * @param fsync true to force committed batches to disk; false leaves it to the OS
+     * @return the open journal
+     * @throws IOException if the file cannot be opened
+     */
+    public static CommandJournal open(Path file, boolean fsync) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        return new CommandJournal(channel, fsync);
+    }
+
+    // ==================== Writing ====================
+
+    /**
+     * Appends a record to the in-memory batch. Safe to call from any thread.
+     *
+     * @param record the record to append
+     * @return the record's sequence number, for sync()
+     * @throws IllegalStateException if the journal is closed or has failed
+     */
+    public long append(JournalRecord record) {
+        byte[] payload = record.encode();
+        CRC32C crc = new CRC32C();
+        crc.update(payload, 0, payload.length);
+
+        synchronized (this.appendLock) {
+            if (this.closed) {
+                throw new IllegalStateException("Journal is closed");
+            }
+            if (this.failure != null) {
+                throw new IllegalStateException("Journal has failed: " + this.failure.getMessage());
+            }
+            int needed = FRAME_HEADER + payload.length;
+            if (this.pending.remaining() < needed) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(this.pending.capacity() * 2, this.pending.position() + needed));
+                this.pending.flip();
+                larger.put(this.pending);
+                this.pending = larger;
+            }
+            this.pending.putInt(payload.length);
+            this.pending.putInt((int) crc.getValue());
+            this.pending.put(payload);
+            return ++this.appended;
+        }
+    }
+
+    /**
+     * Waits until every record up to a sequence number is written (and forced to disk
+     * if this journal fsyncs). Concurrent callers share one write and fsync.
+     *
+     * @param sequence the sequence number returned by append()
+     * @throws IOException if writing or forcing the file fails, now or in an earlier sync
+     */
+    public void sync(long sequence) throws IOException {
+        if (this.durable >= sequence) {
+            return;
+        }
+        synchronized (this.syncLock) {
+            if (this.durable >= sequence) {
+                return;
+            }
+            if (this.failure != null) {
+                throw new IOException("Journal failed after record " + this.durable + ", later records were not written", this.failure);
+            }
+            ByteBuffer batch;
+            long upTo;
+            synchronized (this.appendLock) {
+                batch = this.pending;
+                this.pending = this.spare;
+                upTo = this.appended;
+            }
+
+            batch.flip();
+            try {
+                while (batch.hasRemaining()) {
+                    this.channel.write(batch);
+                }
+                if (this.fsync) {
+                    this.channel.force(false);
+                }
+            } catch (IOException | RuntimeException e) {
+                // The batch may be partly on disk; retrying could write a frame twice
+                this.failure = e;
+                throw e;
+            }
+            this.syncCount++;
+            this.durable = upTo;
+
+            batch.clear();
+            synchronized (this.appendLock) {
+                this.spare = batch;
+            }
+        }
+    }
+
+    /**
+     * Appends a record and waits until it is durable.
+     *
+     * @param record the record to commit
+     * @throws IOException if writing or forcing the file fails
+     */
+    public void commit(JournalRecord record) throws IOException {
+        sync(append(record));
+    }
+
+    /**
+     * Gets the number of records appended since the journal was opened.
+     *
+     * @return the appended record count
+     */
+    public long getAppendedCount() {
+        synchronized (this.appendLock) {
+            return this.appended;
+        }
+    }
+
+    /**
+     * Gets the number of batches written, i.e. the number of fsyncs when fsync is on.
+     *
+     * @return the batch count
+     */
+    public long getSyncCount() {
+        synchronized (this.syncLock) {
+            return this.syncCount;
+        }
+    }
+
+    /**
+     * Writes everything appended and closes the file.
+     *
+     * @throws IOException if the final write or close fails
+     */
+    @Override
+    public void close() throws IOException {
+        long last;
+        synchronized (this.appendLock) {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            last = this.appended;
+        }
+        try {
+            sync(last);
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    // ==================== Reading ====================
+
+    /**
+     * Reads every intact record of a journal file.
+     * Reading stops at the first incomplete or corrupt frame.
+     *
+     * @param file the journal file
+     * @return the records in append order; empty if the file does not exist
+     * @throws IOException if the file cannot be read
+     */
+    public static List<JournalRecord> read(Path file) throws IOException {
+        List<JournalRecord> records = new ArrayList<>();
+        if (Files.exists(file)) {
+            scan(ByteBuffer.wrap(Files.readAllBytes(file)), records);
+        }
+        return records;
+    }
+
+    /**
+     * Reads every intact record of a journal file and truncates the file after the
+     * last one, so appending continues from a clean frame boundary.
+     *
+     * @param file the journal file
+     * @return the records in append order; empty if the file does not exist
+     * @throws IOException if the file cannot be read or truncated
+     */
+    public static List<JournalRecord> recover(Path file) throws IOException {
+        List<JournalRecord> records = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return records;
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        int end = scan(ByteBuffer.wrap(bytes), records);
+        if (end < bytes.length) {
+            System.err.println(String.format("[Journal]: Dropping %d bytes of incomplete record at the end of %s",
+                bytes.length - end, file));
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(end);
+                channel.force(true);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Decodes frames until the data ends or a frame is incomplete or corrupt.
+     *
+     * @param data the journal bytes
+     * @param records the list to add decoded records to
+     * @return the offset just past the last intact frame
+     */
+    private static int scan(ByteBuffer data, List<JournalRecord> records) {
+        CRC32C crc = new CRC32C();
+        while (data.remaining() >= FRAME_HEADER) {
+            int start = data.position();
+            int length = data.getInt();
+            int checksum = data.getInt();
+            if (length < 0 || length > data.remaining()) {
+                return start;
+            }
+            crc.reset();
+            crc.update(data.array(), data.position(), length);
+            if ((int) crc.getValue() != checksum) {
+                return start;
+            }
+            ByteBuffer payload = ByteBuffer.wrap(data.array(), data.position(), length).slice();
+            try {
+                records.add(JournalRecord.decode(payload));
+            } catch (IllegalArgumentException e) {
+                return start;
+            }
+            data.position(data.position() + length);
+        }
+        return data.position();
+    }
+}
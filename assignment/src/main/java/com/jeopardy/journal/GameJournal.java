@@ -0,0 +1,154 @@
+package com.jeopardy.journal;
+
+import com.jeopardy.game.GameState;
+import com.jeopardy.game.Player;
+import com.jeopardy.question.Question;
+
+import java.io.IOException;
+
+/**
+ * GameJournal records the moves of one game in a CommandJournal.
+ *
+ * The game's setup (players and the drawn board) is committed when play begins, so
+ * recovery never depends on re-drawing the same board. Each executed command is then
+ * appended as it happens, and the turn is committed once its answer is in: one sync
+ * per turn, shared with any other games writing to the same journal at that moment.
+ *
+ * Journal failures are reported and otherwise ignored, so a full disk never stops
+ * a game in progress; that game simply cannot be resumed past the failure.
+ *
+ * Usage: engine.setJournal(new GameJournal(journal, state.getCaseId()))
+ */
+public class GameJournal {
+
+    private final CommandJournal journal;
+    private final String caseId;
+    private boolean failed;
+
+    /**
+     * Constructs a journal view for one game.
+     *
+     * @param journal the journal to write to (may be shared by many games)
+     * @param caseId the case ID of the game
+     */
+    public GameJournal(CommandJournal journal, String caseId) {
+        this.journal = journal;
+        this.caseId = caseId;
+    }
+
+    /**
+     * Commits the game's players and board.
+     *
+     * @param state the state of a game whose board has been drawn
+     */
+    public void gameStarted(GameState state) {
+        long last = append(JournalRecord.Type.GAME);
+        for (Player player : state.getPlayers()) {
+            last = append(JournalRecord.Type.PLAYER, player.getId());
+        }
+        for (Question q : state.getQuestionService().getQuestions()) {
+            String[] fields = new String[4 + q.getOptionCount()];
+            fields[0] = q.getCategory();
+            fields[1] = Integer.toString(q.getValue());
+            fields[2] = q.getQuestion();
+            fields[3] = q.getCorrectAnswer();
+            for (int i = 0; i < q.getOptionCount(); i++) {
+                fields[4 + i] = q.getOption(i);
+            }
+            last = append(JournalRecord.Type.QUESTION, fields);
+        }
+        commit(last);
+    }
+
+    /**
+     * Appends a category selection.
+     *
+     * @param turn the turn number
+     * @param category the selected category
+     */
+    public void categorySelected(int turn, String category) {
+        append(JournalRecord.Type.CATEGORY, Integer.toString(turn), category);
+    }
+
+    /**
+     * Appends a question selection.
+     *
+     * @param turn the turn number
+     * @param question the selected question
+     */
+    public void questionSelected(int turn, Question question) {
+        append(JournalRecord.Type.SELECT, Integer.toString(turn), question.getCategory(),
+            Integer.toString(question.getValue()), question.getQuestion());
+    }
+
+    /**
+     * Appends an answer and commits the turn.
+     *
+     * @param turn the turn number
+     * @param answer the answer label given
+     */
+    public void answered(int turn, String answer) {
+        commit(append(JournalRecord.Type.ANSWER, Integer.toString(turn), answer));
+    }
+
+    /**
+     * Appends a selected question that ran out of time and commits the turn.
+     *
+     * @param turn the turn number
+     */
+    public void timedOut(int turn) {
+        commit(append(JournalRecord.Type.TIMEOUT, Integer.toString(turn)));
+    }
+
+    /**
+     * Commits the end of the game; recovery no longer offers to resume it.
+     */
+    public void gameOver() {
+        commit(append(JournalRecord.Type.END));
+    }
+
+    /**
+     * Appends a record of this game.
+     *
+     * @param type the record type
+     * @param fields the type-specific fields
+     * @return the record's sequence number, or 0 if the journal has failed
+     */
+    private long append(JournalRecord.Type type, String... fields) {
+        if (this.failed) {
+            return 0;
+        }
+        try {
+            return this.journal.append(new JournalRecord(type, this.caseId, fields));
+        } catch (IllegalStateException e) {
+            fail(e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Waits until everything appended so far by this game is durable.
+     *
+     * @param sequence the sequence number of the game's last record
+     */
+    private void commit(long sequence) {
+        if (this.failed || sequence == 0) {
+            return;
+        }
+        try {
+            this.journal.sync(sequence);
+        } catch (IOException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Stops journaling after an error.
+     *
+     * @param message the error message
+     */
+    private void fail(String message) {
+        this.failed = true;
+        System.err.println("[Journal]: Game " + this.caseId + " is no longer journaled: " + message);
+    }
+}
@@ -0,0 +1,181 @@
+package com.jeopardy.journal;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * JournalRecord is one entry of the command journal.
+ *
+ * Every record belongs to one game (its case ID) and carries a few string fields
+ * whose meaning depends on the record type:
+ * - GAME: no fields; a new game begins
+ * - PLAYER: name
+ * - QUESTION: category, value, question text, correct answer, options... (one board entry)
+ * - CATEGORY: turn, category
+ * - SELECT: turn, category, value, question text
+ * - ANSWER: turn, answer label
+ * - END: no fields; the board was cleared
+ * - TIMEOUT: turn (the selected question ran out of time, in place of ANSWER)
+ *
+ * Encoded form: type (1 byte), field count (2 bytes), then the case ID and each field
+ * as a 4-byte length followed by UTF-8 bytes. CommandJournal frames this payload with
+ * its length and checksum.
+ */
+public final class JournalRecord {
+
+    /**
+     * Kinds of journal record.
+     */
+    public enum Type {
+        GAME, PLAYER, QUESTION, CATEGORY, SELECT, ANSWER, END, TIMEOUT
+    }
+
+    private static final Type[] TYPES = Type.values();
+
+    private final Type type;
+    private final String caseId;
+    private final String[] fields;
+
+    /**
+     * Constructs a record.
+     *
+     * @param type the record type
+     * @param caseId the case ID of the game the record belongs to
+     * @param fields the type-specific fields
+     */
+    public JournalRecord(Type type, String caseId, String... fields) {
+        this.type = type;
+        this.caseId = caseId;
+        this.fields = fields.clone();
+    }
+
+    /**
+     * Gets the record type.
+     *
+     * @return the type
+     */
+    public Type getType() {
+        return this.type;
+    }
+
+    /**
+     * Gets the case ID of the game the record belongs to.
+     *
+     * @return the case ID
+     */
+    public String getCaseId() {
+        return this.caseId;
+    }
+
+    /**
+     * Gets the number of type-specific fields.
+     *
+     * @return the field count
+     */
+    public int getFieldCount() {
+        return this.fields.length;
+    }
+
+    /**
+     * Gets a type-specific field.
+     *
+     * @param index the field index
+     * @return the field value
+     */
+    public String getField(int index) {
+        return this.fields[index];
+    }
+
+    /**
+     * Gets a type-specific field as an integer.
+     *
+     * @param index the field index
+     * @return the field value
+     * @throws NumberFormatException if the field is not an integer
+     */
+    public int getIntField(int index) {
+        return Integer.parseInt(this.fields[index]);
+    }
+
+    // ==================== Encoding ====================
+
+    /**
+     * Encodes the record payload.
+     *
+     * @return the payload bytes
+     */
+    byte[] encode() {
+        byte[][] strings = new byte[this.fields.length + 1][];
+        strings[0] = this.caseId.getBytes(StandardCharsets.UTF_8);
+        int size = 1 + 2 + 4 + strings[0].length;
+        for (int i = 0; i < this.fields.length; i++) {
+            strings[i + 1] = this.fields[i].getBytes(StandardCharsets.UTF_8);
+            size += 4 + strings[i + 1].length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put((byte) this.type.ordinal());
+        buffer.putShort((short) this.fields.length);
+        for (byte[] s : strings) {
+            buffer.putInt(s.length);
+            buffer.put(s);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Decodes a record payload.
+     *
+     * @param payload the payload, positioned at its first byte and limited to its end
+     * @return the record
+     * @throws IllegalArgumentException if the payload is not a valid record
+     */
+    static JournalRecord decode(ByteBuffer payload) {
+        try {
+            int type = payload.get();
+            int count = payload.getShort() & 0xFFFF;
+            if (type < 0 || type >= TYPES.length) {
+                throw new IllegalArgumentException("Unknown record type " + type);
+            }
+            String caseId = readString(payload);
+            String[] fields = new String[count];
+            for (int i = 0; i < count; i++) {
+                fields[i] = readString(payload);
+            }
+            if (payload.hasRemaining()) {
+                throw new IllegalArgumentException("Trailing bytes in record");
+            }
+            return new JournalRecord(TYPES[type], caseId, fields);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated record", e);
+        }
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 string.
+     *
+     * @param buffer the buffer to read from
+     * @return the string
+     */
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Bad string length " + length);
+        }
+        String s = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return s;
+    }
+
+    /**
+     * Formats the record for diagnostics.
+     *
+     * @return the type, case ID and fields
+     */
+    @Override
+    public String toString() {
+        return this.type + " " + this.caseId + " " + Arrays.toString(this.fields);
+    }
+}
@@ -0,0 +1,304 @@
+package com.jeopardy.journal;
+
+import com.jeopardy.command.AnswerQuestionCommand;
+import com.jeopardy.command.SelectCategoryCommand;
+import com.jeopardy.command.SelectQuestionCommand;
+import com.jeopardy.command.TimeoutCommand;
+import com.jeopardy.game.GameController;
+import com.jeopardy.game.GameState;
+import com.jeopardy.game.Player;
+import com.jeopardy.game.SeenQuestionStore;
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.question.Question;
+import com.jeopardy.ui.GameIO;
+import com.jeopardy.ui.HeadlessGameIO;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * JournalReplayer rebuilds game states from journal records.
+ *
+ * Records are grouped by case ID. A GAME record starts a game afresh (case IDs can be
+ * reused, as the console game's is) and an END record finishes it. Each game that has
+ * no END is rebuilt: its players and board come from the PLAYER and QUESTION records,
+ * and every completed turn is replayed through the real SelectCategoryCommand,
+ * SelectQuestionCommand and AnswerQuestionCommand, so scores, answered questions and
+ * seen-question history come out exactly as in the original game.
+ *
+ * A turn whose question ran out of time ends with a TIMEOUT record instead of ANSWER
+ * and is replayed through the TimeoutCommand. A turn without either record (the crash
+ * happened mid-turn) is dropped; the
+ * recovered game resumes at the start of that turn with the question still open.
+ *
+ * Design patterns used:
+ * - Command: Turns are replayed by re-executing the game's command objects
+ */
+public final class JournalReplayer {
+
+    // Prevent instantiation
+    private JournalReplayer() {
+        throw new AssertionError("Cannot instantiate JournalReplayer");
+    }
+
+    /**
+     * Rebuilds every game in the records that has not ended, keeping the players'
+     * question history in memory only.
+     *
+     * @param records the journal records in append order
+     * @return the unfinished games' states keyed by case ID, in order of their GAME records
+     */
+    public static Map<String, GameState> recoverUnfinished(List<JournalRecord> records) {
+        return recoverUnfinished(records, null);
+    }
+
+    /**
+     * Rebuilds every game in the records that has not ended.
+     *
+     * @param records the journal records in append order
+     * @param seenDirectory the directory of the players' question history files, as the
+     *                      games were played with, or null to keep the history in memory only
+     * @return the unfinished games' states keyed by case ID, in order of their GAME records
+     */
+    public static Map<String, GameState> recoverUnfinished(List<JournalRecord> records, Path seenDirectory) {
+        Map<String, List<JournalRecord>> games = new LinkedHashMap<>();
+        for (JournalRecord record : records) {
+            switch (record.getType()) {
+                case GAME:
+                    games.remove(record.getCaseId());
+                    games.put(record.getCaseId(), new ArrayList<>());
+                    break;
+                case END:
+                    games.remove(record.getCaseId());
+                    break;
+                default:
+                    List<JournalRecord> game = games.get(record.getCaseId());
+                    if (game != null) {
+                        game.add(record);
+                    }
+                    break;
+            }
+        }
+
+        Map<String, GameState> states = new LinkedHashMap<>();
+        for (Map.Entry<String, List<JournalRecord>> game : games.entrySet()) {
+            states.put(game.getKey(), replay(game.getKey(), game.getValue(), seenDirectory));
+        }
+        return states;
+    }
+
+    /**
+     * Rebuilds one game from its records after its GAME record.
+     * Replay stops at the first record that does not fit the game so far.
+     *
+     * @param caseId the case ID of the game
+     * @param records the game's records in append order
+     * @return the rebuilt state, positioned at the start of the next turn
+     */
+    public static GameState replay(String caseId, List<JournalRecord> records) {
+        return replay(caseId, records, null);
+    }
+
+    /**
+     * Rebuilds one game from its records after its GAME record, loading the players'
+     * question history from the given directory.
+     *
+     * @param caseId the case ID of the game
+     * @param records the game's records in append order
+     * @param seenDirectory the directory of the players' question history files, or null
+     *                      to keep the history in memory only
+     * @return the rebuilt state, positioned at the start of the next turn
+     */
+    private static GameState replay(String caseId, List<JournalRecord> records, Path seenDirectory) {
+        ReplayedGame game = new ReplayedGame(caseId, seenDirectory);
+        List<Question> board = new ArrayList<>();
+        int i = 0;
+
+        for (; i < records.size() && records.get(i).getType() != JournalRecord.Type.CATEGORY; i++) {
+            JournalRecord record = records.get(i);
+            if (record.getType() == JournalRecord.Type.PLAYER) {
+                game.state.addPlayer(new Player(record.getField(0)));
+            } else if (record.getType() == JournalRecord.Type.QUESTION) {
+                board.add(toQuestion(record));
+            }
+        }
+        game.state.setBoardQuestions(board);
+
+        // Turns are CATEGORY, SELECT, then ANSWER or TIMEOUT; a trailing partial turn is dropped
+        for (; i + 2 < records.size(); i += 3) {
+            try {
+                game.replayTurn(records.get(i), records.get(i + 1), records.get(i + 2));
+            } catch (IllegalStateException | IllegalArgumentException | IndexOutOfBoundsException e) {
+                System.err.println(String.format("[Journal]: Stopped replaying %s at turn %d: %s",
+                    caseId, game.state.getCurrentTurn() + 1, e.getMessage()));
+                break;
+            }
+        }
+        game.state.setCurrentCategory((String) null);
+        game.state.setCurrentQuestion((Question) null);
+        return game.state;
+    }
+
+    /**
+     * Builds a board question from a QUESTION record.
+     *
+     * @param record the QUESTION record
+     * @return the question
+     */
+    private static Question toQuestion(JournalRecord record) {
+        Question q = new Question();
+        q.setCategory(record.getField(0));
+        q.setValue(record.getIntField(1));
+        q.setQuestion(record.getField(2));
+        q.setCorrectAnswer(record.getField(3));
+        String[] options = new String[record.getFieldCount() - 4];
+        for (int k = 0; k < options.length; k++) {
+            options[k] = record.getField(4 + k);
+        }
+        q.setOptions(options);
+        return q;
+    }
+
+    /**
+     * GameController that feeds journaled choices to the game's commands.
+     */
+    private static final class ReplayedGame implements GameController {
+        private final GameState state;
+        private final GameIO io;
+        private JournalRecord category;
+        private JournalRecord selection;
+
+        /**
+         * Constructs an empty game to replay into.
+         *
+         * @param caseId the case ID of the game
+         * @param seenDirectory the directory of the players' question history, or null
+         */
+        ReplayedGame(String caseId, Path seenDirectory) {
+            this.state = new GameState(new Random(), new SeenQuestionStore(seenDirectory));
+            this.state.setCaseId(caseId);
+            this.io = new HeadlessGameIO();
+        }
+
+        /**
+         * Replays one completed turn.
+         *
+         * @param category the CATEGORY record
+         * @param selection the SELECT record
+         * @param answer the ANSWER or TIMEOUT record
+         */
+        void replayTurn(JournalRecord category, JournalRecord selection, JournalRecord answer) {
+            expect(category, JournalRecord.Type.CATEGORY);
+            expect(selection, JournalRecord.Type.SELECT);
+            boolean timedOut = answer.getType() == JournalRecord.Type.TIMEOUT;
+            expect(answer, timedOut ? JournalRecord.Type.TIMEOUT : JournalRecord.Type.ANSWER);
+            this.category = category;
+            this.selection = selection;
+
+            Player player = this.state.getCurrentPlayer();
+            player.setCommand(new SelectCategoryCommand(this));
+            player.doCommand();
+            player.setCommand(new SelectQuestionCommand(this));
+            player.doCommand();
+            if (timedOut) {
+                player.setCommand(new TimeoutCommand(this, true));
+            } else {
+                player.setCommand(new AnswerQuestionCommand(this, answer.getField(1)));
+            }
+            player.doCommand();
+            this.state.nextTurn();
+        }
+
+        /**
+         * Checks that a record is of the expected type and belongs to the current turn.
+         *
+         * @param record the record
+         * @param type the expected type
+         */
+        private void expect(JournalRecord record, JournalRecord.Type type) {
+            if (record.getType() != type) {
+                throw new IllegalStateException("Expected " + type + " but found " + record.getType());
+            }
+            if (record.getIntField(0) != this.state.getCurrentTurn()) {
+                throw new IllegalStateException("Record for turn " + record.getField(0) + " is out of order");
+            }
+        }
+
+        /**
+         * Gets the state being rebuilt.
+         *
+         * @return the game state
+         */
+        @Override
+        public GameState getState() {
+            return this.state;
+        }
+
+        /**
+         * Gets the silent IO the replayed commands print to.
+         *
+         * @return the replay's HeadlessGameIO
+         */
+        @Override
+        public GameIO getIO() {
+            return this.io;
+        }
+
+        /**
+         * Applies the journaled category.
+         */
+        @Override
+        public void selectCategory() {
+            this.state.setCurrentCategory(this.category.getField(1));
+        }
+
+        /**
+         * Applies the journaled question: the unanswered board question with the
+         * journaled category, value and text.
+         */
+        @Override
+        public void selectQuestion() {
+            String category = this.selection.getField(1);
+            int value = this.selection.getIntField(2);
+            String text = this.selection.getField(3);
+            for (Question q : this.state.getQuestionService().getUnansweredQuestions()) {
+                if (q.getValue() == value && q.getCategory().equals(category) && q.getQuestion().equals(text)) {
+                    this.state.setCurrentQuestion(q);
+                    return;
+                }
+            }
+            throw new IllegalStateException("Question not on board: " + Arrays.asList(category, value, text));
+        }
+
+        /**
+         * Updates the current player's score.
+         *
+         * @param points the points to add
+         */
+        @Override
+        public void updateCurrentPlayerScore(int points) {
+            this.state.getCurrentPlayer().updateCurrentScore(points);
+        }
+
+        /**
+         * Discards the activity log; the original game already published it.
+         *
+         * @param log the activity log
+         */
+        @Override
+        public void setCurrentActivityLog(ActivityLog log) {
+        }
+
+        /**
+         * Does nothing; replay has no subscribers.
+         */
+        @Override
+        public void notifySubscribers() {
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.jeopardy.leaderboard;
+
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.logging.observer.Subscriber;
+import com.jeopardy.utils.ActivityType;
+import com.jeopardy.utils.GameConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Leaderboard ranks players by the points they have scored across all games.
+ *
+ * It subscribes to the activity logs of any number of games: every ANSWER_QUESTION
+ * event enters its player, and a correct answer adds the question's value to the
+ * player's total. Totals are kept in three structures:
+ * - a ConcurrentHashMap from player ID to the player's current Standing;
+ * - a ConcurrentSkipListSet of all standings in rank order, for top-K and
+ *   neighbour queries in O(log n + k);
+ * - a ScoreIndex counting the players at each score, for rank queries in O(log n).
+ * An answer that scores nothing only replaces the player's entry in the map; the
+ * ranking and the index change only when a score does.
+ *
+ * There is no global lock. Updates of one player are serialized by the map's
+ * per-key compute(), so a player's entries always move forward in order; updates
+ * of different players proceed in parallel. Queries never block. While updates
+ * are running, a query may see a player briefly at both the old and new standing;
+ * once updates stop, every query is exact.
+ *
+ * Design patterns used:
+ * - Observer: Receives activity logs as a Subscriber of any game's publisher
+ *
+ * SOLID principles:
+ * - Single Responsibility Principle (SRP): Only ranks players; games stay unaware of it
+ */
+public class Leaderboard implements Subscriber {
+
+    /**
+     * Number of players the servers and tools show by default.
+     */
+    public static final int DEFAULT_TOP = 10;
+
+    private final ConcurrentHashMap<String, Standing> standings = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Standing> ranking = new ConcurrentSkipListSet<>();
+    private final ScoreIndex index = new ScoreIndex();
+
+    // ==================== Updates ====================
+
+    /**
+     * Records an answer from a game's activity log.
+     * Other activities are ignored.
+     *
+     * @param log the activity log
+     */
+    @Override
+    public void update(ActivityLog log) {
+        if (log.getActivity() != ActivityType.ANSWER_QUESTION || log.getPlayerId() == null) {
+            return;
+        }
+        boolean correct = GameConstants.RESULT_CORRECT.equals(log.getResult());
+        record(log.getPlayerId(), correct ? log.getQuestionValue() : 0);
+    }
+
+    /**
+     * Records one answered question for a player.
+     * Safe to call from any number of threads.
+     *
+     * @param playerId the player's ID
+     * @param points the points the answer scored, at least 0
+     * @throws IllegalArgumentException if points is negative
+     */
+    public void record(String playerId, int points) {
+        if (points < 0) {
+            throw new IllegalArgumentException("Points must not be negative: " + points);
+        }
+        this.standings.compute(playerId, (id, old) -> {
+            Standing next = old == null
+                ? new Standing(id, points, 1)
+                : new Standing(id, Math.addExact(old.getScore(), points), old.getAnswers() + 1);
+            if (old == null || old.getScore() != next.getScore()) {
+                this.ranking.add(next);
+                this.index.add(next.getScore(), 1);
+            }
+            if (old != null && old.getScore() != next.getScore()) {
+                this.ranking.remove(old);
+                this.index.add(old.getScore(), -1);
+            }
+            return next;
+        });
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Gets the number of ranked players.
+     *
+     * @return the player count
+     */
+    public int size() {
+        return this.standings.size();
+    }
+
+    /**
+     * Gets a player's current standing.
+     *
+     * @param playerId the player's ID
+     * @return the standing, or null if the player has not answered yet
+     */
+    public Standing getStanding(String playerId) {
+        return this.standings.get(playerId);
+    }
+
+    /**
+     * Gets a player's rank. Players with equal scores share a rank, so the ranks of
+     * scores 900, 700, 700, 500 are 1, 2, 2, 4.
+     *
+     * @param playerId the player's ID
+     * @return the rank, from 1, or -1 if the player has not answered yet
+     */
+    public long getRank(String playerId) {
+        Standing standing = this.standings.get(playerId);
+        return standing == null ? -1 : this.index.countAbove(standing.getScore()) + 1;
+    }
+
+    /**
+     * Gets the best players.
+     *
+     * @param k the number of players to return
+     * @return up to k standings in rank order
+     */
+    public List<Standing> getTop(int k) {
+        List<Standing> top = new ArrayList<>(Math.min(k, 64));
+        collect(this.ranking.iterator(), k, top);
+        return top;
+    }
+
+    /**
+     * Gets the players ranked around a player, the player included.
+     *
+     * @param playerId the player's ID
+     * @param radius the number of players to include on each side
+     * @return up to 2 * radius + 1 standings in rank order, or an empty list if
+     *         the player has not answered yet
+     */
+    public List<Standing> getNeighbours(String playerId, int radius) {
+        Standing standing = this.standings.get(playerId);
+        List<Standing> neighbours = new ArrayList<>(2 * radius + 1);
+        if (standing == null) {
+            return neighbours;
+        }
+        collect(this.ranking.headSet(standing, false).descendingIterator(), radius, neighbours);
+        Collections.reverse(neighbours);
+        neighbours.add(standing);
+        collect(this.ranking.tailSet(standing, false).iterator(), radius, neighbours);
+        return neighbours;
+    }
+
+    /**
+     * Copies up to a number of players' current standings from an iterator of the
+     * ranking, skipping entries the players have already moved away from.
+     *
+     * @param standings the standings to copy, in the order to copy them
+     * @param count the most standings to copy
+     * @param into the list to copy into
+     */
+    private void collect(Iterator<Standing> standings, int count, List<Standing> into) {
+        int taken = 0;
+        while (taken < count && standings.hasNext()) {
+            Standing entry = standings.next();
+            Standing current = this.standings.get(entry.getPlayerId());
+            if (current != null && current.getScore() == entry.getScore()) {
+                into.add(current);
+                taken++;
+            }
+        }
+    }
+}
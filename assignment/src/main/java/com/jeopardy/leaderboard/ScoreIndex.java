@@ -0,0 +1,110 @@
+package com.jeopardy.leaderboard;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ScoreIndex counts how many players hold each score, and answers how many hold
+ * a higher score, in O(log n) without locking.
+ *
+ * It is a Fenwick (binary indexed) tree over the whole non-negative int range,
+ * scores 0 to Integer.MAX_VALUE being nodes 1 to 2^31. Every update climbs to the
+ * root through power-of-two nodes, so those are LongAdders that many threads can
+ * add to without contending. The other nodes only exist up to about twice the
+ * highest score held; they live in fixed-size pages of an AtomicLongArray that
+ * are created the first time a score reaches them. Creating a page is the only
+ * locked step, and pages are never replaced, so no update is ever lost.
+ *
+ * A count read while other threads update the index is exact once they have finished.
+ */
+class ScoreIndex {
+
+    private static final long SIZE = 1L << 31;
+    private static final int PAGE_BITS = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final LongAdder[] powers;
+    private volatile AtomicLongArray[] pages;
+
+    /**
+     * Constructs an empty index.
+     */
+    ScoreIndex() {
+        this.powers = new LongAdder[Long.numberOfTrailingZeros(SIZE) + 1];
+        for (int p = 0; p < this.powers.length; p++) {
+            this.powers[p] = new LongAdder();
+        }
+        this.pages = new AtomicLongArray[1];
+    }
+
+    /**
+     * Adds to the number of players holding a score.
+     *
+     * @param score the score, at least 0
+     * @param delta the change in the number of players, usually 1 or -1
+     */
+    void add(int score, long delta) {
+        for (long i = score + 1L; i <= SIZE; i += i & -i) {
+            if ((i & (i - 1)) == 0) {
+                this.powers[Long.numberOfTrailingZeros(i)].add(delta);
+            } else {
+                page(i, true).getAndAdd((int) i & PAGE_MASK, delta);
+            }
+        }
+    }
+
+    /**
+     * Counts the players holding a score greater than the given one.
+     *
+     * @param score the score, at least 0
+     * @return the number of players ahead of the score
+     */
+    long countAbove(int score) {
+        long atOrBelow = 0;
+        for (long i = score + 1L; i > 0; i -= i & -i) {
+            if ((i & (i - 1)) == 0) {
+                atOrBelow += this.powers[Long.numberOfTrailingZeros(i)].sum();
+            } else {
+                AtomicLongArray page = page(i, false);
+                if (page != null) {
+                    atOrBelow += page.get((int) i & PAGE_MASK);
+                }
+            }
+        }
+        return this.powers[this.powers.length - 1].sum() - atOrBelow;
+    }
+
+    /**
+     * Gets the page holding a node.
+     *
+     * @param node the node's index
+     * @param create whether to create the page if it does not exist yet
+     * @return the page, or null if it does not exist and create is false
+     */
+    private AtomicLongArray page(long node, boolean create) {
+        int p = (int) (node >>> PAGE_BITS);
+        AtomicLongArray[] directory = this.pages;
+        AtomicLongArray page = p < directory.length ? directory[p] : null;
+        return page != null || !create ? page : createPage(p);
+    }
+
+    /**
+     * Creates a page, growing the page directory if needed.
+     *
+     * @param p the page's number
+     * @return the page, which another thread may have created first
+     */
+    private synchronized AtomicLongArray createPage(int p) {
+        AtomicLongArray[] directory = this.pages;
+        if (p >= directory.length) {
+            directory = Arrays.copyOf(directory, Integer.highestOneBit(p) << 1);
+        }
+        if (directory[p] == null) {
+            directory[p] = new AtomicLongArray(PAGE_SIZE);
+        }
+        this.pages = directory;
+        return directory[p];
+    }
+}
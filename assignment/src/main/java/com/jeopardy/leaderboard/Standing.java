@@ -0,0 +1,77 @@
+package com.jeopardy.leaderboard;
+
+/**
+ * Standing is a player's total on the leaderboard at one moment.
+ *
+ * Standings are immutable: every score change replaces the player's standing
+ * with a new one, so a standing read from the leaderboard never changes under
+ * its reader. Standings order by score, highest first, then by player ID.
+ */
+public final class Standing implements Comparable<Standing> {
+
+    private final String playerId;
+    private final int score;
+    private final int answers;
+
+    /**
+     * Constructs a standing.
+     *
+     * @param playerId the player's ID
+     * @param score the player's total score
+     * @param answers the number of questions the player has answered
+     */
+    Standing(String playerId, int score, int answers) {
+        this.playerId = playerId;
+        this.score = score;
+        this.answers = answers;
+    }
+
+    /**
+     * Gets the player's ID.
+     *
+     * @return the player ID
+     */
+    public String getPlayerId() {
+        return this.playerId;
+    }
+
+    /**
+     * Gets the player's total score over all games.
+     *
+     * @return the total score
+     */
+    public int getScore() {
+        return this.score;
+    }
+
+    /**
+     * Gets the number of questions the player has answered over all games.
+     *
+     * @return the answer count
+     */
+    public int getAnswers() {
+        return this.answers;
+    }
+
+    /**
+     * Orders standings by score, highest first, then by player ID.
+     *
+     * @param other the standing to compare with
+     * @return a negative number if this standing ranks ahead of the other
+     */
+    @Override
+    public int compareTo(Standing other) {
+        int byScore = Integer.compare(other.score, this.score);
+        return byScore != 0 ? byScore : this.playerId.compareTo(other.playerId);
+    }
+
+    /**
+     * Returns the player and score.
+     *
+     * @return e.g. "Alice=1200"
+     */
+    @Override
+    public String toString() {
+        return this.playerId + "=" + this.score;
+    }
+}
@@ -284,13 +284,13 @@ public class ActivityLog {
         // Use the stored result instead of re-evaluating (which would trigger validation errors)
         boolean isCorrect = "Correct".equalsIgnoreCase(getResult());
         if (isCorrect) {
-            String answerText = getQuestion().getOptions() != null && getQuestion().getOptions().containsKey(getAnswerGiven())
-                ? getQuestion().getOptions().get(getAnswerGiven())
+            String answerText = getQuestion().hasOption(getAnswerGiven())
+                ? getQuestion().getOption(getAnswerGiven())
                 : getAnswerGiven();
             line3 = String.format("Answer: %s — Correct (+%d pts)\n", answerText, getQuestionValue());
         } else {
-            String answerText = getQuestion().getOptions() != null && getQuestion().getOptions().containsKey(getAnswerGiven())
-                ? getQuestion().getOptions().get(getAnswerGiven())
+            String answerText = getQuestion().hasOption(getAnswerGiven())
+                ? getQuestion().getOption(getAnswerGiven())
                 : getAnswerGiven();
             line3 = String.format("Answer: %s — Incorrect (0 pts)\n", answerText);
         }
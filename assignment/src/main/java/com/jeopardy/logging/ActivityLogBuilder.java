@@ -4,6 +4,7 @@ import com.jeopardy.game.Player;
 import com.jeopardy.question.Question;
 import com.jeopardy.utils.ActivityType;
 
+import java.time.Clock;
 import java.time.Instant;
 
 /**
@@ -30,9 +31,18 @@ import java.time.Instant;
  * </pre>
  * 
  * After building an ActivityLog, use {@link #reset()} to clear the builder for reuse.
+ *
+ * setTimestamp() reads the builder's clock, the system clock by default. Deterministic
+ * runs give their builders another clock so that the same moves always produce the
+ * same activity logs.
  */
 public class ActivityLogBuilder {
 
+    /**
+     * The clock setTimestamp() reads.
+     */
+    private final Clock clock;
+
     /**
      * Unique identifier for the game case/session.
      */
@@ -88,6 +98,21 @@ public class ActivityLogBuilder {
      */
     private int turn;
 
+    /**
+     * Constructs a builder that timestamps with the system clock.
+     */
+    public ActivityLogBuilder() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Constructs a builder that timestamps with the given clock.
+     *
+     * @param clock the clock setTimestamp() reads
+     */
+    public ActivityLogBuilder(Clock clock) {
+        this.clock = clock;
+    }
 
     /**
      * Sets the case ID for the activity log being built.
@@ -216,7 +241,18 @@ public class ActivityLogBuilder {
      * @return this ActivityLogBuilder instance for method chaining
      */
     public ActivityLogBuilder setTimestamp() {
-        this.timestamp = Instant.now();
+        this.timestamp = this.clock.instant();
+        return this;
+    }
+
+    /**
+     * Sets the timestamp to a recorded time, for example when reading logs back.
+     * 
+     * @param timestamp the time of the activity
+     * @return this ActivityLogBuilder instance for method chaining
+     */
+    public ActivityLogBuilder setTimestamp(Instant timestamp) {
+        this.timestamp = timestamp;
         return this;
     }
 
@@ -266,6 +302,7 @@ public class ActivityLogBuilder {
         this.scoreAfterPlay = 0;
         this.turn = 0;
         this.activity = null;
+        this.category = null;
     }
 
 }
\ No newline at end of file
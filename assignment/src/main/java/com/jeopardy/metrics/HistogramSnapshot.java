@@ -0,0 +1,107 @@
+package com.jeopardy.metrics;
+
+/**
+ * HistogramSnapshot is an immutable copy of a LatencyHistogram's counts.
+ *
+ * Percentiles are reported as the highest value of the bucket they fall in (never
+ * above the recorded maximum), so they are at most about 3% above the true value
+ * and never below it.
+ */
+public class HistogramSnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long total;
+    private final long max;
+
+    /**
+     * Constructs a snapshot from copied counts.
+     *
+     * @param counts the per-bucket counts, owned by the snapshot from now on
+     * @param total the sum of all recorded values in nanoseconds
+     * @param max the largest recorded value in nanoseconds
+     */
+    HistogramSnapshot(long[] counts, long total, long max) {
+        long sum = 0;
+        for (long c : counts) {
+            sum += c;
+        }
+        this.counts = counts;
+        this.count = sum;
+        this.total = total;
+        this.max = max;
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Gets the sum of the recorded values.
+     *
+     * @return the total in nanoseconds
+     */
+    public long getTotalNanos() {
+        return this.total;
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return the mean in nanoseconds, or 0 if nothing was recorded
+     */
+    public double getMeanNanos() {
+        return this.count == 0 ? 0 : (double) this.total / this.count;
+    }
+
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return the maximum in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getMaxNanos() {
+        return this.max;
+    }
+
+    /**
+     * Gets the value below or at which the given percentage of values fall.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the percentile in nanoseconds, or 0 if nothing was recorded
+     * @throws IllegalArgumentException if the percentile is outside 0 to 100
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (this.count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * this.count));
+        long seen = 0;
+        for (int b = 0; b < this.counts.length; b++) {
+            seen += this.counts[b];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.highestValueOf(b), this.max);
+            }
+        }
+        return this.max;
+    }
+
+    /**
+     * Formats the count and the main percentiles in microseconds.
+     *
+     * @return a one-line summary
+     */
+    @Override
+    public String toString() {
+        return String.format("count=%d mean=%.1fus p50=%.1fus p90=%.1fus p99=%.1fus max=%.1fus",
+            this.count, getMeanNanos() / 1_000, getPercentile(50) / 1_000.0, getPercentile(90) / 1_000.0,
+            getPercentile(99) / 1_000.0, this.max / 1_000.0);
+    }
+}
@@ -0,0 +1,132 @@
+package com.jeopardy.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyHistogram counts latencies in logarithmic buckets, HDR histogram style,
+ * without locking.
+ *
+ * Values below 64 ns get a bucket each. Above that, every power of two is split
+ * into 32 equal sub-buckets, so a value is known to within about 3% however large
+ * it is, and the whole long range fits in under two thousand buckets. Recording a
+ * value is one bucket increment, one adder increment and, only for a new maximum,
+ * a compare-and-set; many threads can record at once and no count is lost.
+ *
+ * A snapshot taken while other threads record may miss their in-flight values,
+ * but never counts a value twice; snapshotAndReset hands every value to exactly
+ * one snapshot.
+ */
+public class LatencyHistogram {
+
+    private static final int LINEAR_BITS = 6;
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int LINEAR_LIMIT = 1 << LINEAR_BITS;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Number of buckets needed to cover every non-negative long.
+     */
+    static final int BUCKET_COUNT = LINEAR_LIMIT + (Long.SIZE - 1 - LINEAR_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets;
+    private final LongAdder total;
+    private final AtomicLong max;
+
+    /**
+     * Constructs an empty histogram.
+     */
+    public LatencyHistogram() {
+        this.buckets = new AtomicLongArray(BUCKET_COUNT);
+        this.total = new LongAdder();
+        this.max = new AtomicLong();
+    }
+
+    // ==================== Recording ====================
+
+    /**
+     * Records one latency. Negative values are counted as 0.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        this.buckets.getAndIncrement(bucketOf(value));
+        this.total.add(value);
+
+        long current = this.max.get();
+        while (value > current && !this.max.compareAndSet(current, value)) {
+            current = this.max.get();
+        }
+    }
+
+    /**
+     * Gets the bucket a value falls in.
+     *
+     * @param value a non-negative value
+     * @return the bucket index
+     */
+    static int bucketOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exponent - LINEAR_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the highest value that falls in a bucket.
+     *
+     * @param bucket the bucket index
+     * @return the largest value counted in that bucket
+     */
+    static long highestValueOf(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int exponent = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + LINEAR_BITS;
+        long subBucket = (bucket - LINEAR_LIMIT) % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        long lowest = (1L << exponent) + subBucket * width;
+        return lowest + (width - 1);
+    }
+
+    // ==================== Snapshots ====================
+
+    /**
+     * Copies the current counts, leaving the histogram unchanged.
+     *
+     * @return a snapshot of the counts
+     */
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int b = 0; b < BUCKET_COUNT; b++) {
+            counts[b] = this.buckets.get(b);
+        }
+        return new HistogramSnapshot(counts, this.total.sum(), this.max.get());
+    }
+
+    /**
+     * Takes the current counts and empties the histogram in the same pass, so each
+     * recorded value ends up in exactly one snapshot. The sum and maximum are taken
+     * the same way, and can be off by values recorded during the pass.
+     *
+     * @return a snapshot of the counts up to now
+     */
+    public HistogramSnapshot snapshotAndReset() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int b = 0; b < BUCKET_COUNT; b++) {
+            counts[b] = this.buckets.getAndSet(b, 0);
+        }
+        return new HistogramSnapshot(counts, this.total.sumThenReset(), this.max.getAndSet(0));
+    }
+
+    /**
+     * Empties the histogram.
+     */
+    public void reset() {
+        snapshotAndReset();
+    }
+}
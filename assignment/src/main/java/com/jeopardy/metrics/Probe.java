@@ -0,0 +1,27 @@
+package com.jeopardy.metrics;
+
+/**
+ * Probe names a point in the game that Metrics times.
+ *
+ * Each probe has one LatencyHistogram in Metrics, shared by every game in the process.
+ */
+public enum Probe {
+    /** SelectCategoryCommand.execute, including the category prompt. */
+    CATEGORY_SELECTION,
+    /** SelectQuestionCommand.execute, including the value prompt and question lookup. */
+    QUESTION_SELECTION,
+    /** Waiting for and validating the player's answer in GameEngine. */
+    ANSWER_PROMPT,
+    /** AnswerQuestionCommand.execute, from evaluation to notification. */
+    ANSWER,
+    /** Checking the answer and claiming the question in AnswerQuestionCommand. */
+    EVALUATION,
+    /** Finding a question or a category's values in QuestionService. */
+    QUESTION_LOOKUP,
+    /** ActivityPublisher.notifySubscribers, across all subscribers. */
+    NOTIFY_SUBSCRIBERS,
+    /** Writing a move to the game journal in GameEngine. */
+    JOURNAL,
+    /** ReportGenerator.createReport, for one format. */
+    REPORT
+}
@@ -0,0 +1,281 @@
+package com.jeopardy.profile;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * PlayerProfile holds a player's lifetime statistics.
+ *
+ * It counts games played and won, the total and best game score, and questions
+ * answered and answered correctly, both overall and per category. The same type
+ * describes a single game: ProfileRecorder fills a profile with one game's
+ * answers, and ProfileStore adds it to the player's stored profile.
+ */
+public final class PlayerProfile {
+
+    private final String playerId;
+    private int gamesPlayed;
+    private int gamesWon;
+    private long totalScore;
+    private int bestScore;
+    private final Map<String, int[]> categories;
+
+    /**
+     * Constructs an empty profile.
+     *
+     * @param playerId the player's ID
+     */
+    public PlayerProfile(String playerId) {
+        this.playerId = playerId;
+        this.categories = new LinkedHashMap<>();
+    }
+
+    // ==================== Recording ====================
+
+    /**
+     * Records one answered question.
+     *
+     * @param category the question's category
+     * @param correct whether the answer was correct
+     */
+    public void recordAnswer(String category, boolean correct) {
+        int[] counts = this.categories.computeIfAbsent(category == null ? "" : category, c -> new int[2]);
+        counts[0]++;
+        if (correct) {
+            counts[1]++;
+        }
+    }
+
+    /**
+     * Records one finished game.
+     *
+     * @param score the player's final score
+     * @param won whether the player finished with the highest score (ties included)
+     */
+    public void recordGame(int score, boolean won) {
+        this.gamesPlayed++;
+        if (won) {
+            this.gamesWon++;
+        }
+        this.totalScore += score;
+        this.bestScore = Math.max(this.bestScore, score);
+    }
+
+    /**
+     * Adds another profile of the same player to this one.
+     *
+     * @param other the profile to add, e.g. the statistics of one game
+     */
+    void add(PlayerProfile other) {
+        this.gamesPlayed += other.gamesPlayed;
+        this.gamesWon += other.gamesWon;
+        this.totalScore += other.totalScore;
+        this.bestScore = Math.max(this.bestScore, other.bestScore);
+        for (Map.Entry<String, int[]> entry : other.categories.entrySet()) {
+            int[] counts = this.categories.computeIfAbsent(entry.getKey(), c -> new int[2]);
+            counts[0] += entry.getValue()[0];
+            counts[1] += entry.getValue()[1];
+        }
+    }
+
+    // ==================== Accessors ====================
+
+    /**
+     * Gets the player's ID.
+     *
+     * @return the player ID
+     */
+    public String getPlayerId() {
+        return this.playerId;
+    }
+
+    /**
+     * Gets the number of games played.
+     *
+     * @return the games played
+     */
+    public int getGamesPlayed() {
+        return this.gamesPlayed;
+    }
+
+    /**
+     * Gets the number of games won, shared wins included.
+     *
+     * @return the games won
+     */
+    public int getGamesWon() {
+        return this.gamesWon;
+    }
+
+    /**
+     * Gets the sum of the player's final scores.
+     *
+     * @return the total score
+     */
+    public long getTotalScore() {
+        return this.totalScore;
+    }
+
+    /**
+     * Gets the player's best final score.
+     *
+     * @return the best score
+     */
+    public int getBestScore() {
+        return this.bestScore;
+    }
+
+    /**
+     * Gets the number of questions answered in all categories.
+     *
+     * @return the answer count
+     */
+    public int getAnswered() {
+        int answered = 0;
+        for (int[] counts : this.categories.values()) {
+            answered += counts[0];
+        }
+        return answered;
+    }
+
+    /**
+     * Gets the number of questions answered correctly in all categories.
+     *
+     * @return the correct answer count
+     */
+    public int getCorrect() {
+        int correct = 0;
+        for (int[] counts : this.categories.values()) {
+            correct += counts[1];
+        }
+        return correct;
+    }
+
+    /**
+     * Gets the share of answers that were correct.
+     *
+     * @return the accuracy between 0 and 1, or 0 if nothing was answered
+     */
+    public double getAccuracy() {
+        int answered = getAnswered();
+        return answered == 0 ? 0 : (double) getCorrect() / answered;
+    }
+
+    /**
+     * Gets the categories the player has answered questions in.
+     *
+     * @return the categories, in the order first answered
+     */
+    public Set<String> getCategories() {
+        return Collections.unmodifiableSet(this.categories.keySet());
+    }
+
+    /**
+     * Gets the number of questions answered in a category.
+     *
+     * @param category the category
+     * @return the answer count, 0 if none
+     */
+    public int getAnswered(String category) {
+        int[] counts = this.categories.get(category);
+        return counts == null ? 0 : counts[0];
+    }
+
+    /**
+     * Gets the share of answers in a category that were correct.
+     *
+     * @param category the category
+     * @return the accuracy between 0 and 1, or 0 if nothing was answered in the category
+     */
+    public double getAccuracy(String category) {
+        int[] counts = this.categories.get(category);
+        return counts == null || counts[0] == 0 ? 0 : (double) counts[1] / counts[0];
+    }
+
+    // ==================== Encoding ====================
+
+    /**
+     * Encodes the profile as a store record payload.
+     *
+     * @return the payload
+     */
+    byte[] encode() {
+        byte[] id = this.playerId.getBytes(StandardCharsets.UTF_8);
+        byte[][] names = new byte[this.categories.size()][];
+        int size = 4 + id.length + 4 + 4 + 8 + 4 + 4;
+        int c = 0;
+        for (String category : this.categories.keySet()) {
+            names[c] = category.getBytes(StandardCharsets.UTF_8);
+            size += 4 + names[c].length + 8;
+            c++;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(id.length).put(id);
+        buffer.putInt(this.gamesPlayed).putInt(this.gamesWon).putLong(this.totalScore).putInt(this.bestScore);
+        buffer.putInt(names.length);
+        c = 0;
+        for (int[] counts : this.categories.values()) {
+            buffer.putInt(names[c].length).put(names[c]);
+            buffer.putInt(counts[0]).putInt(counts[1]);
+            c++;
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Decodes a store record payload.
+     *
+     * @param payload the payload, positioned at its first byte and limited to its end
+     * @return the profile
+     * @throws IllegalArgumentException if the payload is not a valid profile
+     */
+    static PlayerProfile decode(ByteBuffer payload) {
+        try {
+            PlayerProfile profile = new PlayerProfile(readString(payload));
+            profile.gamesPlayed = payload.getInt();
+            profile.gamesWon = payload.getInt();
+            profile.totalScore = payload.getLong();
+            profile.bestScore = payload.getInt();
+            int count = payload.getInt();
+            for (int c = 0; c < count; c++) {
+                String category = readString(payload);
+                profile.categories.put(category, new int[] {payload.getInt(), payload.getInt()});
+            }
+            if (payload.hasRemaining()) {
+                throw new IllegalArgumentException("Trailing bytes in profile");
+            }
+            return profile;
+        } catch (BufferUnderflowException | NegativeArraySizeException e) {
+            throw new IllegalArgumentException("Truncated profile", e);
+        }
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 string.
+     *
+     * @param buffer the buffer to read from
+     * @return the string
+     */
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the player's headline statistics.
+     *
+     * @return a one-line summary
+     */
+    @Override
+    public String toString() {
+        return String.format("%s: %d games, %d won, best %d, %.0f%% correct",
+            this.playerId, this.gamesPlayed, this.gamesWon, this.bestScore, getAccuracy() * 100);
+    }
+}
@@ -0,0 +1,107 @@
+package com.jeopardy.profile;
+
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.logging.observer.Subscriber;
+import com.jeopardy.utils.ActivityType;
+import com.jeopardy.utils.GameConstants;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ProfileRecorder turns games' activity logs into player profile updates.
+ *
+ * While a game runs, each ENTER_PLAYER_NAME event seats a player, and each
+ * ANSWER_QUESTION and TIMEOUT event is counted in that player's statistics for the
+ * game, by category. Every event carries the player's score after it, so the last one
+ * is the player's score in the game, even for a game resumed from its journal. When
+ * the game's GAME_OVER event arrives, every seated player's final score and win
+ * (highest score, ties included) are added, and each player's statistics are merged
+ * into the ProfileStore: one profile update per player per game, including players
+ * who never answered.
+ *
+ * Games are told apart by case ID, so one recorder can subscribe to any number of
+ * games, including games publishing on different threads. A game that is quit
+ * rather than finished must not publish GAME_OVER to the recorder, or it would be
+ * counted as finished, and counted again once it is resumed and played to the end.
+ *
+ * Design patterns used:
+ * - Observer: Receives activity logs as a Subscriber of any game's publisher
+ */
+public class ProfileRecorder implements Subscriber {
+
+    private final ProfileStore store;
+    private final Map<String, Map<String, GameStats>> games;
+
+    /**
+     * Statistics of one player in one game.
+     */
+    private static final class GameStats {
+        private final PlayerProfile profile;
+        private int score;
+
+        GameStats(String playerId) {
+            this.profile = new PlayerProfile(playerId);
+        }
+    }
+
+    /**
+     * Constructs a recorder that writes to a store.
+     *
+     * @param store the store to merge finished games into
+     */
+    public ProfileRecorder(ProfileStore store) {
+        this.store = store;
+        this.games = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Seats a player, records an answer, or saves the game's statistics at game over.
+     * Other activities are ignored.
+     *
+     * @param log the activity log
+     */
+    @Override
+    public void update(ActivityLog log) {
+        ActivityType activity = log.getActivity();
+        if (activity == ActivityType.ENTER_PLAYER_NAME || activity == ActivityType.ANSWER_QUESTION
+                || activity == ActivityType.TIMEOUT) {
+            if (log.getPlayerId() == null || GameConstants.SYSTEM_PLAYER_ID.equals(log.getPlayerId())) {
+                return;
+            }
+            GameStats stats = this.games.computeIfAbsent(log.getCaseId(), c -> new LinkedHashMap<>())
+                .computeIfAbsent(log.getPlayerId(), GameStats::new);
+            stats.score = log.getScoreAfterPlay();
+            if (activity != ActivityType.ENTER_PLAYER_NAME) {
+                stats.profile.recordAnswer(log.getCategory(), GameConstants.RESULT_CORRECT.equals(log.getResult()));
+            }
+        } else if (activity == ActivityType.GAME_OVER) {
+            Map<String, GameStats> players = this.games.remove(log.getCaseId());
+            if (players != null) {
+                save(players);
+            }
+        }
+    }
+
+    /**
+     * Adds each player's result and merges the game into the store.
+     *
+     * @param players the statistics of each player in the game
+     */
+    private void save(Map<String, GameStats> players) {
+        int best = Integer.MIN_VALUE;
+        for (GameStats stats : players.values()) {
+            best = Math.max(best, stats.score);
+        }
+        for (GameStats stats : players.values()) {
+            stats.profile.recordGame(stats.score, stats.score == best);
+            try {
+                this.store.merge(stats.profile);
+            } catch (IOException | IllegalStateException e) {
+                System.err.println("[Error]: Could not save the profile of " + stats.profile.getPlayerId() + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,532 @@
+package com.jeopardy.profile;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * ProfileStore keeps every player's lifetime PlayerProfile on local disk.
+ *
+ * Profiles live in two files in the store's directory:
+ * - profiles.dat is append-only. Every update appends the player's whole new
+ *   profile, framed like the command journal: payload length (4 bytes), CRC-32C of
+ *   the payload (4 bytes) and the payload. Older versions are never rewritten.
+ * - profiles.idx is a memory-mapped open-addressing hash table from a 64-bit hash
+ *   of the player ID to the offset of the player's latest record. Each 16-byte slot
+ *   holds the hash and the offset; collisions probe linearly, and the table doubles
+ *   (into a new file that replaces the old one) when it gets half full.
+ *
+ * A lookup hashes the ID, probes the mapped index (in memory, or one page read) and
+ * reads the record with one positional read; the record's ID is compared, so hash
+ * collisions cannot mix players up. An update is that lookup plus one append and a
+ * slot write in the mapped index. Neither depends on the number of profiles, and
+ * the index needs 32 bytes per profile, so millions of profiles fit on one machine.
+ *
+ * The data file is the source of truth. The index records whether it was closed
+ * cleanly; if not (the process died, or the file is missing or damaged), it is
+ * rebuilt on open by scanning the data file, which is first cut back to its last
+ * complete record. Writes are left to the OS; sync() forces both files to disk.
+ *
+ * Usage:
+ * <pre>
+ * try (ProfileStore store = ProfileStore.open(GameConstants.PLAYER_DATA_DIRECTORY)) {
+ *     PlayerProfile profile = store.get("Alice");
+ *     store.merge(gameStats);
+ * }
+ * </pre>
+ */
+public class ProfileStore implements AutoCloseable {
+
+    static final String DATA_FILE = "profiles.dat";
+    static final String INDEX_FILE = "profiles.idx";
+
+    private static final int FRAME_HEADER = 8;
+    private static final int READ_AHEAD = 256;
+    private static final int SCAN_BUFFER = 64 * 1024;
+
+    private static final int INDEX_MAGIC = 0x4A504958;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int CLEAN_OFFSET = 4;
+    private static final int COUNT_OFFSET = 8;
+    private static final int INDEX_HEADER = 16;
+    private static final int SLOT_SIZE = 16;
+    private static final int INITIAL_SLOTS = 1 << 12;
+    private static final int MAX_SLOTS = 1 << 26;
+
+    private final Path indexFile;
+    private final FileChannel data;
+    private long dataEnd;
+    private MappedByteBuffer index;
+    private int slots;
+    private long count;
+    private PlayerProfile probed;
+    private boolean closed;
+
+    /**
+     * Constructs a store over an open data file.
+     *
+     * @param directory the store's directory
+     * @param data the data file channel
+     * @throws IOException if the data file's size cannot be read
+     */
+    private ProfileStore(Path directory, FileChannel data) throws IOException {
+        this.indexFile = directory.resolve(INDEX_FILE);
+        this.data = data;
+        this.dataEnd = data.size();
+    }
+
+    /**
+     * Opens the store in a directory, creating its files if needed and rebuilding
+     * the index if the store was not closed cleanly.
+     *
+     * @param directory the directory holding the store's files
+     * @return the open store
+     * @throws IOException if the files cannot be opened, read or rebuilt
+     */
+    public static ProfileStore open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        FileChannel data = FileChannel.open(directory.resolve(DATA_FILE),
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ProfileStore store = new ProfileStore(directory, data);
+        try {
+            if (!store.mapCleanIndex()) {
+                store.rebuildIndex();
+            }
+            store.index.putInt(CLEAN_OFFSET, 0);
+            store.index.force();
+        } catch (IOException | RuntimeException e) {
+            data.close();
+            throw e;
+        }
+        return store;
+    }
+
+    // ==================== Profiles ====================
+
+    /**
+     * Looks up a player's profile.
+     *
+     * @param playerId the player's ID
+     * @return the stored profile, or null if the player has none
+     * @throws IOException if the record cannot be read
+     */
+    public synchronized PlayerProfile get(String playerId) throws IOException {
+        ensureOpen();
+        return probe(playerId, hash(playerId)) >= 0 ? this.probed : null;
+    }
+
+    /**
+     * Adds statistics to a player's profile and stores the result, creating the
+     * profile if the player has none.
+     *
+     * @param stats the statistics to add, e.g. those of one game
+     * @return the updated profile
+     * @throws IOException if the profile cannot be read or written
+     */
+    public synchronized PlayerProfile merge(PlayerProfile stats) throws IOException {
+        ensureOpen();
+        if ((this.count + 1) * 2 > this.slots) {
+            growIndex();
+        }
+        long hash = hash(stats.getPlayerId());
+        int slot = probe(stats.getPlayerId(), hash);
+        PlayerProfile profile = slot >= 0 ? this.probed : new PlayerProfile(stats.getPlayerId());
+        profile.add(stats);
+
+        long offset = append(profile);
+        if (slot >= 0) {
+            this.index.putLong(slotPosition(slot) + 8, offset);
+        } else {
+            putSlot(this.index, ~slot, hash, offset);
+            this.count++;
+        }
+        return profile;
+    }
+
+    /**
+     * Gets the number of stored profiles.
+     *
+     * @return the profile count
+     */
+    public synchronized long size() {
+        return this.count;
+    }
+
+    /**
+     * Forces both files to disk.
+     *
+     * @throws IOException if forcing the data file fails
+     */
+    public synchronized void sync() throws IOException {
+        ensureOpen();
+        this.data.force(false);
+        this.index.putLong(COUNT_OFFSET, this.count);
+        this.index.force();
+    }
+
+    /**
+     * Forces both files to disk, marks the index clean and closes the store.
+     *
+     * @throws IOException if forcing or closing the data file fails
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.data.force(false);
+        this.index.putLong(COUNT_OFFSET, this.count);
+        this.index.putInt(CLEAN_OFFSET, 1);
+        this.index.force();
+        this.data.close();
+    }
+
+    /**
+     * Checks that the store has not been closed.
+     *
+     * @throws IllegalStateException if the store is closed
+     */
+    private void ensureOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("Profile store is closed");
+        }
+    }
+
+    // ==================== Data File ====================
+
+    /**
+     * Appends a profile record to the data file.
+     *
+     * @param profile the profile to append
+     * @return the record's offset
+     * @throws IOException if the write fails
+     */
+    private long append(PlayerProfile profile) throws IOException {
+        byte[] payload = profile.encode();
+        CRC32C crc = new CRC32C();
+        crc.update(payload, 0, payload.length);
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER + payload.length);
+        frame.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+
+        long offset = this.dataEnd;
+        while (frame.hasRemaining()) {
+            this.dataEnd += this.data.write(frame, this.dataEnd);
+        }
+        return offset;
+    }
+
+    /**
+     * Reads the profile record at an offset, normally with a single read.
+     *
+     * @param offset the record's offset
+     * @return the profile
+     * @throws IOException if the record is missing, truncated or corrupt
+     */
+    private PlayerProfile read(long offset) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_AHEAD);
+        readFrom(offset, buffer);
+        buffer.flip();
+        if (buffer.remaining() < FRAME_HEADER) {
+            throw new IOException("Truncated profile record at offset " + offset);
+        }
+        int length = buffer.getInt();
+        int checksum = buffer.getInt();
+        if (length < 0 || offset + FRAME_HEADER + length > this.dataEnd) {
+            throw new IOException("Truncated profile record at offset " + offset);
+        }
+        if (buffer.remaining() < length) {
+            ByteBuffer whole = ByteBuffer.allocate(length);
+            whole.put(buffer);
+            readFrom(offset + FRAME_HEADER + whole.position(), whole);
+            buffer = whole.flip();
+        }
+        buffer.limit(buffer.position() + length);
+        return decode(buffer, checksum, offset);
+    }
+
+    /**
+     * Fills a buffer from the data file, stopping early only at the end of the file.
+     *
+     * @param offset the file offset to read from
+     * @param buffer the buffer to fill
+     * @throws IOException if the read fails
+     */
+    private void readFrom(long offset, ByteBuffer buffer) throws IOException {
+        long position = offset;
+        while (buffer.hasRemaining()) {
+            int read = this.data.read(buffer, position);
+            if (read < 0) {
+                return;
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Verifies a record payload's checksum and decodes it.
+     *
+     * @param payload the payload, positioned at its first byte and limited to its end
+     * @param checksum the checksum from the record's frame
+     * @param offset the record's offset, for error messages
+     * @return the profile
+     * @throws IOException if the checksum does not match or the payload is not a profile
+     */
+    private static PlayerProfile decode(ByteBuffer payload, int checksum, long offset) throws IOException {
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("Corrupt profile record at offset " + offset);
+        }
+        try {
+            return PlayerProfile.decode(payload);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupt profile record at offset " + offset, e);
+        }
+    }
+
+    // ==================== Index ====================
+
+    /**
+     * Hashes a player ID to 64 bits (FNV-1a, then a final avalanche); never 0,
+     * which marks an empty slot.
+     *
+     * @param playerId the player's ID
+     * @return the hash
+     */
+    static long hash(String playerId) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < playerId.length(); i++) {
+            h = (h ^ playerId.charAt(i)) * 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h == 0 ? 1 : h;
+    }
+
+    /**
+     * Finds a player's slot, reading the record of every slot whose hash matches.
+     * On success the player's profile is left in the probed field.
+     *
+     * @param playerId the player's ID
+     * @param hash the ID's hash
+     * @return the player's slot, or the bitwise complement of the empty slot where
+     *         the player would go
+     * @throws IOException if a record cannot be read
+     */
+    private int probe(String playerId, long hash) throws IOException {
+        int mask = this.slots - 1;
+        for (int slot = (int) hash & mask; ; slot = (slot + 1) & mask) {
+            int position = slotPosition(slot);
+            long stored = this.index.getLong(position);
+            if (stored == 0) {
+                return ~slot;
+            }
+            if (stored == hash) {
+                PlayerProfile profile = read(this.index.getLong(position + 8));
+                if (profile.getPlayerId().equals(playerId)) {
+                    this.probed = profile;
+                    return slot;
+                }
+            }
+        }
+    }
+
+    /**
+     * Maps the index file if it exists, is well formed and was closed cleanly.
+     *
+     * @return true if the index was mapped
+     * @throws IOException if the file cannot be read
+     */
+    private boolean mapCleanIndex() throws IOException {
+        if (!Files.exists(this.indexFile)) {
+            return false;
+        }
+        long size = Files.size(this.indexFile);
+        long slots = (size - INDEX_HEADER) / SLOT_SIZE;
+        if (size < INDEX_HEADER || slots < INITIAL_SLOTS || slots > MAX_SLOTS || Long.bitCount(slots) != 1
+                || INDEX_HEADER + slots * SLOT_SIZE != size) {
+            return false;
+        }
+        MappedByteBuffer mapped = map(this.indexFile, size);
+        if (mapped.getInt(MAGIC_OFFSET) != INDEX_MAGIC || mapped.getInt(CLEAN_OFFSET) != 1) {
+            return false;
+        }
+        this.index = mapped;
+        this.slots = (int) slots;
+        this.count = mapped.getLong(COUNT_OFFSET);
+        return true;
+    }
+
+    /**
+     * Rebuilds the index by scanning the data file, cutting the file back to its
+     * last complete record first if it ends in a torn or corrupt one.
+     *
+     * @throws IOException if the files cannot be read or written
+     */
+    private void rebuildIndex() throws IOException {
+        this.index = createIndex(this.indexFile, INITIAL_SLOTS);
+        this.slots = INITIAL_SLOTS;
+        this.count = 0;
+
+        long size = this.data.size();
+        long offset = 0;
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER);
+        buffer.flip();
+        long bufferStart = 0;
+        while (offset < size) {
+            int at = (int) (offset - bufferStart);
+            int available = buffer.limit() - at;
+            long frame = FRAME_HEADER + (available >= FRAME_HEADER ? Math.max(0, buffer.getInt(at)) : 0L);
+            if (available < frame && frame <= size - offset) {
+                if (buffer.capacity() < frame) {
+                    buffer = ByteBuffer.allocate((int) frame);
+                }
+                buffer.clear();
+                readFrom(offset, buffer);
+                buffer.flip();
+                bufferStart = offset;
+                at = 0;
+            }
+            PlayerProfile profile = scanRecord(buffer, at, offset);
+            if (profile == null) {
+                System.err.println("[Error]: Profile data ends in a damaged record; truncating at offset " + offset);
+                this.data.truncate(offset);
+                break;
+            }
+            if ((this.count + 1) * 2 > this.slots) {
+                growIndex();
+            }
+            long hash = hash(profile.getPlayerId());
+            int slot = probe(profile.getPlayerId(), hash);
+            if (slot >= 0) {
+                this.index.putLong(slotPosition(slot) + 8, offset);
+            } else {
+                putSlot(this.index, ~slot, hash, offset);
+                this.count++;
+            }
+            offset += FRAME_HEADER + buffer.getInt(at);
+        }
+        this.dataEnd = offset;
+        this.index.putLong(COUNT_OFFSET, this.count);
+    }
+
+    /**
+     * Decodes the record at a position of the scan buffer.
+     *
+     * @param buffer the scan buffer
+     * @param at the record's position in the buffer
+     * @param offset the record's offset in the file
+     * @return the profile, or null if the record is torn or corrupt
+     */
+    private static PlayerProfile scanRecord(ByteBuffer buffer, int at, long offset) {
+        if (buffer.limit() - at < FRAME_HEADER) {
+            return null;
+        }
+        int length = buffer.getInt(at);
+        if (length < 0 || buffer.limit() - at - FRAME_HEADER < length) {
+            return null;
+        }
+        ByteBuffer payload = buffer.duplicate();
+        payload.limit(at + FRAME_HEADER + length).position(at + FRAME_HEADER);
+        try {
+            return decode(payload, buffer.getInt(at + 4), offset);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Doubles the index: fills a new file with every slot re-probed for the larger
+     * table, then moves it over the old one.
+     *
+     * @throws IOException if the index is at its largest size or cannot be written
+     */
+    private void growIndex() throws IOException {
+        int grown = this.slots * 2;
+        if (grown > MAX_SLOTS) {
+            throw new IOException("Profile index is full");
+        }
+        Path next = this.indexFile.resolveSibling(INDEX_FILE + ".tmp");
+        MappedByteBuffer table = createIndex(next, grown);
+        int mask = grown - 1;
+        for (int slot = 0; slot < this.slots; slot++) {
+            long hash = this.index.getLong(slotPosition(slot));
+            if (hash != 0) {
+                int target = (int) hash & mask;
+                while (table.getLong(slotPosition(target)) != 0) {
+                    target = (target + 1) & mask;
+                }
+                putSlot(table, target, hash, this.index.getLong(slotPosition(slot) + 8));
+            }
+        }
+        table.putLong(COUNT_OFFSET, this.count);
+        table.force();
+        Files.move(next, this.indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        this.index = table;
+        this.slots = grown;
+    }
+
+    /**
+     * Creates an empty, unclean index file and maps it.
+     *
+     * @param file the index file
+     * @param slots the number of slots, a power of two
+     * @return the mapped index
+     * @throws IOException if the file cannot be created or mapped
+     */
+    private static MappedByteBuffer createIndex(Path file, int slots) throws IOException {
+        Files.deleteIfExists(file);
+        MappedByteBuffer mapped = map(file, INDEX_HEADER + (long) slots * SLOT_SIZE);
+        mapped.putInt(MAGIC_OFFSET, INDEX_MAGIC);
+        mapped.putInt(CLEAN_OFFSET, 0);
+        return mapped;
+    }
+
+    /**
+     * Maps a file for reading and writing, extending it to a size.
+     *
+     * @param file the file
+     * @param size the mapped size
+     * @return the mapping, which stays valid after the channel is closed
+     * @throws IOException if the file cannot be mapped
+     */
+    private static MappedByteBuffer map(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    /**
+     * Writes a slot.
+     *
+     * @param table the index to write to
+     * @param slot the slot
+     * @param hash the player ID's hash
+     * @param offset the offset of the player's latest record
+     */
+    private static void putSlot(MappedByteBuffer table, int slot, long hash, long offset) {
+        table.putLong(slotPosition(slot) + 8, offset);
+        table.putLong(slotPosition(slot), hash);
+    }
+
+    /**
+     * Gets the byte position of a slot in the index.
+     *
+     * @param slot the slot
+     * @return the slot's position
+     */
+    private static int slotPosition(int slot) {
+        return INDEX_HEADER + slot * SLOT_SIZE;
+    }
+}
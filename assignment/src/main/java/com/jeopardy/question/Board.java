@@ -0,0 +1,80 @@
+package com.jeopardy.question;
+
+import java.util.*;
+
+/**
+ * Board is a fixed grid of questions drawn for a single game.
+ *
+ * A board has N categories (columns) and K value slots (rows). Each cell holds exactly
+ * one question, and the cells of a column are ordered by ascending point value.
+ *
+ * Boards are produced by {@link BoardSampler} and can be turned into the question list
+ * of a {@link QuestionService} via {@link #getQuestions()}.
+ */
+public class Board {
+
+    private final String[] categories;
+    private final Question[][] cells;
+
+    /**
+     * Constructs a Board from its categories and question grid.
+     *
+     * @param categories the category names, one per column
+     * @param cells the questions, indexed by column then value slot
+     */
+    Board(String[] categories, Question[][] cells) {
+        this.categories = categories;
+        this.cells = cells;
+    }
+
+    /**
+     * Gets the number of categories on the board.
+     *
+     * @return the category count
+     */
+    public int getCategoryCount() {
+        return this.categories.length;
+    }
+
+    /**
+     * Gets the number of value slots in each category.
+     *
+     * @return the value slot count
+     */
+    public int getValueCount() {
+        return this.cells.length == 0 ? 0 : this.cells[0].length;
+    }
+
+    /**
+     * Gets the board's categories in column order.
+     *
+     * @return an ArrayList of category names
+     */
+    public ArrayList<String> getCategories() {
+        return new ArrayList<>(Arrays.asList(this.categories));
+    }
+
+    /**
+     * Gets the question in a single board cell.
+     *
+     * @param category the column index
+     * @param slot the value slot index
+     * @return the question in that cell
+     */
+    public Question getQuestion(int category, int slot) {
+        return this.cells[category][slot];
+    }
+
+    /**
+     * Gets every question on the board, column by column.
+     *
+     * @return an ArrayList of the board's questions
+     */
+    public ArrayList<Question> getQuestions() {
+        ArrayList<Question> questions = new ArrayList<>(this.categories.length * getValueCount());
+        for (Question[] column : this.cells) {
+            questions.addAll(Arrays.asList(column));
+        }
+        return questions;
+    }
+}
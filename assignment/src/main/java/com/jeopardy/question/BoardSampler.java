@@ -0,0 +1,162 @@
+package com.jeopardy.question;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * BoardSampler draws random game boards from a {@link QuestionIndex}.
+ *
+ * A board of N categories by K values is drawn as follows:
+ * - N categories are picked uniformly at random from those offering at least K values
+ * - For each category, K of its value slots are picked uniformly and shown in ascending order
+ * - For each slot, one question is picked uniformly among the questions sharing that value
+ *
+ * Sampling uses a sparse Fisher-Yates shuffle, so the work done is proportional to the
+ * board size (N x K) and independent of the size of the bank. All randomness comes from
+ * the caller's {@link Random}, which makes boards reproducible from a seed.
+ *
+ * Callers can pass a predicate of questions already seen by the players. Each slot then
+ * probes a bounded number of its questions for an unseen one before settling for any.
+ *
+ * Usage example:
+ * <pre>
+ * BoardSampler sampler = new BoardSampler(service.getIndex());
+ * Board board = sampler.sample(5, 5, new Random(42));
+ * </pre>
+ */
+public class BoardSampler {
+
+    /**
+     * Maximum number of questions probed per slot when looking for an unseen one.
+     */
+    private static final int MAX_UNSEEN_PROBES = 8;
+
+    private final QuestionIndex index;
+
+    /**
+     * Constructs a BoardSampler over the given index.
+     *
+     * @param index the precomputed question index to draw from
+     */
+    public BoardSampler(QuestionIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * Draws a random board.
+     * If fewer than the requested number of categories are eligible, the board is
+     * narrowed to the eligible categories.
+     *
+     * @param categoryCount the number of categories (columns) to draw
+     * @param valueCount the number of value slots (rows) per category
+     * @param random the random source to draw with
+     * @return the sampled Board
+     * @throws IllegalArgumentException if the counts are not positive or no category
+     *         offers enough distinct values
+     */
+    public Board sample(int categoryCount, int valueCount, Random random) {
+        return sample(categoryCount, valueCount, random, q -> false);
+    }
+
+    /**
+     * Draws a random board, preferring questions the players have not seen yet.
+     * If fewer than the requested number of categories are eligible, the board is
+     * narrowed to the eligible categories.
+     *
+     * @param categoryCount the number of categories (columns) to draw
+     * @param valueCount the number of value slots (rows) per category
+     * @param random the random source to draw with
+     * @param seen a predicate that is true for questions already seen
+     * @return the sampled Board
+     * @throws IllegalArgumentException if the counts are not positive or no category
+     *         offers enough distinct values
+     */
+    public Board sample(int categoryCount, int valueCount, Random random, Predicate<Question> seen) {
+        if (categoryCount < 1 || valueCount < 1) {
+            throw new IllegalArgumentException("Board must have at least one category and one value");
+        }
+
+        int[] eligible = this.index.getEligibleCategories(valueCount);
+        if (eligible.length == 0) {
+            throw new IllegalArgumentException(
+                String.format("No category has %d distinct question values", valueCount));
+        }
+
+        int[] picked = pick(eligible.length, Math.min(categoryCount, eligible.length), random);
+        String[] categories = new String[picked.length];
+        Question[][] cells = new Question[picked.length][valueCount];
+
+        for (int i = 0; i < picked.length; i++) {
+            int category = eligible[picked[i]];
+            categories[i] = this.index.getCategory(category);
+
+            int[] slots = pick(this.index.getValueCount(category), valueCount, random);
+            Arrays.sort(slots);
+
+            for (int s = 0; s < valueCount; s++) {
+                cells[i][s] = pickQuestion(category, slots[s], random, seen);
+            }
+        }
+
+        return new Board(categories, cells);
+    }
+
+    /**
+     * Picks a random question from a slot, probing a few questions for one not yet seen.
+     * Probing walks the slot cyclically from a random start, so small slots are searched fully.
+     *
+     * @param category the category index
+     * @param slot the value slot index
+     * @param random the random source to draw with
+     * @param seen a predicate that is true for questions already seen
+     * @return an unseen question if one was found, otherwise the first question probed
+     */
+    private Question pickQuestion(int category, int slot, Random random, Predicate<Question> seen) {
+        int count = this.index.getQuestionCount(category, slot);
+        int start = random.nextInt(count);
+        int probes = Math.min(count, MAX_UNSEEN_PROBES);
+
+        for (int probe = 0; probe < probes; probe++) {
+            Question candidate = this.index.getQuestion(category, slot, (start + probe) % count);
+            if (!seen.test(candidate)) {
+                return candidate;
+            }
+        }
+        return this.index.getQuestion(category, slot, start);
+    }
+
+    /**
+     * Picks k distinct positions out of [0, n) in random order.
+     * Only the displaced positions are tracked, so this runs in O(k) regardless of n.
+     *
+     * @param n the size of the range to pick from
+     * @param k the number of positions to pick
+     * @param random the random source to draw with
+     * @return the picked positions
+     */
+    private static int[] pick(int n, int k, Random random) {
+        int[] picked = new int[k];
+        if (k == n) {
+            for (int i = 0; i < n; i++) {
+                picked[i] = i;
+            }
+            for (int i = n - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int t = picked[i];
+                picked[i] = picked[j];
+                picked[j] = t;
+            }
+            return picked;
+        }
+
+        Map<Integer, Integer> displaced = new HashMap<>(k * 2);
+        for (int i = 0; i < k; i++) {
+            int j = i + random.nextInt(n - i);
+            int atJ = displaced.getOrDefault(j, j);
+            int atI = displaced.getOrDefault(i, i);
+            picked[i] = atJ;
+            displaced.put(j, atI);
+        }
+        return picked;
+    }
+}
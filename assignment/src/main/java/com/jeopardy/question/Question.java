@@ -1,6 +1,7 @@
 package com.jeopardy.question;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import com.jeopardy.exception.InvalidQuestionStateException;
 
 /**
@@ -17,24 +18,54 @@ import com.jeopardy.exception.InvalidQuestionStateException;
  * The class provides methods for:
  * - Setting and getting question properties
  * - Evaluating player answers
- * - Converting options from arrays/lists to a labeled map
- * - Generating string representations for display
+ * - Atomically claiming the question so that exactly one answer attempt can score it
+ * - Storing options in a label-indexed array (index 0 is A, 1 is B, ...)
+ * - Generating string representations for display, rendered once and cached
  */
 public class Question {
 
+    private static final int UNANSWERED = 0;
+    private static final int ANSWERED = 1;
+    private static final char FIRST_LABEL = 'A';
+    private static final AtomicIntegerFieldUpdater<Question> ANSWERED_STATE =
+        AtomicIntegerFieldUpdater.newUpdater(Question.class, "answeredState");
+
     private String category;
     private String question;
     private int value;
     private String correctAnswer;
-    private Map<String, String> options;
-    private boolean isAnswered;
+    private String[] options;
+    private volatile int answeredState;
+    private long fingerprint;
+    private String prompt;
+    private String[] descriptions;
 
     /**
      * Constructs a new Question with default values.
-     * The isAnswered flag is initialized to false.
+     * The question starts out unanswered.
      */
     public Question() {
-        this.isAnswered = false;
+        this.answeredState = UNANSWERED;
+    }
+
+    /**
+     * Creates an unanswered copy of this question.
+     * Used to give each game its own answered state while the bank stays shared.
+     * The copy shares this question's rendered prompt, so a prompt is rendered once per
+     * bank question when boards are drawn, never during the turn that asks it.
+     *
+     * @return a new Question with the same content, not yet answered
+     */
+    public Question copy() {
+        Question copy = new Question();
+        copy.category = this.category;
+        copy.question = this.question;
+        copy.value = this.value;
+        copy.correctAnswer = this.correctAnswer;
+        copy.options = this.options;
+        copy.fingerprint = this.fingerprint;
+        copy.prompt = this.promptString();
+        return copy;
     }
 
     // ==================== Category Accessors ====================
@@ -55,6 +86,8 @@ public class Question {
      */
     public void setCategory(String category) {
         this.category = category;
+        this.fingerprint = 0;
+        invalidateText();
     }
 
     // ==================== Question Text Accessors ====================
@@ -75,6 +108,43 @@ public class Question {
      */
     public void setQuestion(String question) {
         this.question = question;
+        this.fingerprint = 0;
+        invalidateText();
+    }
+
+    /**
+     * Gets a 64-bit fingerprint of this question's category and text.
+     * Unlike a position in a bank, the fingerprint identifies the same question
+     * across banks and file formats. It is computed on first use and cached.
+     *
+     * @return the FNV-1a hash of the category and question text
+     */
+    public long getFingerprint() {
+        if (this.fingerprint == 0) {
+            long h = 0xcbf29ce484222325L;
+            h = hash(h, this.category);
+            h = (h ^ 0x1F) * 0x100000001b3L;
+            h = hash(h, this.question);
+            this.fingerprint = h == 0 ? 1 : h;
+        }
+        return this.fingerprint;
+    }
+
+    /**
+     * Folds the characters of a string into an FNV-1a hash.
+     *
+     * @param h the running hash
+     * @param text the text to fold in, may be null
+     * @return the updated hash
+     */
+    private static long hash(long h, String text) {
+        if (text != null) {
+            for (int i = 0; i < text.length(); i++) {
+                h ^= text.charAt(i);
+                h *= 0x100000001b3L;
+            }
+        }
+        return h;
     }
 
     // ==================== Value Accessors ====================
@@ -95,6 +165,7 @@ public class Question {
      */
     public void setValue(int value) {
         this.value = value;
+        invalidateText();
     }
 
     // ==================== Answer Management ====================
@@ -115,6 +186,7 @@ public class Question {
      */
     public void setCorrectAnswer(String correctAnswer) {
         this.correctAnswer = correctAnswer;
+        invalidateText();
     }
 
     /**
@@ -123,7 +195,7 @@ public class Question {
      * @return true if the question has been answered, false otherwise
      */
     public boolean getIsAnswered() {
-        return this.isAnswered;
+        return this.answeredState != UNANSWERED;
     }
 
     /**
@@ -132,12 +204,48 @@ public class Question {
      * @param isAnswered true if the question has been answered, false otherwise
      */
     public void setIsAnswered(boolean isAnswered) {
-        this.isAnswered = isAnswered;
+        this.answeredState = isAnswered ? ANSWERED : UNANSWERED;
+    }
+
+    /**
+     * Atomically claims this question for a single answer attempt.
+     *
+     * The answered state is switched from unanswered to answered with a compare-and-set,
+     * so when several threads race on the same question exactly one of them succeeds,
+     * without taking a lock.
+     *
+     * @return true if this call claimed the question, false if it was already answered
+     */
+    public boolean tryClaim() {
+        return ANSWERED_STATE.compareAndSet(this, UNANSWERED, ANSWERED);
+    }
+
+    /**
+     * Checks whether the given answer is correct without changing the question's state.
+     * Performs a case-insensitive comparison.
+     *
+     * @param answer the player's answer to check
+     * @return true if the answer is correct, false otherwise
+     * @throws IllegalArgumentException if the answer is null or empty
+     * @throws IllegalStateException if the correct answer has not been set
+     */
+    public boolean isCorrect(String answer) {
+        // Validation: Check if correct answer is set
+        if (this.correctAnswer == null || this.correctAnswer.trim().isEmpty()) {
+            throw new IllegalStateException("Question has no correct answer set");
+        }
+
+        // Validation: Check if answer is valid
+        if (answer == null || answer.trim().isEmpty()) {
+            throw new IllegalArgumentException("Answer cannot be null or empty");
+        }
+
+        return answer.equalsIgnoreCase(this.correctAnswer);
     }
 
     /**
      * Evaluates whether the given answer is correct.
-     * Marks the question as answered and performs case-insensitive comparison.
+     * Claims the question (see {@link #tryClaim()}) and performs case-insensitive comparison.
      *
      * SOLID principles:
      * - Added validation to prevent invalid state (improved error handling)
@@ -150,33 +258,76 @@ public class Question {
      */
     public boolean evaluate(String answer) {
         // Validation: Check if question already answered
-        if (this.isAnswered) {
+        if (getIsAnswered()) {
             throw new InvalidQuestionStateException("Question has already been answered");
         }
 
-        // Validation: Check if correct answer is set
-        if (this.correctAnswer == null || this.correctAnswer.trim().isEmpty()) {
-            throw new IllegalStateException("Question has no correct answer set");
-        }
+        boolean isCorrect = isCorrect(answer);
 
-        // Validation: Check if answer is valid
-        if (answer == null || answer.trim().isEmpty()) {
-            throw new IllegalArgumentException("Answer cannot be null or empty");
+        if (!tryClaim()) {
+            throw new InvalidQuestionStateException("Question has already been answered");
         }
-
-        this.isAnswered = true;
-        return answer.equalsIgnoreCase(this.correctAnswer);
+        return isCorrect;
     }
 
     // ==================== Options Management ====================
 
     /**
-     * Gets the map of answer options with their labels.
+     * Gets a map of answer options with their labels, in label order.
+     * The map is built on each call; prefer {@link #getOption(String)} on hot paths.
      *
-     * @return a map where keys are labels (A, B, C, D) and values are option text
+     * @return a map where keys are labels (A, B, C, D) and values are option text,
+     *         or null if no options are set
      */
     public Map<String, String> getOptions() {
-        return this.options;
+        if (this.options == null) {
+            return null;
+        }
+        Map<String, String> labeled = new LinkedHashMap<>();
+        for (int i = 0; i < this.options.length; i++) {
+            labeled.put(String.valueOf((char) (FIRST_LABEL + i)), this.options[i]);
+        }
+        return labeled;
+    }
+
+    /**
+     * Gets the number of answer options.
+     *
+     * @return the option count, or 0 if no options are set
+     */
+    public int getOptionCount() {
+        return this.options == null ? 0 : this.options.length;
+    }
+
+    /**
+     * Gets the text of an option by position.
+     *
+     * @param index the option position (0 for A, 1 for B, ...)
+     * @return the option text
+     */
+    public String getOption(int index) {
+        return this.options[index];
+    }
+
+    /**
+     * Gets the text of an option by label, without allocating.
+     *
+     * @param label the option label (A, B, C, D, ...), case-insensitive
+     * @return the option text, or null if the label does not name an option
+     */
+    public String getOption(String label) {
+        int index = labelIndex(label);
+        return index < 0 ? null : this.options[index];
+    }
+
+    /**
+     * Checks whether a label names one of this question's options.
+     *
+     * @param label the option label to check, case-insensitive
+     * @return true if the label names an option, false otherwise
+     */
+    public boolean hasOption(String label) {
+        return labelIndex(label) >= 0;
     }
 
     /**
@@ -185,12 +336,8 @@ public class Question {
      * @param options an array of option strings to set
      */
     public void setOptions(String[] options) {
-        this.options = new HashMap<>();
-        char optionLabel = 'A';
-        for (String option : options) {
-            this.options.put(String.valueOf(optionLabel), option);
-            optionLabel++;
-        }
+        this.options = options.clone();
+        invalidateText();
     }
 
     /**
@@ -199,53 +346,87 @@ public class Question {
      * @param options an ArrayList of option strings to set
      */
     public void setOptions(ArrayList<String> options) {
-        this.options = new HashMap<>();
-        char optionLabel = 'A';
-        for (String option : options) {
-            this.options.put(String.valueOf(optionLabel), option);
-            optionLabel++;
+        this.options = options.toArray(new String[0]);
+        invalidateText();
+    }
+
+    /**
+     * Maps an option label to its position in the options array.
+     *
+     * @param label the option label, case-insensitive
+     * @return the option position, or -1 if the label does not name an option
+     */
+    private int labelIndex(String label) {
+        if (this.options == null || label == null || label.length() != 1) {
+            return -1;
         }
+        int index = Character.toUpperCase(label.charAt(0)) - FIRST_LABEL;
+        return index >= 0 && index < this.options.length ? index : -1;
     }
 
     // ==================== String Representations ====================
 
     /**
      * Returns a string representation of this Question including all properties.
+     * The text is rendered once per answered state and cached until the question changes.
      *
      * @return a formatted string containing category, question text, value, options,
      *         correct answer, and answered status
      */
     @Override
     public String toString() {
-        StringBuilder sb = new StringBuilder();
-        sb.append("Category: ").append(this.category).append("\n");
-        sb.append("Question: ").append(this.question).append("\n");
-        sb.append("Value: ").append(this.value).append("\n");
-        sb.append("Options: \n");
-        if (this.options != null) {
-            for (Map.Entry<String, String> entry : this.options.entrySet()) {
-                sb.append("  ").append(entry.getKey()).append(": ").append(entry.getValue()).append("\n");
+        int state = getIsAnswered() ? 1 : 0;
+        String[] cached = this.descriptions;
+        if (cached == null) {
+            cached = new String[2];
+            this.descriptions = cached;
+        }
+        if (cached[state] == null) {
+            StringBuilder sb = new StringBuilder();
+            sb.append("Category: ").append(this.category).append("\n");
+            sb.append("Question: ").append(this.question).append("\n");
+            sb.append("Value: ").append(this.value).append("\n");
+            sb.append("Options: \n");
+            if (this.options != null) {
+                for (int i = 0; i < this.options.length; i++) {
+                    sb.append("  ").append((char) (FIRST_LABEL + i)).append(": ").append(this.options[i]).append("\n");
+                }
             }
+            sb.append("Correct Answer: ").append(this.correctAnswer).append("\n");
+            sb.append("Is Answered: ").append(state == 1).append("\n");
+            cached[state] = sb.toString();
         }
-        sb.append("Correct Answer: ").append(this.correctAnswer).append("\n");
-        sb.append("Is Answered: ").append(this.isAnswered).append("\n");
-        return sb.toString();
+        return cached[state];
     }
 
     /**
      * Returns a formatted string for prompting the user with this question.
      * Includes the question text and multiple choice options, but not the correct answer.
+     * The prompt is rendered once and cached until the question changes.
      *
      * @return a formatted string suitable for displaying to players
      */
     public String promptString() {
-        StringBuilder sb = new StringBuilder();
-        if (this.options != null) {
-            for (Map.Entry<String, String> entry : this.options.entrySet()) {
-                sb.append(entry.getKey()).append(") ").append(entry.getValue()).append("\n");
+        String cached = this.prompt;
+        if (cached == null) {
+            StringBuilder sb = new StringBuilder();
+            if (this.options != null) {
+                for (int i = 0; i < this.options.length; i++) {
+                    sb.append((char) (FIRST_LABEL + i)).append(") ").append(this.options[i]).append("\n");
+                }
             }
+            sb.append(this.question).append(" ");
+            cached = sb.toString();
+            this.prompt = cached;
         }
-        sb.append(this.question).append(" ");
-        return sb.toString();
+        return cached;
+    }
+
+    /**
+     * Drops the cached prompt and description after a change to the question.
+     */
+    private void invalidateText() {
+        this.prompt = null;
+        this.descriptions = null;
     }
 }
@@ -0,0 +1,72 @@
+package com.jeopardy.question;
+
+import com.jeopardy.utils.GameConstants;
+
+import java.util.ArrayList;
+
+/**
+ * QuestionBanks generates in-memory question banks for games that do not load a file,
+ * such as warm-up games, benchmarks and tests.
+ *
+ * A generated bank has the given number of categories, named "&lt;name&gt; 0",
+ * "&lt;name&gt; 1", ..., each with values 100 to 100 * BOARD_VALUES and the given number
+ * of questions per value. Question c-v (or c-v-i with several per value) is the
+ * question of category c, value v * 100 and copy i. Every question has the same
+ * options; the correct answer is either always A or rotates through the options.
+ */
+public final class QuestionBanks {
+
+    // Prevent instantiation
+    private QuestionBanks() {
+        throw new AssertionError("Cannot instantiate QuestionBanks");
+    }
+
+    /**
+     * Generates the questions of a bank.
+     *
+     * @param name the category name prefix
+     * @param categories the number of categories
+     * @param copies the number of questions per category and value
+     * @param options the answer options of every question
+     * @param rotateAnswers true to make option (c + v + i) mod options correct, false
+     *                      to make A always correct
+     * @return the questions, by category, then value, then copy
+     */
+    public static ArrayList<Question> generateQuestions(String name, int categories, int copies,
+            String[] options, boolean rotateAnswers) {
+        ArrayList<Question> questions = new ArrayList<>(categories * GameConstants.BOARD_VALUES * copies);
+        for (int c = 0; c < categories; c++) {
+            String category = name + " " + c;
+            for (int v = 1; v <= GameConstants.BOARD_VALUES; v++) {
+                for (int i = 0; i < copies; i++) {
+                    Question q = new Question();
+                    q.setCategory(category);
+                    q.setValue(v * 100);
+                    q.setQuestion(copies == 1 ? "Question " + c + "-" + v : "Question " + c + "-" + v + "-" + i);
+                    q.setOptions(options);
+                    q.setCorrectAnswer(rotateAnswers ? String.valueOf((char) ('A' + (c + v + i) % options.length)) : "A");
+                    questions.add(q);
+                }
+            }
+        }
+        return questions;
+    }
+
+    /**
+     * Generates a bank.
+     *
+     * @param name the category name prefix
+     * @param categories the number of categories
+     * @param copies the number of questions per category and value
+     * @param options the answer options of every question
+     * @param rotateAnswers true to rotate the correct answer through the options, false
+     *                      to make A always correct
+     * @return the bank
+     */
+    public static QuestionService generate(String name, int categories, int copies,
+            String[] options, boolean rotateAnswers) {
+        QuestionService bank = new QuestionService();
+        bank.setQuestions(generateQuestions(name, categories, copies, options, rotateAnswers));
+        return bank;
+    }
+}
@@ -0,0 +1,189 @@
+package com.jeopardy.question;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * QuestionIndex is a precomputed, read-only lookup structure over a question bank.
+ *
+ * The index groups the bank by category and, within each category, by point value:
+ * - Categories are kept in first-seen (load) order
+ * - Each category holds its distinct point values in ascending order
+ * - Each (category, value) slot holds every question sharing that category and value
+ *
+ * Building the index is a single pass over the bank. Once built, every lookup is an
+ * array access, which lets {@link BoardSampler} draw a board in time proportional to
+ * the board size instead of the bank size.
+ *
+ * The index does not copy questions and never changes after construction, so it can
+ * be shared freely between readers.
+ */
+public class QuestionIndex {
+
+    private final String[] categories;
+    private final int[][] values;
+    private final Question[][][] buckets;
+    private final int size;
+    private final Map<Integer, int[]> eligibleByValueCount;
+
+    /**
+     * Builds an index over the given questions.
+     * Questions without a category are skipped.
+     *
+     * @param questions the question bank to index
+     */
+    public QuestionIndex(List<Question> questions) {
+        Map<String, TreeMap<Integer, List<Question>>> grouped = new LinkedHashMap<>();
+        int indexed = 0;
+
+        for (Question q : questions) {
+            if (q == null || q.getCategory() == null) {
+                continue;
+            }
+            grouped.computeIfAbsent(q.getCategory(), c -> new TreeMap<>())
+                    .computeIfAbsent(q.getValue(), v -> new ArrayList<>())
+                    .add(q);
+            indexed++;
+        }
+
+        this.categories = new String[grouped.size()];
+        this.values = new int[grouped.size()][];
+        this.buckets = new Question[grouped.size()][][];
+        this.size = indexed;
+        this.eligibleByValueCount = new ConcurrentHashMap<>();
+
+        int c = 0;
+        for (Map.Entry<String, TreeMap<Integer, List<Question>>> category : grouped.entrySet()) {
+            TreeMap<Integer, List<Question>> byValue = category.getValue();
+            this.categories[c] = category.getKey();
+            this.values[c] = new int[byValue.size()];
+            this.buckets[c] = new Question[byValue.size()][];
+
+            int v = 0;
+            for (Map.Entry<Integer, List<Question>> slot : byValue.entrySet()) {
+                this.values[c][v] = slot.getKey();
+                this.buckets[c][v] = slot.getValue().toArray(new Question[0]);
+                v++;
+            }
+            c++;
+        }
+    }
+
+    // ==================== Category Lookups ====================
+
+    /**
+     * Gets the number of distinct categories in the bank.
+     *
+     * @return the category count
+     */
+    public int getCategoryCount() {
+        return this.categories.length;
+    }
+
+    /**
+     * Gets the name of the category at the given index.
+     *
+     * @param category the category index
+     * @return the category name
+     */
+    public String getCategory(int category) {
+        return this.categories[category];
+    }
+
+    /**
+     * Gets the number of distinct point values in a category.
+     *
+     * @param category the category index
+     * @return the number of value slots in the category
+     */
+    public int getValueCount(int category) {
+        return this.values[category].length;
+    }
+
+    /**
+     * Gets the point value of a slot within a category.
+     * Slots are ordered by ascending value.
+     *
+     * @param category the category index
+     * @param slot the value slot index
+     * @return the point value of the slot
+     */
+    public int getValue(int category, int slot) {
+        return this.values[category][slot];
+    }
+
+    // ==================== Question Lookups ====================
+
+    /**
+     * Gets the number of questions sharing a category and value slot.
+     *
+     * @param category the category index
+     * @param slot the value slot index
+     * @return the number of questions in the slot
+     */
+    public int getQuestionCount(int category, int slot) {
+        return this.buckets[category][slot].length;
+    }
+
+    /**
+     * Gets a single question from a category and value slot.
+     *
+     * @param category the category index
+     * @param slot the value slot index
+     * @param i the position of the question within the slot
+     * @return the question at that position
+     */
+    public Question getQuestion(int category, int slot, int i) {
+        return this.buckets[category][slot][i];
+    }
+
+    /**
+     * Gets the total number of indexed questions.
+     *
+     * @return the number of questions in the index
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the indices of all categories that have at least the given number of value slots.
+     * The result is computed once per value count and cached; cached lookups take no lock,
+     * so many games can sample boards from one shared index in parallel.
+     *
+     * @param valueCount the minimum number of distinct values a category must offer
+     * @return the indices of the eligible categories (must not be modified)
+     */
+    int[] getEligibleCategories(int valueCount) {
+        int[] eligible = this.eligibleByValueCount.get(valueCount);
+        if (eligible != null) {
+            return eligible;
+        }
+        return this.eligibleByValueCount.computeIfAbsent(valueCount, this::computeEligibleCategories);
+    }
+
+    /**
+     * Finds the categories that have at least the given number of value slots.
+     *
+     * @param valueCount the minimum number of distinct values a category must offer
+     * @return the indices of the eligible categories
+     */
+    private int[] computeEligibleCategories(int valueCount) {
+        int count = 0;
+        for (int[] categoryValues : this.values) {
+            if (categoryValues.length >= valueCount) {
+                count++;
+            }
+        }
+
+        int[] eligible = new int[count];
+        int e = 0;
+        for (int c = 0; c < this.values.length; c++) {
+            if (this.values[c].length >= valueCount) {
+                eligible[e++] = c;
+            }
+        }
+
+        return eligible;
+    }
+}
@@ -1,8 +1,11 @@
 package com.jeopardy.question;
 
+import com.jeopardy.metrics.Metrics;
+import com.jeopardy.metrics.Probe;
 import com.jeopardy.question.loader.QuestionLoader;
 
 import java.util.*;
+import java.util.function.Predicate;
 
 /**
  * QuestionService manages a collection of Question objects for the Jeopardy game.
@@ -25,6 +28,7 @@ import java.util.*;
 public class QuestionService {
 
     private ArrayList<Question> questions;
+    private QuestionIndex index;
 
     /**
      * Constructs a new QuestionService with no questions loaded.
@@ -54,15 +58,40 @@ public class QuestionService {
                 loaded = new ArrayList<>();
             }
             this.questions = new ArrayList<>(loaded);
+            this.index = null;
             return true;
         } catch (Exception e) {
             System.out.println("Error loading questions from: " + filename);
             e.printStackTrace();
             this.questions = new ArrayList<>();
+            this.index = null;
             return false;
         }
     }
 
+    /**
+     * Sets the questions managed by this service directly, e.g. from a sampled {@link Board}.
+     *
+     * @param questions the questions to manage
+     */
+    public void setQuestions(List<Question> questions) {
+        this.questions = questions == null ? new ArrayList<>() : new ArrayList<>(questions);
+        this.index = null;
+    }
+
+    /**
+     * Gets the precomputed category/value index over all managed questions.
+     * The index is built on first use and cached until the questions are replaced.
+     *
+     * @return the QuestionIndex for the current questions
+     */
+    public QuestionIndex getIndex() {
+        if (this.index == null) {
+            this.index = new QuestionIndex(this.questions == null ? new ArrayList<>() : this.questions);
+        }
+        return this.index;
+    }
+
     // ==================== Question Retrieval ====================
 
     /**
@@ -78,6 +107,32 @@ public class QuestionService {
         return new ArrayList<>(this.questions);
     }
 
+    /**
+     * Gets the number of questions managed by this service, without copying them.
+     *
+     * @return the question count, or 0 if no questions are loaded
+     */
+    public int getQuestionCount() {
+        return this.questions == null ? 0 : this.questions.size();
+    }
+
+    /**
+     * Checks whether any question is still unanswered, without collecting them.
+     *
+     * @return true if at least one question has not been answered
+     */
+    public boolean hasUnansweredQuestions() {
+        if (this.questions == null) {
+            return false;
+        }
+        for (int i = 0; i < this.questions.size(); i++) {
+            if (!this.questions.get(i).getIsAnswered()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Gets all questions from a specific category.
      *
@@ -146,33 +201,80 @@ public class QuestionService {
             return null;
         }
 
-        for (Question q : this.questions) {
+        long start = Metrics.start();
+        Question found = null;
+        for (int i = 0; i < this.questions.size(); i++) {
+            Question q = this.questions.get(i);
             if (q.getCategory().equals(category) && q.getValue() == value && !q.getIsAnswered()) {
-                return q;
+                found = q;
+                break;
             }
         }
-        return null;
+        Metrics.stop(Probe.QUESTION_LOOKUP, start);
+        return found;
+    }
+
+    /**
+     * Gets an unanswered question by category and value, preferring one not seen before.
+     *
+     * @param category the category of the question
+     * @param value the point value of the question
+     * @param seen a predicate that is true for questions already seen
+     * @return the first unseen match, else the first match, or null if none is found
+     */
+    public Question getCategoryQuestionByValue(String category, int value, Predicate<Question> seen) {
+        if (this.questions == null) {
+            return null;
+        }
+
+        long start = Metrics.start();
+        Question found = null;
+        Question fallback = null;
+        for (int i = 0; i < this.questions.size(); i++) {
+            Question q = this.questions.get(i);
+            if (q.getCategory().equals(category) && q.getValue() == value && !q.getIsAnswered()) {
+                if (!seen.test(q)) {
+                    found = q;
+                    break;
+                }
+                if (fallback == null) {
+                    fallback = q;
+                }
+            }
+        }
+        Metrics.stop(Probe.QUESTION_LOOKUP, start);
+        return found != null ? found : fallback;
     }
 
     // ==================== Category & Value Helpers ====================
 
     /**
      * Gets all unique categories from unanswered questions.
+     * Categories are returned in the order they first appear in the question list.
      *
      * @return an ArrayList of unique category names from unanswered questions
      */
     public ArrayList<String> getCategories() {
-        HashSet<String> categories = new HashSet<>();
+        return getCategories(new ArrayList<>());
+    }
 
-        for (Question q : questions) {
-            if (!q.getIsAnswered()) {
-                categories.add(q.getCategory());
+    /**
+     * Fills a reusable list with the unique categories of unanswered questions, in the
+     * order they first appear. Allocates nothing once the list has grown to the number
+     * of categories, so a game can ask every turn.
+     *
+     * @param into the list to fill; its previous contents are removed
+     * @return the given list
+     */
+    public ArrayList<String> getCategories(ArrayList<String> into) {
+        into.clear();
+        for (int i = 0; i < this.questions.size(); i++) {
+            Question q = this.questions.get(i);
+            if (!q.getIsAnswered() && !into.contains(q.getCategory())) {
+                into.add(q.getCategory());
             }
         }
-
-        ArrayList<String> uniqueCategoryArrayList = new ArrayList<>();
-        uniqueCategoryArrayList.addAll(categories);
-        return uniqueCategoryArrayList;
+        return into;
     }
 
     /**
@@ -183,16 +285,48 @@ public class QuestionService {
      * @return an ArrayList of unique question values sorted in ascending order
      */
     public ArrayList<Integer> getCategoryQuestionValues(String category) {
-        TreeSet<Integer> questionValues = new TreeSet<>();
+        int[] values = new int[getQuestionCount()];
+        int count = getCategoryQuestionValues(category, values);
+
+        ArrayList<Integer> uniqueQuestionValueArrayList = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            uniqueQuestionValueArrayList.add(values[i]);
+        }
+        return uniqueQuestionValueArrayList;
+    }
+
+    /**
+     * Fills a reusable buffer with the unique values of unanswered questions in a
+     * category, sorted in ascending order, without allocating.
+     *
+     * @param category the category to get question values from
+     * @param into the buffer to fill; it must hold at least {@link #getQuestionCount()} values
+     * @return the number of values written to the start of the buffer
+     */
+    public int getCategoryQuestionValues(String category, int[] into) {
+        long start = Metrics.start();
+        int count = 0;
 
-        for (Question q : questions) {
-            if (!q.getIsAnswered() && q.getCategory().equals(category)) {
-                questionValues.add(q.getValue());
+        for (int i = 0; i < this.questions.size(); i++) {
+            Question q = this.questions.get(i);
+            if (q.getIsAnswered() || !q.getCategory().equals(category)) {
+                continue;
             }
+            // Insert in order, skipping values already present
+            int value = q.getValue();
+            int at = count;
+            while (at > 0 && into[at - 1] > value) {
+                at--;
+            }
+            if (at > 0 && into[at - 1] == value) {
+                continue;
+            }
+            System.arraycopy(into, at, into, at + 1, count - at);
+            into[at] = value;
+            count++;
         }
 
-        ArrayList<Integer> uniqueQuestionValueArrayList = new ArrayList<>();
-        uniqueQuestionValueArrayList.addAll(questionValues);
-        return uniqueQuestionValueArrayList;
+        Metrics.stop(Probe.QUESTION_LOOKUP, start);
+        return count;
     }
 }
@@ -0,0 +1,150 @@
+package com.jeopardy.question;
+
+import java.nio.ByteBuffer;
+import java.util.function.Predicate;
+
+/**
+ * SeenQuestionFilter is a Bloom filter of questions a player has already seen.
+ *
+ * The filter stores question fingerprints (see {@link Question#getFingerprint()}) in a
+ * fixed bit array, so its memory does not grow with the size of the question bank:
+ * - {@link #DEFAULT_BITS} bits take 4 KB per player
+ * - Lookups and insertions touch {@link #HASH_COUNT} bits and allocate nothing
+ * - A question that was added is always reported as seen
+ * - A question that was never added is reported as seen with a small probability
+ *   (about 2% after 3,000 questions), which only costs it some preference
+ *
+ * Filters can be serialized with {@link #toBytes()} and restored with {@link #fromBytes(byte[])}.
+ * A filter is itself the predicate QuestionService lookups take, so passing it allocates nothing.
+ */
+public class SeenQuestionFilter implements Predicate<Question> {
+
+    /**
+     * Default filter size in bits (4 KB).
+     */
+    public static final int DEFAULT_BITS = 1 << 15;
+
+    /**
+     * Number of bits set per question.
+     */
+    public static final int HASH_COUNT = 5;
+
+    private final long[] bits;
+    private final int mask;
+
+    /**
+     * Constructs an empty filter of the default size.
+     */
+    public SeenQuestionFilter() {
+        this(DEFAULT_BITS);
+    }
+
+    /**
+     * Constructs an empty filter with the given number of bits.
+     *
+     * @param bitCount the filter size in bits; must be a power of two and at least 64
+     */
+    public SeenQuestionFilter(int bitCount) {
+        if (bitCount < Long.SIZE || Integer.bitCount(bitCount) != 1) {
+            throw new IllegalArgumentException("Bit count must be a power of two of at least 64");
+        }
+        this.bits = new long[bitCount / Long.SIZE];
+        this.mask = bitCount - 1;
+    }
+
+    /**
+     * Constructs a filter over existing bit words.
+     *
+     * @param bits the filter words
+     */
+    private SeenQuestionFilter(long[] bits) {
+        this.bits = bits;
+        this.mask = bits.length * Long.SIZE - 1;
+    }
+
+    // ==================== Membership ====================
+
+    /**
+     * Records that a question has been seen.
+     *
+     * @param question the question to record
+     */
+    public void add(Question question) {
+        long fingerprint = question.getFingerprint();
+        int h1 = (int) fingerprint;
+        int h2 = (int) (fingerprint >>> 32) | 1;
+        for (int i = 0; i < HASH_COUNT; i++) {
+            int bit = (h1 + i * h2) & this.mask;
+            this.bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Checks whether a question has probably been seen.
+     *
+     * @param question the question to check
+     * @return true if the question may have been seen, false if it definitely has not
+     */
+    public boolean contains(Question question) {
+        long fingerprint = question.getFingerprint();
+        int h1 = (int) fingerprint;
+        int h2 = (int) (fingerprint >>> 32) | 1;
+        for (int i = 0; i < HASH_COUNT; i++) {
+            int bit = (h1 + i * h2) & this.mask;
+            if ((this.bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a question has probably been seen; the same as contains.
+     *
+     * @param question the question to check
+     * @return true if the question may have been seen, false if it definitely has not
+     */
+    @Override
+    public boolean test(Question question) {
+        return contains(question);
+    }
+
+    /**
+     * Gets the memory used by the filter's bit array.
+     *
+     * @return the filter size in bytes
+     */
+    public int getSizeInBytes() {
+        return this.bits.length * Long.BYTES;
+    }
+
+    // ==================== Serialization ====================
+
+    /**
+     * Serializes the filter's bits.
+     *
+     * @return the filter as a byte array
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(getSizeInBytes());
+        buffer.asLongBuffer().put(this.bits);
+        return buffer.array();
+    }
+
+    /**
+     * Restores a filter serialized with {@link #toBytes()}.
+     *
+     * @param data the serialized filter
+     * @return the restored filter
+     * @throws IllegalArgumentException if the data is not a valid filter
+     */
+    public static SeenQuestionFilter fromBytes(byte[] data) {
+        int words = data.length / Long.BYTES;
+        if (data.length % Long.BYTES != 0 || words == 0 || Integer.bitCount(words) != 1) {
+            throw new IllegalArgumentException("Invalid seen-question filter of " + data.length + " bytes");
+        }
+        long[] bits = new long[words];
+        ByteBuffer.wrap(data).asLongBuffer().get(bits);
+        return new SeenQuestionFilter(bits);
+    }
+}
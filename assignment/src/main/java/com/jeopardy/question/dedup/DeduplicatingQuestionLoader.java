@@ -0,0 +1,97 @@
+package com.jeopardy.question.dedup;
+
+import com.jeopardy.question.Question;
+import com.jeopardy.question.loader.QuestionLoader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DeduplicatingQuestionLoader wraps another QuestionLoader and drops near-duplicate questions.
+ *
+ * This class implements the Decorator pattern over the QuestionLoader strategy, so any
+ * file format can be deduplicated without changing its loader, and duplicates are removed
+ * before the questions ever reach a QuestionService. Questions are only compared within
+ * their category, so the same wording under two categories is kept in both.
+ *
+ * The console game deduplicates its question files with -Djeopardy.dedup=true.
+ *
+ * Usage example:
+ * <pre>
+ * QuestionLoader loader = new DeduplicatingQuestionLoader(new CSVQuestionLoader());
+ * service.setQuestions(loader, "questions.csv");
+ * </pre>
+ */
+public class DeduplicatingQuestionLoader implements QuestionLoader {
+
+    /**
+     * Whether the console game deduplicates its question files. Read once, when the class is first used.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("jeopardy.dedup");
+
+    private final QuestionLoader delegate;
+    private final NearDuplicateDetector detector;
+
+    /**
+     * Constructs a deduplicating loader with the default detector.
+     *
+     * @param delegate the loader that parses the file
+     */
+    public DeduplicatingQuestionLoader(QuestionLoader delegate) {
+        this(delegate, new NearDuplicateDetector());
+    }
+
+    /**
+     * Constructs a deduplicating loader with the given detector.
+     *
+     * @param delegate the loader that parses the file
+     * @param detector the detector used to find near-duplicates
+     */
+    public DeduplicatingQuestionLoader(QuestionLoader delegate, NearDuplicateDetector detector) {
+        this.delegate = delegate;
+        this.detector = detector;
+    }
+
+    /**
+     * Loads questions with the wrapped loader and removes near-duplicates within each
+     * category, keeping the first occurrence of each.
+     *
+     * @param filename the path to the file containing questions
+     * @return an ArrayList of unique Question objects
+     */
+    @Override
+    public ArrayList<Question> load(String filename) {
+        ArrayList<Question> loaded = this.delegate.load(filename);
+        if (loaded == null || loaded.size() < 2) {
+            return loaded;
+        }
+
+        Map<String, List<Question>> categories = new LinkedHashMap<>();
+        for (Question q : loaded) {
+            categories.computeIfAbsent(q.getCategory(), c -> new ArrayList<>()).add(q);
+        }
+        List<Question> kept = new ArrayList<>(loaded.size());
+        for (List<Question> category : categories.values()) {
+            kept.addAll(this.detector.removeDuplicates(category));
+        }
+        // Restore the file's order across categories
+        ArrayList<Question> unique = new ArrayList<>(kept.size());
+        Set<Question> keep = Collections.newSetFromMap(new IdentityHashMap<>());
+        keep.addAll(kept);
+        for (Question q : loaded) {
+            if (keep.contains(q)) {
+                unique.add(q);
+            }
+        }
+        if (unique.size() < loaded.size()) {
+            System.out.println(String.format("Dropped %d near-duplicate questions from: %s",
+                loaded.size() - unique.size(), filename));
+        }
+        return unique;
+    }
+}
@@ -0,0 +1,193 @@
+package com.jeopardy.question.dedup;
+
+import com.jeopardy.question.Question;
+
+import java.util.Random;
+
+/**
+ * MinHasher computes MinHash signatures for questions.
+ *
+ * A question is reduced to normalized text (question text followed by its options in
+ * label order, lower-cased, with punctuation collapsed to single spaces) and split into
+ * overlapping character shingles. Each of the signature's hash functions keeps the minimum
+ * hash over all shingles, so the fraction of equal positions between two signatures
+ * estimates the Jaccard similarity of the two shingle sets.
+ *
+ * Hash functions are multiply-shift hashes with coefficients drawn from a fixed seed,
+ * so signatures computed by different MinHasher instances with the same parameters
+ * are comparable.
+ */
+public class MinHasher {
+
+    /**
+     * Default number of hash functions in a signature.
+     */
+    public static final int DEFAULT_SIGNATURE_LENGTH = 128;
+
+    /**
+     * Default shingle width in characters.
+     */
+    public static final int DEFAULT_SHINGLE_WIDTH = 4;
+
+    private static final long SEED = 0x5DEECE66DL;
+
+    private final int shingleWidth;
+    private final long[] multipliers;
+    private final long[] offsets;
+
+    /**
+     * Constructs a MinHasher with the default signature length and shingle width.
+     */
+    public MinHasher() {
+        this(DEFAULT_SIGNATURE_LENGTH, DEFAULT_SHINGLE_WIDTH);
+    }
+
+    /**
+     * Constructs a MinHasher with the given signature length and shingle width.
+     *
+     * @param signatureLength the number of hash functions per signature
+     * @param shingleWidth the number of characters per shingle
+     */
+    public MinHasher(int signatureLength, int shingleWidth) {
+        if (signatureLength < 1 || shingleWidth < 1) {
+            throw new IllegalArgumentException("Signature length and shingle width must be positive");
+        }
+        this.shingleWidth = shingleWidth;
+        this.multipliers = new long[signatureLength];
+        this.offsets = new long[signatureLength];
+
+        Random random = new Random(SEED);
+        for (int i = 0; i < signatureLength; i++) {
+            this.multipliers[i] = random.nextLong() | 1L;
+            this.offsets[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Gets the number of hash functions in each signature.
+     *
+     * @return the signature length
+     */
+    public int getSignatureLength() {
+        return this.multipliers.length;
+    }
+
+    /**
+     * Computes the MinHash signature of a question.
+     *
+     * @param question the question to sign
+     * @return the signature, one 32-bit minimum per hash function
+     */
+    public int[] signature(Question question) {
+        return signature(normalize(question));
+    }
+
+    /**
+     * Computes the MinHash signature of already normalized text.
+     * Text shorter than one shingle is treated as a single shingle.
+     *
+     * @param text the normalized text to sign
+     * @return the signature, one 32-bit minimum per hash function
+     */
+    public int[] signature(CharSequence text) {
+        int length = this.multipliers.length;
+        long[] minimums = new long[length];
+        java.util.Arrays.fill(minimums, Long.MAX_VALUE);
+
+        int shingles = Math.max(1, text.length() - this.shingleWidth + 1);
+        for (int start = 0; start < shingles; start++) {
+            long shingle = hashShingle(text, start, Math.min(text.length(), start + this.shingleWidth));
+            for (int i = 0; i < length; i++) {
+                long h = (this.multipliers[i] * shingle + this.offsets[i]) >>> 32;
+                if (h < minimums[i]) {
+                    minimums[i] = h;
+                }
+            }
+        }
+
+        int[] signature = new int[length];
+        for (int i = 0; i < length; i++) {
+            signature[i] = (int) minimums[i];
+        }
+        return signature;
+    }
+
+    /**
+     * Estimates the Jaccard similarity of two signatures.
+     *
+     * @param a the first signature
+     * @param b the second signature
+     * @return the fraction of positions at which the signatures agree
+     */
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / a.length;
+    }
+
+    /**
+     * Builds the normalized text of a question used for shingling.
+     *
+     * @param question the question to normalize
+     * @return the question text and options, lower-cased with punctuation collapsed
+     */
+    public static String normalize(Question question) {
+        StringBuilder sb = new StringBuilder();
+        appendNormalized(sb, question.getQuestion());
+
+        for (int i = 0; i < question.getOptionCount(); i++) {
+            appendNormalized(sb, question.getOption(i));
+        }
+
+        int end = sb.length();
+        while (end > 0 && sb.charAt(end - 1) == ' ') {
+            end--;
+        }
+        sb.setLength(end);
+        return sb.toString();
+    }
+
+    /**
+     * Appends text lower-cased, mapping runs of non-alphanumeric characters to a single space.
+     *
+     * @param sb the builder to append to
+     * @param text the text to append, may be null
+     */
+    private static void appendNormalized(StringBuilder sb, String text) {
+        if (text == null) {
+            return;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            } else if (sb.length() > 0 && sb.charAt(sb.length() - 1) != ' ') {
+                sb.append(' ');
+            }
+        }
+        if (sb.length() > 0 && sb.charAt(sb.length() - 1) != ' ') {
+            sb.append(' ');
+        }
+    }
+
+    /**
+     * Hashes the characters in [start, end) with 64-bit FNV-1a.
+     *
+     * @param text the text containing the shingle
+     * @param start the first character of the shingle
+     * @param end one past the last character of the shingle
+     * @return the 64-bit shingle hash
+     */
+    private static long hashShingle(CharSequence text, int start, int end) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = start; i < end; i++) {
+            h ^= text.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+}
@@ -0,0 +1,210 @@
+package com.jeopardy.question.dedup;
+
+import com.jeopardy.question.Question;
+
+import java.util.*;
+
+/**
+ * NearDuplicateDetector finds questions that are worded almost identically.
+ *
+ * Checking every pair of questions is quadratic, so the detector uses locality-sensitive
+ * hashing over MinHash signatures instead:
+ * - Each question gets a MinHash signature (see {@link MinHasher})
+ * - The signature is cut into bands; questions whose band hashes collide become candidates
+ * - Candidates are confirmed by their estimated Jaccard similarity against the threshold
+ * - Confirmed pairs are merged into groups with a union-find structure
+ *
+ * Each question is hashed once and compared only against questions sharing one of its
+ * buckets, so the work grows roughly linearly with the size of the bank. A bucket keeps
+ * a single member per group, so even a bank of exact copies stays linear.
+ *
+ * Usage example:
+ * <pre>
+ * NearDuplicateDetector detector = new NearDuplicateDetector();
+ * ArrayList&lt;Question&gt; unique = detector.removeDuplicates(questions);
+ * </pre>
+ */
+public class NearDuplicateDetector {
+
+    /**
+     * Default similarity above which two questions count as duplicates.
+     */
+    public static final double DEFAULT_THRESHOLD = 0.8;
+
+    /**
+     * Default number of signature rows per LSH band.
+     */
+    public static final int DEFAULT_ROWS_PER_BAND = 8;
+
+    /**
+     * Maximum number of bucket members a new question is checked against, counting those
+     * already in its group. Bounds the work spent on degenerate buckets of templated questions.
+     */
+    private static final int MAX_BUCKET_COMPARISONS = 16;
+
+    private final MinHasher hasher;
+    private final double threshold;
+    private final int rowsPerBand;
+
+    /**
+     * Constructs a detector with the default hasher, threshold and banding.
+     */
+    public NearDuplicateDetector() {
+        this(new MinHasher(), DEFAULT_THRESHOLD, DEFAULT_ROWS_PER_BAND);
+    }
+
+    /**
+     * Constructs a detector with the given hasher, threshold and banding.
+     *
+     * @param hasher the MinHasher used to sign questions
+     * @param threshold the minimum estimated similarity for two questions to be duplicates
+     * @param rowsPerBand the number of signature rows hashed together into one band
+     */
+    public NearDuplicateDetector(MinHasher hasher, double threshold, int rowsPerBand) {
+        if (rowsPerBand < 1 || hasher.getSignatureLength() % rowsPerBand != 0) {
+            throw new IllegalArgumentException("Rows per band must evenly divide the signature length");
+        }
+        this.hasher = hasher;
+        this.threshold = threshold;
+        this.rowsPerBand = rowsPerBand;
+    }
+
+    // ==================== Detection ====================
+
+    /**
+     * Finds groups of near-duplicate questions.
+     * Each group lists its questions in their original order; questions without a
+     * duplicate are not reported.
+     *
+     * @param questions the questions to check, possibly merged from several banks
+     * @return the groups of near-duplicates, ordered by their first member
+     */
+    public List<List<Question>> findDuplicateGroups(List<Question> questions) {
+        int[] parent = cluster(questions);
+
+        Map<Integer, List<Question>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < questions.size(); i++) {
+            groups.computeIfAbsent(find(parent, i), r -> new ArrayList<>()).add(questions.get(i));
+        }
+
+        List<List<Question>> duplicates = new ArrayList<>();
+        for (List<Question> group : groups.values()) {
+            if (group.size() > 1) {
+                duplicates.add(group);
+            }
+        }
+        return duplicates;
+    }
+
+    /**
+     * Removes near-duplicate questions, keeping the first question of every group.
+     *
+     * @param questions the questions to filter, possibly merged from several banks
+     * @return a new list without near-duplicates, in the original order
+     */
+    public ArrayList<Question> removeDuplicates(List<Question> questions) {
+        int[] parent = cluster(questions);
+
+        ArrayList<Question> unique = new ArrayList<>(questions.size());
+        for (int i = 0; i < questions.size(); i++) {
+            if (find(parent, i) == i) {
+                unique.add(questions.get(i));
+            }
+        }
+        return unique;
+    }
+
+    // ==================== LSH Clustering ====================
+
+    /**
+     * Signs every question, buckets the signatures band by band and unions confirmed pairs.
+     * The root of each set is always its earliest member.
+     *
+     * @param questions the questions to cluster
+     * @return the union-find parent array
+     */
+    private int[] cluster(List<Question> questions) {
+        int n = questions.size();
+        int[][] signatures = new int[n][];
+        for (int i = 0; i < n; i++) {
+            signatures[i] = this.hasher.signature(questions.get(i));
+        }
+
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+        }
+
+        int bands = this.hasher.getSignatureLength() / this.rowsPerBand;
+        for (int band = 0; band < bands; band++) {
+            Map<Long, List<Integer>> buckets = new HashMap<>(n * 2);
+            for (int i = 0; i < n; i++) {
+                List<Integer> bucket = buckets.computeIfAbsent(bandHash(signatures[i], band), k -> new ArrayList<>(2));
+
+                boolean grouped = false;
+                for (int j = 0; j < bucket.size() && j < MAX_BUCKET_COMPARISONS; j++) {
+                    int other = bucket.get(j);
+                    if (find(parent, other) == find(parent, i)) {
+                        grouped = true;
+                    } else if (MinHasher.similarity(signatures[other], signatures[i]) >= this.threshold) {
+                        union(parent, other, i);
+                        grouped = true;
+                    }
+                }
+                if (!grouped) {
+                    bucket.add(i);
+                }
+            }
+        }
+        return parent;
+    }
+
+    /**
+     * Hashes one band of a signature into a bucket key.
+     *
+     * @param signature the signature to hash
+     * @param band the band index
+     * @return the bucket key, distinct per band
+     */
+    private long bandHash(int[] signature, int band) {
+        long h = band * 0x9E3779B97F4A7C15L;
+        int start = band * this.rowsPerBand;
+        for (int i = start; i < start + this.rowsPerBand; i++) {
+            h = (h ^ (signature[i] & 0xFFFFFFFFL)) * 0xBF58476D1CE4E5B9L;
+            h ^= h >>> 31;
+        }
+        return h;
+    }
+
+    /**
+     * Finds the root of a set, halving the path on the way.
+     *
+     * @param parent the union-find parent array
+     * @param i the element to look up
+     * @return the root of the element's set
+     */
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    /**
+     * Merges two sets, keeping the smaller index as the root.
+     *
+     * @param parent the union-find parent array
+     * @param a an element of the first set
+     * @param b an element of the second set
+     */
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA < rootB) {
+            parent[rootB] = rootA;
+        } else if (rootB < rootA) {
+            parent[rootA] = rootB;
+        }
+    }
+}
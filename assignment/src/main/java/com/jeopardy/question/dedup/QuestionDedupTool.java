@@ -0,0 +1,81 @@
+package com.jeopardy.question.dedup;
+
+import com.jeopardy.question.Question;
+import com.jeopardy.question.loader.QuestionLoader;
+import com.jeopardy.question.loader.QuestionLoaderProvider;
+import com.jeopardy.question.loader.QuestionLoaders;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * QuestionDedupTool is a command-line tool that reports near-duplicate questions across banks.
+ *
+ * All given files are merged into a single bank, so duplicates between banks are found
+ * as well as duplicates within one bank. The loader for each file is chosen from its
+ * extension (.csv, .json or .xml).
+ *
+ * Usage:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass=com.jeopardy.question.dedup.QuestionDedupTool \
+ *     -Dexec.args="data/sample_game_CSV.csv data/sample_game_JSON.json"
+ * </pre>
+ */
+public class QuestionDedupTool {
+
+    /**
+     * Prevents instantiation; use {@link #main(String[])}.
+     */
+    private QuestionDedupTool() {
+    }
+
+    /**
+     * Loads the given banks, reports every group of near-duplicates and prints a summary.
+     *
+     * @param args the question files to merge and check
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.out.println("Usage: QuestionDedupTool <file> [<file> ...]");
+            return;
+        }
+
+        ArrayList<Question> merged = new ArrayList<>();
+        for (String filename : args) {
+            QuestionLoader loader = loaderFor(filename);
+            if (loader == null) {
+                System.out.println("[Error]: Unsupported file type: " + filename);
+                continue;
+            }
+            merged.addAll(loader.load(filename));
+        }
+
+        long start = System.nanoTime();
+        List<List<Question>> groups = new NearDuplicateDetector().findDuplicateGroups(merged);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        int redundant = 0;
+        for (int g = 0; g < groups.size(); g++) {
+            List<Question> group = groups.get(g);
+            redundant += group.size() - 1;
+            System.out.println(String.format("Group %d (%d questions):", g + 1, group.size()));
+            for (Question q : group) {
+                System.out.println(String.format("  [%s, %d] %s", q.getCategory(), q.getValue(), q.getQuestion()));
+            }
+        }
+
+        System.out.println(String.format("%d questions checked in %d ms: %d duplicate groups, %d questions would be dropped.",
+            merged.size(), elapsedMs, groups.size(), redundant));
+    }
+
+    /**
+     * Chooses a loader based on the file extension.
+     *
+     * @param filename the file to load
+     * @return the matching QuestionLoader, or null if the extension is not supported
+     */
+    private static QuestionLoader loaderFor(String filename) {
+        QuestionLoaderProvider provider = QuestionLoaders.forFile(filename);
+        return provider == null ? null : provider.create();
+    }
+}
@@ -0,0 +1,37 @@
+package com.jeopardy.question.loader;
+
+/**
+ * CSVQuestionLoaderProvider registers the CSV question file format (see QuestionLoaders).
+ */
+public class CSVQuestionLoaderProvider implements QuestionLoaderProvider {
+
+    /**
+     * Gets the name of the format.
+     *
+     * @return "CSV"
+     */
+    @Override
+    public String getFormat() {
+        return "CSV";
+    }
+
+    /**
+     * Gets the file extension of the format.
+     *
+     * @return "csv"
+     */
+    @Override
+    public String getExtension() {
+        return "csv";
+    }
+
+    /**
+     * Creates a CSV loader.
+     *
+     * @return a new CSVQuestionLoader
+     */
+    @Override
+    public QuestionLoader create() {
+        return new CSVQuestionLoader();
+    }
+}
@@ -0,0 +1,37 @@
+package com.jeopardy.question.loader;
+
+/**
+ * JSONQuestionLoaderProvider registers the JSON question file format (see QuestionLoaders).
+ */
+public class JSONQuestionLoaderProvider implements QuestionLoaderProvider {
+
+    /**
+     * Gets the name of the format.
+     *
+     * @return "JSON"
+     */
+    @Override
+    public String getFormat() {
+        return "JSON";
+    }
+
+    /**
+     * Gets the file extension of the format.
+     *
+     * @return "json"
+     */
+    @Override
+    public String getExtension() {
+        return "json";
+    }
+
+    /**
+     * Creates a JSON loader.
+     *
+     * @return a new JSONQuestionLoader
+     */
+    @Override
+    public QuestionLoader create() {
+        return new JSONQuestionLoader();
+    }
+}
@@ -0,0 +1,40 @@
+package com.jeopardy.question.loader;
+
+/**
+ * QuestionLoaderProvider describes a question file format and creates its loader.
+ *
+ * Providers are discovered with java.util.ServiceLoader (see QuestionLoaders), so a
+ * format is added by listing its provider in
+ * META-INF/services/com.jeopardy.question.loader.QuestionLoaderProvider. A provider
+ * is small and refers to its loader class only in create(), so listing the formats
+ * does not load any parser.
+ *
+ * Design patterns used:
+ * - Factory Method: create() builds the loader only when the format is chosen
+ *
+ * SOLID principles:
+ * - Open/Closed Principle (OCP): New formats are added without changing the game
+ */
+public interface QuestionLoaderProvider {
+
+    /**
+     * Gets the name of the format, as shown to the player (e.g. "CSV").
+     *
+     * @return the format name
+     */
+    String getFormat();
+
+    /**
+     * Gets the file extension of the format, without the dot (e.g. "csv").
+     *
+     * @return the file extension
+     */
+    String getExtension();
+
+    /**
+     * Creates a loader for the format.
+     *
+     * @return a new loader
+     */
+    QuestionLoader create();
+}
@@ -0,0 +1,81 @@
+package com.jeopardy.question.loader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * QuestionLoaders lists the question file formats available to the game.
+ *
+ * The formats are the QuestionLoaderProviders found by java.util.ServiceLoader, in the
+ * order of the service file. They are looked up the first time they are asked for, and
+ * only the provider objects are created then; a format's loader class, and the parser
+ * library behind it, are loaded only when that format is used.
+ */
+public final class QuestionLoaders {
+
+    // Prevent instantiation
+    private QuestionLoaders() {
+        throw new AssertionError("Cannot instantiate QuestionLoaders");
+    }
+
+    /**
+     * Holds the providers; the JVM discovers them when the holder is first used.
+     */
+    private static final class Holder {
+        private static final List<QuestionLoaderProvider> PROVIDERS = discover();
+    }
+
+    /**
+     * Discovers the providers listed in the service file.
+     *
+     * @return the providers, in service file order
+     */
+    private static List<QuestionLoaderProvider> discover() {
+        List<QuestionLoaderProvider> providers = new ArrayList<>();
+        for (QuestionLoaderProvider provider : ServiceLoader.load(QuestionLoaderProvider.class,
+                QuestionLoaderProvider.class.getClassLoader())) {
+            providers.add(provider);
+        }
+        return Collections.unmodifiableList(providers);
+    }
+
+    /**
+     * Gets the available formats.
+     *
+     * @return the providers, in menu order
+     */
+    public static List<QuestionLoaderProvider> getProviders() {
+        return Holder.PROVIDERS;
+    }
+
+    /**
+     * Gets the names of the available formats.
+     *
+     * @return the format names, in menu order
+     */
+    public static String[] getFormats() {
+        String[] formats = new String[Holder.PROVIDERS.size()];
+        for (int i = 0; i < formats.length; i++) {
+            formats[i] = Holder.PROVIDERS.get(i).getFormat();
+        }
+        return formats;
+    }
+
+    /**
+     * Finds the format of a file by its extension, ignoring case.
+     *
+     * @param filename the file name
+     * @return the format's provider, or null if no format has that extension
+     */
+    public static QuestionLoaderProvider forFile(String filename) {
+        String lower = filename.toLowerCase();
+        for (QuestionLoaderProvider provider : Holder.PROVIDERS) {
+            if (lower.endsWith("." + provider.getExtension())) {
+                return provider;
+            }
+        }
+        return null;
+    }
+}
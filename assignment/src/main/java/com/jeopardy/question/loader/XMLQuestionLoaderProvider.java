@@ -0,0 +1,37 @@
+package com.jeopardy.question.loader;
+
+/**
+ * XMLQuestionLoaderProvider registers the XML question file format (see QuestionLoaders).
+ */
+public class XMLQuestionLoaderProvider implements QuestionLoaderProvider {
+
+    /**
+     * Gets the name of the format.
+     *
+     * @return "XML"
+     */
+    @Override
+    public String getFormat() {
+        return "XML";
+    }
+
+    /**
+     * Gets the file extension of the format.
+     *
+     * @return "xml"
+     */
+    @Override
+    public String getExtension() {
+        return "xml";
+    }
+
+    /**
+     * Creates a XML loader.
+     *
+     * @return a new XMLQuestionLoader
+     */
+    @Override
+    public QuestionLoader create() {
+        return new XMLQuestionLoader();
+    }
+}
@@ -0,0 +1,212 @@
+package com.jeopardy.replay;
+
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.logging.ActivityLogBuilder;
+import com.jeopardy.utils.ActivityType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ActivityLogCsvReader reads activity logs back from the CSV event logs written by
+ * CSVReportFormat.
+ *
+ * Columns: Case_ID, Player_ID, Activity, Timestamp, Category, Question_Value,
+ * Answer_Given, Result, Score_After_Play. Empty values were written as "null".
+ * The writer does not quote fields, so a category containing commas spreads over
+ * several columns; since every other column is fixed, the reader takes the first four
+ * and last four columns and joins whatever lies between them back into the category.
+ *
+ * Lines that cannot be parsed are reported and skipped.
+ */
+public final class ActivityLogCsvReader {
+
+    private static final String HEADER_PREFIX = "Case_ID,";
+    private static final int COLUMNS = 9;
+
+    // Prevent instantiation
+    private ActivityLogCsvReader() {
+        throw new AssertionError("Cannot instantiate ActivityLogCsvReader");
+    }
+
+    /**
+     * Reads every activity log in a CSV file.
+     *
+     * @param file the CSV event log
+     * @return the logs in file order
+     * @throws IOException if the file cannot be read
+     */
+    public static List<ActivityLog> read(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return read(reader);
+        }
+    }
+
+    /**
+     * Reads every activity log from CSV text.
+     *
+     * @param reader the CSV text; a header line is skipped
+     * @return the logs in input order
+     * @throws IOException if reading fails
+     */
+    public static List<ActivityLog> read(BufferedReader reader) throws IOException {
+        List<ActivityLog> logs = new ArrayList<>();
+        ActivityLogBuilder builder = new ActivityLogBuilder();
+        int[] commas = new int[COLUMNS - 1];
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isEmpty() || line.startsWith(HEADER_PREFIX)) {
+                continue;
+            }
+            try {
+                logs.add(parse(line, builder, commas));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                System.err.println(String.format("[Replay]: Skipping line %d: %s", lineNumber, e.getMessage()));
+            }
+        }
+        return logs;
+    }
+
+    /**
+     * Parses one CSV row.
+     *
+     * @param line the row
+     * @return the activity log
+     * @throws IllegalArgumentException if the row is malformed
+     */
+    public static ActivityLog parse(String line) {
+        return parse(line, new ActivityLogBuilder(), new int[COLUMNS - 1]);
+    }
+
+    /**
+     * Parses one CSV row with a reusable builder and scratch array.
+     *
+     * @param line the row
+     * @param builder the builder to fill (reset first)
+     * @param commas scratch space for the positions of the column separators
+     * @return the activity log
+     */
+    private static ActivityLog parse(String line, ActivityLogBuilder builder, int[] commas) {
+        // First four separators from the left, last four from the right
+        int from = 0;
+        for (int i = 0; i < 4; i++) {
+            commas[i] = line.indexOf(',', from);
+            if (commas[i] < 0) {
+                throw new IllegalArgumentException("Expected " + COLUMNS + " columns");
+            }
+            from = commas[i] + 1;
+        }
+        int to = line.length();
+        for (int i = COLUMNS - 2; i >= 4; i--) {
+            commas[i] = line.lastIndexOf(',', to - 1);
+            if (commas[i] <= commas[3]) {
+                throw new IllegalArgumentException("Expected " + COLUMNS + " columns");
+            }
+            to = commas[i];
+        }
+
+        builder.reset();
+        builder.setCaseId(column(line, -1, commas[0]))
+               .setPlayerId(column(line, commas[0], commas[1]))
+               .setActivity(ActivityType.valueOf(line.substring(commas[1] + 1, commas[2])))
+               .setCategory(column(line, commas[3], commas[4]))
+               .setQuestionValue(Integer.parseInt(line.substring(commas[4] + 1, commas[5])))
+               .setAnswerGiven(column(line, commas[5], commas[6]))
+               .setResult(column(line, commas[6], commas[7]))
+               .setScoreAfterPlay(Integer.parseInt(line.substring(commas[7] + 1)));
+        String timestamp = column(line, commas[2], commas[3]);
+        builder.setTimestamp(timestamp == null ? null : parseInstant(timestamp));
+        return builder.createActivityLog();
+    }
+
+    /**
+     * Parses a timestamp written by Instant.toString(), e.g. 2026-01-02T03:04:05.678Z.
+     * The common UTC form is decoded directly, which is several times faster than
+     * Instant.parse(); anything else falls back to Instant.parse().
+     *
+     * @param text the timestamp
+     * @return the instant
+     * @throws DateTimeParseException if the text is not a valid instant
+     */
+    static Instant parseInstant(String text) {
+        int length = text.length();
+        if (length < 20 || length > 30 || text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != 'T'
+                || text.charAt(13) != ':' || text.charAt(16) != ':' || text.charAt(length - 1) != 'Z') {
+            return Instant.parse(text);
+        }
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 7);
+        int day = digits(text, 8, 10);
+        int hour = digits(text, 11, 13);
+        int minute = digits(text, 14, 16);
+        int second = digits(text, 17, 19);
+        int nanos = 0;
+        if (length > 20) {
+            int fraction = length - 21;
+            if (text.charAt(19) != '.' || fraction == 0 || fraction > 9) {
+                return Instant.parse(text);
+            }
+            nanos = digits(text, 20, length - 1);
+            for (int i = fraction; i < 9; i++) {
+                nanos *= 10;
+            }
+        }
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59 || nanos < 0) {
+            return Instant.parse(text);
+        }
+        long epochDay;
+        try {
+            epochDay = LocalDate.of(year, month, day).toEpochDay();
+        } catch (DateTimeException e) {
+            return Instant.parse(text);
+        }
+        return Instant.ofEpochSecond(epochDay * 86_400L + hour * 3_600L + minute * 60L + second, nanos);
+    }
+
+    /**
+     * Decodes a run of decimal digits.
+     *
+     * @param text the text
+     * @param start the first digit
+     * @param end the index after the last digit
+     * @return the value, or -1 if a character is not a digit
+     */
+    private static int digits(String text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Extracts the text between two separators, mapping "null" back to null.
+     *
+     * @param line the row
+     * @param start the separator before the column, or -1 for the first column
+     * @param end the separator after the column
+     * @return the column text, or null
+     */
+    private static String column(String line, int start, int end) {
+        if (end - start - 1 == 4 && line.startsWith("null", start + 1)) {
+            return null;
+        }
+        return line.substring(start + 1, end);
+    }
+}
@@ -0,0 +1,358 @@
+package com.jeopardy.replay;
+
+import com.jeopardy.game.GameState;
+import com.jeopardy.game.Player;
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.question.Question;
+import com.jeopardy.utils.ActivityType;
+import com.jeopardy.utils.GameConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GameReplayer rebuilds the GameState of one archived game from its activity logs.
+ *
+ * The logs are replayed in order: category and question selections set the current
+ * category and question, a buzz-in hands the question to its responder, and every
+ * answer scores the value for a correct result (incorrect answers score nothing, as in
+ * play) and ends the turn; a timeout ends the turn like an incorrect answer. Replay is deterministic, so the same logs always rebuild
+ * the same state, at any turn or at the end of the game.
+ *
+ * Event logs do not record the board, so the rebuilt board holds only the questions
+ * that were played, each with its category and value. Players are seated in the order
+ * they first took a turn.
+ *
+ * Replaying also audits the logs: a score that differs from the recorded score after
+ * play, or a turn taken out of turn order, is reported as a discrepancy.
+ */
+public final class GameReplayer {
+
+    private final String caseId;
+    private final List<ActivityLog> events;
+    private final List<String> playerIds;
+    private final int[] turnEnds;
+    private final boolean finished;
+
+    /**
+     * Constructs a replayer for one game.
+     *
+     * @param caseId the game's case ID
+     * @param events the game's activity logs, in the order they were written
+     */
+    public GameReplayer(String caseId, List<ActivityLog> events) {
+        this.caseId = caseId;
+        this.events = events;
+        this.playerIds = new ArrayList<>();
+
+        List<String> others = new ArrayList<>();
+        int answers = 0;
+        boolean over = false;
+        for (ActivityLog log : events) {
+            ActivityType activity = log.getActivity();
+            if (endsTurn(activity)) {
+                answers++;
+            } else if (activity == ActivityType.GAME_OVER) {
+                over = true;
+            }
+            String id = log.getPlayerId();
+            if (id == null || GameConstants.SYSTEM_PLAYER_ID.equals(id)) {
+                continue;
+            }
+            if (activity == ActivityType.SELECT_CATEGORY) {
+                if (!this.playerIds.contains(id)) {
+                    this.playerIds.add(id);
+                }
+            } else if (!others.contains(id)) {
+                others.add(id);
+            }
+        }
+        // Players who never took a turn (e.g. they only answered buzz-ins) sit last
+        for (String id : others) {
+            if (!this.playerIds.contains(id)) {
+                this.playerIds.add(id);
+            }
+        }
+
+        this.turnEnds = new int[answers];
+        int turn = 0;
+        for (int i = 0; i < events.size(); i++) {
+            if (endsTurn(events.get(i).getActivity())) {
+                this.turnEnds[turn++] = i;
+            }
+        }
+        this.finished = over;
+    }
+
+    /**
+     * Groups activity logs by game and creates a replayer for each game.
+     * Logs of cases with no turns or game events (for example the player name entries
+     * of a game that never started) are ignored.
+     *
+     * @param logs activity logs from one or more games
+     * @return the replayers keyed by case ID, in order of each game's first log
+     */
+    public static Map<String, GameReplayer> byCase(List<ActivityLog> logs) {
+        Map<String, List<ActivityLog>> cases = new LinkedHashMap<>();
+        for (ActivityLog log : logs) {
+            List<ActivityLog> events = cases.get(log.getCaseId());
+            if (events == null) {
+                events = new ArrayList<>();
+                cases.put(log.getCaseId(), events);
+            }
+            events.add(log);
+        }
+
+        Map<String, GameReplayer> replayers = new LinkedHashMap<>();
+        for (Map.Entry<String, List<ActivityLog>> entry : cases.entrySet()) {
+            if (isGame(entry.getValue())) {
+                replayers.put(entry.getKey(), new GameReplayer(entry.getKey(), entry.getValue()));
+            }
+        }
+        return replayers;
+    }
+
+    /**
+     * Checks whether an activity ends a turn.
+     *
+     * @param activity the activity
+     * @return true for answers and timeouts
+     */
+    private static boolean endsTurn(ActivityType activity) {
+        return activity == ActivityType.ANSWER_QUESTION || activity == ActivityType.TIMEOUT;
+    }
+
+    /**
+     * Checks whether a case's logs describe a game.
+     *
+     * @param events the case's logs
+     * @return true if the case started a game or took a turn
+     */
+    private static boolean isGame(List<ActivityLog> events) {
+        for (ActivityLog log : events) {
+            if (log.getActivity() == ActivityType.START_GAME || log.getActivity() == ActivityType.SELECT_CATEGORY) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ==================== Accessors ====================
+
+    /**
+     * Gets the game's case ID.
+     *
+     * @return the case ID
+     */
+    public String getCaseId() {
+        return this.caseId;
+    }
+
+    /**
+     * Gets the number of turns that were completed, i.e. questions answered or timed out.
+     *
+     * @return the completed turn count
+     */
+    public int getTurnCount() {
+        return this.turnEnds.length;
+    }
+
+    /**
+     * Checks whether the logs record the end of the game.
+     *
+     * @return true if the game reached game over
+     */
+    public boolean isFinished() {
+        return this.finished;
+    }
+
+    /**
+     * Gets the IDs of the game's players in seating order.
+     *
+     * @return an unmodifiable list of player IDs
+     */
+    public List<String> getPlayerIds() {
+        return Collections.unmodifiableList(this.playerIds);
+    }
+
+    // ==================== Replay ====================
+
+    /**
+     * Rebuilds the state the logs end in, including a turn that was still in progress.
+     *
+     * @return the final game state
+     */
+    public GameState replay() {
+        return apply(this.events.size(), null);
+    }
+
+    /**
+     * Rebuilds the state at the start of a turn, after the given number of turns.
+     *
+     * @param turn the number of completed turns, from 0 to {@link #getTurnCount()}
+     * @return the game state at the start of that turn
+     * @throws IllegalArgumentException if the turn is out of range
+     */
+    public GameState replayTo(int turn) {
+        if (turn < 0 || turn > this.turnEnds.length) {
+            throw new IllegalArgumentException(String.format(
+                "Turn %d is out of range; %s has %d turns", turn, this.caseId, this.turnEnds.length));
+        }
+        return apply(turn == 0 ? firstTurnStart() : this.turnEnds[turn - 1] + 1, null);
+    }
+
+    /**
+     * Replays the whole game and reports where the logs disagree with the replay.
+     *
+     * @return the discrepancies found, empty if the logs are consistent
+     */
+    public List<String> audit() {
+        List<String> discrepancies = new ArrayList<>();
+        apply(this.events.size(), discrepancies);
+        return discrepancies;
+    }
+
+    /**
+     * Finds the first event of the first turn.
+     *
+     * @return the index of the first selection or answer, or the event count if there is none
+     */
+    private int firstTurnStart() {
+        for (int i = 0; i < this.events.size(); i++) {
+            ActivityType activity = this.events.get(i).getActivity();
+            if (activity == ActivityType.SELECT_CATEGORY || activity == ActivityType.SELECT_QUESTION
+                    || activity == ActivityType.BUZZ_IN || endsTurn(activity)) {
+                return i;
+            }
+        }
+        return this.events.size();
+    }
+
+    /**
+     * Applies the first events of the game to a fresh state.
+     *
+     * @param end the number of events to apply
+     * @param discrepancies where to report discrepancies, or null to skip the audit
+     * @return the rebuilt state
+     */
+    private GameState apply(int end, List<String> discrepancies) {
+        GameState state = new GameState();
+        state.setCaseId(this.caseId);
+        for (String id : this.playerIds) {
+            state.addPlayer(new Player(id));
+        }
+        List<Question> played = new ArrayList<>();
+
+        for (int i = 0; i < end; i++) {
+            ActivityLog log = this.events.get(i);
+            switch (log.getActivity()) {
+                case SELECT_CATEGORY:
+                    expectTurn(state, log, discrepancies);
+                    state.setCurrentCategory(log.getCategory());
+                    break;
+                case SELECT_QUESTION:
+                    select(state, log, played);
+                    break;
+                case BUZZ_IN:
+                    state.setResponder(find(state, log.getPlayerId()));
+                    break;
+                case ANSWER_QUESTION:
+                    answer(state, log, discrepancies);
+                    break;
+                case TIMEOUT:
+                    Question current = state.getCurrentQuestion();
+                    if (current == null || current.getIsAnswered() || current.getValue() != log.getQuestionValue()) {
+                        // Time ran out before a question was selected; the forfeited one is in the log
+                        select(state, log, played);
+                    }
+                    answer(state, log, discrepancies);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        state.setBoardQuestions(played);
+        return state;
+    }
+
+    /**
+     * Places the question a log names on the rebuilt board and makes it current.
+     *
+     * @param state the state being rebuilt
+     * @param log the selection or timeout log
+     * @param played the questions played so far
+     */
+    private static void select(GameState state, ActivityLog log, List<Question> played) {
+        Question question = new Question();
+        question.setCategory(log.getCategory());
+        question.setValue(log.getQuestionValue());
+        played.add(question);
+        state.setCurrentQuestion(question);
+    }
+
+    /**
+     * Scores an answer, or a timeout, and ends the turn.
+     *
+     * @param state the state being rebuilt
+     * @param log the answer log
+     * @param discrepancies where to report discrepancies, or null
+     */
+    private void answer(GameState state, ActivityLog log, List<String> discrepancies) {
+        expectTurn(state, log, discrepancies);
+        Player player = find(state, log.getPlayerId());
+        if (GameConstants.RESULT_CORRECT.equals(log.getResult())) {
+            player.updateCurrentScore(log.getQuestionValue());
+        }
+        if (discrepancies != null && player.getCurrentScore() != log.getScoreAfterPlay()) {
+            discrepancies.add(String.format("%s turn %d: %s has %d, log says %d", this.caseId,
+                state.getCurrentTurn() + GameConstants.TURN_DISPLAY_OFFSET, player.getId(),
+                player.getCurrentScore(), log.getScoreAfterPlay()));
+        }
+
+        Question question = state.getCurrentQuestion();
+        if (question != null) {
+            question.setIsAnswered(true);
+        }
+        state.nextTurn();
+    }
+
+    /**
+     * Reports a move made by someone other than the player who holds the turn.
+     *
+     * @param state the state being rebuilt
+     * @param log the move's log
+     * @param discrepancies where to report discrepancies, or null
+     */
+    private void expectTurn(GameState state, ActivityLog log, List<String> discrepancies) {
+        if (discrepancies == null) {
+            return;
+        }
+        Player current = state.getCurrentPlayer();
+        if (current != null && !current.getId().equals(log.getPlayerId())) {
+            discrepancies.add(String.format("%s turn %d: %s played %s, but it was %s's turn", this.caseId,
+                state.getCurrentTurn() + GameConstants.TURN_DISPLAY_OFFSET, log.getPlayerId(),
+                log.getActivity(), current.getId()));
+        }
+    }
+
+    /**
+     * Finds a seated player by ID.
+     *
+     * @param state the state being rebuilt
+     * @param id the player's ID
+     * @return the player
+     */
+    private static Player find(GameState state, String id) {
+        for (Player player : state.getPlayers()) {
+            if (player.getId().equals(id)) {
+                return player;
+            }
+        }
+        // Every non-system player in the logs is seated by the constructor
+        throw new IllegalStateException("Unknown player " + id);
+    }
+}
@@ -0,0 +1,82 @@
+package com.jeopardy.replay;
+
+import com.jeopardy.game.GameState;
+import com.jeopardy.game.Player;
+import com.jeopardy.logging.ActivityLog;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ReplayTool is a command-line tool that replays archived CSV event logs.
+ *
+ * For every game in the given files it prints the final scores and whether the game
+ * finished, followed by any discrepancies the audit found, and finally the number of
+ * games replayed per second.
+ *
+ * Usage:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass=com.jeopardy.replay.ReplayTool \
+ *     -Dexec.args="output/activity_report_1.csv output/activity_report_2.csv"
+ * </pre>
+ */
+public class ReplayTool {
+
+    /**
+     * Prevents instantiation; use {@link #main(String[])}.
+     */
+    private ReplayTool() {
+    }
+
+    /**
+     * Replays the given event logs and prints their games.
+     *
+     * @param args the CSV event logs to replay
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.out.println("Usage: ReplayTool <event-log.csv>...");
+            return;
+        }
+
+        List<ActivityLog> logs = new ArrayList<>();
+        long start = System.nanoTime();
+        for (String arg : args) {
+            Path file = Paths.get(arg);
+            try {
+                logs.addAll(ActivityLogCsvReader.read(file));
+            } catch (IOException e) {
+                System.out.println("[Error]: Could not read " + file + ": " + e.getMessage());
+            }
+        }
+
+        Map<String, GameReplayer> games = GameReplayer.byCase(logs);
+        int discrepancies = 0;
+        StringBuilder report = new StringBuilder();
+        for (GameReplayer game : games.values()) {
+            GameState state = game.replay();
+            List<String> problems = game.audit();
+            discrepancies += problems.size();
+
+            report.append(game.getCaseId()).append(game.isFinished() ? " (finished)" : " (unfinished)");
+            report.append(", ").append(game.getTurnCount()).append(" turns:");
+            for (Player player : state.getPlayers()) {
+                report.append(' ').append(player.getId()).append('=').append(player.getCurrentScore());
+            }
+            report.append('\n');
+            for (String problem : problems) {
+                report.append("  ! ").append(problem).append('\n');
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.print(report);
+        System.out.println(String.format("=== %d games, %d events, %d discrepancies ===",
+            games.size(), logs.size(), discrepancies));
+        System.out.println(String.format("Throughput: %.0f games per second", games.size() / (elapsed / 1e9)));
+    }
+}
@@ -5,6 +5,8 @@ import com.jeopardy.report.format.ReportFormat;
 import com.jeopardy.report.format.CSVReportFormat;
 import com.jeopardy.logging.ActivityLog;
 import com.jeopardy.logging.ActivityLogBuilder;
+import com.jeopardy.metrics.Metrics;
+import com.jeopardy.metrics.Probe;
 import com.jeopardy.utils.ActivityType;
 import com.jeopardy.utils.GameConstants;
 
@@ -79,6 +81,7 @@ public class ReportGenerator implements Subscriber {
      * @throws NullPointerException if no format has been set via setFormat()
      */
     public void createReport() {
+        long start = Metrics.start();
         ensureOutputDirectory();
         if (format == null) {
             throw new NullPointerException("Report format must be set before creating a report");
@@ -97,6 +100,7 @@ public class ReportGenerator implements Subscriber {
 
         this.data.add(reportActivity);
         this.format.generate(data);
+        Metrics.stop(Probe.REPORT, start);
     }
 
     /**
@@ -0,0 +1,27 @@
+package com.jeopardy.report.format;
+
+/**
+ * CSVReportFormatProvider registers the CSV report format (see ReportFormats).
+ */
+public class CSVReportFormatProvider implements ReportFormatProvider {
+
+    /**
+     * Gets the name of the format.
+     *
+     * @return "CSV"
+     */
+    @Override
+    public String getName() {
+        return "CSV";
+    }
+
+    /**
+     * Creates a CSV report format.
+     *
+     * @return a new CSVReportFormat
+     */
+    @Override
+    public ReportFormat create() {
+        return new CSVReportFormat();
+    }
+}
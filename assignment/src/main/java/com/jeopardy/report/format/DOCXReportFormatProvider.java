@@ -0,0 +1,27 @@
+package com.jeopardy.report.format;
+
+/**
+ * DOCXReportFormatProvider registers the DOCX report format (see ReportFormats).
+ */
+public class DOCXReportFormatProvider implements ReportFormatProvider {
+
+    /**
+     * Gets the name of the format.
+     *
+     * @return "DOCX"
+     */
+    @Override
+    public String getName() {
+        return "DOCX";
+    }
+
+    /**
+     * Creates a DOCX report format.
+     *
+     * @return a new DOCXReportFormat
+     */
+    @Override
+    public ReportFormat create() {
+        return new DOCXReportFormat();
+    }
+}
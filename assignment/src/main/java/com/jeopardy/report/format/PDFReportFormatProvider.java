@@ -0,0 +1,27 @@
+package com.jeopardy.report.format;
+
+/**
+ * PDFReportFormatProvider registers the PDF report format (see ReportFormats).
+ */
+public class PDFReportFormatProvider implements ReportFormatProvider {
+
+    /**
+     * Gets the name of the format.
+     *
+     * @return "PDF"
+     */
+    @Override
+    public String getName() {
+        return "PDF";
+    }
+
+    /**
+     * Creates a PDF report format.
+     *
+     * @return a new PDFReportFormat
+     */
+    @Override
+    public ReportFormat create() {
+        return new PDFReportFormat();
+    }
+}
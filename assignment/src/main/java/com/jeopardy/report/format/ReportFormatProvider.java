@@ -0,0 +1,33 @@
+package com.jeopardy.report.format;
+
+/**
+ * ReportFormatProvider names a report format and creates it.
+ *
+ * Providers are discovered with java.util.ServiceLoader (see ReportFormats), so a
+ * format is added by listing its provider in
+ * META-INF/services/com.jeopardy.report.format.ReportFormatProvider. A provider is
+ * small and refers to its format class only in create(), so the PDF and Word
+ * libraries are not loaded until a report is actually written in those formats.
+ *
+ * Design patterns used:
+ * - Factory Method: create() builds the format only when a report is written
+ *
+ * SOLID principles:
+ * - Open/Closed Principle (OCP): New formats are added without changing the client
+ */
+public interface ReportFormatProvider {
+
+    /**
+     * Gets the name of the format (e.g. "PDF").
+     *
+     * @return the format name
+     */
+    String getName();
+
+    /**
+     * Creates the format.
+     *
+     * @return a new report format
+     */
+    ReportFormat create();
+}
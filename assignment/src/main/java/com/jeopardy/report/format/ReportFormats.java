@@ -0,0 +1,77 @@
+package com.jeopardy.report.format;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * ReportFormats lists the report formats available to the game.
+ *
+ * The formats are the ReportFormatProviders found by java.util.ServiceLoader, in the
+ * order of the service file. They are looked up the first time they are asked for,
+ * which for the console game is when reports are written at the end, and a format
+ * class (with the library behind it) is loaded only when that format is created.
+ */
+public final class ReportFormats {
+
+    /**
+     * Name of the format the event log is written in.
+     */
+    public static final String EVENT_LOG = "CSV";
+
+    // Prevent instantiation
+    private ReportFormats() {
+        throw new AssertionError("Cannot instantiate ReportFormats");
+    }
+
+    /**
+     * Holds the providers; the JVM discovers them when the holder is first used.
+     */
+    private static final class Holder {
+        private static final List<ReportFormatProvider> PROVIDERS = discover();
+    }
+
+    /**
+     * Discovers the providers listed in the service file.
+     *
+     * @return the providers, in service file order
+     */
+    private static List<ReportFormatProvider> discover() {
+        List<ReportFormatProvider> providers = new ArrayList<>();
+        for (ReportFormatProvider provider : ServiceLoader.load(ReportFormatProvider.class,
+                ReportFormatProvider.class.getClassLoader())) {
+            providers.add(provider);
+        }
+        return Collections.unmodifiableList(providers);
+    }
+
+    /**
+     * Gets the names of the available formats.
+     *
+     * @return the format names, in service file order
+     */
+    public static List<String> getNames() {
+        List<String> names = new ArrayList<>(Holder.PROVIDERS.size());
+        for (ReportFormatProvider provider : Holder.PROVIDERS) {
+            names.add(provider.getName());
+        }
+        return names;
+    }
+
+    /**
+     * Creates a format by name, ignoring case.
+     *
+     * @param name the format name
+     * @return a new report format
+     * @throws IllegalArgumentException if no format has that name
+     */
+    public static ReportFormat create(String name) {
+        for (ReportFormatProvider provider : Holder.PROVIDERS) {
+            if (provider.getName().equalsIgnoreCase(name)) {
+                return provider.create();
+            }
+        }
+        throw new IllegalArgumentException("Unknown report format: " + name);
+    }
+}
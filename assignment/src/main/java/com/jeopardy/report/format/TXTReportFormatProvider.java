@@ -0,0 +1,27 @@
+package com.jeopardy.report.format;
+
+/**
+ * TXTReportFormatProvider registers the TXT report format (see ReportFormats).
+ */
+public class TXTReportFormatProvider implements ReportFormatProvider {
+
+    /**
+     * Gets the name of the format.
+     *
+     * @return "TXT"
+     */
+    @Override
+    public String getName() {
+        return "TXT";
+    }
+
+    /**
+     * Creates a TXT report format.
+     *
+     * @return a new TXTReportFormat
+     */
+    @Override
+    public ReportFormat create() {
+        return new TXTReportFormat();
+    }
+}
@@ -0,0 +1,244 @@
+package com.jeopardy.server;
+
+import com.jeopardy.game.Player;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Connection is one client connected to the GameServer.
+ *
+ * The server's I/O thread reads from and writes to the channel; worker threads
+ * process the received lines. Lines from one connection are processed strictly in
+ * order, one batch at a time, however many workers there are.
+ *
+ * Once the client has joined a room, the connection is bound to that room and to
+ * the Player that represents it there.
+ */
+class Connection {
+
+    private final SocketChannel channel;
+    private final GameServer server;
+    private final LineDecoder decoder;
+    private final Queue<ByteBuffer> outbound;
+    private final Queue<String> inbox;
+    private final AtomicBoolean processing;
+    private final AtomicBoolean writeRequested;
+    private SelectionKey key;
+    private volatile GameRoom room;
+    private volatile Player player;
+    private volatile int seat;
+    private volatile boolean closing;
+
+    /**
+     * Constructs a connection for an accepted channel.
+     *
+     * @param channel the non-blocking client channel
+     * @param server the server the connection belongs to
+     * @param maxLineLength the longest line accepted from the client
+     */
+    Connection(SocketChannel channel, GameServer server, int maxLineLength) {
+        this.channel = channel;
+        this.server = server;
+        this.decoder = new LineDecoder(maxLineLength);
+        this.outbound = new ConcurrentLinkedQueue<>();
+        this.inbox = new ConcurrentLinkedQueue<>();
+        this.processing = new AtomicBoolean();
+        this.writeRequested = new AtomicBoolean();
+        this.seat = -1;
+    }
+
+    // ==================== Accessors ====================
+
+    /**
+     * Gets the client channel.
+     *
+     * @return the channel
+     */
+    SocketChannel getChannel() {
+        return this.channel;
+    }
+
+    /**
+     * Gets the channel's registration with the server's selector.
+     *
+     * @return the selection key, or null before registration
+     */
+    SelectionKey getKey() {
+        return this.key;
+    }
+
+    /**
+     * Sets the channel's registration with the server's selector.
+     *
+     * @param key the selection key
+     */
+    void setKey(SelectionKey key) {
+        this.key = key;
+    }
+
+    /**
+     * Gets the decoder that splits received bytes into lines.
+     *
+     * @return the line decoder
+     */
+    LineDecoder getDecoder() {
+        return this.decoder;
+    }
+
+    /**
+     * Gets the room the client joined.
+     *
+     * @return the room, or null before JOIN
+     */
+    GameRoom getRoom() {
+        return this.room;
+    }
+
+    /**
+     * Gets the client's player in its room.
+     *
+     * @return the player, or null before JOIN
+     */
+    Player getPlayer() {
+        return this.player;
+    }
+
+    /**
+     * Gets the client's seat in its room.
+     *
+     * @return the seat, or -1 before JOIN
+     */
+    int getSeat() {
+        return this.seat;
+    }
+
+    /**
+     * Binds the connection to the room it joined.
+     *
+     * @param room the room
+     * @param player the connection's player in the room
+     * @param seat the player's seat in join order
+     */
+    void join(GameRoom room, Player player, int seat) {
+        this.room = room;
+        this.player = player;
+        this.seat = seat;
+    }
+
+    // ==================== Outbound ====================
+
+    /**
+     * Queues a line for the client and asks the I/O thread to write it.
+     * Safe to call from any thread.
+     *
+     * @param line the line to send, without a line separator
+     */
+    void send(String line) {
+        if (!this.channel.isOpen()) {
+            return;
+        }
+        this.outbound.add(ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8)));
+        if (this.writeRequested.compareAndSet(false, true)) {
+            this.server.requestWrite(this);
+        }
+    }
+
+    /**
+     * Sends a final line and closes the connection once everything queued is written.
+     *
+     * @param line the last line to send
+     */
+    void sendAndClose(String line) {
+        this.closing = true;
+        send(line);
+    }
+
+    /**
+     * Gets the queue of encoded lines waiting to be written.
+     * Used only by the I/O thread.
+     *
+     * @return the outbound queue
+     */
+    Queue<ByteBuffer> getOutbound() {
+        return this.outbound;
+    }
+
+    /**
+     * Clears the write request so that the next send() asks for another write.
+     * Called by the I/O thread before it drains the outbound queue.
+     */
+    void clearWriteRequest() {
+        this.writeRequested.set(false);
+    }
+
+    /**
+     * Checks whether the connection should close once its output is written.
+     *
+     * @return true if the connection is closing
+     */
+    boolean isClosing() {
+        return this.closing;
+    }
+
+    // ==================== Inbound ====================
+
+    /**
+     * Queues a received line and makes sure a worker will process it.
+     * Called by the I/O thread.
+     *
+     * @param line the received line
+     */
+    void receive(String line) {
+        this.inbox.add(line);
+        if (this.processing.compareAndSet(false, true) && !this.server.process(this)) {
+            this.processing.set(false);
+        }
+    }
+
+    /**
+     * Processes queued lines in order until none are left.
+     * Runs on a worker thread; at most one worker processes a connection at a time.
+     * A line that fails is reported to the client and the next line is processed.
+     */
+    void drainInbox() {
+        boolean owner = true;
+        try {
+            while (true) {
+                String line;
+                while ((line = this.inbox.poll()) != null) {
+                    handle(line);
+                }
+                owner = false;
+                this.processing.set(false);
+                if (this.inbox.isEmpty() || !this.processing.compareAndSet(false, true)) {
+                    return;
+                }
+                owner = true;
+            }
+        } finally {
+            if (owner) {
+                this.processing.set(false);
+            }
+        }
+    }
+
+    /**
+     * Applies one line, so that a failing line never stops the lines after it.
+     *
+     * @param line the received line
+     */
+    private void handle(String line) {
+        try {
+            this.server.handle(this, line);
+        } catch (RuntimeException e) {
+            System.err.println("[Error]: Failed to process \"" + line + "\": " + e);
+            send("ERR internal error");
+        }
+    }
+}
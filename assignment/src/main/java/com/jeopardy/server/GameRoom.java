@@ -0,0 +1,705 @@
+package com.jeopardy.server;
+
+import com.jeopardy.command.AnswerQuestionCommand;
+import com.jeopardy.command.SelectCategoryCommand;
+import com.jeopardy.command.SelectQuestionCommand;
+import com.jeopardy.command.TimeoutCommand;
+import com.jeopardy.game.BuzzArbiter;
+import com.jeopardy.game.GameController;
+import com.jeopardy.game.GameState;
+import com.jeopardy.game.Player;
+import com.jeopardy.game.TurnPhase;
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.logging.ActivityLogBuilder;
+import com.jeopardy.logging.ActivityPublisher;
+import com.jeopardy.logging.observer.Subscriber;
+import com.jeopardy.question.Question;
+import com.jeopardy.question.QuestionService;
+import com.jeopardy.timer.Timeout;
+import com.jeopardy.timer.TimingWheel;
+import com.jeopardy.ui.GameIO;
+import com.jeopardy.ui.HeadlessGameIO;
+import com.jeopardy.utils.ActivityType;
+import com.jeopardy.utils.GameConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameRoom is one networked game on the GameServer.
+ *
+ * Each connection that joins the room becomes a Player; players take turns in join
+ * order. The room is the GameController of its game, so turns are played with the
+ * existing SelectCategoryCommand, SelectQuestionCommand and AnswerQuestionCommand,
+ * and their activity logs are published to the room's subscribers as in a console game.
+ * Text the commands print is broadcast to every player as an EVENT MESSAGE line.
+ *
+ * All methods that change the game are synchronized, so lines from different players
+ * of the room are applied one at a time.
+ *
+ * A room started with START BUZZ plays buzz-in rounds: the current player still picks
+ * the category and value, but once the question is revealed every player may BUZZ.
+ * Buzzes bypass the room lock and race on a lock-free BuzzArbiter; only the winner
+ * then takes the lock to claim the question, and answers it in place of the picker.
+ *
+ * With a move timeout, every selection and answer is given a deadline on the server's
+ * TimingWheel. A deadline that expires before the move is made resolves the turn with
+ * a TimeoutCommand, as an incorrect answer, and passes the turn on.
+ *
+ * Design patterns used:
+ * - Command: Player moves are executed as the game's command objects
+ * - Observer: Activity logs are published through an ActivityPublisher
+ */
+class GameRoom implements GameController {
+
+    private final String id;
+    private final QuestionService bank;
+    private final GameState state;
+    private final ActivityPublisher activityPublisher;
+    private final List<Connection> members;
+    private final GameIO io;
+    private final BuzzArbiter arbiter;
+    private final TimingWheel timer;
+    private final long moveTimeoutNanos;
+    private Timeout deadline;
+    private volatile boolean buzzMode;
+    private TurnPhase phase;
+    private String pendingCategory;
+    private int pendingValue;
+    private boolean started;
+    private boolean over;
+
+    /**
+     * Constructs an empty room.
+     *
+     * @param id the room ID, also the case ID of its activity logs
+     * @param bank the shared question bank to draw the board from
+     * @param subscribers the subscribers to publish activity logs to
+     * @param timer the wheel that runs move deadlines
+     * @param moveTimeoutNanos the time limit for each move, or 0 for no limit
+     */
+    GameRoom(String id, QuestionService bank, List<Subscriber> subscribers, TimingWheel timer, long moveTimeoutNanos) {
+        this.id = id;
+        this.bank = bank;
+        this.state = new GameState(new Random());
+        this.state.setCaseId(id);
+        this.state.setBank(bank);
+        this.activityPublisher = new ActivityPublisher();
+        for (Subscriber s : subscribers) {
+            this.activityPublisher.subscribe(s);
+        }
+        this.members = new ArrayList<>();
+        this.io = new RoomIO();
+        this.arbiter = new BuzzArbiter(GameConstants.MAX_PLAYERS);
+        this.timer = timer;
+        this.moveTimeoutNanos = moveTimeoutNanos;
+        this.phase = TurnPhase.TURN_START;
+    }
+
+    /**
+     * Gets the room ID.
+     *
+     * @return the room ID
+     */
+    String getId() {
+        return this.id;
+    }
+
+    /**
+     * Checks whether the game of this room has ended.
+     *
+     * @return true if the game is over
+     */
+    synchronized boolean isOver() {
+        return this.over;
+    }
+
+    // ==================== Membership ====================
+
+    /**
+     * Adds a connection to the room as a new player.
+     *
+     * @param connection the joining connection
+     * @param name the player's name
+     */
+    synchronized void join(Connection connection, String name) {
+        if (this.started) {
+            connection.send("ERR game already started");
+            return;
+        }
+        if (this.members.size() == GameConstants.MAX_PLAYERS) {
+            connection.send("ERR room is full");
+            return;
+        }
+        for (Player p : this.state.getPlayers()) {
+            if (p.getId().equals(name)) {
+                connection.send("ERR name already taken");
+                return;
+            }
+        }
+
+        Player player = new Player(name);
+        for (Subscriber s : this.activityPublisher.getSubscribers()) {
+            player.subscribe(s);
+        }
+        this.state.addPlayer(player);
+        this.members.add(connection);
+        connection.join(this, player, this.members.size() - 1);
+
+        connection.send(String.format("OK JOINED %s %d", this.id, this.members.size() - 1));
+        broadcast("EVENT JOINED " + name);
+    }
+
+    /**
+     * Removes a disconnected player. Their turns are skipped from now on;
+     * the game ends if nobody is left.
+     *
+     * @param connection the connection that closed
+     */
+    synchronized void leave(Connection connection) {
+        int seat = this.members.indexOf(connection);
+        if (seat < 0) {
+            return;
+        }
+        this.members.set(seat, null);
+        broadcast("EVENT LEFT " + connection.getPlayer().getId());
+
+        Player responder = this.state.getResponder();
+        boolean holdsQuestion = responder != null && responder == connection.getPlayer();
+        if (this.started && !this.over && (seat == currentSeat() || holdsQuestion)) {
+            this.state.nextTurn();
+            beginTurn();
+        }
+    }
+
+    /**
+     * Checks whether every member has left.
+     *
+     * @return true if no connected members remain
+     */
+    synchronized boolean isEmpty() {
+        for (Connection c : this.members) {
+            if (c != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ==================== Protocol ====================
+
+    /**
+     * Starts the game: draws a board and gives the first player the turn.
+     *
+     * @param connection the connection asking to start
+     * @param mode empty for turn-order answering, or BUZZ for buzz-in rounds
+     */
+    synchronized void start(Connection connection, String mode) {
+        if (this.started) {
+            connection.send("ERR game already started");
+            return;
+        }
+        if (!mode.isEmpty() && !"BUZZ".equalsIgnoreCase(mode)) {
+            connection.send("ERR unknown mode " + mode);
+            return;
+        }
+        this.buzzMode = !mode.isEmpty();
+        this.started = true;
+        this.state.setBoard(this.bank);
+
+        log(GameConstants.SYSTEM_PLAYER_ID, ActivityType.START_GAME, null);
+        log(GameConstants.SYSTEM_PLAYER_ID, ActivityType.SELECT_PLAYER_COUNT, Integer.toString(this.members.size()));
+
+        connection.send(this.buzzMode ? "OK STARTED BUZZ" : "OK STARTED");
+        broadcast("EVENT START " + this.state.getQuestionService().getUnansweredQuestions().size());
+        beginTurn();
+    }
+
+    /**
+     * Sends the unanswered board: one line per category with its values.
+     *
+     * @param connection the connection asking
+     */
+    synchronized void board(Connection connection) {
+        if (!this.started) {
+            connection.send("ERR game not started");
+            return;
+        }
+        QuestionService board = this.state.getQuestionService();
+        List<String> categories = board.getCategories();
+        for (int i = 0; i < categories.size(); i++) {
+            StringBuilder sb = new StringBuilder("BOARD ").append(i + 1).append(' ').append(categories.get(i)).append(" :");
+            for (int value : board.getCategoryQuestionValues(categories.get(i))) {
+                sb.append(' ').append(value);
+            }
+            connection.send(sb.toString());
+        }
+        connection.send("OK BOARD " + categories.size());
+    }
+
+    /**
+     * Sends every player's score.
+     *
+     * @param connection the connection asking
+     */
+    synchronized void scores(Connection connection) {
+        connection.send("OK SCORES" + scoreList());
+    }
+
+    /**
+     * Selects a category by its 1-based position on the board or by its name.
+     *
+     * @param connection the connection making the move
+     * @param argument the position or name
+     */
+    synchronized void selectCategory(Connection connection, String argument) {
+        if (!checkMove(connection, TurnPhase.SELECT_CATEGORY)) {
+            return;
+        }
+        List<String> categories = this.state.getQuestionService().getCategories();
+        String category = null;
+        int index = parseInt(argument);
+        if (index >= 1 && index <= categories.size()) {
+            category = categories.get(index - 1);
+        } else if (categories.contains(argument)) {
+            category = argument;
+        }
+        if (category == null) {
+            connection.send("ERR unknown category");
+            return;
+        }
+
+        this.pendingCategory = category;
+        Player player = connection.getPlayer();
+        player.setCommand(new SelectCategoryCommand(this));
+        player.doCommand();
+
+        this.phase = TurnPhase.SELECT_QUESTION;
+        connection.send("OK CATEGORY " + category);
+        broadcast("EVENT CATEGORY " + category);
+        armDeadline();
+    }
+
+    /**
+     * Selects a question by its value, or by the 1-based position of its value.
+     *
+     * @param connection the connection making the move
+     * @param argument the value or position
+     */
+    synchronized void selectValue(Connection connection, String argument) {
+        if (!checkMove(connection, TurnPhase.SELECT_QUESTION)) {
+            return;
+        }
+        List<Integer> values = this.state.getQuestionService().getCategoryQuestionValues(this.state.getCurrentCategory());
+        int number = parseInt(argument);
+        if (values.contains(number)) {
+            this.pendingValue = number;
+        } else if (number >= 1 && number <= values.size()) {
+            this.pendingValue = values.get(number - 1);
+        } else {
+            connection.send("ERR unknown value");
+            return;
+        }
+
+        Player player = connection.getPlayer();
+        player.setCommand(new SelectQuestionCommand(this));
+        player.doCommand();
+
+        Question question = this.state.getCurrentQuestion();
+        this.phase = TurnPhase.ANSWER;
+        connection.send("OK VALUE " + question.getValue());
+
+        StringBuilder sb = new StringBuilder("EVENT QUESTION ").append(question.getValue()).append(' ').append(question.getQuestion());
+        for (int i = 0; i < question.getOptionCount(); i++) {
+            sb.append(" | ").append((char) ('A' + i)).append(") ").append(question.getOption(i));
+        }
+        broadcast(sb.toString());
+
+        if (this.buzzMode) {
+            this.arbiter.open();
+            broadcast("EVENT BUZZ OPEN");
+        }
+        armDeadline();
+    }
+
+    /**
+     * Buzzes in for the revealed question in a buzz-in room.
+     *
+     * Not synchronized: the race is decided by the arbiter's CAS, so buzzes from
+     * different workers never wait on each other or on the room lock. Only the
+     * winner takes the lock, to hand them the question.
+     *
+     * @param connection the connection buzzing
+     */
+    void buzz(Connection connection) {
+        if (!this.buzzMode) {
+            connection.send("ERR not a buzz-in game");
+            return;
+        }
+        int seat = connection.getSeat();
+        switch (this.arbiter.buzz(seat)) {
+            case WON:
+                claimBuzz(connection, seat);
+                break;
+            case LOST:
+                connection.send(String.format("OK BUZZ LATE %d", this.arbiter.getDeltaNanos(seat) / 1_000));
+                break;
+            case REPEAT:
+                connection.send("ERR already buzzed");
+                break;
+            default:
+                connection.send("ERR buzzers closed");
+                break;
+        }
+    }
+
+    /**
+     * Hands the question to the buzz-in winner.
+     *
+     * @param connection the winning connection
+     * @param seat the winning seat
+     */
+    private synchronized void claimBuzz(Connection connection, int seat) {
+        if (this.over || this.arbiter.getWinner() != seat || this.state.getResponder() != null) {
+            // The round closed (for example the picker left) before the winner got the lock
+            connection.send("ERR buzzers closed");
+            return;
+        }
+        Player player = connection.getPlayer();
+        this.state.setResponder(player);
+        long reactionMicros = this.arbiter.getReactionNanos(seat) / 1_000;
+
+        this.activityPublisher.setCurrentActivityLog(new ActivityLogBuilder()
+                .setCaseId(this.id)
+                .setPlayerId(player)
+                .setActivity(ActivityType.BUZZ_IN)
+                .setTimestamp()
+                .setCategory(this.state.getCurrentCategory())
+                .setQuestionValue(this.state.getCurrentQuestion().getValue())
+                .setResult(Long.toString(reactionMicros))
+                .createActivityLog());
+        this.activityPublisher.notifySubscribers();
+
+        connection.send(String.format("OK BUZZ WON %d", reactionMicros));
+        broadcast(String.format("EVENT BUZZ %s %d", player.getId(), reactionMicros));
+    }
+
+    /**
+     * Answers the current question with an option label.
+     *
+     * @param connection the connection making the move
+     * @param argument the answer label
+     */
+    synchronized void answer(Connection connection, String argument) {
+        if (!checkMove(connection, TurnPhase.ANSWER)) {
+            return;
+        }
+        Question question = this.state.getCurrentQuestion();
+        String label = argument.trim().toUpperCase();
+        if (label.isEmpty() || (question.getOptionCount() > 0 && !question.hasOption(label))) {
+            connection.send("ERR " + GameConstants.ERROR_INVALID_ANSWER);
+            return;
+        }
+
+        boolean correct = question.isCorrect(label);
+        Player player = connection.getPlayer();
+        player.setCommand(new AnswerQuestionCommand(this, label));
+        player.doCommand();
+
+        connection.send("OK ANSWER");
+        broadcast(String.format("EVENT RESULT %s %s %d", player.getId(),
+            correct ? GameConstants.RESULT_CORRECT : GameConstants.RESULT_INCORRECT, player.getCurrentScore()));
+
+        this.state.nextTurn();
+        beginTurn();
+    }
+
+    // ==================== Turn Flow ====================
+
+    /**
+     * Gives the turn to the next connected player, or ends the game when the board
+     * is cleared or nobody is left.
+     */
+    private void beginTurn() {
+        this.arbiter.close();
+        this.phase = TurnPhase.TURN_START;
+        if (this.state.getQuestionService().getUnansweredQuestions().isEmpty()) {
+            gameOver();
+            return;
+        }
+        for (int skipped = 0; this.members.get(currentSeat()) == null; skipped++) {
+            if (skipped == this.members.size()) {
+                gameOver();
+                return;
+            }
+            this.state.nextTurn();
+        }
+
+        Player player = this.state.getCurrentPlayer();
+        this.phase = TurnPhase.SELECT_CATEGORY;
+        broadcast(String.format("EVENT TURN %s %d", player.getId(), player.getCurrentScore()));
+        armDeadline();
+    }
+
+    /**
+     * Gives the move the game now waits for its time limit, replacing the previous deadline.
+     */
+    private void armDeadline() {
+        if (this.deadline != null) {
+            this.deadline.cancel();
+            this.deadline = null;
+        }
+        if (this.moveTimeoutNanos > 0 && !this.over) {
+            int turn = this.state.getCurrentTurn();
+            TurnPhase expected = this.phase;
+            this.deadline = this.timer.schedule(() -> expire(turn, expected), this.moveTimeoutNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Resolves a move whose deadline passed as an incorrect answer and passes the turn on.
+     * Runs on the timer's thread; does nothing if the move was made in the meantime.
+     *
+     * @param turn the turn the deadline was set for
+     * @param expected the phase the deadline was set for
+     */
+    synchronized void expire(int turn, TurnPhase expected) {
+        if (this.over || this.state.getCurrentTurn() != turn || this.phase != expected) {
+            return;
+        }
+        this.deadline = null;
+        this.arbiter.close();
+        Player player = this.state.getCurrentPlayer();
+        player.setCommand(new TimeoutCommand(this, expected == TurnPhase.ANSWER));
+        player.doCommand();
+        broadcast(String.format("EVENT TIMEOUT %s %s %d", player.getId(), expected.name(), player.getCurrentScore()));
+
+        this.state.nextTurn();
+        beginTurn();
+    }
+
+    /**
+     * Ends the game, publishes the game-over activity and reports final scores.
+     */
+    private void gameOver() {
+        this.over = true;
+        armDeadline();
+        this.phase = TurnPhase.TURN_END;
+        log(GameConstants.SYSTEM_PLAYER_ID, ActivityType.GAME_OVER, null);
+        broadcast("EVENT GAMEOVER" + scoreList());
+    }
+
+    /**
+     * Checks that a move comes from the current player at the right point of the turn,
+     * replying with an error if not.
+     *
+     * @param connection the connection making the move
+     * @param expected the phase the move belongs to
+     * @return true if the move may proceed
+     */
+    private boolean checkMove(Connection connection, TurnPhase expected) {
+        if (!this.started || this.over) {
+            connection.send(this.over ? "ERR game is over" : "ERR game not started");
+            return false;
+        }
+        if (this.buzzMode && expected == TurnPhase.ANSWER && this.phase == TurnPhase.ANSWER) {
+            if (this.state.getResponder() == null) {
+                connection.send("ERR buzz in first");
+                return false;
+            }
+            if (this.state.getResponder() != connection.getPlayer()) {
+                connection.send("ERR not your question");
+                return false;
+            }
+            return true;
+        }
+        if (this.members.indexOf(connection) != currentSeat()) {
+            connection.send("ERR not your turn");
+            return false;
+        }
+        if (this.phase != expected) {
+            connection.send("ERR expected " + this.phase.name());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the seat of the player whose turn it is.
+     *
+     * @return the current seat index
+     */
+    private int currentSeat() {
+        return this.state.getCurrentTurn() % this.members.size();
+    }
+
+    /**
+     * Formats every player's score as " name=score" entries.
+     *
+     * @return the score list
+     */
+    private String scoreList() {
+        StringBuilder sb = new StringBuilder();
+        for (Player p : this.state.getPlayers()) {
+            sb.append(' ').append(p.getId()).append('=').append(p.getCurrentScore());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Sends a line to every connected member.
+     *
+     * @param line the line to send
+     */
+    private void broadcast(String line) {
+        for (Connection c : this.members) {
+            if (c != null) {
+                c.send(line);
+            }
+        }
+    }
+
+    /**
+     * Publishes a room-level activity log.
+     *
+     * @param playerId the player the activity belongs to
+     * @param type the activity type
+     * @param result the result, or null
+     */
+    private void log(String playerId, ActivityType type, String result) {
+        ActivityLogBuilder builder = new ActivityLogBuilder()
+                .setCaseId(this.id)
+                .setPlayerId(playerId)
+                .setActivity(type)
+                .setTimestamp();
+        if (result != null) {
+            builder.setResult(result);
+        }
+        this.activityPublisher.setCurrentActivityLog(builder.createActivityLog());
+        this.activityPublisher.notifySubscribers();
+    }
+
+    /**
+     * Parses a decimal number.
+     *
+     * @param text the text to parse
+     * @return the number, or -1 if the text is not a number
+     */
+    private static int parseInt(String text) {
+        try {
+            return Integer.parseInt(text.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // ==================== GameController ====================
+
+    /**
+     * Gets the state of this room's game.
+     *
+     * @return the game state
+     */
+    @Override
+    public GameState getState() {
+        return this.state;
+    }
+
+    /**
+     * Gets the IO that broadcasts command output to the room.
+     *
+     * @return the room's GameIO
+     */
+    @Override
+    public GameIO getIO() {
+        return this.io;
+    }
+
+    /**
+     * Applies the category chosen by the current player's CATEGORY line.
+     */
+    @Override
+    public void selectCategory() {
+        this.state.setCurrentCategory(this.pendingCategory);
+    }
+
+    /**
+     * Applies the value chosen by the current player's VALUE line.
+     */
+    @Override
+    public void selectQuestion() {
+        this.state.setCurrentQuestion(this.state.getQuestionService().getCategoryQuestionByValue(
+            this.state.getCurrentCategory(), this.pendingValue, this.state.getCurrentPlayer().getSeenQuestions()::contains));
+    }
+
+    /**
+     * Updates the current player's score.
+     *
+     * @param points the points to add
+     */
+    @Override
+    public void updateCurrentPlayerScore(int points) {
+        this.state.getCurrentPlayer().updateCurrentScore(points);
+    }
+
+    /**
+     * Sets the current activity log for event tracking.
+     *
+     * @param log the ActivityLog to set
+     */
+    @Override
+    public void setCurrentActivityLog(ActivityLog log) {
+        this.activityPublisher.setCurrentActivityLog(log);
+    }
+
+    /**
+     * Notifies the room's subscribers of the current activity log.
+     */
+    @Override
+    public void notifySubscribers() {
+        this.activityPublisher.notifySubscribers();
+    }
+
+    /**
+     * GameIO that broadcasts printed text to the room.
+     * Moves arrive as protocol lines, so no input is ever queued; a read ends the way
+     * it does for any HeadlessGameIO with no input left.
+     */
+    private class RoomIO extends HeadlessGameIO {
+
+        /**
+         * Broadcasts non-blank text as an EVENT MESSAGE line.
+         *
+         * @param text the text to broadcast
+         */
+        @Override
+        public void print(String text) {
+            String message = text.trim();
+            if (!message.isEmpty()) {
+                broadcast("EVENT MESSAGE " + message.replace('\n', ' '));
+            }
+        }
+
+        /**
+         * Broadcasts non-blank text as an EVENT MESSAGE line.
+         *
+         * @param text the text to broadcast
+         */
+        @Override
+        public void println(String text) {
+            print(text);
+        }
+
+        /**
+         * Broadcasts non-blank text as an EVENT MESSAGE line.
+         *
+         * @param text the text to broadcast
+         */
+        @Override
+        public void println(CharSequence text) {
+            print(text.toString());
+        }
+    }
+}
@@ -0,0 +1,572 @@
+package com.jeopardy.server;
+
+import com.jeopardy.leaderboard.Leaderboard;
+import com.jeopardy.leaderboard.Standing;
+import com.jeopardy.logging.observer.Subscriber;
+import com.jeopardy.question.QuestionService;
+import com.jeopardy.timer.TimingWheel;
+import com.jeopardy.question.loader.CSVQuestionLoader;
+import com.jeopardy.utils.GameConstants;
+import com.jeopardy.utils.VirtualThreads;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * GameServer lets players on separate machines play together over TCP.
+ *
+ * One I/O thread runs a non-blocking Selector loop that accepts connections, reads
+ * bytes and writes queued output. Complete lines are handed to a small worker pool,
+ * which applies them to the connection's GameRoom. So thousands of mostly idle
+ * connections cost one thread plus a few workers.
+ *
+ * Line protocol (one command per line, replies start with OK or ERR):
+ * <pre>
+ * JOIN &lt;room&gt; &lt;name&gt;   join (or create) a room as a new player
+ * START [BUZZ]         start the room's game; turns follow join order,
+ *                      and with BUZZ every player races to answer
+ * BUZZ                 buzz in for the revealed question (BUZZ games)
+ * BOARD                list unanswered categories and values
+ * CATEGORY &lt;n|name&gt;    choose a category (current player only)
+ * VALUE &lt;value|n&gt;      choose a question by value or by position
+ * ANSWER &lt;label&gt;       answer the revealed question
+ * SCORES               list every player's score
+ * LEADERBOARD          list the best players of all rooms by total points
+ * PING                 reply PONG
+ * QUIT                 reply BYE and disconnect
+ * </pre>
+ * Game events are pushed to every player of a room as EVENT lines
+ * (JOINED, LEFT, START, TURN, CATEGORY, QUESTION, BUZZ, MESSAGE, RESULT, TIMEOUT, GAMEOVER).
+ *
+ * With a move timeout set, each selection and answer has a time limit. A player who
+ * runs out of time loses the turn as if they had answered incorrectly. The deadlines
+ * of all rooms share one TimingWheel thread.
+ *
+ * All rooms draw their boards from one shared, read-only question bank, and all
+ * rooms feed one Leaderboard.
+ */
+public class GameServer {
+
+    /**
+     * Default TCP port.
+     */
+    public static final int DEFAULT_PORT = 4040;
+
+    /**
+     * Default number of worker threads that apply protocol lines.
+     */
+    public static final int DEFAULT_WORKERS = 4;
+
+    private static final int MAX_LINE_LENGTH = 1024;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int ACCEPT_BACKLOG = 4096;
+
+    private final QuestionService bank;
+    private final int port;
+    private final ExecutorService workers;
+    private final Map<String, GameRoom> rooms;
+    private final List<Subscriber> subscribers;
+    private final Leaderboard leaderboard;
+    private final Queue<Connection> pendingWrites;
+    private final AtomicInteger connectionCount;
+    private final ByteBuffer readBuffer;
+    private final TimingWheel timer;
+    private volatile long moveTimeoutNanos;
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread ioThread;
+    private volatile boolean running;
+
+    /**
+     * Constructs a server; call start() to begin accepting connections.
+     *
+     * @param bank the shared question bank (read only)
+     * @param port the TCP port, or 0 for any free port
+     * @param workerCount the number of worker threads
+     */
+    public GameServer(QuestionService bank, int port, int workerCount) {
+        this.bank = bank;
+        this.bank.getIndex();
+        this.port = port;
+        this.workers = Executors.newFixedThreadPool(workerCount, VirtualThreads.platformThreadFactory("game-server-worker"));
+        this.rooms = new ConcurrentHashMap<>();
+        this.subscribers = new CopyOnWriteArrayList<>();
+        this.leaderboard = new Leaderboard();
+        // The leaderboard is thread-safe, so it is not serialized like other subscribers
+        this.subscribers.add(this.leaderboard);
+        this.pendingWrites = new ConcurrentLinkedQueue<>();
+        this.connectionCount = new AtomicInteger();
+        this.readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+        this.timer = new TimingWheel("game-server-timer");
+    }
+
+    /**
+     * Sets the time limit for each move in rooms created from now on.
+     *
+     * @param timeout the time limit, or 0 for no limit
+     * @param unit the unit of the time limit
+     */
+    public void setMoveTimeout(long timeout, TimeUnit unit) {
+        this.moveTimeoutNanos = unit.toNanos(timeout);
+    }
+
+    // ==================== Lifecycle ====================
+
+    /**
+     * Binds the port and starts the I/O thread.
+     *
+     * @throws IOException if the port cannot be bound
+     */
+    public void start() throws IOException {
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        this.serverChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+        this.serverChannel.bind(new InetSocketAddress(this.port), ACCEPT_BACKLOG);
+        this.serverChannel.configureBlocking(false);
+        this.serverChannel.register(this.selector, SelectionKey.OP_ACCEPT);
+
+        this.running = true;
+        this.ioThread = new Thread(this::runLoop, "game-server-io");
+        this.ioThread.start();
+    }
+
+    /**
+     * Stops accepting, closes every connection and stops the worker pool.
+     *
+     * @throws InterruptedException if interrupted while waiting for threads to stop
+     */
+    public void stop() throws InterruptedException {
+        this.running = false;
+        if (this.selector != null) {
+            this.selector.wakeup();
+        }
+        if (this.ioThread != null) {
+            this.ioThread.join();
+        }
+        this.workers.shutdown();
+        this.workers.awaitTermination(5, TimeUnit.SECONDS);
+        this.timer.close();
+    }
+
+    /**
+     * Gets the port the server is bound to.
+     *
+     * @return the local port
+     * @throws IOException if the server is not bound
+     */
+    public int getPort() throws IOException {
+        return ((InetSocketAddress) this.serverChannel.getLocalAddress()).getPort();
+    }
+
+    /**
+     * Gets the number of open client connections.
+     *
+     * @return the connection count
+     */
+    public int getConnectionCount() {
+        return this.connectionCount.get();
+    }
+
+    /**
+     * Gets the number of rooms that still have players.
+     *
+     * @return the room count
+     */
+    public int getRoomCount() {
+        return this.rooms.size();
+    }
+
+    /**
+     * Gets the leaderboard of all rooms.
+     *
+     * @return the leaderboard
+     */
+    public Leaderboard getLeaderboard() {
+        return this.leaderboard;
+    }
+
+    /**
+     * Subscribes to the activity logs of every room created from now on.
+     * Rooms run on several workers, so updates to one subscriber are serialized.
+     *
+     * @param subscriber the subscriber to register
+     */
+    public void subscribe(Subscriber subscriber) {
+        this.subscribers.add(log -> {
+            synchronized (subscriber) {
+                subscriber.update(log);
+            }
+        });
+    }
+
+    // ==================== I/O Thread ====================
+
+    /**
+     * The Selector loop: writes pending output, accepts, reads and flushes until stopped.
+     */
+    private void runLoop() {
+        while (this.running) {
+            try {
+                this.selector.select();
+
+                Connection pending;
+                while ((pending = this.pendingWrites.poll()) != null) {
+                    flush(pending);
+                }
+
+                Iterator<SelectionKey> keys = this.selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    Connection connection = (Connection) key.attachment();
+                    if (key.isReadable()) {
+                        read(connection);
+                    }
+                    if (key.isValid() && key.isWritable()) {
+                        flush(connection);
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println("Game server I/O error: " + e.getMessage());
+            }
+        }
+        closeAll();
+    }
+
+    /**
+     * Accepts every pending connection.
+     *
+     * @throws IOException if accepting fails
+     */
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = this.serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            Connection connection = new Connection(channel, this, MAX_LINE_LENGTH);
+            connection.setKey(channel.register(this.selector, SelectionKey.OP_READ, connection));
+            this.connectionCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Reads available bytes and queues each complete line for a worker.
+     *
+     * @param connection the readable connection
+     */
+    private void read(Connection connection) {
+        int count;
+        try {
+            this.readBuffer.clear();
+            count = connection.getChannel().read(this.readBuffer);
+        } catch (IOException e) {
+            count = -1;
+        }
+        if (count < 0) {
+            close(connection);
+            return;
+        }
+        this.readBuffer.flip();
+        if (!connection.getDecoder().decode(this.readBuffer, connection::receive)) {
+            connection.sendAndClose("ERR line too long");
+        }
+    }
+
+    /**
+     * Writes as much queued output as the socket accepts, waiting for OP_WRITE if it fills.
+     *
+     * @param connection the connection to flush
+     */
+    private void flush(Connection connection) {
+        SelectionKey key = connection.getKey();
+        if (key == null || !key.isValid()) {
+            return;
+        }
+        connection.clearWriteRequest();
+        Queue<ByteBuffer> outbound = connection.getOutbound();
+        try {
+            ByteBuffer buffer;
+            while ((buffer = outbound.peek()) != null) {
+                connection.getChannel().write(buffer);
+                if (buffer.hasRemaining()) {
+                    key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+                    return;
+                }
+                outbound.poll();
+            }
+        } catch (IOException e) {
+            close(connection);
+            return;
+        }
+        key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+        if (connection.isClosing()) {
+            close(connection);
+        }
+    }
+
+    /**
+     * Closes a connection and removes its player from its room.
+     *
+     * @param connection the connection to close
+     */
+    private void close(Connection connection) {
+        if (!connection.getChannel().isOpen()) {
+            return;
+        }
+        SelectionKey key = connection.getKey();
+        if (key != null) {
+            key.cancel();
+        }
+        try {
+            connection.getChannel().close();
+        } catch (IOException e) {
+            System.err.println("Error closing connection: " + e.getMessage());
+        }
+        this.connectionCount.decrementAndGet();
+
+        GameRoom room = connection.getRoom();
+        if (room != null && !this.workers.isShutdown()) {
+            this.workers.execute(() -> leave(connection, room));
+        }
+    }
+
+    /**
+     * Closes the listening socket, every connection and the selector.
+     */
+    private void closeAll() {
+        for (SelectionKey key : this.selector.keys()) {
+            if (key.attachment() instanceof Connection) {
+                close((Connection) key.attachment());
+            }
+        }
+        try {
+            this.serverChannel.close();
+            this.selector.close();
+        } catch (IOException e) {
+            System.err.println("Error closing game server: " + e.getMessage());
+        }
+    }
+
+    // ==================== Called From Connections ====================
+
+    /**
+     * Asks the I/O thread to write a connection's queued output.
+     *
+     * @param connection the connection with output
+     */
+    void requestWrite(Connection connection) {
+        this.pendingWrites.add(connection);
+        this.selector.wakeup();
+    }
+
+    /**
+     * Schedules a connection's received lines on the worker pool.
+     *
+     * @param connection the connection with input
+     * @return true if a worker will process them, false if the server is stopping
+     */
+    boolean process(Connection connection) {
+        try {
+            this.workers.execute(connection::drainInbox);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Applies one protocol line. Runs on a worker thread.
+     *
+     * @param connection the connection the line came from
+     * @param line the line
+     */
+    void handle(Connection connection, String line) {
+        String trimmed = line.trim();
+        if (trimmed.isEmpty()) {
+            return;
+        }
+        int space = trimmed.indexOf(' ');
+        String verb = (space < 0 ? trimmed : trimmed.substring(0, space)).toUpperCase();
+        String argument = space < 0 ? "" : trimmed.substring(space + 1).trim();
+
+        switch (verb) {
+            case "PING":
+                connection.send("PONG");
+                return;
+            case "QUIT":
+                connection.sendAndClose("BYE");
+                return;
+            case "JOIN":
+                join(connection, argument);
+                return;
+            case "LEADERBOARD":
+                leaderboard(connection);
+                return;
+            default:
+                break;
+        }
+
+        GameRoom room = connection.getRoom();
+        if (room == null) {
+            connection.send(isRoomCommand(verb) ? "ERR join a room first" : "ERR unknown command " + verb);
+            return;
+        }
+        switch (verb) {
+            case "START":
+                room.start(connection, argument);
+                break;
+            case "BOARD":
+                room.board(connection);
+                break;
+            case "SCORES":
+                room.scores(connection);
+                break;
+            case "CATEGORY":
+                room.selectCategory(connection, argument);
+                break;
+            case "VALUE":
+                room.selectValue(connection, argument);
+                break;
+            case "ANSWER":
+                room.answer(connection, argument);
+                break;
+            case "BUZZ":
+                room.buzz(connection);
+                break;
+            default:
+                connection.send("ERR unknown command " + verb);
+                break;
+        }
+    }
+
+    /**
+     * Handles JOIN &lt;room&gt; &lt;name&gt;.
+     *
+     * @param connection the joining connection
+     * @param argument the room ID and player name
+     */
+    private void join(Connection connection, String argument) {
+        if (connection.getRoom() != null) {
+            connection.send("ERR already joined " + connection.getRoom().getId());
+            return;
+        }
+        String[] parts = argument.split("\\s+", 2);
+        if (parts.length < 2 || parts[1].trim().isEmpty()) {
+            connection.send("ERR usage: JOIN <room> <name>");
+            return;
+        }
+        String name = parts[1].trim();
+        this.rooms.compute(parts[0], (id, room) -> {
+            if (room == null) {
+                room = new GameRoom(id, this.bank, this.subscribers, this.timer, this.moveTimeoutNanos);
+            }
+            room.join(connection, name);
+            return room.isEmpty() ? null : room;
+        });
+    }
+
+    /**
+     * Removes a closed connection from its room, and the room from the server once
+     * nobody is left. Runs in the room's map entry, like join, so a room is never
+     * dropped while a player is being seated in it.
+     *
+     * @param connection the connection that closed
+     * @param room the room it had joined
+     */
+    private void leave(Connection connection, GameRoom room) {
+        this.rooms.compute(room.getId(), (id, current) -> {
+            room.leave(connection);
+            if (current != room) {
+                return current;
+            }
+            return room.isEmpty() ? null : room;
+        });
+    }
+
+    /**
+     * Sends the best players of all rooms, as LEADERBOARD does.
+     *
+     * @param connection the connection asking
+     */
+    private void leaderboard(Connection connection) {
+        StringBuilder sb = new StringBuilder("OK LEADERBOARD");
+        for (Standing standing : this.leaderboard.getTop(Leaderboard.DEFAULT_TOP)) {
+            sb.append(' ').append(standing.getPlayerId()).append('=').append(standing.getScore());
+        }
+        connection.send(sb.toString());
+    }
+
+    /**
+     * Checks whether a verb is a command that needs a room.
+     *
+     * @param verb the upper-case verb
+     * @return true for room commands
+     */
+    private static boolean isRoomCommand(String verb) {
+        switch (verb) {
+            case "START":
+            case "BOARD":
+            case "SCORES":
+            case "CATEGORY":
+            case "VALUE":
+            case "ANSWER":
+            case "BUZZ":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // ==================== Entry Point ====================
+
+    /**
+     * Runs a server until the process is stopped.
+     *
+     * @param args optional port, worker count, question file and move timeout in seconds
+     * @throws IOException if the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int workerCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_WORKERS;
+        String fileName = args.length > 2 ? args[2]
+                : GameConstants.DATA_DIRECTORY.resolve("sample_game_CSV.csv").toString();
+
+        QuestionService bank = new QuestionService();
+        if (!bank.setQuestions(new CSVQuestionLoader(), fileName)) {
+            System.out.println("[Error]: Could not load questions from " + fileName);
+            return;
+        }
+
+        GameServer server = new GameServer(bank, port, workerCount);
+        if (args.length > 3) {
+            server.setMoveTimeout(Long.parseLong(args[3]), TimeUnit.SECONDS);
+        }
+        server.start();
+        System.out.println("Game server listening on port " + server.getPort());
+    }
+}
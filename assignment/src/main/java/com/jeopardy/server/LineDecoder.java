@@ -0,0 +1,62 @@
+package com.jeopardy.server;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * LineDecoder splits a byte stream into UTF-8 lines.
+ *
+ * Bytes are fed in whatever chunks the socket delivers; each complete line (ending
+ * in '\n', with an optional '\r' before it) is passed on without its terminator.
+ * Partial lines are kept until the rest arrives.
+ *
+ * Not thread-safe; each connection owns one decoder, used only by its I/O thread.
+ */
+class LineDecoder {
+
+    private final int maxLineLength;
+    private byte[] line;
+    private int length;
+
+    /**
+     * Constructs a decoder.
+     *
+     * @param maxLineLength the longest line accepted, in bytes
+     */
+    LineDecoder(int maxLineLength) {
+        this.maxLineLength = maxLineLength;
+        this.line = new byte[Math.min(64, maxLineLength)];
+    }
+
+    /**
+     * Decodes the readable bytes of a buffer, passing on every line they complete.
+     *
+     * @param buffer the buffer to consume, in read mode
+     * @param lines receives each complete line
+     * @return false if a line exceeded the maximum length, true otherwise
+     */
+    boolean decode(ByteBuffer buffer, Consumer<String> lines) {
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+            if (b == '\n') {
+                int end = this.length;
+                if (end > 0 && this.line[end - 1] == '\r') {
+                    end--;
+                }
+                lines.accept(new String(this.line, 0, end, StandardCharsets.UTF_8));
+                this.length = 0;
+                continue;
+            }
+            if (this.length == this.maxLineLength) {
+                return false;
+            }
+            if (this.length == this.line.length) {
+                this.line = Arrays.copyOf(this.line, Math.min(this.maxLineLength, this.length * 2));
+            }
+            this.line[this.length++] = b;
+        }
+        return true;
+    }
+}
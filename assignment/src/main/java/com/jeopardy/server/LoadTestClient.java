@@ -0,0 +1,294 @@
+package com.jeopardy.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * LoadTestClient plays many bot clients against a GameServer over loopback.
+ *
+ * All clients share one thread and one Selector. Clients are grouped into rooms;
+ * the last to join a room starts its game. On its turn a bot sends CATEGORY 1,
+ * VALUE 1 and ANSWER A in one write, and the time until its EVENT RESULT arrives
+ * is recorded as the turn latency. A client disconnects when its game is over.
+ *
+ * Usage:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass=com.jeopardy.server.LoadTestClient \
+ *     -Dexec.args="localhost 4040 2000 2"
+ * </pre>
+ * Arguments are optional: host, port, connection count and players per room.
+ */
+public class LoadTestClient {
+
+    private static final int DEFAULT_CONNECTIONS = 2_000;
+    private static final int DEFAULT_PLAYERS_PER_ROOM = 2;
+    private static final long DEFAULT_TIMEOUT_MILLIS = 120_000;
+    private static final int MAX_LINE_LENGTH = 4096;
+
+    /**
+     * Summary of a load test run.
+     */
+    public static final class Result {
+        private final int connections;
+        private final int finished;
+        private final int turns;
+        private final long elapsedNanos;
+        private final long p50Nanos;
+        private final long p99Nanos;
+
+        Result(int connections, int finished, int turns, long elapsedNanos, long p50Nanos, long p99Nanos) {
+            this.connections = connections;
+            this.finished = finished;
+            this.turns = turns;
+            this.elapsedNanos = elapsedNanos;
+            this.p50Nanos = p50Nanos;
+            this.p99Nanos = p99Nanos;
+        }
+
+        /**
+         * Gets the number of clients that connected.
+         *
+         * @return the connection count
+         */
+        public int getConnections() {
+            return this.connections;
+        }
+
+        /**
+         * Gets the number of clients whose game reached game over.
+         *
+         * @return the finished client count
+         */
+        public int getFinished() {
+            return this.finished;
+        }
+
+        /**
+         * Gets the number of turns played by all clients.
+         *
+         * @return the turn count
+         */
+        public int getTurns() {
+            return this.turns;
+        }
+
+        /**
+         * Gets the median turn latency.
+         *
+         * @return the p50 latency in nanoseconds
+         */
+        public long getP50Nanos() {
+            return this.p50Nanos;
+        }
+
+        /**
+         * Gets the 99th percentile turn latency.
+         *
+         * @return the p99 latency in nanoseconds
+         */
+        public long getP99Nanos() {
+            return this.p99Nanos;
+        }
+
+        /**
+         * Formats the result as a one-line summary.
+         *
+         * @return the summary
+         */
+        @Override
+        public String toString() {
+            double seconds = this.elapsedNanos / 1e9;
+            return String.format("%d/%d clients finished, %d turns in %.2f s (%.0f turns/s), turn latency p50 %.0f us, p99 %.0f us",
+                this.finished, this.connections, this.turns, seconds, this.turns / seconds,
+                this.p50Nanos / 1e3, this.p99Nanos / 1e3);
+        }
+    }
+
+    /**
+     * One bot client.
+     */
+    private static final class Bot {
+        private final String name;
+        private final String room;
+        private final int playersPerRoom;
+        private final LineDecoder decoder = new LineDecoder(MAX_LINE_LENGTH);
+        private final ArrayDeque<ByteBuffer> outbound = new ArrayDeque<>();
+        private long turnSentAt;
+        private boolean finished;
+
+        Bot(String name, String room, int playersPerRoom) {
+            this.name = name;
+            this.room = room;
+            this.playersPerRoom = playersPerRoom;
+        }
+    }
+
+    /**
+     * Prevents instantiation; use {@link #run} or {@link #main(String[])}.
+     */
+    private LoadTestClient() {
+    }
+
+    /**
+     * Connects the clients, plays every room's game to the end and measures turn latency.
+     *
+     * @param address the server address
+     * @param connections the number of clients
+     * @param playersPerRoom the number of clients per room (1-4)
+     * @param timeoutMillis the longest time to wait for all games to finish
+     * @return the run summary
+     * @throws IOException if the clients cannot be opened
+     */
+    public static Result run(InetSocketAddress address, int connections, int playersPerRoom, long timeoutMillis)
+            throws IOException {
+        long[] latencies = new long[1024];
+        int turns = 0;
+        int finished = 0;
+
+        long start = System.nanoTime();
+        try (Selector selector = Selector.open()) {
+            for (int i = 0; i < connections; i++) {
+                SocketChannel channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                channel.connect(address);
+                Bot bot = new Bot("p" + i, "load-" + (i / playersPerRoom), playersPerRoom);
+                channel.register(selector, SelectionKey.OP_CONNECT, bot);
+            }
+
+            ByteBuffer readBuffer = ByteBuffer.allocateDirect(64 * 1024);
+            long deadline = start + timeoutMillis * 1_000_000L;
+            while (finished < connections && System.nanoTime() < deadline) {
+                selector.select(100);
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    SocketChannel channel = (SocketChannel) key.channel();
+                    Bot bot = (Bot) key.attachment();
+
+                    if (key.isConnectable()) {
+                        channel.finishConnect();
+                        key.interestOps(SelectionKey.OP_READ);
+                        send(key, bot, "JOIN " + bot.room + " " + bot.name);
+                        continue;
+                    }
+                    if (key.isWritable()) {
+                        flush(key, bot);
+                    }
+                    if (!key.isReadable()) {
+                        continue;
+                    }
+
+                    readBuffer.clear();
+                    if (channel.read(readBuffer) < 0) {
+                        key.cancel();
+                        channel.close();
+                        continue;
+                    }
+                    readBuffer.flip();
+                    List<String> lines = new ArrayList<>();
+                    bot.decoder.decode(readBuffer, lines::add);
+
+                    for (String line : lines) {
+                        if (line.startsWith("OK JOINED ")) {
+                            String[] parts = line.split(" ");
+                            if (Integer.parseInt(parts[3]) == bot.playersPerRoom - 1) {
+                                send(key, bot, "START");
+                            }
+                        } else if (line.startsWith("EVENT TURN " + bot.name + " ")) {
+                            bot.turnSentAt = System.nanoTime();
+                            send(key, bot, "CATEGORY 1\nVALUE 1\nANSWER A");
+                        } else if (line.startsWith("EVENT RESULT " + bot.name + " ")) {
+                            if (turns == latencies.length) {
+                                latencies = Arrays.copyOf(latencies, turns * 2);
+                            }
+                            latencies[turns++] = System.nanoTime() - bot.turnSentAt;
+                        } else if (line.startsWith("EVENT GAMEOVER") && !bot.finished) {
+                            bot.finished = true;
+                            finished++;
+                            key.cancel();
+                            channel.close();
+                            break;
+                        }
+                    }
+                }
+            }
+
+            for (SelectionKey key : selector.keys()) {
+                key.channel().close();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long[] sorted = Arrays.copyOf(latencies, turns);
+        Arrays.sort(sorted);
+        long p50 = turns == 0 ? 0 : sorted[(int) (turns * 0.50)];
+        long p99 = turns == 0 ? 0 : sorted[Math.min(turns - 1, (int) (turns * 0.99))];
+        return new Result(connections, finished, turns, elapsed, p50, p99);
+    }
+
+    /**
+     * Queues lines for a client and writes as much as the socket accepts.
+     *
+     * @param key the client's selection key
+     * @param bot the client
+     * @param lines the lines to send, separated by '\n'
+     * @throws IOException if writing fails
+     */
+    private static void send(SelectionKey key, Bot bot, String lines) throws IOException {
+        bot.outbound.add(ByteBuffer.wrap((lines + "\n").getBytes(StandardCharsets.UTF_8)));
+        flush(key, bot);
+    }
+
+    /**
+     * Writes queued output, waiting for OP_WRITE if the socket is full.
+     *
+     * @param key the client's selection key
+     * @param bot the client
+     * @throws IOException if writing fails
+     */
+    private static void flush(SelectionKey key, Bot bot) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        ByteBuffer buffer;
+        while ((buffer = bot.outbound.peek()) != null) {
+            channel.write(buffer);
+            if (buffer.hasRemaining()) {
+                key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                return;
+            }
+            bot.outbound.poll();
+        }
+        key.interestOps(SelectionKey.OP_READ);
+    }
+
+    /**
+     * Runs a load test against a running server and prints the summary.
+     *
+     * @param args optional host, port, connection count and players per room
+     * @throws IOException if the clients cannot be opened
+     */
+    public static void main(String[] args) throws IOException {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : GameServer.DEFAULT_PORT;
+        int connections = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_CONNECTIONS;
+        int playersPerRoom = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_PLAYERS_PER_ROOM;
+
+        Result result = run(new InetSocketAddress(host, port), connections, playersPerRoom, DEFAULT_TIMEOUT_MILLIS);
+        System.out.println(result);
+    }
+}
@@ -0,0 +1,96 @@
+package com.jeopardy.session;
+
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * CommandQueue holds the moves sent to one session until its thread applies them.
+ *
+ * Any number of producers (API games, bots, timeouts) may submit; one consumer,
+ * the session, drains moves in batches. Moves are numbered as they are queued and
+ * are always drained in that order, so moves from one producer are applied in the
+ * order it sent them.
+ *
+ * Closing the queue rejects later submissions; moves already queued are still
+ * drained so the session can complete them.
+ */
+public class CommandQueue {
+
+    private static final SessionCommand CLOSED = SessionCommand.timeout(-1, null);
+
+    private final LinkedBlockingQueue<SessionCommand> commands;
+    private long nextSequence;
+    private boolean closed;
+
+    /**
+     * Constructs an empty, open queue.
+     */
+    public CommandQueue() {
+        this.commands = new LinkedBlockingQueue<>();
+    }
+
+    /**
+     * Queues a move. If the queue is closed, the move is rejected at once.
+     *
+     * @param command the move
+     * @return true if the move was queued
+     */
+    public boolean submit(SessionCommand command) {
+        synchronized (this) {
+            if (!this.closed) {
+                command.setSequence(this.nextSequence++);
+                this.commands.add(command);
+                return true;
+            }
+        }
+        command.complete(CommandResult.Status.REJECTED, "Session is closed");
+        return false;
+    }
+
+    /**
+     * Closes the queue. Moves already queued can still be drained.
+     */
+    public void close() {
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            this.commands.add(CLOSED);
+        }
+    }
+
+    /**
+     * Checks whether the queue has been closed.
+     *
+     * @return true if no more moves are accepted
+     */
+    public synchronized boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * Waits for at least one move, then takes every queued move up to a limit.
+     *
+     * @param batch the list to add the moves to
+     * @param max the most moves to take
+     * @return the number of moves taken, or 0 once the queue is closed and empty
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public int drain(List<SessionCommand> batch, int max) throws InterruptedException {
+        SessionCommand first = this.commands.take();
+        if (first == CLOSED) {
+            this.commands.add(CLOSED);
+            return 0;
+        }
+        batch.add(first);
+        int count = 1 + this.commands.drainTo(batch, max - 1);
+        if (batch.get(batch.size() - 1) == CLOSED) {
+            // Leave the end marker for the next drain
+            batch.remove(batch.size() - 1);
+            this.commands.add(CLOSED);
+            count--;
+        }
+        return count;
+    }
+}
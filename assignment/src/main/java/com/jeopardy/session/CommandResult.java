@@ -0,0 +1,82 @@
+package com.jeopardy.session;
+
+/**
+ * CommandResult is the outcome of a SessionCommand.
+ */
+public final class CommandResult {
+
+    /**
+     * What happened to a move.
+     */
+    public enum Status {
+        /** The move was applied to the game. */
+        APPLIED,
+        /** The game had moved past the turn or phase the move was made for. */
+        STALE,
+        /** The move was invalid: wrong player, unknown question, invalid answer or closed session. */
+        REJECTED
+    }
+
+    private final long sequence;
+    private final Status status;
+    private final String message;
+
+    /**
+     * Constructs a result.
+     *
+     * @param sequence the move's position in its session's queue
+     * @param status the outcome
+     * @param message why the move was not applied, or null
+     */
+    CommandResult(long sequence, Status status, String message) {
+        this.sequence = sequence;
+        this.status = status;
+        this.message = message;
+    }
+
+    /**
+     * Gets the move's position in its session's queue.
+     *
+     * @return the sequence number
+     */
+    public long getSequence() {
+        return this.sequence;
+    }
+
+    /**
+     * Gets the outcome.
+     *
+     * @return the status
+     */
+    public Status getStatus() {
+        return this.status;
+    }
+
+    /**
+     * Checks whether the move was applied.
+     *
+     * @return true if the status is APPLIED
+     */
+    public boolean isApplied() {
+        return this.status == Status.APPLIED;
+    }
+
+    /**
+     * Gets why the move was not applied.
+     *
+     * @return the message, or null if the move was applied
+     */
+    public String getMessage() {
+        return this.message;
+    }
+
+    /**
+     * Describes the result.
+     *
+     * @return e.g. "#12 STALE: expected turn 4 SELECT_CATEGORY"
+     */
+    @Override
+    public String toString() {
+        return "#" + this.sequence + " " + this.status + (this.message == null ? "" : ": " + this.message);
+    }
+}
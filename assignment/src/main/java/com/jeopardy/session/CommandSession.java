@@ -0,0 +1,498 @@
+package com.jeopardy.session;
+
+import com.jeopardy.command.AnswerQuestionCommand;
+import com.jeopardy.command.SelectCategoryCommand;
+import com.jeopardy.command.SelectQuestionCommand;
+import com.jeopardy.command.TimeoutCommand;
+import com.jeopardy.game.GameController;
+import com.jeopardy.game.GameState;
+import com.jeopardy.game.Player;
+import com.jeopardy.game.TurnPhase;
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.logging.ActivityLogBuilder;
+import com.jeopardy.logging.ActivityPublisher;
+import com.jeopardy.logging.observer.Subscriber;
+import com.jeopardy.question.Question;
+import com.jeopardy.question.QuestionService;
+import com.jeopardy.timer.Timeout;
+import com.jeopardy.timer.TimingWheel;
+import com.jeopardy.ui.GameIO;
+import com.jeopardy.ui.HeadlessGameIO;
+import com.jeopardy.utils.ActivityType;
+import com.jeopardy.utils.GameConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CommandSession is a hosted game driven by a queue of player moves.
+ *
+ * Producers (the HTTP API's games, bots, load generators) submit SessionCommands from
+ * any thread and return at once. The session's own thread drains the CommandQueue in
+ * batches and applies each move through the game's command objects, exactly as
+ * GameEngine does for console play. Activity logs produced during a batch are
+ * published together once the batch has been applied, and only then are the moves'
+ * results completed, so a producer that sees a result can rely on its logs being out.
+ *
+ * Moves are applied in queue order. A move made for a turn or phase the game has
+ * already left is completed as STALE and has no effect; a move by the wrong player or
+ * for a question that does not exist is REJECTED. Because the game only advances on
+ * applied moves, a bot may queue a whole turn, or several turns, ahead without waiting.
+ *
+ * With a move timeout, each move the game waits for gets a deadline on a shared
+ * TimingWheel. When it expires, the wheel queues a timeout move stamped with the same
+ * turn and phase; if the player moved first, it is simply stale. Otherwise the turn is
+ * resolved with a TimeoutCommand, as an incorrect answer. A session waiting for a move
+ * thus needs no thread or timer of its own.
+ *
+ * The socket server's GameRoom is not a producer: its players buzz in on questions out
+ * of turn order and may leave mid-game, neither of which fits a queue of turn-stamped
+ * moves, so a room applies its moves under its own lock instead.
+ *
+ * Design patterns used:
+ * - Command: Moves are executed as SelectCategoryCommand, SelectQuestionCommand and AnswerQuestionCommand
+ * - Observer: Activity logs are published through an ActivityPublisher
+ * - Producer-Consumer: Many producers feed one queue drained by the session's thread
+ *
+ * SOLID principles:
+ * - Single Responsibility Principle (SRP): Orders and validates moves; scoring stays in the commands
+ */
+public class CommandSession implements GameController, Runnable {
+
+    /** The most moves applied before their logs are published. */
+    static final int MAX_BATCH = 64;
+
+    private final String id;
+    private final GameState state;
+    private final CommandQueue queue;
+    private final ActivityPublisher activityPublisher;
+    private final List<ActivityLog> pendingLogs;
+    private final GameIO io;
+    private TimingWheel timer;
+    private long moveTimeoutNanos;
+    private Timeout deadline;
+    private volatile int turn;
+    private volatile TurnPhase phase;
+    private volatile boolean over;
+    private String pendingCategory;
+    private int pendingValue;
+    private long batches;
+    private long applied;
+
+    /**
+     * Constructs a session whose players are seated in the given order.
+     *
+     * @param id the session ID, also the case ID of its activity logs
+     * @param state the game state of this session
+     * @param bank the question bank to draw the board from
+     * @param playerIds the players, in turn order
+     * @param subscribers the subscribers to publish activity logs to
+     */
+    CommandSession(String id, GameState state, QuestionService bank, List<String> playerIds, List<Subscriber> subscribers) {
+        this.id = id;
+        this.state = state;
+        this.state.setCaseId(id);
+        this.queue = new CommandQueue();
+        this.activityPublisher = new ActivityPublisher();
+        for (Subscriber s : subscribers) {
+            this.activityPublisher.subscribe(s);
+        }
+        this.pendingLogs = new ArrayList<>();
+        this.io = new HeadlessGameIO();
+        for (String playerId : playerIds) {
+            this.state.addPlayer(new Player(playerId));
+        }
+        this.state.setBoard(bank);
+        this.phase = TurnPhase.TURN_START;
+    }
+
+    /**
+     * Gives every move a time limit. Call before the session starts.
+     *
+     * @param timer the wheel that runs the deadlines
+     * @param timeout the time limit for each move
+     * @param unit the unit of the time limit
+     */
+    void setMoveTimeout(TimingWheel timer, long timeout, TimeUnit unit) {
+        this.timer = timer;
+        this.moveTimeoutNanos = unit.toNanos(timeout);
+    }
+
+    // ==================== Accessors ====================
+
+    /**
+     * Gets the session ID.
+     *
+     * @return the session ID
+     */
+    public String getId() {
+        return this.id;
+    }
+
+    /**
+     * Gets the turn the game is at, as of the last applied move.
+     * Producers stamp their moves with it.
+     *
+     * @return the turn number, counting from 0
+     */
+    public int getTurn() {
+        return this.turn;
+    }
+
+    /**
+     * Gets the phase the game is at, as of the last applied move.
+     *
+     * @return the turn phase; TURN_START before the game starts, TURN_END once it is over
+     */
+    public TurnPhase getPhase() {
+        return this.phase;
+    }
+
+    /**
+     * Checks whether the game is over.
+     *
+     * @return true once the board is cleared
+     */
+    public boolean isOver() {
+        return this.over;
+    }
+
+    /**
+     * Gets the number of batches applied. Read it only after the session has ended.
+     *
+     * @return the batch count
+     */
+    public long getBatchCount() {
+        return this.batches;
+    }
+
+    /**
+     * Gets the number of moves applied. Read it only after the session has ended.
+     *
+     * @return the applied move count
+     */
+    public long getAppliedCount() {
+        return this.applied;
+    }
+
+    // ==================== Producers ====================
+
+    /**
+     * Queues a move. Safe to call from any thread; never blocks.
+     *
+     * @param command the move
+     * @return the move, whose result completes once it has been applied or refused
+     */
+    public SessionCommand submit(SessionCommand command) {
+        this.queue.submit(command);
+        return command;
+    }
+
+    /**
+     * Closes the session's queue. Moves already queued are still applied, then the
+     * session ends.
+     */
+    public void close() {
+        this.queue.close();
+    }
+
+    // ==================== Consumer ====================
+
+    /**
+     * Applies queued moves in batches until the game is over or the queue is closed.
+     */
+    @Override
+    public void run() {
+        log(ActivityType.START_GAME, null);
+        log(ActivityType.SELECT_PLAYER_COUNT, Integer.toString(this.state.getPlayers().size()));
+        beginTurn();
+        publish();
+
+        List<SessionCommand> batch = new ArrayList<>(MAX_BATCH);
+        try {
+            while (this.queue.drain(batch, MAX_BATCH) > 0) {
+                for (SessionCommand command : batch) {
+                    apply(command);
+                }
+                this.batches++;
+                publish();
+                if (this.over) {
+                    this.queue.close();
+                }
+                for (SessionCommand command : batch) {
+                    command.completeDecided();
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.queue.close();
+            for (SessionCommand command : batch) {
+                command.complete(CommandResult.Status.REJECTED, "Session was interrupted");
+            }
+        }
+        if (this.deadline != null) {
+            this.deadline.cancel();
+        }
+        if (this.over) {
+            this.state.saveSeenQuestions();
+        }
+    }
+
+    /**
+     * Applies one move if it is current and valid, recording its outcome.
+     * The outcome is held by the move until its batch has been published.
+     *
+     * @param command the move
+     */
+    private void apply(SessionCommand command) {
+        if (this.over) {
+            command.decide(CommandResult.Status.STALE, "Game is over");
+            return;
+        }
+        if (command.getTurn() != this.turn || command.getPhase() != this.phase) {
+            command.decide(CommandResult.Status.STALE,
+                String.format("Expected turn %d %s", this.turn, this.phase));
+            return;
+        }
+        Player player = this.state.getCurrentPlayer();
+        if (command.isTimeout()) {
+            expire(player, command.getPhase());
+            this.applied++;
+            command.decide(CommandResult.Status.APPLIED, null);
+            return;
+        }
+        if (!player.getId().equals(command.getPlayerId())) {
+            command.decide(CommandResult.Status.REJECTED, "Not your turn");
+            return;
+        }
+
+        String error;
+        switch (command.getPhase()) {
+            case SELECT_CATEGORY:
+                error = selectCategory(player, command.getArgument());
+                break;
+            case SELECT_QUESTION:
+                error = selectQuestion(player, command.getArgument());
+                break;
+            case ANSWER:
+                error = answer(player, command.getArgument());
+                break;
+            default:
+                error = "Unknown move";
+                break;
+        }
+        if (error != null) {
+            command.decide(CommandResult.Status.REJECTED, error);
+            return;
+        }
+        this.applied++;
+        command.decide(CommandResult.Status.APPLIED, null);
+    }
+
+    /**
+     * Selects a category for the current player.
+     *
+     * @param player the current player
+     * @param category the category name
+     * @return an error message, or null if the move was applied
+     */
+    private String selectCategory(Player player, String category) {
+        if (!this.state.getQuestionService().getCategories().contains(category)) {
+            return "Unknown category " + category;
+        }
+        this.pendingCategory = category;
+        player.setCommand(new SelectCategoryCommand(this));
+        player.doCommand();
+        this.phase = TurnPhase.SELECT_QUESTION;
+        armDeadline();
+        return null;
+    }
+
+    /**
+     * Selects a question of the chosen category for the current player.
+     *
+     * @param player the current player
+     * @param value the question value
+     * @return an error message, or null if the move was applied
+     */
+    private String selectQuestion(Player player, String value) {
+        try {
+            this.pendingValue = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return GameConstants.ERROR_INVALID_NUMBER;
+        }
+        if (!this.state.getQuestionService().getCategoryQuestionValues(this.state.getCurrentCategory()).contains(this.pendingValue)) {
+            return "No unanswered " + value + " question in " + this.state.getCurrentCategory();
+        }
+        player.setCommand(new SelectQuestionCommand(this));
+        player.doCommand();
+        this.phase = TurnPhase.ANSWER;
+        armDeadline();
+        return null;
+    }
+
+    /**
+     * Answers the selected question for the current player and passes the turn on.
+     *
+     * @param player the current player
+     * @param answer the answer label
+     * @return an error message, or null if the move was applied
+     */
+    private String answer(Player player, String answer) {
+        Question question = this.state.getCurrentQuestion();
+        String label = answer == null ? "" : answer.trim().toUpperCase();
+        if (label.isEmpty() || (question.getOptionCount() > 0 && !question.hasOption(label))) {
+            return GameConstants.ERROR_INVALID_ANSWER;
+        }
+        player.setCommand(new AnswerQuestionCommand(this, label));
+        player.doCommand();
+        this.state.nextTurn();
+        beginTurn();
+        return null;
+    }
+
+    /**
+     * Resolves a move that ran out of time as an incorrect answer and passes the turn on.
+     *
+     * @param player the current player
+     * @param phase the phase that expired
+     */
+    private void expire(Player player, TurnPhase phase) {
+        this.deadline = null;
+        player.setCommand(new TimeoutCommand(this, phase == TurnPhase.ANSWER));
+        player.doCommand();
+        this.state.nextTurn();
+        beginTurn();
+    }
+
+    // ==================== Turn Flow ====================
+
+    /**
+     * Gives the turn to the current player, or ends the game when the board is cleared.
+     */
+    private void beginTurn() {
+        this.turn = this.state.getCurrentTurn();
+        if (this.state.getQuestionService().getUnansweredQuestions().isEmpty()) {
+            this.phase = TurnPhase.TURN_END;
+            this.over = true;
+            armDeadline();
+            log(ActivityType.GAME_OVER, null);
+            return;
+        }
+        this.phase = TurnPhase.SELECT_CATEGORY;
+        armDeadline();
+    }
+
+    /**
+     * Gives the move the game now waits for its time limit, replacing the previous deadline.
+     */
+    private void armDeadline() {
+        if (this.deadline != null) {
+            this.deadline.cancel();
+            this.deadline = null;
+        }
+        if (this.timer != null && !this.over) {
+            SessionCommand expiry = SessionCommand.timeout(this.turn, this.phase);
+            this.deadline = this.timer.schedule(() -> this.queue.submit(expiry), this.moveTimeoutNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Buffers a game-level activity log.
+     *
+     * @param type the activity type
+     * @param result the result, or null
+     */
+    private void log(ActivityType type, String result) {
+        ActivityLogBuilder builder = new ActivityLogBuilder()
+                .setCaseId(this.id)
+                .setPlayerId(GameConstants.SYSTEM_PLAYER_ID)
+                .setActivity(type)
+                .setTimestamp();
+        if (result != null) {
+            builder.setResult(result);
+        }
+        this.pendingLogs.add(builder.createActivityLog());
+    }
+
+    /**
+     * Publishes the activity logs buffered during the last batch, in order.
+     */
+    private void publish() {
+        for (ActivityLog log : this.pendingLogs) {
+            this.activityPublisher.setCurrentActivityLog(log);
+            this.activityPublisher.notifySubscribers();
+        }
+        this.pendingLogs.clear();
+    }
+
+    // ==================== GameController ====================
+
+    /**
+     * Gets the state of this game. Read it only from the session's thread or after
+     * a move's result has completed.
+     *
+     * @return the game state
+     */
+    @Override
+    public GameState getState() {
+        return this.state;
+    }
+
+    /**
+     * Gets the silent IO that command output is written to.
+     *
+     * @return the session's GameIO
+     */
+    @Override
+    public GameIO getIO() {
+        return this.io;
+    }
+
+    /**
+     * Applies the category chosen by the current move.
+     */
+    @Override
+    public void selectCategory() {
+        this.state.setCurrentCategory(this.pendingCategory);
+    }
+
+    /**
+     * Applies the value chosen by the current move.
+     */
+    @Override
+    public void selectQuestion() {
+        this.state.setCurrentQuestion(this.state.getQuestionService().getCategoryQuestionByValue(
+            this.state.getCurrentCategory(), this.pendingValue, this.state.getCurrentPlayer().getSeenQuestions()::contains));
+    }
+
+    /**
+     * Updates the current player's score.
+     *
+     * @param points the points to add
+     */
+    @Override
+    public void updateCurrentPlayerScore(int points) {
+        this.state.getCurrentPlayer().updateCurrentScore(points);
+    }
+
+    /**
+     * Buffers the current activity log until the batch is published.
+     *
+     * @param log the ActivityLog to set
+     */
+    @Override
+    public void setCurrentActivityLog(ActivityLog log) {
+        this.pendingLogs.add(log);
+    }
+
+    /**
+     * Does nothing; buffered logs are published once per batch.
+     */
+    @Override
+    public void notifySubscribers() {
+        // Published by publish() after the batch
+    }
+}
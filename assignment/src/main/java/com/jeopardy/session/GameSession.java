@@ -0,0 +1,152 @@
+package com.jeopardy.session;
+
+import com.jeopardy.game.GameEngine;
+import com.jeopardy.game.GameState;
+import com.jeopardy.ui.ConsoleGameIO;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+/**
+ * GameSession is one independently hosted game.
+ *
+ * Each session owns its own GameEngine, GameState, input and output, so sessions never
+ * share mutable game state and never write to each other's screens (or to System.out). Only the question bank, which is read-only, is shared
+ * between sessions (see SessionManager).
+ *
+ * A session runs its engine's game loop on its own thread. It ends when the game is
+ * over, when its input is closed, or when the engine fails; a failure ends only this
+ * session and is recorded in its status.
+ */
+public class GameSession implements Runnable {
+
+    /**
+     * Lifecycle of a hosted session.
+     */
+    public enum Status {
+        CREATED,
+        RUNNING,
+        FINISHED,
+        DISCONNECTED,
+        FAILED
+    }
+
+    private final String id;
+    private final GameState state;
+    private final SessionInput input;
+    private final GameEngine engine;
+    private volatile Status status;
+
+    /**
+     * Constructs a session over its own state, input and output.
+     *
+     * @param id the session ID, also used as the case ID of its activity logs
+     * @param state the game state of this session
+     * @param input the input this session reads player commands from
+     * @param output the stream this session's screens are written to, as UTF-8
+     */
+    GameSession(String id, GameState state, SessionInput input, OutputStream output) {
+        this.id = id;
+        this.state = state;
+        this.input = input;
+        this.state.setCaseId(id);
+        this.engine = new GameEngine(state, new ConsoleGameIO(input, new PrintStream(output, false, StandardCharsets.UTF_8)));
+        this.status = Status.CREATED;
+    }
+
+    // ==================== Accessors ====================
+
+    /**
+     * Gets the session ID.
+     *
+     * @return the session ID
+     */
+    public String getId() {
+        return this.id;
+    }
+
+    /**
+     * Gets the engine playing this session's game.
+     *
+     * @return the session's GameEngine
+     */
+    public GameEngine getEngine() {
+        return this.engine;
+    }
+
+    /**
+     * Gets the state of this session's game.
+     *
+     * @return the session's GameState
+     */
+    public GameState getState() {
+        return this.state;
+    }
+
+    /**
+     * Gets the current lifecycle status.
+     *
+     * @return the session status
+     */
+    public Status getStatus() {
+        return this.status;
+    }
+
+    /**
+     * Checks whether the session has ended for any reason.
+     *
+     * @return true if the session is finished, disconnected or failed
+     */
+    public boolean isEnded() {
+        Status s = this.status;
+        return s == Status.FINISHED || s == Status.DISCONNECTED || s == Status.FAILED;
+    }
+
+    // ==================== Input ====================
+
+    /**
+     * Sends a line of player input to this session.
+     *
+     * @param line the input line
+     */
+    public void send(String line) {
+        this.input.send(line);
+    }
+
+    /**
+     * Checks whether the session is parked on a prompt, waiting for a line not yet sent.
+     *
+     * @return true if the session's engine is blocked reading input
+     */
+    public boolean isAwaitingInput() {
+        return this.input.isAwaitingInput();
+    }
+
+    /**
+     * Closes this session's input; the session ends the next time it waits for input.
+     */
+    public void close() {
+        this.input.close();
+    }
+
+    // ==================== Game Loop ====================
+
+    /**
+     * Plays the session's game until it is over or its input ends.
+     */
+    @Override
+    public void run() {
+        this.status = Status.RUNNING;
+        try {
+            this.engine.start();
+            this.status = this.engine.isGameOver() ? Status.FINISHED : Status.DISCONNECTED;
+        } catch (NoSuchElementException | IllegalStateException e) {
+            this.status = Status.DISCONNECTED;
+        } catch (RuntimeException e) {
+            System.err.println("Session " + this.id + " failed: " + e.getMessage());
+            this.status = Status.FAILED;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.jeopardy.session;
+
+import com.jeopardy.game.TurnPhase;
+import com.jeopardy.utils.GameConstants;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * SessionCommand is one player move waiting in a session's CommandQueue.
+ *
+ * A move names the player making it and the turn and phase it was made for, as seen
+ * by its producer when it was sent. The session applies a move only if the game is
+ * still at that turn and phase, so a move that arrives late (a repeated click, a
+ * network retry, a bot that ran ahead) is rejected as stale instead of being applied
+ * to a later turn.
+ *
+ * The move's outcome is delivered through {@link #getResult()} once the session has
+ * applied its batch, so producers never wait for scoring or logging.
+ */
+public final class SessionCommand {
+
+    private final String playerId;
+    private final int turn;
+    private final TurnPhase phase;
+    private final String argument;
+    private final boolean timeout;
+    private final CompletableFuture<CommandResult> result;
+    private long sequence;
+    private CommandResult outcome;
+
+    /**
+     * Constructs a move.
+     *
+     * @param playerId the player making the move
+     * @param turn the turn the move was made for
+     * @param phase the phase the move belongs to
+     * @param argument the category, value or answer label
+     * @param timeout true if the move is the expiry of a deadline
+     */
+    private SessionCommand(String playerId, int turn, TurnPhase phase, String argument, boolean timeout) {
+        this.playerId = playerId;
+        this.turn = turn;
+        this.phase = phase;
+        this.argument = argument;
+        this.timeout = timeout;
+        this.result = new CompletableFuture<>();
+        this.sequence = -1;
+    }
+
+    // ==================== Factory Methods ====================
+
+    /**
+     * Creates a category selection.
+     *
+     * @param playerId the player making the move
+     * @param turn the turn the move was made for
+     * @param category the category name
+     * @return the move
+     */
+    public static SessionCommand selectCategory(String playerId, int turn, String category) {
+        return new SessionCommand(playerId, turn, TurnPhase.SELECT_CATEGORY, category, false);
+    }
+
+    /**
+     * Creates a question selection.
+     *
+     * @param playerId the player making the move
+     * @param turn the turn the move was made for
+     * @param value the question value
+     * @return the move
+     */
+    public static SessionCommand selectQuestion(String playerId, int turn, int value) {
+        return new SessionCommand(playerId, turn, TurnPhase.SELECT_QUESTION, String.valueOf(value), false);
+    }
+
+    /**
+     * Creates an answer.
+     *
+     * @param playerId the player making the move
+     * @param turn the turn the move was made for
+     * @param label the answer label, e.g. "A"
+     * @return the move
+     */
+    public static SessionCommand answer(String playerId, int turn, String label) {
+        return new SessionCommand(playerId, turn, TurnPhase.ANSWER, label, false);
+    }
+
+    /**
+     * Creates the expiry of a move's deadline, sent by the session's timer.
+     * Like any move it is stale if the move was made before it is applied.
+     *
+     * @param turn the turn the deadline was set for
+     * @param phase the phase the deadline was set for
+     * @return the move
+     */
+    static SessionCommand timeout(int turn, TurnPhase phase) {
+        return new SessionCommand(GameConstants.SYSTEM_PLAYER_ID, turn, phase, null, true);
+    }
+
+    // ==================== Accessors ====================
+
+    /**
+     * Gets the player making the move.
+     *
+     * @return the player ID
+     */
+    public String getPlayerId() {
+        return this.playerId;
+    }
+
+    /**
+     * Gets the turn the move was made for.
+     *
+     * @return the turn number, counting from 0
+     */
+    public int getTurn() {
+        return this.turn;
+    }
+
+    /**
+     * Gets the phase the move belongs to.
+     *
+     * @return the turn phase
+     */
+    public TurnPhase getPhase() {
+        return this.phase;
+    }
+
+    /**
+     * Gets the move's argument.
+     *
+     * @return the category, value or answer label
+     */
+    public String getArgument() {
+        return this.argument;
+    }
+
+    /**
+     * Checks whether the move is the expiry of a deadline rather than a player's move.
+     *
+     * @return true for a timeout
+     */
+    public boolean isTimeout() {
+        return this.timeout;
+    }
+
+    /**
+     * Gets the position of the move in its session's queue.
+     *
+     * @return the sequence number, or -1 before the move was queued
+     */
+    public long getSequence() {
+        return this.sequence;
+    }
+
+    /**
+     * Gets the outcome of the move, completed once the session has applied it.
+     *
+     * @return the future result
+     */
+    public CompletableFuture<CommandResult> getResult() {
+        return this.result;
+    }
+
+    /**
+     * Assigns the move its place in the queue.
+     *
+     * @param sequence the sequence number
+     */
+    void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    /**
+     * Completes the move with its outcome.
+     *
+     * @param status the outcome
+     * @param message why the move was not applied, or null
+     */
+    void complete(CommandResult.Status status, String message) {
+        this.result.complete(new CommandResult(this.sequence, status, message));
+    }
+
+    /**
+     * Records the move's outcome without completing its result yet.
+     *
+     * @param status the outcome
+     * @param message why the move was not applied, or null
+     */
+    void decide(CommandResult.Status status, String message) {
+        this.outcome = new CommandResult(this.sequence, status, message);
+    }
+
+    /**
+     * Completes the move with the outcome recorded by {@link #decide}.
+     */
+    void completeDecided() {
+        this.result.complete(this.outcome);
+    }
+
+    /**
+     * Describes the move.
+     *
+     * @return e.g. "Ann ANSWER A (turn 3)"
+     */
+    @Override
+    public String toString() {
+        return String.format("%s %s %s (turn %d)", this.playerId, this.phase, this.argument, this.turn);
+    }
+}
@@ -0,0 +1,92 @@
+package com.jeopardy.session;
+
+import com.jeopardy.question.QuestionService;
+import com.jeopardy.question.loader.CSVQuestionLoader;
+import com.jeopardy.utils.GameConstants;
+import com.jeopardy.utils.VirtualThreads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SessionHostBenchmark measures the cost of hosting many idle games in one JVM.
+ *
+ * It starts the requested number of sessions, waits until every one is blocked on
+ * its first prompt, and reports the heap retained per session and the time taken
+ * to start them. Session output is discarded.
+ *
+ * Usage:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass=com.jeopardy.session.SessionHostBenchmark -Dexec.args="10000"
+ * </pre>
+ */
+public class SessionHostBenchmark {
+
+    private static final int DEFAULT_SESSIONS = 10_000;
+
+    /**
+     * Prevents instantiation; use {@link #main(String[])}.
+     */
+    private SessionHostBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args optional session count, then optional question file
+     * @throws InterruptedException if interrupted while waiting for sessions
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SESSIONS;
+        String fileName = args.length > 1 ? args[1]
+                : GameConstants.DATA_DIRECTORY.resolve("sample_game_CSV.csv").toString();
+
+        QuestionService bank = new QuestionService();
+        if (!bank.setQuestions(new CSVQuestionLoader(), fileName)) {
+            System.out.println("[Error]: Could not load questions from " + fileName);
+            return;
+        }
+
+        SessionManager manager = new SessionManager(bank);
+        long heapBefore = usedHeap();
+        long start = System.nanoTime();
+
+        List<GameSession> sessions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            sessions.add(manager.createSession());
+        }
+        for (GameSession session : sessions) {
+            while (!session.isAwaitingInput() && !session.isEnded()) {
+                Thread.onSpinWait();
+            }
+        }
+        long startNanos = System.nanoTime() - start;
+        long heapAfter = usedHeap();
+
+        start = System.nanoTime();
+        boolean drained = manager.shutdown(1, TimeUnit.MINUTES);
+        long shutdownNanos = System.nanoTime() - start;
+
+        System.out.println(String.format("Threads: %s", VirtualThreads.isAvailable() ? "virtual" : "platform (small stack)"));
+        System.out.println(String.format("Sessions started: %d in %d ms (%.1f us per session)",
+            count, startNanos / 1_000_000, startNanos / 1_000.0 / count));
+        System.out.println(String.format("Heap retained: %d KB total, %d bytes per session",
+            (heapAfter - heapBefore) / 1024, (heapAfter - heapBefore) / count));
+        System.out.println(String.format("Shutdown: %d ms, all sessions ended: %s",
+            shutdownNanos / 1_000_000, drained));
+    }
+
+    /**
+     * Measures used heap after requesting a garbage collection.
+     *
+     * @return the used heap in bytes
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
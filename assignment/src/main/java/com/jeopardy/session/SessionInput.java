@@ -0,0 +1,140 @@
+package com.jeopardy.session;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * SessionInput is the input stream of one hosted game session.
+ *
+ * Lines sent with {@link #send(String)} are queued and handed to the session's
+ * Scanner as they are read. A session with nothing to read simply blocks its
+ * own thread, so an idle game costs no CPU. Closing the input ends the stream,
+ * which ends the session once its engine next asks for input.
+ *
+ * Unlike PipedInputStream, reads do not depend on the sending thread staying alive,
+ * so any thread (e.g. a network handler) can feed any session.
+ */
+public class SessionInput extends InputStream {
+
+    private static final byte[] END_OF_INPUT = new byte[0];
+
+    private final LinkedBlockingQueue<byte[]> chunks;
+    private byte[] current;
+    private int position;
+    private volatile boolean closed;
+    private volatile boolean awaiting;
+
+    /**
+     * Constructs an empty, open session input.
+     */
+    public SessionInput() {
+        this.chunks = new LinkedBlockingQueue<>();
+    }
+
+    /**
+     * Queues a line of player input. A line separator is appended.
+     *
+     * @param line the line to send
+     * @throws IllegalStateException if the input has been closed
+     */
+    public void send(String line) {
+        if (this.closed) {
+            throw new IllegalStateException("Session input is closed");
+        }
+        this.chunks.add((line + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads one byte, blocking until input is available or the stream is closed.
+     *
+     * @return the byte read, or -1 at the end of the stream
+     */
+    @Override
+    public int read() {
+        if (!fill()) {
+            return -1;
+        }
+        return this.current[this.position++] & 0xFF;
+    }
+
+    /**
+     * Reads up to len bytes, blocking only until at least one byte is available.
+     *
+     * @param b the buffer to read into
+     * @param off the offset in the buffer
+     * @param len the maximum number of bytes to read
+     * @return the number of bytes read, or -1 at the end of the stream
+     */
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int count = Math.min(len, this.current.length - this.position);
+        System.arraycopy(this.current, this.position, b, off, count);
+        this.position += count;
+        return count;
+    }
+
+    /**
+     * Gets the number of bytes that can be read without blocking from the current line.
+     *
+     * @return the number of buffered bytes
+     */
+    @Override
+    public int available() {
+        return this.current == null ? 0 : this.current.length - this.position;
+    }
+
+    /**
+     * Checks whether the reader is waiting for a line that has not been sent yet,
+     * i.e. the session has shown its prompt and is parked until input arrives.
+     *
+     * @return true if a read is blocked on an empty queue
+     */
+    public boolean isAwaitingInput() {
+        return this.awaiting;
+    }
+
+    /**
+     * Ends the stream. Lines already sent are still delivered before the end is seen.
+     */
+    @Override
+    public void close() {
+        if (!this.closed) {
+            this.closed = true;
+            this.chunks.add(END_OF_INPUT);
+        }
+    }
+
+    /**
+     * Makes sure there is an unread chunk, waiting for one if needed.
+     *
+     * @return true if bytes are available, false at the end of the stream
+     */
+    private boolean fill() {
+        while (this.current == null || this.position == this.current.length) {
+            if (this.current == END_OF_INPUT) {
+                return false;
+            }
+            this.awaiting = this.chunks.isEmpty();
+            try {
+                this.current = this.chunks.take();
+                this.position = 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                this.awaiting = false;
+            }
+            if (this.current == END_OF_INPUT) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,208 @@
+package com.jeopardy.session;
+
+import com.jeopardy.game.GameState;
+import com.jeopardy.journal.CommandJournal;
+import com.jeopardy.journal.GameJournal;
+import com.jeopardy.logging.observer.Subscriber;
+import com.jeopardy.question.QuestionService;
+import com.jeopardy.timer.TimingWheel;
+import com.jeopardy.utils.VirtualThreads;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SessionManager hosts many independent games in one JVM.
+ *
+ * Each session gets its own GameEngine and GameState and runs on its own thread;
+ * threads are virtual where the runtime supports them (see VirtualThreads), so a
+ * session waiting for input costs memory but no scheduling work.
+ *
+ * All sessions draw their boards from one shared question bank. The bank and its
+ * index are built once and only read afterwards; each session plays on copies of
+ * the drawn questions, so answering never mutates shared data.
+ *
+ * Console sessions (GameSession) read typed input; command sessions (CommandSession)
+ * apply moves submitted to their command queue.
+ *
+ * Design patterns used:
+ * - Factory Method: createSession() and createCommandSession() build and start fully wired sessions
+ *
+ * SOLID principles:
+ * - Single Responsibility Principle (SRP): Hosts session lifecycles; game rules stay in GameEngine
+ */
+public class SessionManager {
+
+    private final QuestionService bank;
+    private final ExecutorService executor;
+    private final Map<String, GameSession> sessions;
+    private final Map<String, CommandSession> commandSessions;
+    private final AtomicLong nextId;
+    private final Random seeds;
+    private final TimingWheel timer;
+    private volatile CommandJournal journal;
+    private volatile long moveTimeoutNanos;
+
+    /**
+     * Constructs a session manager sharing one loaded question bank.
+     * The bank's index is built here so sessions only ever read it.
+     *
+     * @param bank the loaded question bank shared by all sessions
+     */
+    public SessionManager(QuestionService bank) {
+        this.bank = bank;
+        this.bank.getIndex();
+        this.executor = VirtualThreads.newThreadPerTaskExecutor("session");
+        this.sessions = new ConcurrentHashMap<>();
+        this.commandSessions = new ConcurrentHashMap<>();
+        this.nextId = new AtomicLong();
+        this.seeds = new Random();
+        this.timer = new TimingWheel("session-timer");
+    }
+
+    /**
+     * Sets the time limit for each move in command sessions created from now on.
+     * The deadlines of all sessions share one TimingWheel thread.
+     *
+     * @param timeout the time limit, or 0 for no limit
+     * @param unit the unit of the time limit
+     */
+    public void setMoveTimeout(long timeout, TimeUnit unit) {
+        this.moveTimeoutNanos = unit.toNanos(timeout);
+    }
+
+    /**
+     * Journals every session created from now on into one shared journal.
+     * Sessions committing turns at the same time share fsyncs (group commit).
+     *
+     * @param journal the shared journal, or null to stop journaling new sessions
+     */
+    public void setJournal(CommandJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Creates a session whose output is discarded and starts its game.
+     *
+     * @return the started session
+     */
+    public GameSession createSession() {
+        return createSession(OutputStream.nullOutputStream());
+    }
+
+    /**
+     * Creates a session and starts its game.
+     * The game waits for its first input (the player count) on the session's thread.
+     *
+     * @param output the stream the session's screens are written to, e.g. its player's socket
+     * @return the started session
+     */
+    public GameSession createSession(OutputStream output) {
+        String id = "session-" + this.nextId.incrementAndGet();
+        GameState state = new GameState(new Random(this.seeds.nextLong()));
+        state.setBank(this.bank);
+
+        GameSession session = new GameSession(id, state, new SessionInput(), output);
+        CommandJournal shared = this.journal;
+        if (shared != null) {
+            session.getEngine().setJournal(new GameJournal(shared, id));
+        }
+        this.sessions.put(id, session);
+        this.executor.execute(() -> {
+            try {
+                session.run();
+            } finally {
+                this.sessions.remove(id);
+            }
+        });
+        return session;
+    }
+
+    /**
+     * Creates a session driven by a command queue and starts applying its moves.
+     * Unlike {@link #createSession()}, players are seated up front and moves are
+     * submitted as SessionCommands rather than typed as console input.
+     *
+     * @param playerIds the players, in turn order
+     * @param subscribers the subscribers to publish the session's activity logs to
+     * @return the started session
+     */
+    public CommandSession createCommandSession(List<String> playerIds, List<Subscriber> subscribers) {
+        return createCommandSession("session-" + this.nextId.incrementAndGet(), playerIds, subscribers);
+    }
+
+    /**
+     * Creates a command-driven session under an ID chosen by the caller, such as
+     * the ID of the API game that submits its moves.
+     *
+     * @param id the session ID, also the case ID of its activity logs
+     * @param playerIds the players, in turn order
+     * @param subscribers the subscribers to publish the session's activity logs to
+     * @return the started session
+     */
+    public CommandSession createCommandSession(String id, List<String> playerIds, List<Subscriber> subscribers) {
+        GameState state = new GameState(new Random(this.seeds.nextLong()));
+        CommandSession session = new CommandSession(id, state, this.bank, playerIds, subscribers);
+        long timeout = this.moveTimeoutNanos;
+        if (timeout > 0) {
+            session.setMoveTimeout(this.timer, timeout, TimeUnit.NANOSECONDS);
+        }
+        this.commandSessions.put(id, session);
+        this.executor.execute(() -> {
+            try {
+                session.run();
+            } finally {
+                this.commandSessions.remove(id);
+            }
+        });
+        return session;
+    }
+
+    /**
+     * Looks up a live session by ID.
+     *
+     * @param id the session ID
+     * @return the session, or null if it does not exist or has ended
+     */
+    public GameSession getSession(String id) {
+        return this.sessions.get(id);
+    }
+
+    /**
+     * Gets the number of sessions that have not ended yet.
+     *
+     * @return the number of live sessions
+     */
+    public int getActiveSessionCount() {
+        return this.sessions.size() + this.commandSessions.size();
+    }
+
+    /**
+     * Closes every live session's input and waits for their threads to finish.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     * @return true if all sessions ended within the timeout
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        List<GameSession> live = new ArrayList<>(this.sessions.values());
+        for (GameSession session : live) {
+            session.close();
+        }
+        for (CommandSession session : new ArrayList<>(this.commandSessions.values())) {
+            session.close();
+        }
+        this.executor.shutdown();
+        boolean terminated = this.executor.awaitTermination(timeout, unit);
+        this.timer.close();
+        return terminated;
+    }
+}
@@ -0,0 +1,96 @@
+package com.jeopardy.simulation;
+
+import com.jeopardy.question.Question;
+import com.jeopardy.question.QuestionService;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * AccuracyWeightedBotStrategy models a player who is stronger in some categories.
+ *
+ * Each category has its own probability of a correct answer, and the bot plays the
+ * question with the highest expected points (value times accuracy). Since wrong
+ * answers cost nothing, the highest value within the chosen category is always best.
+ */
+public class AccuracyWeightedBotStrategy extends BotStrategy {
+
+    private static final double MIN_SKILL = 0.4;
+    private static final double MAX_SKILL = 0.95;
+
+    private final ToDoubleFunction<String> accuracyByCategory;
+
+    /**
+     * Constructs an accuracy-weighted bot.
+     *
+     * @param accuracyByCategory the probability of answering correctly in each category
+     */
+    public AccuracyWeightedBotStrategy(ToDoubleFunction<String> accuracyByCategory) {
+        super("accuracy");
+        this.accuracyByCategory = accuracyByCategory;
+    }
+
+    /**
+     * Creates a bot whose accuracy per category is derived from a seed,
+     * spread evenly between 0.4 and 0.95. Equal seeds give equal skills.
+     *
+     * @param seed the skill seed
+     * @return the bot
+     */
+    public static AccuracyWeightedBotStrategy withSkillSeed(long seed) {
+        return new AccuracyWeightedBotStrategy(category -> {
+            long h = (category.hashCode() ^ seed) * 0x9E3779B97F4A7C15L;
+            double unit = (h >>> 11) * 0x1.0p-53;
+            return MIN_SKILL + unit * (MAX_SKILL - MIN_SKILL);
+        });
+    }
+
+    /**
+     * Gets the bot's accuracy in a category.
+     *
+     * @param category the category
+     * @return the probability of answering correctly
+     */
+    public double getAccuracy(String category) {
+        return this.accuracyByCategory.applyAsDouble(category);
+    }
+
+    /**
+     * Picks the category holding the question with the highest expected points.
+     *
+     * @param board the board of the game
+     * @param random the random source of the game
+     * @return the chosen category
+     */
+    @Override
+    public String chooseCategory(QuestionService board, Random random) {
+        return bestQuestion(board, this.accuracyByCategory).getCategory();
+    }
+
+    /**
+     * Picks the highest unanswered value.
+     *
+     * @param board the board of the game
+     * @param category the chosen category
+     * @param values the unanswered values in the category, ascending
+     * @param random the random source of the game
+     * @return the chosen value
+     */
+    @Override
+    public int chooseValue(QuestionService board, String category, List<Integer> values, Random random) {
+        return values.get(values.size() - 1);
+    }
+
+    /**
+     * Answers correctly with this bot's accuracy in the question's category.
+     *
+     * @param question the question to answer
+     * @param random the random source of the game
+     * @return the chosen label
+     */
+    @Override
+    public String chooseAnswer(Question question, Random random) {
+        return answer(question, random.nextDouble() < getAccuracy(question.getCategory()), random);
+    }
+}
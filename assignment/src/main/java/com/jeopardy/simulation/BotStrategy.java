@@ -0,0 +1,143 @@
+package com.jeopardy.simulation;
+
+import com.jeopardy.question.Question;
+import com.jeopardy.question.QuestionService;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * BotStrategy decides how a simulated player plays its turns.
+ *
+ * A strategy picks a category, then a value within it, then an answer to the revealed
+ * question. Strategies hold no per-game state, so one instance can play in many
+ * games and threads at once; all randomness comes from the Random of the game.
+ *
+ * Design patterns used:
+ * - Strategy: Bots differ only in the BotStrategy they are given
+ * - Factory Method: forName() creates the built-in strategies by name
+ *
+ * SOLID principles:
+ * - Open/Closed Principle (OCP): New bots are added as subclasses without changing the simulator
+ */
+public abstract class BotStrategy {
+
+    private final String name;
+
+    /**
+     * Constructs a strategy with a display name.
+     *
+     * @param name the name used in simulation reports
+     */
+    protected BotStrategy(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the strategy's display name.
+     *
+     * @return the strategy name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Chooses the category to play from.
+     *
+     * @param board the board of the game, with at least one unanswered question
+     * @param random the random source of the game
+     * @return a category that still has unanswered questions
+     */
+    public abstract String chooseCategory(QuestionService board, Random random);
+
+    /**
+     * Chooses the value to play within a category.
+     *
+     * @param board the board of the game
+     * @param category the chosen category
+     * @param values the unanswered values in the category, ascending
+     * @param random the random source of the game
+     * @return one of the given values
+     */
+    public abstract int chooseValue(QuestionService board, String category, List<Integer> values, Random random);
+
+    /**
+     * Chooses the answer to a revealed question.
+     *
+     * @param question the question to answer
+     * @param random the random source of the game
+     * @return the answer label
+     */
+    public abstract String chooseAnswer(Question question, Random random);
+
+    /**
+     * Gives the correct answer, or else a random wrong option.
+     * Questions with fewer than two options get a label that matches no option.
+     *
+     * @param question the question to answer
+     * @param correct whether to answer correctly
+     * @param random the random source of the game
+     * @return the answer label
+     */
+    protected static String answer(Question question, boolean correct, Random random) {
+        String correctAnswer = question.getCorrectAnswer();
+        if (correct) {
+            return correctAnswer;
+        }
+
+        int count = question.getOptionCount();
+        if (count < 2) {
+            return String.valueOf((char) ('A' + count));
+        }
+        int pick = random.nextInt(count - 1);
+        String label = String.valueOf((char) ('A' + pick));
+        if (label.equalsIgnoreCase(correctAnswer)) {
+            label = String.valueOf((char) ('A' + count - 1));
+        }
+        return label;
+    }
+
+    /**
+     * Finds the unanswered question with the highest weighted value.
+     *
+     * @param board the board to search
+     * @param weights the weight of each question's value, by category
+     * @return the best unanswered question, or null if all are answered
+     */
+    static Question bestQuestion(QuestionService board, ToDoubleFunction<String> weights) {
+        Question best = null;
+        double bestScore = -1;
+        for (Question q : board.getUnansweredQuestions()) {
+            double score = q.getValue() * weights.applyAsDouble(q.getCategory());
+            if (score > bestScore) {
+                best = q;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Creates a built-in strategy by name.
+     * Known names are "random", "greedy" and "accuracy".
+     *
+     * @param name the strategy name, case-insensitive
+     * @param seed a seed that varies per-category skill for the accuracy strategy
+     * @return the strategy
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static BotStrategy forName(String name, long seed) {
+        switch (name.trim().toLowerCase()) {
+            case "random":
+                return new RandomBotStrategy();
+            case "greedy":
+                return new GreedyBotStrategy(GreedyBotStrategy.DEFAULT_ACCURACY);
+            case "accuracy":
+                return AccuracyWeightedBotStrategy.withSkillSeed(seed);
+            default:
+                throw new IllegalArgumentException("Unknown bot strategy: " + name);
+        }
+    }
+}
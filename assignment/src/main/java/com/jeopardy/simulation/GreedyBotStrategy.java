@@ -0,0 +1,69 @@
+package com.jeopardy.simulation;
+
+import com.jeopardy.question.Question;
+import com.jeopardy.question.QuestionService;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * GreedyBotStrategy always plays the highest-valued question left on the board
+ * and answers correctly with a fixed probability.
+ */
+public class GreedyBotStrategy extends BotStrategy {
+
+    /**
+     * Accuracy used by the built-in "greedy" strategy.
+     */
+    public static final double DEFAULT_ACCURACY = 0.7;
+
+    private final double accuracy;
+
+    /**
+     * Constructs a greedy bot.
+     *
+     * @param accuracy the probability of answering correctly, between 0 and 1
+     */
+    public GreedyBotStrategy(double accuracy) {
+        super("greedy");
+        this.accuracy = accuracy;
+    }
+
+    /**
+     * Picks the category holding the highest-valued unanswered question.
+     *
+     * @param board the board of the game
+     * @param random the random source of the game
+     * @return the chosen category
+     */
+    @Override
+    public String chooseCategory(QuestionService board, Random random) {
+        return bestQuestion(board, category -> 1.0).getCategory();
+    }
+
+    /**
+     * Picks the highest unanswered value.
+     *
+     * @param board the board of the game
+     * @param category the chosen category
+     * @param values the unanswered values in the category, ascending
+     * @param random the random source of the game
+     * @return the chosen value
+     */
+    @Override
+    public int chooseValue(QuestionService board, String category, List<Integer> values, Random random) {
+        return values.get(values.size() - 1);
+    }
+
+    /**
+     * Answers correctly with this bot's accuracy.
+     *
+     * @param question the question to answer
+     * @param random the random source of the game
+     * @return the chosen label
+     */
+    @Override
+    public String chooseAnswer(Question question, Random random) {
+        return answer(question, random.nextDouble() < this.accuracy, random);
+    }
+}
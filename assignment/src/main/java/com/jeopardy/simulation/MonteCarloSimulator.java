@@ -0,0 +1,131 @@
+package com.jeopardy.simulation;
+
+import com.jeopardy.question.QuestionService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * MonteCarloSimulator plays large numbers of bot games in parallel.
+ *
+ * The requested games are split recursively into ranges on a ForkJoinPool, so idle
+ * workers steal work and throughput scales with the number of cores. Every worker
+ * thread records into its own SimulationStats (a thread-local accumulator); the
+ * accumulators are merged once all games are done, so recording never contends.
+ *
+ * Game i is played with a Random seeded from the simulation seed and i, so a
+ * simulation gives the same statistics regardless of the pool's parallelism.
+ *
+ * Design patterns used:
+ * - Strategy: Each seat is played by a BotStrategy
+ * - Command: Turns are played with the game's existing command classes (see SimulatedGame)
+ */
+public class MonteCarloSimulator {
+
+    /**
+     * Number of games below which a range is played directly instead of being split.
+     */
+    private static final int GAMES_PER_TASK = 64;
+
+    private static final long SEED_MIX = 0x9E3779B97F4A7C15L;
+
+    private final QuestionService bank;
+    private final List<BotStrategy> strategies;
+    private final long seed;
+
+    /**
+     * Constructs a simulator.
+     * The bank is shared read-only by all games; its index is built here.
+     *
+     * @param bank the question bank to draw boards from
+     * @param strategies the strategy of each seat, in turn order
+     * @param seed the seed all game seeds are derived from
+     */
+    public MonteCarloSimulator(QuestionService bank, List<BotStrategy> strategies, long seed) {
+        if (strategies.isEmpty()) {
+            throw new IllegalArgumentException("At least one bot strategy is required");
+        }
+        this.bank = bank;
+        this.strategies = new ArrayList<>(strategies);
+        this.seed = seed;
+        this.bank.getIndex();
+    }
+
+    /**
+     * Plays the given number of games on the common ForkJoinPool.
+     *
+     * @param games the number of games to play
+     * @return the merged statistics
+     */
+    public SimulationStats run(long games) {
+        return run(games, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays the given number of games on a ForkJoinPool.
+     *
+     * @param games the number of games to play
+     * @param pool the pool to play on
+     * @return the merged statistics
+     */
+    public SimulationStats run(long games, ForkJoinPool pool) {
+        Queue<SimulationStats> accumulators = new ConcurrentLinkedQueue<>();
+        ThreadLocal<SimulationStats> local = ThreadLocal.withInitial(() -> {
+            SimulationStats stats = new SimulationStats(this.strategies.size());
+            accumulators.add(stats);
+            return stats;
+        });
+
+        pool.invoke(new GameRange(0, games, local));
+
+        SimulationStats total = new SimulationStats(this.strategies.size());
+        for (SimulationStats stats : accumulators) {
+            total.merge(stats);
+        }
+        return total;
+    }
+
+    /**
+     * Plays a single game.
+     *
+     * @param index the game's index within the simulation
+     * @param stats the accumulator to record into
+     */
+    void playGame(long index, SimulationStats stats) {
+        Random random = new Random(this.seed ^ (index * SEED_MIX));
+        new SimulatedGame(this.bank, this.strategies, random).play(stats);
+    }
+
+    /**
+     * A range of games, split in half until it is small enough to play directly.
+     */
+    private class GameRange extends RecursiveAction {
+        private final long from;
+        private final long to;
+        private final ThreadLocal<SimulationStats> local;
+
+        GameRange(long from, long to, ThreadLocal<SimulationStats> local) {
+            this.from = from;
+            this.to = to;
+            this.local = local;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= GAMES_PER_TASK) {
+                SimulationStats stats = this.local.get();
+                for (long i = this.from; i < this.to; i++) {
+                    playGame(i, stats);
+                }
+                return;
+            }
+            long middle = (this.from + this.to) >>> 1;
+            invokeAll(new GameRange(this.from, middle, this.local), new GameRange(middle, this.to, this.local));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.jeopardy.simulation;
+
+import com.jeopardy.question.Question;
+import com.jeopardy.question.QuestionService;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * RandomBotStrategy picks categories, values and answers uniformly at random.
+ * It is the baseline the other strategies are compared against.
+ */
+public class RandomBotStrategy extends BotStrategy {
+
+    /**
+     * Constructs a random bot.
+     */
+    public RandomBotStrategy() {
+        super("random");
+    }
+
+    /**
+     * Picks a random category that still has unanswered questions.
+     *
+     * @param board the board of the game
+     * @param random the random source of the game
+     * @return the chosen category
+     */
+    @Override
+    public String chooseCategory(QuestionService board, Random random) {
+        List<String> categories = board.getCategories();
+        return categories.get(random.nextInt(categories.size()));
+    }
+
+    /**
+     * Picks a random unanswered value.
+     *
+     * @param board the board of the game
+     * @param category the chosen category
+     * @param values the unanswered values in the category
+     * @param random the random source of the game
+     * @return the chosen value
+     */
+    @Override
+    public int chooseValue(QuestionService board, String category, List<Integer> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    /**
+     * Picks a random option.
+     *
+     * @param question the question to answer
+     * @param random the random source of the game
+     * @return the chosen label
+     */
+    @Override
+    public String chooseAnswer(Question question, Random random) {
+        int count = question.getOptionCount();
+        return answer(question, count > 0 && random.nextInt(count) == 0, random);
+    }
+}
@@ -0,0 +1,188 @@
+package com.jeopardy.simulation;
+
+import com.jeopardy.command.AnswerQuestionCommand;
+import com.jeopardy.command.SelectCategoryCommand;
+import com.jeopardy.command.SelectQuestionCommand;
+import com.jeopardy.game.GameController;
+import com.jeopardy.game.GameState;
+import com.jeopardy.game.Player;
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.question.Question;
+import com.jeopardy.question.QuestionService;
+import com.jeopardy.ui.GameIO;
+import com.jeopardy.ui.HeadlessGameIO;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * SimulatedGame plays one game between bots.
+ *
+ * It acts as the GameController of the game, so turns are played by the same
+ * SelectCategoryCommand, SelectQuestionCommand and AnswerQuestionCommand as a real
+ * game; the bots' strategies stand in for player input. Activity logs are discarded
+ * and all output goes to a silent HeadlessGameIO.
+ */
+class SimulatedGame implements GameController {
+
+    private final GameState state;
+    private final List<BotStrategy> strategies;
+    private final Random random;
+    private final GameIO io;
+    private String[] openedCategories;
+    private int[] pointsByOpeningOrder;
+    private int opened;
+
+    /**
+     * Sets up a game: seats one bot per strategy and draws a board from the bank.
+     *
+     * @param bank the shared question bank (read only)
+     * @param strategies the strategy of each seat, in turn order
+     * @param random the random source of this game
+     */
+    SimulatedGame(QuestionService bank, List<BotStrategy> strategies, Random random) {
+        this.state = new GameState(random);
+        this.strategies = strategies;
+        this.random = random;
+        this.io = new HeadlessGameIO();
+        for (int s = 0; s < strategies.size(); s++) {
+            this.state.addPlayer(new Player("Bot " + (s + 1)));
+        }
+        this.state.setBoard(bank);
+        this.openedCategories = new String[8];
+        this.pointsByOpeningOrder = new int[8];
+    }
+
+    /**
+     * Plays every question on the board and records the result.
+     *
+     * @param stats the accumulator to record the game into
+     */
+    void play(SimulationStats stats) {
+        int turns = this.state.getQuestionService().getUnansweredQuestions().size();
+        for (int turn = 0; turn < turns; turn++) {
+            Player player = this.state.getCurrentPlayer();
+            BotStrategy strategy = currentStrategy();
+
+            player.setCommand(new SelectCategoryCommand(this));
+            player.doCommand();
+            player.setCommand(new SelectQuestionCommand(this));
+            player.doCommand();
+
+            String answer = strategy.chooseAnswer(this.state.getCurrentQuestion(), this.random);
+            player.setCommand(new AnswerQuestionCommand(this, answer));
+            player.doCommand();
+
+            this.state.nextTurn();
+        }
+
+        List<Player> players = this.state.getPlayers();
+        int[] scores = new int[players.size()];
+        for (int s = 0; s < scores.length; s++) {
+            scores[s] = players.get(s).getCurrentScore();
+        }
+        stats.recordGame(scores, this.pointsByOpeningOrder, this.opened);
+    }
+
+    /**
+     * Gets the strategy of the player whose turn it is.
+     *
+     * @return the current seat's strategy
+     */
+    private BotStrategy currentStrategy() {
+        return this.strategies.get(this.state.getCurrentTurn() % this.strategies.size());
+    }
+
+    /**
+     * Gets the opening position of a category, assigning the next one on first use.
+     *
+     * @param category the category
+     * @return the category's opening position, from 0
+     */
+    private int openingOrder(String category) {
+        for (int k = 0; k < this.opened; k++) {
+            if (this.openedCategories[k].equals(category)) {
+                return k;
+            }
+        }
+        if (this.opened == this.openedCategories.length) {
+            this.openedCategories = Arrays.copyOf(this.openedCategories, this.opened * 2);
+            this.pointsByOpeningOrder = Arrays.copyOf(this.pointsByOpeningOrder, this.opened * 2);
+        }
+        this.openedCategories[this.opened] = category;
+        return this.opened++;
+    }
+
+    // ==================== GameController ====================
+
+    /**
+     * Gets the state of this game.
+     *
+     * @return the game state
+     */
+    @Override
+    public GameState getState() {
+        return this.state;
+    }
+
+    /**
+     * Gets the silent IO of this game.
+     *
+     * @return the game's HeadlessGameIO
+     */
+    @Override
+    public GameIO getIO() {
+        return this.io;
+    }
+
+    /**
+     * Lets the current bot choose a category.
+     */
+    @Override
+    public void selectCategory() {
+        String category = currentStrategy().chooseCategory(this.state.getQuestionService(), this.random);
+        this.state.setCurrentCategory(category);
+        openingOrder(category);
+    }
+
+    /**
+     * Lets the current bot choose a value in the current category.
+     */
+    @Override
+    public void selectQuestion() {
+        QuestionService board = this.state.getQuestionService();
+        String category = this.state.getCurrentCategory();
+        List<Integer> values = board.getCategoryQuestionValues(category);
+        int value = currentStrategy().chooseValue(board, category, values, this.random);
+        Question question = board.getCategoryQuestionByValue(category, value);
+        this.state.setCurrentQuestion(question);
+    }
+
+    /**
+     * Adds points to the current player and to the current category's opening position.
+     *
+     * @param points the points to add
+     */
+    @Override
+    public void updateCurrentPlayerScore(int points) {
+        this.state.getCurrentPlayer().updateCurrentScore(points);
+        this.pointsByOpeningOrder[openingOrder(this.state.getCurrentCategory())] += points;
+    }
+
+    /**
+     * Discards the activity log; simulations do not publish events.
+     *
+     * @param log the activity log
+     */
+    @Override
+    public void setCurrentActivityLog(ActivityLog log) {
+    }
+
+    /**
+     * Does nothing; simulations have no subscribers.
+     */
+    @Override
+    public void notifySubscribers() {
+    }
+}
@@ -0,0 +1,206 @@
+package com.jeopardy.simulation;
+
+import java.util.Arrays;
+
+/**
+ * SimulationStats accumulates the results of simulated games.
+ *
+ * Each simulation thread fills its own instance, and the instances are merged when
+ * the simulation ends, so recording a game never contends with other threads.
+ * All totals are integers, so merged results are identical however the games were
+ * split between threads.
+ *
+ * Tracked per seat (turn order): wins, score sum and sum of squares.
+ * Tracked per game: ties, the spread between the best and worst score, and the
+ * points scored from each category by the order in which categories were opened.
+ */
+public class SimulationStats {
+
+    private final int seats;
+    private long games;
+    private long ties;
+    private long spreadSum;
+    private final long[] wins;
+    private final long[] scoreSum;
+    private final long[] scoreSquareSum;
+    private long[] pointsByOpeningOrder;
+
+    /**
+     * Constructs empty statistics for games with the given number of seats.
+     *
+     * @param seats the number of players per game
+     */
+    public SimulationStats(int seats) {
+        this.seats = seats;
+        this.wins = new long[seats];
+        this.scoreSum = new long[seats];
+        this.scoreSquareSum = new long[seats];
+        this.pointsByOpeningOrder = new long[0];
+    }
+
+    // ==================== Recording ====================
+
+    /**
+     * Records one finished game.
+     *
+     * @param scores the final score of each seat
+     * @param pointsByOpeningOrder the points scored from the k-th category opened, for each k
+     * @param openedCategories the number of entries of pointsByOpeningOrder that are used
+     */
+    void recordGame(int[] scores, int[] pointsByOpeningOrder, int openedCategories) {
+        this.games++;
+
+        int best = Integer.MIN_VALUE;
+        int worst = Integer.MAX_VALUE;
+        int winner = -1;
+        for (int s = 0; s < this.seats; s++) {
+            int score = scores[s];
+            this.scoreSum[s] += score;
+            this.scoreSquareSum[s] += (long) score * score;
+            if (score > best) {
+                best = score;
+                winner = s;
+            } else if (score == best) {
+                winner = -1;
+            }
+            worst = Math.min(worst, score);
+        }
+
+        if (winner < 0) {
+            this.ties++;
+        } else {
+            this.wins[winner]++;
+        }
+        this.spreadSum += best - worst;
+
+        if (openedCategories > this.pointsByOpeningOrder.length) {
+            this.pointsByOpeningOrder = Arrays.copyOf(this.pointsByOpeningOrder, openedCategories);
+        }
+        for (int k = 0; k < openedCategories; k++) {
+            this.pointsByOpeningOrder[k] += pointsByOpeningOrder[k];
+        }
+    }
+
+    /**
+     * Adds the totals of another accumulator to this one.
+     *
+     * @param other the statistics to add
+     */
+    public void merge(SimulationStats other) {
+        this.games += other.games;
+        this.ties += other.ties;
+        this.spreadSum += other.spreadSum;
+        for (int s = 0; s < this.seats; s++) {
+            this.wins[s] += other.wins[s];
+            this.scoreSum[s] += other.scoreSum[s];
+            this.scoreSquareSum[s] += other.scoreSquareSum[s];
+        }
+        if (other.pointsByOpeningOrder.length > this.pointsByOpeningOrder.length) {
+            this.pointsByOpeningOrder = Arrays.copyOf(this.pointsByOpeningOrder, other.pointsByOpeningOrder.length);
+        }
+        for (int k = 0; k < other.pointsByOpeningOrder.length; k++) {
+            this.pointsByOpeningOrder[k] += other.pointsByOpeningOrder[k];
+        }
+    }
+
+    // ==================== Results ====================
+
+    /**
+     * Gets the number of seats per game.
+     *
+     * @return the seat count
+     */
+    public int getSeats() {
+        return this.seats;
+    }
+
+    /**
+     * Gets the number of games recorded.
+     *
+     * @return the game count
+     */
+    public long getGames() {
+        return this.games;
+    }
+
+    /**
+     * Gets the number of games in which two or more seats shared the top score.
+     *
+     * @return the tie count
+     */
+    public long getTies() {
+        return this.ties;
+    }
+
+    /**
+     * Gets the number of games a seat won outright.
+     *
+     * @param seat the seat, in turn order from 0
+     * @return the win count
+     */
+    public long getWins(int seat) {
+        return this.wins[seat];
+    }
+
+    /**
+     * Gets the fraction of games a seat won outright.
+     *
+     * @param seat the seat, in turn order from 0
+     * @return the win rate, or 0 if no games were recorded
+     */
+    public double getWinRate(int seat) {
+        return this.games == 0 ? 0 : (double) this.wins[seat] / this.games;
+    }
+
+    /**
+     * Gets the mean final score of a seat.
+     *
+     * @param seat the seat, in turn order from 0
+     * @return the mean score, or 0 if no games were recorded
+     */
+    public double getMeanScore(int seat) {
+        return this.games == 0 ? 0 : (double) this.scoreSum[seat] / this.games;
+    }
+
+    /**
+     * Gets the standard deviation of a seat's final score.
+     *
+     * @param seat the seat, in turn order from 0
+     * @return the score standard deviation, or 0 if no games were recorded
+     */
+    public double getScoreStdDev(int seat) {
+        if (this.games == 0) {
+            return 0;
+        }
+        double mean = getMeanScore(seat);
+        return Math.sqrt(Math.max(0, (double) this.scoreSquareSum[seat] / this.games - mean * mean));
+    }
+
+    /**
+     * Gets the mean difference between the best and worst final score of a game.
+     *
+     * @return the mean score spread, or 0 if no games were recorded
+     */
+    public double getMeanSpread() {
+        return this.games == 0 ? 0 : (double) this.spreadSum / this.games;
+    }
+
+    /**
+     * Gets the number of category opening positions recorded.
+     *
+     * @return the largest number of categories opened in any game
+     */
+    public int getOpeningOrderCount() {
+        return this.pointsByOpeningOrder.length;
+    }
+
+    /**
+     * Gets the mean points per game scored from the k-th category opened.
+     *
+     * @param order the opening position, from 0
+     * @return the mean points, or 0 if no games were recorded
+     */
+    public double getMeanPointsByOpeningOrder(int order) {
+        return this.games == 0 ? 0 : (double) this.pointsByOpeningOrder[order] / this.games;
+    }
+}
@@ -0,0 +1,81 @@
+package com.jeopardy.simulation;
+
+import com.jeopardy.question.QuestionService;
+import com.jeopardy.question.loader.CSVQuestionLoader;
+import com.jeopardy.utils.GameConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * SimulationTool is a command-line tool that simulates bot games and reports board balance.
+ *
+ * The report covers the win rate and score distribution of each seat (showing any
+ * first-player advantage), the mean score spread, and the mean points scored from
+ * categories by the order they were opened, followed by the games per second achieved.
+ *
+ * Usage:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass=com.jeopardy.simulation.SimulationTool \
+ *     -Dexec.args="1000000 greedy,random,accuracy 8 data/sample_game_CSV.csv"
+ * </pre>
+ * Arguments are optional: game count, comma-separated strategies (one per seat),
+ * parallelism (defaults to the number of cores) and the question bank.
+ */
+public class SimulationTool {
+
+    private static final long DEFAULT_GAMES = 100_000;
+    private static final String DEFAULT_STRATEGIES = "greedy,random";
+    private static final long SEED = 42;
+
+    /**
+     * Prevents instantiation; use {@link #main(String[])}.
+     */
+    private SimulationTool() {
+    }
+
+    /**
+     * Runs the simulation and prints its report.
+     *
+     * @param args optional game count, strategies, parallelism and question file
+     */
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_GAMES;
+        String names = args.length > 1 ? args[1] : DEFAULT_STRATEGIES;
+        int parallelism = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        String fileName = args.length > 3 ? args[3]
+                : GameConstants.DATA_DIRECTORY.resolve("sample_game_CSV.csv").toString();
+
+        QuestionService bank = new QuestionService();
+        if (!bank.setQuestions(new CSVQuestionLoader(), fileName)) {
+            System.out.println("[Error]: Could not load questions from " + fileName);
+            return;
+        }
+
+        List<BotStrategy> strategies = new ArrayList<>();
+        String[] seatNames = names.split(",");
+        for (int s = 0; s < seatNames.length; s++) {
+            strategies.add(BotStrategy.forName(seatNames[s], SEED + s));
+        }
+
+        MonteCarloSimulator simulator = new MonteCarloSimulator(bank, strategies, SEED);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        long start = System.nanoTime();
+        SimulationStats stats = simulator.run(games, pool);
+        long elapsed = System.nanoTime() - start;
+        pool.shutdown();
+
+        System.out.println(String.format("=== %d games, %d seats, %d threads ===", stats.getGames(), stats.getSeats(), parallelism));
+        for (int s = 0; s < stats.getSeats(); s++) {
+            System.out.println(String.format("Seat %d (%s): win rate %.2f%%, mean score %.1f, std dev %.1f",
+                s + 1, strategies.get(s).getName(), stats.getWinRate(s) * 100, stats.getMeanScore(s), stats.getScoreStdDev(s)));
+        }
+        System.out.println(String.format("Ties: %.2f%%, mean score spread: %.1f",
+            stats.getGames() == 0 ? 0 : stats.getTies() * 100.0 / stats.getGames(), stats.getMeanSpread()));
+        for (int k = 0; k < stats.getOpeningOrderCount(); k++) {
+            System.out.println(String.format("Category opened %d: %.1f points per game", k + 1, stats.getMeanPointsByOpeningOrder(k)));
+        }
+        System.out.println(String.format("Throughput: %.0f games per second", stats.getGames() / (elapsed / 1e9)));
+    }
+}
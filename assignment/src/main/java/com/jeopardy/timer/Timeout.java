@@ -0,0 +1,174 @@
+package com.jeopardy.timer;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Timeout is a task scheduled on a TimingWheel.
+ *
+ * A timeout is pending until it either expires, when the wheel runs its task, or is
+ * cancelled. The transition is a single compare-and-set, so a timeout that is
+ * cancelled while it is expiring either runs or is cancelled, never both.
+ *
+ * The wheel links timeouts into its buckets directly, so cancelling needs no search.
+ */
+public final class Timeout {
+
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+        AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+    private final TimingWheel wheel;
+    private final Runnable task;
+    private final long deadline;
+    private volatile int state;
+
+    // Owned by the wheel's thread
+    long remainingRounds;
+    Timeout next;
+    Timeout prev;
+    Bucket bucket;
+
+    /**
+     * Constructs a pending timeout.
+     *
+     * @param wheel the wheel it is scheduled on
+     * @param task the task to run when it expires
+     * @param deadline the deadline, in nanoseconds since the wheel started
+     */
+    Timeout(TimingWheel wheel, Runnable task, long deadline) {
+        this.wheel = wheel;
+        this.task = task;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Gets the deadline.
+     *
+     * @return nanoseconds since the wheel started
+     */
+    long getDeadline() {
+        return this.deadline;
+    }
+
+    /**
+     * Cancels the timeout so its task never runs.
+     *
+     * @return true if the timeout was pending and is now cancelled
+     */
+    public boolean cancel() {
+        if (!STATE.compareAndSet(this, PENDING, CANCELLED)) {
+            return false;
+        }
+        this.wheel.cancelled(this);
+        return true;
+    }
+
+    /**
+     * Checks whether the timeout was cancelled.
+     *
+     * @return true if cancelled
+     */
+    public boolean isCancelled() {
+        return this.state == CANCELLED;
+    }
+
+    /**
+     * Checks whether the timeout expired and its task was run.
+     *
+     * @return true if expired
+     */
+    public boolean isExpired() {
+        return this.state == EXPIRED;
+    }
+
+    /**
+     * Runs the task if the timeout is still pending.
+     *
+     * @return true if the task was run
+     */
+    boolean expire() {
+        if (!STATE.compareAndSet(this, PENDING, EXPIRED)) {
+            return false;
+        }
+        this.wheel.expired();
+        try {
+            this.task.run();
+        } catch (RuntimeException e) {
+            System.err.println("[Error]: Timeout task failed: " + e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * A slot of the wheel: a doubly linked list of timeouts, so a cancelled timeout
+     * is unlinked in constant time.
+     */
+    static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        /**
+         * Appends a timeout.
+         *
+         * @param timeout the timeout to add
+         */
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (this.head == null) {
+                this.head = timeout;
+                this.tail = timeout;
+            } else {
+                this.tail.next = timeout;
+                timeout.prev = this.tail;
+                this.tail = timeout;
+            }
+        }
+
+        /**
+         * Unlinks a timeout.
+         *
+         * @param timeout the timeout to remove
+         * @return the timeout that followed it
+         */
+        Timeout remove(Timeout timeout) {
+            Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == this.head) {
+                this.head = next;
+            }
+            if (timeout == this.tail) {
+                this.tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            return next;
+        }
+
+        /**
+         * Expires every timeout whose round has come and counts down the others.
+         */
+        void expire() {
+            Timeout timeout = this.head;
+            while (timeout != null) {
+                if (timeout.remainingRounds <= 0) {
+                    Timeout next = remove(timeout);
+                    timeout.expire();
+                    timeout = next;
+                } else {
+                    timeout.remainingRounds--;
+                    timeout = timeout.next;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.jeopardy.timer;
+
+import com.jeopardy.utils.VirtualThreads;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TimingWheel schedules many short-lived deadlines on one thread (a hashed timing wheel).
+ *
+ * Time is divided into ticks. The wheel is a ring of buckets, one per tick; a timeout
+ * is hashed into the bucket of the tick it falls due in, together with the number of
+ * full rotations left before then. Every tick, the wheel's thread visits one bucket
+ * and runs the timeouts that are due. Scheduling and cancelling are O(1) whatever the
+ * number of pending timeouts, and all games share the one thread.
+ *
+ * Other threads never touch the buckets: schedule() and cancel() only append to
+ * lock-free queues that the wheel's thread applies at the start of each tick.
+ *
+ * Deadlines are kept to the resolution of a tick: a timeout runs at most about one
+ * tick late, never early. Tasks run on the wheel's thread, so they must be short,
+ * e.g. queue a move or take a game's lock briefly.
+ */
+public class TimingWheel implements AutoCloseable {
+
+    /** Default tick length in milliseconds. */
+    public static final long DEFAULT_TICK_MILLIS = 10;
+
+    /** Default number of buckets; with the default tick, one rotation takes about 5 s. */
+    public static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    /** Most new timeouts moved into buckets per tick, so a burst cannot stall a tick. */
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final Timeout.Bucket[] wheel;
+    private final int mask;
+    private final long tickNanos;
+    private final Queue<Timeout> incoming;
+    private final Queue<Timeout> cancellations;
+    private final AtomicInteger pending;
+    private final AtomicBoolean started;
+    private final Thread worker;
+    private final long startTime;
+    private volatile boolean closed;
+    private long tick;
+
+    /**
+     * Constructs a wheel with the default tick and bucket count.
+     *
+     * @param name the name of the wheel's thread
+     */
+    public TimingWheel(String name) {
+        this(name, DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    /**
+     * Constructs a wheel. Its thread starts with the first scheduled timeout.
+     *
+     * @param name the name of the wheel's thread
+     * @param tickDuration the length of a tick
+     * @param unit the unit of the tick duration
+     * @param ticksPerWheel the number of buckets, rounded up to a power of two
+     * @throws IllegalArgumentException if the tick or the bucket count is not positive
+     */
+    public TimingWheel(String name, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        if (tickDuration <= 0 || ticksPerWheel <= 0 || ticksPerWheel > (1 << 30)) {
+            throw new IllegalArgumentException("Tick duration and bucket count must be positive");
+        }
+        int size = Integer.highestOneBit(ticksPerWheel);
+        if (size < ticksPerWheel) {
+            size <<= 1;
+        }
+        this.wheel = new Timeout.Bucket[size];
+        for (int i = 0; i < size; i++) {
+            this.wheel[i] = new Timeout.Bucket();
+        }
+        this.mask = size - 1;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.incoming = new ConcurrentLinkedQueue<>();
+        this.cancellations = new ConcurrentLinkedQueue<>();
+        this.pending = new AtomicInteger();
+        this.started = new AtomicBoolean();
+        this.worker = VirtualThreads.platformThreadFactory(name).newThread(this::run);
+        this.startTime = System.nanoTime();
+    }
+
+    // ==================== Scheduling ====================
+
+    /**
+     * Schedules a task to run once, after a delay.
+     *
+     * @param task the task
+     * @param delay the delay
+     * @param unit the unit of the delay
+     * @return the timeout, which can be cancelled until it expires
+     * @throws IllegalStateException if the wheel has been closed
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (this.closed) {
+            throw new IllegalStateException("Timing wheel is closed");
+        }
+        if (this.started.compareAndSet(false, true)) {
+            this.worker.start();
+        }
+        long deadline = System.nanoTime() - this.startTime + Math.max(0, unit.toNanos(delay));
+        Timeout timeout = new Timeout(this, task, deadline);
+        this.pending.incrementAndGet();
+        this.incoming.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Gets the number of timeouts that have neither expired nor been cancelled.
+     *
+     * @return the pending count
+     */
+    public int getPendingCount() {
+        return this.pending.get();
+    }
+
+    /**
+     * Stops the wheel's thread. Pending timeouts never run.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        if (this.started.get()) {
+            this.worker.interrupt();
+            try {
+                this.worker.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Queues a cancelled timeout to be unlinked from its bucket.
+     *
+     * @param timeout the cancelled timeout
+     */
+    void cancelled(Timeout timeout) {
+        this.pending.decrementAndGet();
+        this.cancellations.add(timeout);
+    }
+
+    /**
+     * Counts a timeout that is about to run.
+     */
+    void expired() {
+        this.pending.decrementAndGet();
+    }
+
+    // ==================== Wheel Thread ====================
+
+    /**
+     * Advances the wheel one tick at a time until it is closed.
+     */
+    private void run() {
+        while (!this.closed) {
+            if (!awaitTick()) {
+                return;
+            }
+            unlinkCancelled();
+            transferIncoming();
+            this.wheel[(int) (this.tick & this.mask)].expire();
+            this.tick++;
+        }
+    }
+
+    /**
+     * Sleeps until the current tick has ended.
+     *
+     * @return false if the wheel was closed while sleeping
+     */
+    private boolean awaitTick() {
+        long tickEnd = (this.tick + 1) * this.tickNanos;
+        while (true) {
+            long sleepNanos = tickEnd - (System.nanoTime() - this.startTime);
+            if (sleepNanos <= 0) {
+                return true;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                if (this.closed) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Unlinks cancelled timeouts from their buckets.
+     */
+    private void unlinkCancelled() {
+        Timeout timeout;
+        while ((timeout = this.cancellations.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * Hashes newly scheduled timeouts into their buckets.
+     */
+    private void transferIncoming() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = this.incoming.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            // The tick whose end is the first at or after the deadline
+            long dueTick = Math.max(this.tick, (timeout.getDeadline() + this.tickNanos - 1) / this.tickNanos - 1);
+            timeout.remainingRounds = (dueTick - this.tick) / this.wheel.length;
+            this.wheel[(int) (dueTick & this.mask)].add(timeout);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.jeopardy.tournament;
+
+import com.jeopardy.simulation.BotStrategy;
+
+/**
+ * Entrant is one player registered for a tournament.
+ *
+ * The name identifies the entrant in every game it plays and in the reports;
+ * the strategy plays its turns. Strategies hold no per-game state, so entrants
+ * may share one strategy instance.
+ */
+public final class Entrant {
+
+    private final String name;
+    private final BotStrategy strategy;
+
+    /**
+     * Constructs an entrant.
+     *
+     * @param name the entrant's unique name
+     * @param strategy the strategy that plays the entrant's turns
+     */
+    public Entrant(String name, BotStrategy strategy) {
+        this.name = name;
+        this.strategy = strategy;
+    }
+
+    /**
+     * Gets the entrant's name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets the strategy that plays the entrant's turns.
+     *
+     * @return the strategy
+     */
+    public BotStrategy getStrategy() {
+        return this.strategy;
+    }
+
+    /**
+     * Returns the entrant's name and strategy.
+     *
+     * @return a description of the entrant
+     */
+    @Override
+    public String toString() {
+        return this.name + " (" + this.strategy.getName() + ")";
+    }
+}
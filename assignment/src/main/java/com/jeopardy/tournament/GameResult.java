@@ -0,0 +1,148 @@
+package com.jeopardy.tournament;
+
+import com.jeopardy.logging.ActivityLog;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * GameResult is the outcome of one tournament game.
+ *
+ * It records who sat at the table, the final score of each seat, the winner who
+ * advances to the next round, how long the game took and the game's activity logs.
+ */
+public final class GameResult {
+
+    private final int round;
+    private final int table;
+    private final String caseId;
+    private final List<Entrant> entrants;
+    private final int[] scores;
+    private final int winner;
+    private final long elapsedNanos;
+    private final List<ActivityLog> logs;
+
+    /**
+     * Constructs a game result.
+     *
+     * @param round the round of the game, from 1
+     * @param table the table of the game within its round, from 1
+     * @param caseId the case ID of the game's activity logs
+     * @param entrants the entrants, in seat order
+     * @param scores the final score of each seat
+     * @param winner the seat of the winner
+     * @param elapsedNanos the time the game took to play
+     * @param logs the game's activity logs, in order
+     */
+    GameResult(int round, int table, String caseId, List<Entrant> entrants, int[] scores, int winner,
+               long elapsedNanos, List<ActivityLog> logs) {
+        this.round = round;
+        this.table = table;
+        this.caseId = caseId;
+        this.entrants = Collections.unmodifiableList(entrants);
+        this.scores = scores;
+        this.winner = winner;
+        this.elapsedNanos = elapsedNanos;
+        this.logs = Collections.unmodifiableList(logs);
+    }
+
+    /**
+     * Gets the round of the game.
+     *
+     * @return the round, from 1
+     */
+    public int getRound() {
+        return this.round;
+    }
+
+    /**
+     * Gets the table of the game within its round.
+     *
+     * @return the table, from 1
+     */
+    public int getTable() {
+        return this.table;
+    }
+
+    /**
+     * Gets the case ID of the game's activity logs.
+     *
+     * @return the case ID, e.g. "round-2-game-5"
+     */
+    public String getCaseId() {
+        return this.caseId;
+    }
+
+    /**
+     * Gets the entrants who played the game.
+     *
+     * @return the entrants, in seat order
+     */
+    public List<Entrant> getEntrants() {
+        return this.entrants;
+    }
+
+    /**
+     * Gets the final score of a seat.
+     *
+     * @param seat the seat, from 0
+     * @return the seat's final score
+     */
+    public int getScore(int seat) {
+        return this.scores[seat];
+    }
+
+    /**
+     * Gets the seat of the winner.
+     * Ties go to the earliest seat.
+     *
+     * @return the winning seat, from 0
+     */
+    public int getWinnerSeat() {
+        return this.winner;
+    }
+
+    /**
+     * Gets the winner, who advances to the next round.
+     *
+     * @return the winning entrant
+     */
+    public Entrant getWinner() {
+        return this.entrants.get(this.winner);
+    }
+
+    /**
+     * Gets the time the game took to play.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    /**
+     * Gets the game's activity logs.
+     *
+     * @return the logs, in the order they were recorded
+     */
+    public List<ActivityLog> getActivityLogs() {
+        return this.logs;
+    }
+
+    /**
+     * Returns the table's seats and scores, marking the winner.
+     *
+     * @return a one-line summary of the game
+     */
+    @Override
+    public String toString() {
+        StringBuilder line = new StringBuilder(this.caseId).append(':');
+        for (int s = 0; s < this.scores.length; s++) {
+            line.append(' ').append(this.entrants.get(s).getName()).append('=').append(this.scores[s]);
+            if (s == this.winner) {
+                line.append('*');
+            }
+        }
+        return line.toString();
+    }
+}
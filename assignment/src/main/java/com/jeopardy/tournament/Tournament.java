@@ -0,0 +1,141 @@
+package com.jeopardy.tournament;
+
+import com.jeopardy.question.QuestionService;
+import com.jeopardy.utils.GameConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Tournament plays a knockout bracket of bot-driven games.
+ *
+ * The entrants are seeded in a random order and dealt onto as few tables as the
+ * player limit allows, so the tables of a round differ by at most one seat. All
+ * games of a round are submitted to a ForkJoinPool at once and the round ends
+ * when the last of them is joined, so a round takes as long as its slowest game
+ * and idle workers pick up the remaining games. The winner of each table, by
+ * Player.getCurrentScore(), advances; rounds repeat until one champion is left.
+ *
+ * Every game has a fresh GameState that draws its board from the shared question
+ * bank, and a Random seeded from the tournament seed, the round and the table, so
+ * a tournament gives the same bracket regardless of the pool's parallelism.
+ *
+ * Design patterns used:
+ * - Strategy: Each entrant is played by a BotStrategy
+ * - Command: Turns are played with the game's existing command classes (see TournamentGame)
+ */
+public class Tournament {
+
+    private static final long SEED_MIX = 0x9E3779B97F4A7C15L;
+
+    private final QuestionService bank;
+    private final List<Entrant> entrants;
+    private final long seed;
+
+    /**
+     * Constructs a tournament.
+     * The bank is shared read-only by all games; its index is built here.
+     *
+     * @param bank the question bank to draw boards from
+     * @param entrants the entrants, with unique names
+     * @param seed the seed the bracket and all game seeds are derived from
+     * @throws IllegalArgumentException if there are no entrants or two share a name
+     */
+    public Tournament(QuestionService bank, List<Entrant> entrants, long seed) {
+        if (entrants.isEmpty()) {
+            throw new IllegalArgumentException("At least one entrant is required");
+        }
+        Set<String> names = new HashSet<>();
+        for (Entrant entrant : entrants) {
+            if (!names.add(entrant.getName())) {
+                throw new IllegalArgumentException("Duplicate entrant name: " + entrant.getName());
+            }
+        }
+        this.bank = bank;
+        this.entrants = new ArrayList<>(entrants);
+        this.seed = seed;
+        this.bank.getIndex();
+    }
+
+    /**
+     * Plays the tournament on the common ForkJoinPool.
+     *
+     * @return the tournament's result
+     */
+    public TournamentResult run() {
+        return run(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays the tournament on a ForkJoinPool, one round at a time.
+     *
+     * @param pool the pool to play the games on
+     * @return the tournament's result
+     */
+    public TournamentResult run(ForkJoinPool pool) {
+        List<Entrant> field = new ArrayList<>(this.entrants);
+        Collections.shuffle(field, new Random(this.seed));
+
+        List<List<GameResult>> rounds = new ArrayList<>();
+        List<Long> roundNanos = new ArrayList<>();
+        while (field.size() > 1) {
+            int round = rounds.size() + 1;
+            long start = System.nanoTime();
+            List<List<Entrant>> tables = tables(field);
+            List<ForkJoinTask<GameResult>> games = new ArrayList<>(tables.size());
+            for (int t = 0; t < tables.size(); t++) {
+                Random random = new Random(gameSeed(round, t));
+                TournamentGame game = new TournamentGame(round, t + 1, this.bank, tables.get(t), random);
+                games.add(pool.submit(game::play));
+            }
+
+            List<GameResult> results = new ArrayList<>(games.size());
+            List<Entrant> winners = new ArrayList<>(games.size());
+            for (ForkJoinTask<GameResult> game : games) {
+                GameResult result = game.join();
+                results.add(result);
+                winners.add(result.getWinner());
+            }
+            rounds.add(results);
+            roundNanos.add(System.nanoTime() - start);
+            field = winners;
+        }
+        return new TournamentResult(this.entrants.size(), rounds, roundNanos, field.get(0));
+    }
+
+    /**
+     * Deals a round's field onto the fewest tables that respect the player limit.
+     * Entrant i sits at table i modulo the table count, so table sizes differ by at most one.
+     *
+     * @param field the entrants still in the tournament, in seed order
+     * @return the entrants of each table, in seat order
+     */
+    static List<List<Entrant>> tables(List<Entrant> field) {
+        int count = (field.size() + GameConstants.MAX_PLAYERS - 1) / GameConstants.MAX_PLAYERS;
+        List<List<Entrant>> tables = new ArrayList<>(count);
+        for (int t = 0; t < count; t++) {
+            tables.add(new ArrayList<>(GameConstants.MAX_PLAYERS));
+        }
+        for (int i = 0; i < field.size(); i++) {
+            tables.get(i % count).add(field.get(i));
+        }
+        return tables;
+    }
+
+    /**
+     * Derives the seed of one game.
+     *
+     * @param round the round, from 1
+     * @param table the table within the round, from 0
+     * @return the game's seed
+     */
+    private long gameSeed(int round, int table) {
+        return this.seed ^ ((((long) round << 32) | table) * SEED_MIX);
+    }
+}
@@ -0,0 +1,197 @@
+package com.jeopardy.tournament;
+
+import com.jeopardy.command.AnswerQuestionCommand;
+import com.jeopardy.command.SelectCategoryCommand;
+import com.jeopardy.command.SelectQuestionCommand;
+import com.jeopardy.game.GameController;
+import com.jeopardy.game.GameState;
+import com.jeopardy.game.Player;
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.logging.ActivityLogBuilder;
+import com.jeopardy.question.Question;
+import com.jeopardy.question.QuestionService;
+import com.jeopardy.ui.GameIO;
+import com.jeopardy.ui.HeadlessGameIO;
+import com.jeopardy.utils.ActivityType;
+import com.jeopardy.utils.GameConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * TournamentGame plays one game of a tournament round.
+ *
+ * Like a simulated game it is the GameController of its own fresh GameState, and
+ * turns are played by the regular commands with the entrants' strategies standing
+ * in for player input. Unlike a simulated game it keeps its activity logs, under
+ * its own case ID, so that the tournament can publish them as one consolidated
+ * event log. A game touches no state outside itself apart from reading the shared
+ * question bank, so the games of a round can run on any threads at once.
+ */
+class TournamentGame implements GameController {
+
+    private final int round;
+    private final int table;
+    private final List<Entrant> entrants;
+    private final GameState state;
+    private final Random random;
+    private final GameIO io;
+    private final List<ActivityLog> logs;
+
+    /**
+     * Sets up a game: seats the entrants in order and draws a board from the bank.
+     *
+     * @param round the round the game belongs to, from 1
+     * @param table the game's table within the round, from 1
+     * @param bank the shared question bank (read only)
+     * @param entrants the entrants at the table, in turn order
+     * @param random the random source of this game
+     */
+    TournamentGame(int round, int table, QuestionService bank, List<Entrant> entrants, Random random) {
+        this.round = round;
+        this.table = table;
+        this.entrants = entrants;
+        this.state = new GameState(random);
+        this.random = random;
+        this.io = new HeadlessGameIO();
+        this.logs = new ArrayList<>();
+        this.state.setCaseId("round-" + round + "-game-" + table);
+        for (Entrant entrant : entrants) {
+            this.state.addPlayer(new Player(entrant.getName()));
+        }
+        this.state.setBoard(bank);
+    }
+
+    /**
+     * Plays every question on the board.
+     *
+     * @return the game's result
+     */
+    GameResult play() {
+        long start = System.nanoTime();
+        log(ActivityType.START_GAME);
+        int turns = this.state.getQuestionService().getUnansweredQuestions().size();
+        for (int turn = 0; turn < turns; turn++) {
+            Player player = this.state.getCurrentPlayer();
+
+            player.setCommand(new SelectCategoryCommand(this));
+            player.doCommand();
+            player.setCommand(new SelectQuestionCommand(this));
+            player.doCommand();
+
+            String answer = currentEntrant().getStrategy().chooseAnswer(this.state.getCurrentQuestion(), this.random);
+            player.setCommand(new AnswerQuestionCommand(this, answer));
+            player.doCommand();
+
+            this.state.nextTurn();
+        }
+        log(ActivityType.GAME_OVER);
+
+        List<Player> players = this.state.getPlayers();
+        int[] scores = new int[players.size()];
+        int winner = 0;
+        for (int s = 0; s < scores.length; s++) {
+            scores[s] = players.get(s).getCurrentScore();
+            if (scores[s] > scores[winner]) {
+                winner = s;
+            }
+        }
+        return new GameResult(this.round, this.table, this.state.getCaseId(), this.entrants, scores, winner,
+            System.nanoTime() - start, this.logs);
+    }
+
+    /**
+     * Gets the entrant whose turn it is.
+     *
+     * @return the current seat's entrant
+     */
+    private Entrant currentEntrant() {
+        return this.entrants.get(this.state.getCurrentTurn() % this.entrants.size());
+    }
+
+    /**
+     * Records a system activity log of the game.
+     *
+     * @param type the activity
+     */
+    private void log(ActivityType type) {
+        this.logs.add(new ActivityLogBuilder()
+                .setCaseId(this.state.getCaseId())
+                .setPlayerId(GameConstants.SYSTEM_PLAYER_ID)
+                .setActivity(type)
+                .setTimestamp()
+                .createActivityLog());
+    }
+
+    // ==================== GameController ====================
+
+    /**
+     * Gets the state of this game.
+     *
+     * @return the game state
+     */
+    @Override
+    public GameState getState() {
+        return this.state;
+    }
+
+    /**
+     * Gets the silent IO of this game.
+     *
+     * @return the game's HeadlessGameIO
+     */
+    @Override
+    public GameIO getIO() {
+        return this.io;
+    }
+
+    /**
+     * Lets the current entrant choose a category.
+     */
+    @Override
+    public void selectCategory() {
+        String category = currentEntrant().getStrategy().chooseCategory(this.state.getQuestionService(), this.random);
+        this.state.setCurrentCategory(category);
+    }
+
+    /**
+     * Lets the current entrant choose a value in the current category.
+     */
+    @Override
+    public void selectQuestion() {
+        QuestionService board = this.state.getQuestionService();
+        String category = this.state.getCurrentCategory();
+        List<Integer> values = board.getCategoryQuestionValues(category);
+        int value = currentEntrant().getStrategy().chooseValue(board, category, values, this.random);
+        Question question = board.getCategoryQuestionByValue(category, value);
+        this.state.setCurrentQuestion(question);
+    }
+
+    /**
+     * Adds points to the current player.
+     *
+     * @param points the points to add
+     */
+    @Override
+    public void updateCurrentPlayerScore(int points) {
+        this.state.getCurrentPlayer().updateCurrentScore(points);
+    }
+
+    /**
+     * Keeps the activity log for the tournament's consolidated event log.
+     *
+     * @param log the activity log
+     */
+    @Override
+    public void setCurrentActivityLog(ActivityLog log) {
+        this.logs.add(log);
+    }
+
+    /**
+     * Does nothing; the logs are published when the tournament reports.
+     */
+    @Override
+    public void notifySubscribers() {
+    }
+}
@@ -0,0 +1,161 @@
+package com.jeopardy.tournament;
+
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.logging.observer.Subscriber;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * TournamentResult holds every game of a finished tournament, round by round.
+ *
+ * Besides the bracket it consolidates the activity logs of all games in bracket
+ * order (round by round, table by table), so the whole tournament can be fed to a
+ * ReportGenerator and exported as one event log or report.
+ */
+public final class TournamentResult {
+
+    private final int entrants;
+    private final List<List<GameResult>> rounds;
+    private final List<Long> roundNanos;
+    private final Entrant champion;
+
+    /**
+     * Constructs a tournament result.
+     *
+     * @param entrants the number of entrants
+     * @param rounds the games of each round, in table order
+     * @param roundNanos the time each round took
+     * @param champion the last entrant standing
+     */
+    TournamentResult(int entrants, List<List<GameResult>> rounds, List<Long> roundNanos, Entrant champion) {
+        this.entrants = entrants;
+        this.rounds = Collections.unmodifiableList(rounds);
+        this.roundNanos = roundNanos;
+        this.champion = champion;
+    }
+
+    /**
+     * Gets the number of entrants.
+     *
+     * @return the entrant count
+     */
+    public int getEntrantCount() {
+        return this.entrants;
+    }
+
+    /**
+     * Gets the number of rounds played.
+     *
+     * @return the round count; 0 if there was a single entrant
+     */
+    public int getRoundCount() {
+        return this.rounds.size();
+    }
+
+    /**
+     * Gets the games of a round.
+     *
+     * @param round the round, from 1
+     * @return the round's games, in table order
+     */
+    public List<GameResult> getRound(int round) {
+        return Collections.unmodifiableList(this.rounds.get(round - 1));
+    }
+
+    /**
+     * Gets the number of games played in all rounds.
+     *
+     * @return the game count
+     */
+    public int getGameCount() {
+        int games = 0;
+        for (List<GameResult> round : this.rounds) {
+            games += round.size();
+        }
+        return games;
+    }
+
+    /**
+     * Gets the time a round took, from submitting its first game to joining its last.
+     *
+     * @param round the round, from 1
+     * @return the round's wall-clock time in nanoseconds
+     */
+    public long getRoundNanos(int round) {
+        return this.roundNanos.get(round - 1);
+    }
+
+    /**
+     * Gets the time the slowest game of a round took.
+     *
+     * @param round the round, from 1
+     * @return the slowest game's time in nanoseconds
+     */
+    public long getSlowestGameNanos(int round) {
+        long slowest = 0;
+        for (GameResult game : this.rounds.get(round - 1)) {
+            slowest = Math.max(slowest, game.getElapsedNanos());
+        }
+        return slowest;
+    }
+
+    /**
+     * Gets the winner of the final.
+     *
+     * @return the champion
+     */
+    public Entrant getChampion() {
+        return this.champion;
+    }
+
+    /**
+     * Gets the activity logs of every game in bracket order.
+     *
+     * @return the consolidated logs
+     */
+    public List<ActivityLog> getActivityLogs() {
+        List<ActivityLog> logs = new ArrayList<>();
+        for (List<GameResult> round : this.rounds) {
+            for (GameResult game : round) {
+                logs.addAll(game.getActivityLogs());
+            }
+        }
+        return logs;
+    }
+
+    /**
+     * Sends every game's activity logs, in bracket order, to a subscriber such as a ReportGenerator.
+     *
+     * @param subscriber the subscriber to update
+     */
+    public void publishTo(Subscriber subscriber) {
+        for (List<GameResult> round : this.rounds) {
+            for (GameResult game : round) {
+                for (ActivityLog log : game.getActivityLogs()) {
+                    subscriber.update(log);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the bracket: every game of every round, then the champion.
+     *
+     * @return a multi-line summary of the tournament
+     */
+    @Override
+    public String toString() {
+        StringBuilder summary = new StringBuilder();
+        for (int r = 1; r <= this.rounds.size(); r++) {
+            summary.append(String.format("=== Round %d: %d games in %.1f ms (slowest game %.1f ms) ===%n",
+                r, this.rounds.get(r - 1).size(), getRoundNanos(r) / 1e6, getSlowestGameNanos(r) / 1e6));
+            for (GameResult game : this.rounds.get(r - 1)) {
+                summary.append(game).append(System.lineSeparator());
+            }
+        }
+        summary.append("Champion: ").append(this.champion);
+        return summary.toString();
+    }
+}
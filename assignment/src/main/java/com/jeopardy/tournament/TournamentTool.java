@@ -0,0 +1,91 @@
+package com.jeopardy.tournament;
+
+import com.jeopardy.leaderboard.Leaderboard;
+import com.jeopardy.leaderboard.Standing;
+import com.jeopardy.question.QuestionService;
+import com.jeopardy.question.loader.CSVQuestionLoader;
+import com.jeopardy.report.ReportGenerator;
+import com.jeopardy.report.format.CSVReportFormat;
+import com.jeopardy.report.format.TXTReportFormat;
+import com.jeopardy.simulation.BotStrategy;
+import com.jeopardy.utils.GameConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * TournamentTool is a command-line tool that plays a bot tournament and reports on it.
+ *
+ * It prints the bracket, the champion and the entrants who scored the most points
+ * over all their games, then writes the activity logs of every game as one CSV event
+ * log and one text report in the output directory.
+ *
+ * Usage:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass=com.jeopardy.tournament.TournamentTool \
+ *     -Dexec.args="256 greedy,random,accuracy 8 data/sample_game_CSV.csv"
+ * </pre>
+ * Arguments are optional: entrant count, comma-separated strategies (assigned to
+ * entrants in turn), parallelism (defaults to the number of cores) and the question bank.
+ */
+public class TournamentTool {
+
+    private static final int DEFAULT_ENTRANTS = 256;
+    private static final String DEFAULT_STRATEGIES = "greedy,random,accuracy";
+    private static final long SEED = 42;
+
+    /**
+     * Prevents instantiation; use {@link #main(String[])}.
+     */
+    private TournamentTool() {
+    }
+
+    /**
+     * Plays the tournament, prints the bracket and writes the consolidated reports.
+     *
+     * @param args optional entrant count, strategies, parallelism and question file
+     */
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ENTRANTS;
+        String names = args.length > 1 ? args[1] : DEFAULT_STRATEGIES;
+        int parallelism = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        String fileName = args.length > 3 ? args[3]
+                : GameConstants.DATA_DIRECTORY.resolve("sample_game_CSV.csv").toString();
+
+        QuestionService bank = new QuestionService();
+        if (!bank.setQuestions(new CSVQuestionLoader(), fileName)) {
+            System.out.println("[Error]: Could not load questions from " + fileName);
+            return;
+        }
+
+        String[] strategyNames = names.split(",");
+        List<Entrant> entrants = new ArrayList<>(count);
+        for (int e = 0; e < count; e++) {
+            String strategy = strategyNames[e % strategyNames.length];
+            entrants.add(new Entrant("Player " + (e + 1), BotStrategy.forName(strategy, SEED + e)));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        long start = System.nanoTime();
+        TournamentResult result = new Tournament(bank, entrants, SEED).run(pool);
+        long elapsed = System.nanoTime() - start;
+        pool.shutdown();
+
+        System.out.println(result);
+        System.out.println(String.format("%d entrants, %d games in %.1f ms on %d threads",
+            result.getEntrantCount(), result.getGameCount(), elapsed / 1e6, parallelism));
+
+        Leaderboard leaderboard = new Leaderboard();
+        result.publishTo(leaderboard);
+        System.out.println("Most points:");
+        for (Standing standing : leaderboard.getTop(Leaderboard.DEFAULT_TOP)) {
+            System.out.println(String.format("%4d. %s", leaderboard.getRank(standing.getPlayerId()), standing));
+        }
+
+        ReportGenerator reports = new ReportGenerator();
+        result.publishTo(reports);
+        reports.setFormat(new CSVReportFormat()).createReport();
+        reports.setFormat(new TXTReportFormat()).createReport();
+    }
+}
@@ -0,0 +1,113 @@
+package com.jeopardy.ui;
+
+import com.jeopardy.question.Question;
+import com.jeopardy.question.QuestionService;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * BoardView lays out a game board as text: one column per category and one row per
+ * point value, the values of questions still open shown in their cells and the cells
+ * of answered questions left blank.
+ *
+ * Categories are shown in the order they first appear in the question list and values
+ * in ascending order. Category names longer than a cell are shortened.
+ *
+ * <pre>
+ * | History  | Science  | Sports   |
+ * +----------+----------+----------+
+ * |   $100   |          |   $100   |
+ * |   $200   |   $200   |   $200   |
+ * </pre>
+ */
+public final class BoardView {
+
+    private static final int MIN_CELL_WIDTH = 6;
+    private static final int MAX_CELL_WIDTH = 16;
+
+    // Prevent instantiation
+    private BoardView() {
+        throw new AssertionError("Cannot instantiate BoardView");
+    }
+
+    /**
+     * Lays out the current state of a board.
+     *
+     * @param board the questions of the game
+     * @return the rows of the board, or no rows if the board has no questions
+     */
+    public static List<String> render(QuestionService board) {
+        Map<String, TreeMap<Integer, Boolean>> open = new LinkedHashMap<>();
+        TreeSet<Integer> values = new TreeSet<>();
+        int width = MIN_CELL_WIDTH;
+        for (Question q : board.getQuestions()) {
+            open.computeIfAbsent(q.getCategory(), c -> new TreeMap<>())
+                .merge(q.getValue(), !q.getIsAnswered(), Boolean::logicalOr);
+            values.add(q.getValue());
+            width = Math.max(width, Math.min(q.getCategory().length(), MAX_CELL_WIDTH));
+        }
+
+        List<String> rows = new ArrayList<>(values.size() + 2);
+        if (open.isEmpty()) {
+            return rows;
+        }
+
+        StringBuilder header = new StringBuilder("|");
+        StringBuilder rule = new StringBuilder("+");
+        for (String category : open.keySet()) {
+            header.append(' ').append(pad(shorten(category, width), width)).append(" |");
+            rule.append("-".repeat(width + 2)).append('+');
+        }
+        rows.add(header.toString());
+        rows.add(rule.toString());
+
+        for (int value : values) {
+            StringBuilder row = new StringBuilder("|");
+            for (TreeMap<Integer, Boolean> cells : open.values()) {
+                String cell = Boolean.TRUE.equals(cells.get(value)) ? "$" + value : "";
+                row.append(' ').append(center(cell, width)).append(" |");
+            }
+            rows.add(row.toString());
+        }
+        return rows;
+    }
+
+    /**
+     * Shortens text to a width, marking the cut with a period.
+     *
+     * @param text the text
+     * @param width the largest width allowed
+     * @return the text, shortened if needed
+     */
+    private static String shorten(String text, int width) {
+        return text.length() <= width ? text : text.substring(0, width - 1) + ".";
+    }
+
+    /**
+     * Pads text on the right to a width.
+     *
+     * @param text the text, at most width long
+     * @param width the width
+     * @return the padded text
+     */
+    private static String pad(String text, int width) {
+        return text + " ".repeat(width - text.length());
+    }
+
+    /**
+     * Centers text in a width.
+     *
+     * @param text the text, at most width long
+     * @param width the width
+     * @return the centered text
+     */
+    private static String center(String text, int width) {
+        int left = (width - text.length()) / 2;
+        return " ".repeat(left) + pad(text, width - left);
+    }
+}
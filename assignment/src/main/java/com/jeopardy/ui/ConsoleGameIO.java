@@ -0,0 +1,113 @@
+package com.jeopardy.ui;
+
+import com.jeopardy.utils.GameConstants;
+
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.Scanner;
+
+/**
+ * ConsoleGameIO plays a game on a text terminal.
+ *
+ * Input is read line by line through a Scanner and output is written to a PrintStream.
+ * Clearing the screen prints ANSI escape codes followed by the banner, which is read
+ * from resources once and cached (see ConsoleUI.getBanner()).
+ *
+ * The instance returned by system() is bound to System.in/System.out and shared, so
+ * the process never has two Scanners competing for standard input.
+ */
+public class ConsoleGameIO implements GameIO {
+
+    private static final String CLEAR_SCREEN = "\033[H\033[2J\n";
+
+    private static ConsoleGameIO system;
+
+    private final Scanner scanner;
+    private final PrintStream out;
+
+    /**
+     * Constructs a console reading from the given input and writing to the given output.
+     *
+     * @param in the input stream to read player input from
+     * @param out the output stream to write to
+     */
+    public ConsoleGameIO(InputStream in, PrintStream out) {
+        this(new Scanner(in), out);
+    }
+
+    /**
+     * Constructs a console reading through the given Scanner and writing to the given output.
+     *
+     * @param scanner the Scanner to read player input with
+     * @param out the output stream to write to
+     */
+    public ConsoleGameIO(Scanner scanner, PrintStream out) {
+        this.scanner = scanner;
+        this.out = out;
+    }
+
+    /**
+     * Gets the shared console bound to System.in and System.out.
+     *
+     * @return the standard console
+     */
+    public static synchronized ConsoleGameIO system() {
+        if (system == null) {
+            system = new ConsoleGameIO(System.in, System.out);
+        }
+        return system;
+    }
+
+    /**
+     * Writes text to the console and flushes it, so prompts appear before input is read.
+     *
+     * @param text the text to write
+     */
+    @Override
+    public void print(String text) {
+        this.out.print(text);
+        this.out.flush();
+    }
+
+    /**
+     * Writes a line to the console.
+     *
+     * @param text the text to write
+     */
+    @Override
+    public void println(String text) {
+        this.out.println(text);
+    }
+
+    /**
+     * Clears the terminal with ANSI escape codes and redraws the cached banner.
+     */
+    @Override
+    public void clear() {
+        this.out.print(CLEAR_SCREEN);
+        this.out.print(ConsoleUI.getBanner());
+        this.out.flush();
+    }
+
+    /**
+     * Reads the next line from the console.
+     *
+     * @return the line, without its line separator
+     * @throws java.util.NoSuchElementException if the input has ended
+     */
+    @Override
+    public String readLine() {
+        return this.scanner.nextLine();
+    }
+
+    /**
+     * Waits for the player to press Enter. Returns at once if the input has ended.
+     */
+    @Override
+    public void await() {
+        this.out.println(GameConstants.PROMPT_CONTINUE);
+        if (this.scanner.hasNextLine()) {
+            this.scanner.nextLine();
+        }
+    }
+}
@@ -24,10 +24,12 @@ import com.jeopardy.utils.GameConstants;
  */
 public class ConsoleUI {
 
+    private static String banner;
+
     /**
      * Clears the console by printing ANSI escape codes.
      * This is a cross-platform solution that works in most terminals.
-     * After clearing, displays the banner.
+     * After clearing, displays the cached banner.
      */
     public static void clear() {
         System.out.print("\033[H\033[2J\n");
@@ -56,22 +58,46 @@ public class ConsoleUI {
     }
 
     /**
-     * Displays the game banner from a resource file.
-     * Reads the banner file line by line and prints to console.
-     * Loads from classpath for better portability and packaging.
+     * Displays the game banner.
      */
     public static void showBanner() {
+        System.out.print(getBanner());
+    }
+
+    /**
+     * Gets the game banner text, followed by blank lines.
+     * The banner is read from the classpath resource on first use and cached,
+     * so redrawing the screen never touches the resource again.
+     *
+     * @return the banner text
+     */
+    public static synchronized String getBanner() {
+        if (banner == null) {
+            banner = readBanner();
+        }
+        return banner;
+    }
+
+    /**
+     * Reads the banner resource line by line.
+     * Loads from classpath for better portability and packaging.
+     *
+     * @return the banner text, or just the blank lines if the resource cannot be read
+     */
+    private static String readBanner() {
+        StringBuilder sb = new StringBuilder();
         try (BufferedReader br = new BufferedReader(new InputStreamReader(
                 ConsoleUI.class.getResourceAsStream(GameConstants.BANNER_FILE)))) {
             String line;
             while ((line = br.readLine()) != null) {
-                System.out.println(line);
+                sb.append(line).append(System.lineSeparator());
             }
         } catch (IOException e) {
             System.err.println("Error reading banner file: " + e.getMessage());
         } catch (NullPointerException e) {
             System.err.println("Error: Banner file not found in resources.");
         }
-        System.out.println("\n");
+        sb.append("\n").append(System.lineSeparator());
+        return sb.toString();
     }
 }
@@ -0,0 +1,90 @@
+package com.jeopardy.ui;
+
+import com.jeopardy.question.QuestionService;
+
+/**
+ * GameIO is the input/output channel of one game.
+ *
+ * The engine, game state and commands talk to players only through this interface,
+ * so the same game can be played on a terminal, over a network, or headlessly by
+ * bots and tests.
+ *
+ * Implementations:
+ * - ConsoleGameIO: a terminal, reading lines through a Scanner
+ * - TerminalGameIO: an ANSI terminal, redrawing only the rows of the screen that changed
+ * - HeadlessGameIO: queued or generated input with no terminal I/O
+ *
+ * SOLID principles:
+ * - Dependency Inversion Principle (DIP): Game logic depends on this abstraction, not on System.in/System.out
+ * - Interface Segregation Principle (ISP): Only the operations a game needs
+ */
+public interface GameIO {
+
+    /**
+     * Writes text without a line separator.
+     *
+     * @param text the text to write
+     */
+    void print(String text);
+
+    /**
+     * Writes text followed by a line separator.
+     *
+     * @param text the text to write
+     */
+    void println(String text);
+
+    /**
+     * Writes text held in a reusable buffer, followed by a line separator.
+     * The game writes lines it composes every turn through this method, so IOs that
+     * can consume the characters directly avoid a String per line; the default copies
+     * the text into one.
+     *
+     * @param text the text to write; it may change once this method returns
+     */
+    default void println(CharSequence text) {
+        println(text.toString());
+    }
+
+    /**
+     * Clears the screen before a new view is shown.
+     */
+    void clear();
+
+    /**
+     * Reads the next line of player input.
+     *
+     * @return the line, without its line separator
+     * @throws java.util.NoSuchElementException if no more input will arrive
+     * @throws com.jeopardy.exception.MoveTimeoutException if the move in progress ran out of time
+     */
+    String readLine();
+
+    /**
+     * Pauses until the player is ready to continue.
+     */
+    void await();
+
+    /**
+     * Starts the time limit of the move the game now waits for, replacing any earlier one.
+     * Once it runs out, readLine() throws a MoveTimeoutException. IOs without time
+     * limits ignore it.
+     */
+    default void beginMove() {
+    }
+
+    /**
+     * Stops the time limit of the move in progress, if any.
+     */
+    default void endMove() {
+    }
+
+    /**
+     * Shows a game's board at the top of every cleared screen from now on.
+     * IOs without a screen ignore it.
+     *
+     * @param board the questions of the game, read again on every clear
+     */
+    default void showBoard(QuestionService board) {
+    }
+}
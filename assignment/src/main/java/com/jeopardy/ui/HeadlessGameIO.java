@@ -0,0 +1,156 @@
+package com.jeopardy.ui;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+/**
+ * HeadlessGameIO plays a game without a terminal, for bots and tests.
+ *
+ * Input comes from lines queued with submit() and, once those run out, from an
+ * optional source that generates lines on demand (e.g. a bot choosing its move).
+ * A read never blocks: if neither has a line, readLine() throws
+ * NoSuchElementException, which ends the game as if the input had closed.
+ *
+ * Output is discarded unless a transcript is enabled, and clear() and await()
+ * do nothing, so a headless game performs no I/O at all.
+ *
+ * Not thread-safe; each game uses its own instance.
+ */
+public class HeadlessGameIO implements GameIO {
+
+    private final ArrayDeque<String> input;
+    private Supplier<String> source;
+    private StringBuilder transcript;
+
+    /**
+     * Constructs a headless IO with no input.
+     */
+    public HeadlessGameIO() {
+        this(null);
+    }
+
+    /**
+     * Constructs a headless IO that asks the given source for input once queued lines run out.
+     *
+     * @param source the source of generated input lines, or null for queued input only
+     */
+    public HeadlessGameIO(Supplier<String> source) {
+        this.input = new ArrayDeque<>();
+        this.source = source;
+    }
+
+    /**
+     * Queues lines of player input.
+     *
+     * @param lines the lines to queue, read in order
+     * @return this HeadlessGameIO for chaining
+     */
+    public HeadlessGameIO submit(String... lines) {
+        Collections.addAll(this.input, lines);
+        return this;
+    }
+
+    /**
+     * Sets the source asked for input once queued lines run out.
+     *
+     * @param source the source of generated input lines, or null for queued input only
+     */
+    public void setSource(Supplier<String> source) {
+        this.source = source;
+    }
+
+    /**
+     * Gets the number of queued lines not read yet.
+     *
+     * @return the number of pending lines
+     */
+    public int getPendingInputCount() {
+        return this.input.size();
+    }
+
+    /**
+     * Starts recording all output, discarding anything recorded before.
+     */
+    public void recordTranscript() {
+        this.transcript = new StringBuilder();
+    }
+
+    /**
+     * Gets the output recorded since recordTranscript() was called.
+     *
+     * @return the recorded output, or an empty string if recording is off
+     */
+    public String getTranscript() {
+        return this.transcript == null ? "" : this.transcript.toString();
+    }
+
+    /**
+     * Records text if a transcript is enabled.
+     *
+     * @param text the text to write
+     */
+    @Override
+    public void print(String text) {
+        if (this.transcript != null) {
+            this.transcript.append(text);
+        }
+    }
+
+    /**
+     * Records a line if a transcript is enabled.
+     *
+     * @param text the text to write
+     */
+    @Override
+    public void println(String text) {
+        if (this.transcript != null) {
+            this.transcript.append(text).append('\n');
+        }
+    }
+
+    /**
+     * Records a line if a transcript is enabled, without copying it into a String.
+     *
+     * @param text the text to write
+     */
+    @Override
+    public void println(CharSequence text) {
+        if (this.transcript != null) {
+            this.transcript.append(text).append('\n');
+        }
+    }
+
+    /**
+     * Does nothing; there is no screen to clear.
+     */
+    @Override
+    public void clear() {
+    }
+
+    /**
+     * Returns the next queued line, or else a line from the source.
+     *
+     * @return the next input line
+     * @throws NoSuchElementException if no line is queued and the source has none
+     */
+    @Override
+    public String readLine() {
+        String line = this.input.poll();
+        if (line == null && this.source != null) {
+            line = this.source.get();
+        }
+        if (line == null) {
+            throw new NoSuchElementException("No input available");
+        }
+        return line;
+    }
+
+    /**
+     * Does nothing; headless games never pause.
+     */
+    @Override
+    public void await() {
+    }
+}
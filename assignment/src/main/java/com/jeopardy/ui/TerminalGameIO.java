@@ -0,0 +1,290 @@
+package com.jeopardy.ui;
+
+import com.jeopardy.exception.MoveTimeoutException;
+import com.jeopardy.question.QuestionService;
+import com.jeopardy.timer.Timeout;
+import com.jeopardy.timer.TimingWheel;
+import com.jeopardy.utils.GameConstants;
+import com.jeopardy.utils.VirtualThreads;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TerminalGameIO plays a game on an ANSI terminal, redrawing only what changed.
+ *
+ * Output is composed off screen by a TerminalRenderer and sent just before the game
+ * waits for the player, as one write of the rows that differ from the screen. Clearing
+ * the screen only starts a new frame with the cached banner and, once a board is shown,
+ * the board with the questions still open; since most of a screen is the same from one
+ * view to the next, a turn usually sends the few rows that changed.
+ *
+ * Input is read with a plain BufferedReader rather than a Scanner, whose regular
+ * expressions and locale data would otherwise be set up before the first prompt.
+ * One reader thread, started by the first read, moves lines into a queue that the game
+ * takes them from. With a move timeout set, each move the game waits for gets a deadline
+ * on a TimingWheel; when it expires, the wheel queues a marker behind any typed lines,
+ * and the read that takes it throws a MoveTimeoutException, so a console turn can run
+ * out of time just like a hosted one. Pauses between turns then end after the same
+ * time, so a game whose players have walked away still ends.
+ *
+ * The instance returned by system() is bound to System.in/System.out and shared, so
+ * the process never has two readers competing for standard input.
+ */
+public class TerminalGameIO implements GameIO {
+
+    private static TerminalGameIO system;
+
+    private static final Object END_OF_INPUT = new Object();
+
+    private final BufferedReader in;
+    private final TerminalRenderer renderer;
+    private final BlockingQueue<Object> lines;
+    private Thread reader;
+    private boolean ended;
+    private QuestionService board;
+    private TimingWheel timer;
+    private long moveTimeoutNanos;
+    private Timeout deadline;
+    private Object expiry;
+
+    /**
+     * Constructs a terminal reading from the given input and writing to the given output.
+     *
+     * @param in the input stream to read player input from
+     * @param out the output stream the terminal reads
+     * @param charset the terminal's character set
+     */
+    public TerminalGameIO(InputStream in, OutputStream out, Charset charset) {
+        this.in = new BufferedReader(new InputStreamReader(in, charset));
+        this.renderer = new TerminalRenderer(out, charset);
+        this.lines = new LinkedBlockingQueue<>();
+    }
+
+    /**
+     * Gets the shared terminal bound to System.in and System.out.
+     *
+     * @return the standard terminal
+     */
+    public static synchronized TerminalGameIO system() {
+        if (system == null) {
+            system = new TerminalGameIO(System.in, System.out, Charset.defaultCharset());
+        }
+        return system;
+    }
+
+    /**
+     * Adds text to the screen being composed.
+     *
+     * @param text the text to write
+     */
+    @Override
+    public void print(String text) {
+        this.renderer.write(text);
+    }
+
+    /**
+     * Adds a line to the screen being composed.
+     *
+     * @param text the text to write
+     */
+    @Override
+    public void println(String text) {
+        this.renderer.write(text);
+        this.renderer.write("\n");
+    }
+
+    /**
+     * Adds a line to the screen being composed, without copying it into a String.
+     *
+     * @param text the text to write
+     */
+    @Override
+    public void println(CharSequence text) {
+        this.renderer.write(text);
+        this.renderer.write("\n");
+    }
+
+    /**
+     * Starts a new screen with the cached banner and the board, if one is shown.
+     */
+    @Override
+    public void clear() {
+        this.renderer.clear();
+        this.renderer.write(ConsoleUI.getBanner());
+        if (this.board != null) {
+            for (String row : BoardView.render(this.board)) {
+                this.renderer.write(row);
+                this.renderer.write("\n");
+            }
+            this.renderer.write("\n");
+        }
+    }
+
+    /**
+     * Sends the screen, then reads the next line from the terminal.
+     *
+     * @return the line, without its line separator
+     * @throws java.util.NoSuchElementException if the input has ended
+     * @throws MoveTimeoutException if the move in progress ran out of time
+     */
+    @Override
+    public String readLine() {
+        present();
+        String line = nextLine();
+        if (line == null) {
+            throw new NoSuchElementException("No line found");
+        }
+        this.renderer.echo(line);
+        return line;
+    }
+
+    /**
+     * Sends the screen and waits for the player to press Enter.
+     * Returns at once if the input has ended, and after the move timeout if one is set.
+     */
+    @Override
+    public void await() {
+        println(GameConstants.PROMPT_CONTINUE);
+        present();
+        beginMove();
+        try {
+            String line = nextLine();
+            if (line != null) {
+                this.renderer.echo(line);
+            }
+        } catch (MoveTimeoutException e) {
+            // Nobody pressed Enter; play goes on
+        } finally {
+            endMove();
+        }
+    }
+
+    // ==================== Move Deadlines ====================
+
+    /**
+     * Gives every move from now on a time limit, kept on the given wheel.
+     *
+     * @param timer the wheel the deadlines are scheduled on
+     * @param timeout the time limit for each move, or 0 for no limit
+     * @param unit the unit of the timeout
+     */
+    public void setMoveTimeout(TimingWheel timer, long timeout, TimeUnit unit) {
+        this.timer = timer;
+        this.moveTimeoutNanos = unit.toNanos(timeout);
+    }
+
+    /**
+     * Schedules the deadline of the move the game now waits for, replacing any earlier one.
+     */
+    @Override
+    public void beginMove() {
+        endMove();
+        if (this.timer != null && this.moveTimeoutNanos > 0) {
+            Object marker = new Object();
+            this.expiry = marker;
+            this.deadline = this.timer.schedule(() -> this.lines.add(marker), this.moveTimeoutNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Cancels the deadline of the move in progress. A marker the wheel has already
+     * queued is skipped by the next read.
+     */
+    @Override
+    public void endMove() {
+        if (this.deadline != null) {
+            this.deadline.cancel();
+            this.deadline = null;
+        }
+        this.expiry = null;
+    }
+
+    /**
+     * Shows a game's board below the banner of every cleared screen.
+     *
+     * @param board the questions of the game, read again on every clear
+     */
+    @Override
+    public void showBoard(QuestionService board) {
+        this.board = board;
+    }
+
+    /**
+     * Gets the renderer, for its statistics.
+     *
+     * @return the renderer drawing this terminal
+     */
+    public TerminalRenderer getRenderer() {
+        return this.renderer;
+    }
+
+    /**
+     * Takes the next line of input from the reader thread, starting it on first use.
+     *
+     * @return the line, or null if the input has ended or cannot be read
+     * @throws MoveTimeoutException if the deadline of the move in progress expires first
+     */
+    private String nextLine() {
+        if (this.reader == null) {
+            this.reader = VirtualThreads.platformThreadFactory("terminal-input").newThread(this::readInput);
+            this.reader.start();
+        }
+        while (!this.ended) {
+            Object next;
+            try {
+                next = this.lines.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            if (next instanceof String) {
+                return (String) next;
+            }
+            if (next == END_OF_INPUT) {
+                this.ended = true;
+            } else if (next == this.expiry) {
+                this.deadline = null;
+                this.expiry = null;
+                throw new MoveTimeoutException("The move ran out of time");
+            }
+            // Otherwise the marker of a move already made; skip it
+        }
+        return null;
+    }
+
+    /**
+     * Runs on the reader thread: queues every line of the terminal, then the end of input.
+     */
+    private void readInput() {
+        try {
+            String line;
+            while ((line = this.in.readLine()) != null) {
+                this.lines.add(line);
+            }
+        } catch (IOException e) {
+            System.err.println("[Error]: Could not read from the terminal: " + e.getMessage());
+        } finally {
+            this.lines.add(END_OF_INPUT);
+        }
+    }
+
+    /**
+     * Sends the rows of the screen that changed.
+     */
+    private void present() {
+        try {
+            this.renderer.present();
+        } catch (IOException e) {
+            System.err.println("[Error]: Could not write to the terminal: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.jeopardy.ui;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TerminalRenderer draws text screens on an ANSI terminal by sending only what changed.
+ *
+ * It keeps two buffers of rows: the front buffer is what the terminal shows, and the
+ * back buffer is the frame being composed. Text written to the renderer only goes into
+ * the back buffer. present() compares the two row by row and sends the terminal just the
+ * rows that differ, each one positioned with a cursor escape and cut off with an erase
+ * to end of line, followed by an erase below if the new frame is shorter. The whole
+ * update goes out in a single write, so a slow link carries a few short rows per turn
+ * instead of a full screen in many small packets.
+ *
+ * The first frame clears the screen, since nothing is known of what it shows. Rows are
+ * addressed from the top of the screen, so a frame taller than the terminal is scrolled
+ * the way the terminal would scroll it: only its last rows, as many as the terminal has,
+ * are kept and drawn, and the prompt on the last row stays in view.
+ *
+ * Not thread-safe; each terminal uses its own instance.
+ */
+public class TerminalRenderer {
+
+    private static final String ESCAPE = "\033[";
+    private static final String CLEAR_SCREEN = ESCAPE + "H" + ESCAPE + "2J";
+    private static final String ERASE_LINE = ESCAPE + "K";
+    private static final String ERASE_BELOW = ESCAPE + "J";
+
+    /** The height assumed for a terminal of unknown size, in rows. */
+    public static final int DEFAULT_HEIGHT = 24;
+
+    private final OutputStream out;
+    private final Charset charset;
+    private final int height;
+    private final ArrayList<String> back;
+    private final StringBuilder partial;
+    private List<String> front;
+    private long bytesWritten;
+    private long rowsWritten;
+
+    /**
+     * Constructs a renderer writing to a terminal of the default height.
+     *
+     * @param out the stream the terminal reads
+     * @param charset the terminal's character set
+     */
+    public TerminalRenderer(OutputStream out, Charset charset) {
+        this(out, charset, DEFAULT_HEIGHT);
+    }
+
+    /**
+     * Constructs a renderer writing to a terminal of the given height.
+     *
+     * @param out the stream the terminal reads
+     * @param charset the terminal's character set
+     * @param height the number of rows the terminal shows
+     * @throws IllegalArgumentException if the height is not positive
+     */
+    public TerminalRenderer(OutputStream out, Charset charset, int height) {
+        if (height < 1) {
+            throw new IllegalArgumentException("[Error]: Terminal height must be positive: " + height);
+        }
+        this.out = out;
+        this.charset = charset;
+        this.height = height;
+        this.back = new ArrayList<>();
+        this.partial = new StringBuilder();
+        this.front = null;
+    }
+
+    // ==================== Composing ====================
+
+    /**
+     * Starts a new, empty frame. Nothing is sent until present() is called.
+     */
+    public void clear() {
+        this.back.clear();
+        this.partial.setLength(0);
+    }
+
+    /**
+     * Adds text to the frame being composed. Line separators start new rows.
+     *
+     * @param text the text to add
+     */
+    public void write(CharSequence text) {
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '\r') {
+                this.partial.append(text, start, i);
+                if (c == '\n') {
+                    this.back.add(this.partial.toString());
+                    this.partial.setLength(0);
+                }
+                start = i + 1;
+            }
+        }
+        this.partial.append(text, start, text.length());
+    }
+
+    /**
+     * Records a line the terminal has echoed while the player typed it, so the screen
+     * and the front buffer keep matching without the line being sent again.
+     *
+     * @param line the line the player typed, without its line separator
+     */
+    public void echo(String line) {
+        write(line + "\n");
+        this.front = rows();
+    }
+
+    // ==================== Presenting ====================
+
+    /**
+     * Sends the rows of the composed frame that differ from the screen, in one write,
+     * and leaves the cursor at the end of the frame's last row.
+     *
+     * @throws IOException if the terminal cannot be written to
+     */
+    public void present() throws IOException {
+        List<String> rows = rows();
+        StringBuilder update = new StringBuilder();
+        List<String> shown = this.front;
+        if (shown == null) {
+            update.append(CLEAR_SCREEN);
+            shown = new ArrayList<>();
+        }
+
+        for (int r = 0; r < rows.size(); r++) {
+            String row = rows.get(r);
+            if (r >= shown.size() || !shown.get(r).equals(row)) {
+                moveTo(update, r, 0).append(row).append(ERASE_LINE);
+                this.rowsWritten++;
+            }
+        }
+        if (rows.size() < shown.size()) {
+            moveTo(update, rows.size(), 0).append(ERASE_BELOW);
+        }
+        moveTo(update, rows.size() - 1, this.partial.length());
+
+        byte[] bytes = update.toString().getBytes(this.charset);
+        this.out.write(bytes);
+        this.out.flush();
+        this.bytesWritten += bytes.length;
+        this.front = rows;
+    }
+
+    /**
+     * Appends a cursor move to a zero-based row and column.
+     *
+     * @param sb the update being built
+     * @param row the row
+     * @param column the column
+     * @return the update being built
+     */
+    private static StringBuilder moveTo(StringBuilder sb, int row, int column) {
+        return sb.append(ESCAPE).append(row + 1).append(';').append(column + 1).append('H');
+    }
+
+    /**
+     * Gets the rows of the composed frame that fit on the terminal, the last one being the
+     * unfinished row. A taller frame keeps only its last rows, as a scrolled terminal would.
+     *
+     * @return a copy of the frame's visible rows
+     */
+    private List<String> rows() {
+        int first = Math.max(0, this.back.size() + 1 - this.height);
+        List<String> rows = new ArrayList<>(this.back.size() + 1 - first);
+        rows.addAll(this.back.subList(first, this.back.size()));
+        rows.add(this.partial.toString());
+        return rows;
+    }
+
+    /**
+     * Gets the number of rows the terminal shows.
+     *
+     * @return the terminal height
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    // ==================== Statistics ====================
+
+    /**
+     * Gets the number of bytes sent to the terminal so far.
+     *
+     * @return the byte count
+     */
+    public long getBytesWritten() {
+        return this.bytesWritten;
+    }
+
+    /**
+     * Gets the number of rows sent to the terminal so far.
+     *
+     * @return the row count
+     */
+    public long getRowsWritten() {
+        return this.rowsWritten;
+    }
+}
@@ -15,7 +15,7 @@ package com.jeopardy.utils;
  * Categories:
  * - Game lifecycle: START_GAME, EXIT_GAME, GAME_OVER
  * - Setup: LOAD_FILE, SELECT_PLAYER_COUNT, ENTER_PLAYER_NAME
- * - Gameplay: SELECT_CATEGORY, SELECT_QUESTION, ANSWER_QUESTION
+ * - Gameplay: SELECT_CATEGORY, SELECT_QUESTION, BUZZ_IN, ANSWER_QUESTION, TIMEOUT
  * - Game state: SCORE_UPDATED, TURN_START, TURN_END, GAME_UPDATE
  * - Output: GENERATE_REPORT, GENERATE_EVENT_LOG
  */
@@ -50,11 +50,21 @@ public enum ActivityType {
      */
     SELECT_QUESTION,
 
+    /**
+     * Winning the buzz-in race for a revealed question.
+     */
+    BUZZ_IN,
+
     /**
      * Answering a question.
      */
     ANSWER_QUESTION,
 
+    /**
+     * Running out of time for a move; the turn is resolved as an incorrect answer.
+     */
+    TIMEOUT,
+
     /**
      * Player score has been updated.
      */
@@ -41,6 +41,16 @@ public final class GameConstants {
      */
     public static final String DEFAULT_CASE_ID = "GAME-001";
 
+    /**
+     * Number of categories drawn onto a game board.
+     */
+    public static final int BOARD_CATEGORIES = 5;
+
+    /**
+     * Number of value slots drawn per category on a game board.
+     */
+    public static final int BOARD_VALUES = 5;
+
     // ==================== File Paths ====================
 
     /**
@@ -55,6 +65,17 @@ public final class GameConstants {
      */
     public static final Path OUTPUT_DIRECTORY = Paths.get("output");
 
+    /**
+     * Journal of the console game's commands, used to resume it after a crash.
+     */
+    public static final Path JOURNAL_FILE = OUTPUT_DIRECTORY.resolve("game.journal");
+
+    /**
+     * Directory for per-player data kept across games (e.g. seen questions).
+     * Uses Path API for cross-platform compatibility.
+     */
+    public static final Path PLAYER_DATA_DIRECTORY = Paths.get("players");
+
     /**
      * Resource path to the banner file.
      * Loaded from classpath for better portability and packaging.
@@ -104,17 +125,40 @@ public final class GameConstants {
      */
     public static final String MESSAGE_CORRECT = "That is correct!";
 
+    /**
+     * Start of the message displayed when answer is incorrect, followed by the correct answer.
+     */
+    public static final String MESSAGE_INCORRECT_PREFIX = "Incorrect. The correct answer is ";
+
     /**
      * Message format for displaying incorrect answer with correct answer.
      * Use with String.format(MESSAGE_INCORRECT_FORMAT, correctAnswer)
      */
-    public static final String MESSAGE_INCORRECT_FORMAT = "Incorrect. The correct answer is %s";
+    public static final String MESSAGE_INCORRECT_FORMAT = MESSAGE_INCORRECT_PREFIX + "%s";
+
+    /**
+     * Message format for a move that ran out of time.
+     * Use with String.format(MESSAGE_TIMEOUT_FORMAT, playerId)
+     */
+    public static final String MESSAGE_TIMEOUT_FORMAT = "Time is up for %s. The turn counts as incorrect.";
+
+    /**
+     * Message format for greeting a player who has a stored profile.
+     * Use with String.format(MESSAGE_WELCOME_BACK_FORMAT, playerId, games, wins, bestScore, accuracyPercent)
+     */
+    public static final String MESSAGE_WELCOME_BACK_FORMAT =
+        "Welcome back, %s! %d games played, %d won, best score %d, %.0f%% answered correctly.";
 
     /**
      * Error message for missing question.
      */
     public static final String ERROR_NO_QUESTION = "[Error]: No question to answer";
 
+    /**
+     * Error message for a question that another answer attempt has already claimed.
+     */
+    public static final String ERROR_ALREADY_ANSWERED = "[Error]: Question has already been answered";
+
     /**
      * Error message for invalid number input.
      */
@@ -0,0 +1,90 @@
+package com.jeopardy.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * VirtualThreads creates thread-per-task executors backed by virtual threads when the
+ * running JVM supports them.
+ *
+ * The project compiles for Java 11, so virtual threads (Java 21+) are looked up
+ * reflectively. On older runtimes the executors fall back to daemon platform threads
+ * with a small stack, which keeps the cost of many mostly-idle tasks low.
+ *
+ * Usage: VirtualThreads.newThreadPerTaskExecutor("session")
+ */
+public final class VirtualThreads {
+
+    /**
+     * Stack size requested for fallback platform threads.
+     */
+    private static final long FALLBACK_STACK_SIZE = 256 * 1024;
+
+    private static final MethodHandle NEW_VIRTUAL_EXECUTOR = findVirtualExecutorFactory();
+
+    // Prevent instantiation
+    private VirtualThreads() {
+        throw new AssertionError("Cannot instantiate VirtualThreads");
+    }
+
+    /**
+     * Checks whether the running JVM supports virtual threads.
+     *
+     * @return true if executors are backed by virtual threads, false if they fall back
+     */
+    public static boolean isAvailable() {
+        return NEW_VIRTUAL_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor that starts a new thread for each task.
+     * Threads are virtual when available, otherwise small-stack daemon platform threads.
+     *
+     * @param namePrefix the prefix for fallback thread names
+     * @return the thread-per-task executor
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        if (NEW_VIRTUAL_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_EXECUTOR.invoke();
+            } catch (Throwable e) {
+                System.err.println("Virtual threads unavailable, using platform threads: " + e.getMessage());
+            }
+        }
+        return Executors.newCachedThreadPool(platformThreadFactory(namePrefix));
+    }
+
+    /**
+     * Creates a factory for named, small-stack daemon platform threads.
+     *
+     * @param namePrefix the prefix for thread names
+     * @return the thread factory
+     */
+    public static ThreadFactory platformThreadFactory(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(null, task, namePrefix + "-" + counter.incrementAndGet(), FALLBACK_STACK_SIZE);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Looks up Executors.newVirtualThreadPerTaskExecutor() if the runtime has it.
+     *
+     * @return a handle to the factory method, or null if it does not exist
+     */
+    private static MethodHandle findVirtualExecutorFactory() {
+        try {
+            return MethodHandles.publicLookup().findStatic(
+                Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.jeopardy;
+
+import com.jeopardy.question.Question;
+import com.jeopardy.question.QuestionBanks;
+import com.jeopardy.question.QuestionService;
+import com.jeopardy.utils.GameConstants;
+
+import java.util.ArrayList;
+
+/**
+ * QuestionFixtures builds the generated question banks the tests play on
+ * (see QuestionBanks). Categories are named "Category 0", "Category 1", ...
+ */
+public final class QuestionFixtures {
+
+    private static final String CATEGORY = "Category";
+    private static final String[] YES_NO = {"Yes", "No"};
+    private static final String[] FOUR_OPTIONS = {"One", "Two", "Three", "Four"};
+
+    // Prevent instantiation
+    private QuestionFixtures() {
+        throw new AssertionError("Cannot instantiate QuestionFixtures");
+    }
+
+    /**
+     * Creates a bank of exactly one board, whose every question is Yes/No with A correct.
+     *
+     * @return the bank
+     */
+    public static QuestionService board() {
+        return QuestionBanks.generate(CATEGORY, GameConstants.BOARD_CATEGORIES, 1, YES_NO, false);
+    }
+
+    /**
+     * Creates a bank of four-option questions whose correct answer rotates, for bots
+     * whose accuracy matters.
+     *
+     * @param categories the number of categories
+     * @param copies the number of questions per category and value
+     * @return the bank
+     */
+    public static QuestionService bank(int categories, int copies) {
+        return QuestionBanks.generate(CATEGORY, categories, copies, FOUR_OPTIONS, true);
+    }
+
+    /**
+     * Creates the questions of a bank of Yes/No questions with A correct, for tests
+     * that index questions themselves.
+     *
+     * @param categories the number of categories
+     * @param copies the number of questions per category and value
+     * @return the questions, by category, then value, then copy
+     */
+    public static ArrayList<Question> questions(int categories, int copies) {
+        return QuestionBanks.generateQuestions(CATEGORY, categories, copies, YES_NO, false);
+    }
+}
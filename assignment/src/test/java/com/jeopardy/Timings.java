@@ -0,0 +1,33 @@
+package com.jeopardy;
+
+import org.junit.Assume;
+
+/**
+ * Timings gates the tests that assert wall-clock timings.
+ *
+ * Timings depend on the machine, its disk and its load, so these checks are skipped
+ * in the default build, where tests only assert behavior. They run with
+ * -Djeopardy.performance=true, which the performance profile sets:
+ * <pre>
+ * mvn test -Pperformance
+ * </pre>
+ */
+public final class Timings {
+
+    /**
+     * Whether timing checks run. Read once, when the class is first used.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("jeopardy.performance");
+
+    // Prevent instantiation
+    private Timings() {
+        throw new AssertionError("Cannot instantiate Timings");
+    }
+
+    /**
+     * Skips the calling test unless timing checks are enabled.
+     */
+    public static void assumeEnabled() {
+        Assume.assumeTrue("Timing checks run with -Pperformance", ENABLED);
+    }
+}
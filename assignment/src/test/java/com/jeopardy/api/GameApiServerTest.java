@@ -0,0 +1,234 @@
+package com.jeopardy.api;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jeopardy.QuestionFixtures;
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.utils.ActivityType;
+
+import org.json.simple.JSONValue;
+import org.json.simple.parser.JSONParser;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the HTTP/JSON game API.
+ *
+ * Verifies:
+ * - A game can be created, joined, started and played to the end over HTTP,
+ *   and its answers reach the leaderboard
+ * - Bad requests reply with the matching status code and an error message
+ * - The event stream delivers the game's activity logs and ends at game over
+ * - Concurrent load clients finish their games without errors
+ * - Games nobody uses for the idle timeout are dropped; games in use are kept
+ */
+public class GameApiServerTest {
+
+    private static final int BOARD_SIZE = 25;
+
+    private GameApiServer server;
+    private HttpClient http;
+    private URI base;
+    private final List<ActivityLog> published = new CopyOnWriteArrayList<>();
+
+    @Before
+    public void setUp() throws Exception {
+        this.server = new GameApiServer(QuestionFixtures.board(), 0);
+        this.server.subscribe(this.published::add);
+        this.server.start();
+        this.http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        this.base = URI.create("http://localhost:" + this.server.getPort());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        this.server.stop();
+    }
+
+    private HttpResponse<String> call(String method, String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(this.base.resolve(path))
+            .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        return this.http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private Map<?, ?> ok(String method, String path, String body) throws Exception {
+        HttpResponse<String> response = call(method, path, body);
+        Assert.assertEquals(response.body(), 2, response.statusCode() / 100);
+        return (Map<?, ?>) new JSONParser().parse(response.body());
+    }
+
+    private static String json(Object... fields) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < fields.length; i += 2) {
+            map.put((String) fields[i], fields[i + 1]);
+        }
+        return JSONValue.toJSONString(map);
+    }
+
+    private String newGame(String... players) throws Exception {
+        String id = (String) ok("POST", "/games", null).get("game");
+        for (String player : players) {
+            ok("POST", "/games/" + id + "/players", json("name", player));
+        }
+        return id;
+    }
+
+    @Test
+    public void testPlaysGameToTheEnd() throws Exception {
+        String id = newGame("Ann", "Bob");
+        String path = "/games/" + id;
+
+        Map<?, ?> started = ok("POST", path + "/start", null);
+        Assert.assertEquals("playing", started.get("status"));
+        Assert.assertEquals("Ann", started.get("turn"));
+
+        for (int turn = 0; turn < BOARD_SIZE; turn++) {
+            Map<?, ?> board = ok("GET", path + "/board", null);
+            String player = (String) board.get("turn");
+            Assert.assertEquals(turn % 2 == 0 ? "Ann" : "Bob", player);
+
+            Map<?, ?> category = null;
+            for (Object c : (List<?>) board.get("categories")) {
+                if (!((List<?>) ((Map<?, ?>) c).get("values")).isEmpty()) {
+                    category = (Map<?, ?>) c;
+                    break;
+                }
+            }
+            Assert.assertNotNull(category);
+            Object value = ((List<?>) category.get("values")).get(0);
+
+            Map<?, ?> question = ok("POST", path + "/select", json("player", player, "category", category.get("name"), "value", value));
+            Assert.assertEquals("Yes", ((Map<?, ?>) question.get("options")).get("A"));
+            Map<?, ?> result = ok("POST", path + "/answer", json("player", player, "answer", turn % 2 == 0 ? "A" : "b"));
+            Assert.assertEquals(turn % 2 == 0 ? "Correct" : "Incorrect", result.get("result"));
+        }
+
+        Map<?, ?> scores = ok("GET", path + "/scores", null);
+        Assert.assertEquals("over", scores.get("status"));
+        Assert.assertTrue(((Number) ((Map<?, ?>) scores.get("scores")).get("Ann")).intValue() > 0);
+        Assert.assertTrue(((Number) ((Map<?, ?>) scores.get("scores")).get("Bob")).intValue() == 0);
+
+        long answers = this.published.stream().filter(l -> l.getActivity() == ActivityType.ANSWER_QUESTION).count();
+        Assert.assertEquals(BOARD_SIZE, answers);
+        Assert.assertEquals(ActivityType.GAME_OVER, this.published.get(this.published.size() - 1).getActivity());
+        Assert.assertEquals(id, this.published.get(0).getCaseId());
+
+        Map<?, ?> leaderboard = ok("GET", "/leaderboard", null);
+        Assert.assertEquals(2L, leaderboard.get("players"));
+        Map<?, ?> leader = (Map<?, ?>) ((List<?>) leaderboard.get("leaders")).get(0);
+        Assert.assertEquals("Ann", leader.get("player"));
+        Assert.assertEquals(((Map<?, ?>) scores.get("scores")).get("Ann"), leader.get("score"));
+    }
+
+    @Test
+    public void testRejectsBadRequests() throws Exception {
+        Assert.assertEquals(404, call("GET", "/games/nope/board", null).statusCode());
+        Assert.assertEquals(405, call("DELETE", "/games", null).statusCode());
+
+        String id = newGame("Ann", "Bob");
+        String path = "/games/" + id;
+        Assert.assertEquals(409, call("GET", path + "/board", null).statusCode());
+        Assert.assertEquals(400, call("POST", path + "/players", "{not json").statusCode());
+        Assert.assertEquals(400, call("POST", path + "/players", json("nickname", "Cy")).statusCode());
+        Assert.assertEquals(409, call("POST", path + "/players", json("name", "Ann")).statusCode());
+
+        ok("POST", path + "/start", null);
+        Assert.assertEquals(409, call("POST", path + "/start", null).statusCode());
+        Assert.assertEquals(409, call("POST", path + "/players", json("name", "Cy")).statusCode());
+
+        HttpResponse<String> wrongTurn = call("POST", path + "/select", json("player", "Bob", "category", "Category 0", "value", 100));
+        Assert.assertEquals(409, wrongTurn.statusCode());
+        Assert.assertTrue(wrongTurn.body().contains("\"error\""));
+        Assert.assertEquals(409, call("POST", path + "/answer", json("player", "Ann", "answer", "A")).statusCode());
+        Assert.assertEquals(404, call("POST", path + "/select", json("player", "Ann", "category", "Nope", "value", 100)).statusCode());
+        Assert.assertEquals(400, call("POST", path + "/select", json("player", "Ann", "category", "Category 0", "value", "x")).statusCode());
+
+        ok("POST", path + "/select", json("player", "Ann", "category", "Category 0", "value", "100"));
+        Assert.assertEquals(400, call("POST", path + "/answer", json("player", "Ann", "answer", "Z")).statusCode());
+        ok("POST", path + "/answer", json("player", "Ann", "answer", "A"));
+        Assert.assertEquals("Bob", ok("GET", path, null).get("turn"));
+    }
+
+    @Test
+    public void testEventStreamDeliversActivityUntilGameOver() throws Exception {
+        String id = newGame("Solo");
+        String path = "/games/" + id;
+
+        HttpRequest request = HttpRequest.newBuilder(this.base.resolve(path + "/events")).build();
+        HttpResponse<java.io.InputStream> response = this.http.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        Assert.assertEquals(200, response.statusCode());
+        Assert.assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/event-stream"));
+
+        CompletableFuture<List<String>> events = CompletableFuture.supplyAsync(() -> {
+            List<String> data = new ArrayList<>();
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (line.startsWith("data: ")) {
+                        data.add(line.substring("data: ".length()));
+                    }
+                }
+            } catch (Exception e) {
+                data.add("failed: " + e);
+            }
+            return data;
+        });
+
+        ok("POST", path + "/start", null);
+        for (int turn = 0; turn < BOARD_SIZE; turn++) {
+            Map<?, ?> category = (Map<?, ?>) ((List<?>) ok("GET", path + "/board", null).get("categories")).stream()
+                .filter(c -> !((List<?>) ((Map<?, ?>) c).get("values")).isEmpty()).findFirst().get();
+            ok("POST", path + "/select", json("player", "Solo", "category", category.get("name"),
+                "value", ((List<?>) category.get("values")).get(0)));
+            ok("POST", path + "/answer", json("player", "Solo", "answer", "A"));
+        }
+
+        List<String> data = events.get(10, TimeUnit.SECONDS);
+        Assert.assertTrue(data.get(0).contains("\"activity\":\"START_GAME\""));
+        Assert.assertTrue(EventStream.isGameOver(data.get(data.size() - 1)));
+        Assert.assertEquals(BOARD_SIZE, data.stream().filter(d -> d.contains("\"activity\":\"ANSWER_QUESTION\"")).count());
+        Assert.assertTrue(data.stream().anyMatch(d -> d.contains("\"result\":\"Correct\"") && d.contains("\"playerId\":\"Solo\"")));
+    }
+
+    @Test
+    public void testLoadGeneratorFinishesGames() throws Exception {
+        ApiLoadGenerator.Result result = ApiLoadGenerator.run(this.base, 8, 4);
+        Assert.assertEquals(0, result.getErrors());
+        Assert.assertEquals(32, result.getGames());
+        Assert.assertEquals(32 * (3 + 3 * BOARD_SIZE + 1), result.getRequests());
+        Assert.assertTrue(result.getP50Nanos() <= result.getP99Nanos());
+        Assert.assertEquals(32, this.server.getGameCount());
+    }
+
+    @Test
+    public void testIdleGamesAreDropped() throws Exception {
+        this.server.setIdleTimeout(1, TimeUnit.SECONDS);
+        String abandoned = newGame("Ann");
+        String played = newGame("Bob");
+        Thread.sleep(700);
+        ok("GET", "/games/" + played + "/scores", null);
+        Thread.sleep(700);
+
+        newGame();
+        Assert.assertEquals(404, call("GET", "/games/" + abandoned + "/scores", null).statusCode());
+        ok("GET", "/games/" + played + "/scores", null);
+        Assert.assertEquals(2, this.server.getGameCount());
+    }
+}
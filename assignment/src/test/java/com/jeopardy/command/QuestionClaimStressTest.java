@@ -0,0 +1,125 @@
+package com.jeopardy.command;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jeopardy.game.GameController;
+import com.jeopardy.game.GameState;
+import com.jeopardy.game.Player;
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.question.Question;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stress tests for atomic question claiming.
+ *
+ * Many threads race AnswerQuestionCommands on every question of a board;
+ * each question must be scored exactly once.
+ */
+public class QuestionClaimStressTest {
+
+    private static final int THREADS = 16;
+    private static final int QUESTIONS = 25;
+    private static final int ROUNDS = 40;
+
+    /**
+     * Minimal GameController that counts score updates per question.
+     */
+    private static class CountingController implements GameController {
+        private final GameState state = new GameState();
+        private final AtomicInteger scoreUpdates = new AtomicInteger();
+
+        CountingController(Question question) {
+            this.state.addPlayer(new Player("Racer"));
+            this.state.setCurrentQuestion(question);
+        }
+
+        @Override
+        public GameState getState() {
+            return this.state;
+        }
+
+        @Override
+        public void selectCategory() {
+        }
+
+        @Override
+        public void selectQuestion() {
+        }
+
+        @Override
+        public void updateCurrentPlayerScore(int points) {
+            this.scoreUpdates.incrementAndGet();
+        }
+
+        @Override
+        public void setCurrentActivityLog(ActivityLog log) {
+        }
+
+        @Override
+        public void notifySubscribers() {
+        }
+    }
+
+    @Test
+    public void testTryClaimSucceedsOnce() {
+        Question q = new Question();
+        Assert.assertTrue(q.tryClaim());
+        Assert.assertFalse(q.tryClaim());
+        Assert.assertTrue(q.getIsAnswered());
+    }
+
+    @Test
+    public void testExactlyOneAttemptScoresUnderContention() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            List<CountingController> controllers = new ArrayList<>();
+            List<Runnable> attempts = new ArrayList<>();
+
+            for (int i = 0; i < QUESTIONS; i++) {
+                Question question = new Question();
+                question.setCategory("Race");
+                question.setValue(100 * (i % 5 + 1));
+                question.setQuestion("Race question " + i);
+                question.setCorrectAnswer("A");
+
+                CountingController controller = new CountingController(question);
+                controllers.add(controller);
+                for (int t = 0; t < THREADS; t++) {
+                    attempts.add(new AnswerQuestionCommand(controller, "A")::execute);
+                }
+            }
+
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                final int offset = t;
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = offset; i < attempts.size(); i += THREADS) {
+                        attempts.get(i).run();
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            for (CountingController controller : controllers) {
+                Assert.assertEquals(1, controller.scoreUpdates.get());
+                Assert.assertTrue(controller.getState().getCurrentQuestion().getIsAnswered());
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.jeopardy.game;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jeopardy.Timings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Tests for lock-free buzz-in arbitration.
+ *
+ * Verifies:
+ * - The first buzz wins, later buzzes lose with a non-negative delta
+ * - Closed buzzers and repeat buzzes are rejected
+ * - A buzz that read an earlier round never counts in a later one
+ * - Exactly one winner per round when many threads buzz at once
+ * - A buzz costs well under a microsecond (with -Pperformance)
+ */
+public class BuzzArbiterTest {
+
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 2_000;
+
+    @Test
+    public void testFirstBuzzWins() throws InterruptedException {
+        BuzzArbiter arbiter = new BuzzArbiter(3);
+        Assert.assertEquals(BuzzArbiter.Outcome.CLOSED, arbiter.buzz(0));
+        Assert.assertEquals(-1, arbiter.getWinner());
+
+        arbiter.open();
+        Assert.assertTrue(arbiter.isOpen());
+        Assert.assertEquals(BuzzArbiter.Outcome.WON, arbiter.buzz(2));
+        Thread.sleep(2);
+        Assert.assertEquals(BuzzArbiter.Outcome.LOST, arbiter.buzz(0));
+        Assert.assertEquals(BuzzArbiter.Outcome.REPEAT, arbiter.buzz(2));
+        Assert.assertEquals(BuzzArbiter.Outcome.REPEAT, arbiter.buzz(0));
+
+        Assert.assertFalse(arbiter.isOpen());
+        Assert.assertEquals(2, arbiter.getWinner());
+        Assert.assertEquals(0, arbiter.getDeltaNanos(2));
+        Assert.assertTrue(arbiter.getDeltaNanos(0) >= 2_000_000);
+        Assert.assertTrue(arbiter.getReactionNanos(0) > arbiter.getReactionNanos(2));
+        Assert.assertEquals(-1, arbiter.getReactionNanos(1));
+        Assert.assertEquals(-1, arbiter.getDeltaNanos(1));
+
+        arbiter.close();
+        Assert.assertEquals(BuzzArbiter.Outcome.CLOSED, arbiter.buzz(1));
+        Assert.assertEquals(-1, arbiter.getWinner());
+
+        arbiter.open();
+        Assert.assertEquals(-1, arbiter.getReactionNanos(2));
+        Assert.assertEquals(BuzzArbiter.Outcome.WON, arbiter.buzz(1));
+    }
+
+    @Test
+    public void testBuzzFromEarlierRoundLoses() {
+        BuzzArbiter arbiter = new BuzzArbiter(2);
+        arbiter.open();
+        long roundOne = arbiter.getState();
+
+        // Round one times out with no winner before the slow buzz gets to its CAS
+        arbiter.close();
+        Assert.assertEquals(BuzzArbiter.Outcome.CLOSED, arbiter.buzz(0, roundOne));
+        arbiter.open();
+        Assert.assertEquals(BuzzArbiter.Outcome.CLOSED, arbiter.buzz(0, roundOne));
+        Assert.assertTrue(arbiter.isOpen());
+        Assert.assertEquals(-1, arbiter.getReactionNanos(0));
+
+        Assert.assertEquals(BuzzArbiter.Outcome.WON, arbiter.buzz(1));
+        Assert.assertEquals(BuzzArbiter.Outcome.LOST, arbiter.buzz(0));
+        Assert.assertTrue(arbiter.getReactionNanos(0) >= 0);
+        Assert.assertEquals(1, arbiter.getWinner());
+    }
+
+    @Test
+    public void testOneWinnerPerRoundUnderContention() throws Exception {
+        BuzzArbiter arbiter = new BuzzArbiter(THREADS);
+        AtomicIntegerArray winners = new AtomicIntegerArray(ROUNDS);
+        AtomicInteger losers = new AtomicInteger();
+        AtomicInteger negativeDeltas = new AtomicInteger();
+        CyclicBarrier barrier = new CyclicBarrier(THREADS, arbiter::open);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            final int seat = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    for (int round = 0; round < ROUNDS; round++) {
+                        barrier.await();
+                        BuzzArbiter.Outcome outcome = arbiter.buzz(seat);
+                        if (outcome == BuzzArbiter.Outcome.WON) {
+                            winners.incrementAndGet(round);
+                        } else if (outcome == BuzzArbiter.Outcome.LOST) {
+                            losers.incrementAndGet();
+                            if (arbiter.getDeltaNanos(seat) < 0) {
+                                negativeDeltas.incrementAndGet();
+                            }
+                        }
+                        barrier.await();
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int round = 0; round < ROUNDS; round++) {
+            Assert.assertEquals("round " + round, 1, winners.get(round));
+        }
+        Assert.assertEquals(ROUNDS * (THREADS - 1), losers.get());
+        Assert.assertEquals(0, negativeDeltas.get());
+    }
+
+    @Test
+    public void testBuzzIsSubMicrosecond() {
+        Timings.assumeEnabled();
+        BuzzArbiter arbiter = new BuzzArbiter(4);
+        int rounds = 200_000;
+        long best = Long.MAX_VALUE;
+        for (int pass = 0; pass < 5; pass++) {
+            long buzzNanos = 0;
+            for (int round = 0; round < rounds; round++) {
+                arbiter.open();
+                long start = System.nanoTime();
+                for (int seat = 0; seat < 4; seat++) {
+                    arbiter.buzz(seat);
+                }
+                buzzNanos += System.nanoTime() - start;
+            }
+            best = Math.min(best, buzzNanos / (rounds * 4L));
+        }
+        Assert.assertTrue("buzz took " + best + " ns", best < 1_000);
+    }
+}
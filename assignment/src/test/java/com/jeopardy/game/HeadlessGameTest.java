@@ -0,0 +1,98 @@
+package com.jeopardy.game;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jeopardy.QuestionFixtures;
+import com.jeopardy.Timings;
+import com.jeopardy.question.QuestionService;
+import com.jeopardy.ui.HeadlessGameIO;
+import com.jeopardy.utils.GameConstants;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Tests for playing whole games through HeadlessGameIO.
+ *
+ * Verifies:
+ * - A scripted game runs to game over with no terminal I/O
+ * - Invalid input is rejected and re-prompted as on the console
+ * - Running out of input ends the game instead of blocking
+ * - Headless turns take microseconds (with -Pperformance)
+ */
+public class HeadlessGameTest {
+
+    private static final int TIMED_GAMES = 500;
+    private static final int BOARD_SIZE = GameConstants.BOARD_CATEGORIES * GameConstants.BOARD_VALUES;
+
+    /**
+     * Creates a bot that always picks the first category, the first value and answer A.
+     */
+    private static HeadlessGameIO bot() {
+        String[] turn = {"1", "1", "A"};
+        int[] next = {0};
+        return new HeadlessGameIO(() -> turn[next[0]++ % turn.length]).submit("1", "Headless Bot");
+    }
+
+    private static GameEngine engine(QuestionService bank, HeadlessGameIO io, long seed) {
+        GameState state = new GameState(new Random(seed));
+        state.setBank(bank);
+        return new GameEngine(state, io);
+    }
+
+    @Test
+    public void testScriptedGameRunsToGameOver() {
+        HeadlessGameIO io = bot();
+        io.recordTranscript();
+        GameEngine engine = engine(QuestionFixtures.board(), io, 1);
+        engine.start();
+
+        Assert.assertTrue(engine.isGameOver());
+        Assert.assertEquals(0, engine.getState().getQuestionService().getUnansweredQuestions().size());
+        Assert.assertEquals(7500, engine.getState().getPlayers().get(0).getCurrentScore());
+        Assert.assertTrue(io.getTranscript().contains(GameConstants.MESSAGE_CORRECT));
+    }
+
+    @Test
+    public void testInvalidInputIsRepromptedThenInputRunsOut() {
+        HeadlessGameIO io = new HeadlessGameIO().submit("x", "9", "1", " ", "Solo", "0", "abc", "1", "1", "Z", "B");
+        io.recordTranscript();
+        GameEngine engine = engine(QuestionFixtures.board(), io, 2);
+
+        try {
+            engine.start();
+            Assert.fail("Expected the game to stop when input ran out");
+        } catch (NoSuchElementException expected) {
+            // The game waits for the second turn's category
+        }
+
+        String transcript = io.getTranscript();
+        Assert.assertTrue(transcript.contains(GameConstants.ERROR_INVALID_NUMBER));
+        Assert.assertTrue(transcript.contains("Invalid number of players"));
+        Assert.assertTrue(transcript.contains("Invalid name"));
+        Assert.assertTrue(transcript.contains(GameConstants.ERROR_INVALID_ANSWER));
+        Assert.assertEquals("Solo", engine.getState().getPlayers().get(0).getId());
+        Assert.assertEquals(BOARD_SIZE - 1, engine.getState().getQuestionService().getUnansweredQuestions().size());
+        Assert.assertEquals(0, io.getPendingInputCount());
+    }
+
+    @Test
+    public void testHeadlessTurnsTakeMicroseconds() {
+        Timings.assumeEnabled();
+        QuestionService bank = QuestionFixtures.board();
+        // Warm up before timing
+        for (int i = 0; i < TIMED_GAMES; i++) {
+            engine(bank, bot(), i).start();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < TIMED_GAMES; i++) {
+            GameEngine engine = engine(bank, bot(), i);
+            engine.start();
+            Assert.assertTrue(engine.isGameOver());
+        }
+        double microsPerTurn = (System.nanoTime() - start) / 1_000.0 / (TIMED_GAMES * BOARD_SIZE);
+        Assert.assertTrue("Turns too slow: " + microsPerTurn + " us", microsPerTurn < 1_000);
+    }
+}
@@ -0,0 +1,131 @@
+package com.jeopardy.game;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import com.jeopardy.harness.Warmup;
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.question.QuestionService;
+import com.jeopardy.ui.HeadlessGameIO;
+import com.jeopardy.utils.GameConstants;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Tests that steady-state turns allocate nothing on the engine side.
+ *
+ * A headless game is played against an in-memory board by a bot that picks the first
+ * open category and value and alternates right and wrong answers. The bot reads the
+ * bytes its thread has allocated whenever a turn starts, so the count covers whole
+ * turns: the engine, the commands, the game state, the question service and the prompts.
+ *
+ * Verifies:
+ * - Once classes are loaded and the reusable buffers have grown, turns of a game
+ *   without subscribers allocate no bytes at all
+ * - With a subscriber, every move still publishes its own activity log
+ */
+public class TurnAllocationTest {
+
+    private static final int WARM_UP_GAMES = 50;
+    private static final int FIRST_MEASURED_TURN = 2;
+    private static final int MEASURED_TURNS = 20;
+
+    /**
+     * Plays the turns of a game and reads the thread's allocated bytes at the start of each.
+     */
+    private static final class Bot implements Supplier<String> {
+        private final com.sun.management.ThreadMXBean threads;
+        private final long threadId;
+        private final long[] allocatedAtTurn;
+        private int line;
+
+        Bot(com.sun.management.ThreadMXBean threads, int turns) {
+            this.threads = threads;
+            this.threadId = Thread.currentThread().getId();
+            this.allocatedAtTurn = new long[turns];
+        }
+
+        @Override
+        public String get() {
+            int turn = this.line / 3;
+            int step = this.line % 3;
+            this.line++;
+            if (step == 0) {
+                if (turn < this.allocatedAtTurn.length) {
+                    this.allocatedAtTurn[turn] = this.threads.getThreadAllocatedBytes(this.threadId);
+                }
+                return "1";
+            }
+            if (step == 1) {
+                return "1";
+            }
+            return turn % 2 == 0 ? "A" : "B";
+        }
+
+        long getAllocatedBetween(int fromTurn, int toTurn) {
+            return this.allocatedAtTurn[toTurn] - this.allocatedAtTurn[fromTurn];
+        }
+    }
+
+    private static GameEngine game(QuestionService bank, Bot bot) {
+        GameState state = new GameState(new Random(1), new SeenQuestionStore(null));
+        state.setBank(bank);
+        return new GameEngine(state, new HeadlessGameIO(bot).submit("2", "Alice", "Bob"));
+    }
+
+    private static com.sun.management.ThreadMXBean threads() {
+        Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+
+    @Test
+    public void testSteadyStateTurnsAllocateNothing() {
+        com.sun.management.ThreadMXBean threads = threads();
+        QuestionService bank = Warmup.createBank();
+        int turns = FIRST_MEASURED_TURN + MEASURED_TURNS + 1;
+
+        for (int g = 0; g < WARM_UP_GAMES; g++) {
+            game(bank, new Bot(threads, turns)).start();
+        }
+
+        Bot bot = new Bot(threads, turns);
+        GameEngine engine = game(bank, bot);
+        engine.start();
+
+        Assert.assertTrue(engine.isGameOver());
+        long bytes = bot.getAllocatedBetween(FIRST_MEASURED_TURN, FIRST_MEASURED_TURN + MEASURED_TURNS);
+        Assert.assertEquals("Bytes allocated over " + MEASURED_TURNS + " turns", 0, bytes);
+    }
+
+    @Test
+    public void testSubscribersStillReceiveEveryMove() {
+        Bot bot = new Bot(threads(), 0);
+        GameEngine engine = game(Warmup.createBank(), bot);
+        List<ActivityLog> logs = new ArrayList<>();
+        engine.subscribe(logs::add);
+        engine.start();
+
+        int moves = 0;
+        for (ActivityLog log : logs) {
+            switch (log.getActivity()) {
+                case SELECT_CATEGORY:
+                case SELECT_QUESTION:
+                case ANSWER_QUESTION:
+                    moves++;
+                    break;
+                default:
+                    break;
+            }
+        }
+        Assert.assertEquals(3 * GameConstants.BOARD_CATEGORIES * GameConstants.BOARD_VALUES, moves);
+        Assert.assertEquals(logs.size(), logs.stream().distinct().count());
+    }
+}
@@ -0,0 +1,102 @@
+package com.jeopardy.game;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jeopardy.utils.ActivityType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the iterative turn state machine.
+ *
+ * Verifies:
+ * - Phases cycle in turn order and map onto activity types
+ * - A game stopping mid-turn stops the loop immediately
+ * - An endurance run of one million turns keeps the stack depth constant
+ */
+public class TurnStateMachineTest {
+
+    private static final int ENDURANCE_TURNS = 1_000_000;
+
+    /**
+     * Handler that records phases and ends the game after a fixed number of turns.
+     */
+    private static class CountingHandler implements TurnStateMachine.PhaseHandler {
+        private final int turns;
+        private final List<Integer> stackDepths = new ArrayList<>();
+        private int turnsStarted;
+        private int phasesHandled;
+        private boolean gameOver;
+
+        CountingHandler(int turns) {
+            this.turns = turns;
+        }
+
+        @Override
+        public void handle(TurnPhase phase) {
+            this.phasesHandled++;
+            if (phase == TurnPhase.TURN_START) {
+                if (this.turnsStarted == this.turns) {
+                    this.gameOver = true;
+                    return;
+                }
+                if (this.turnsStarted % 100_000 == 0) {
+                    this.stackDepths.add(Thread.currentThread().getStackTrace().length);
+                }
+                this.turnsStarted++;
+            }
+        }
+
+        @Override
+        public boolean isGameOver() {
+            return this.gameOver;
+        }
+    }
+
+    @Test
+    public void testPhaseOrderAndActivityTypes() {
+        TurnPhase phase = TurnPhase.TURN_START;
+        TurnPhase[] expected = {
+            TurnPhase.SELECT_CATEGORY, TurnPhase.SELECT_QUESTION, TurnPhase.ANSWER,
+            TurnPhase.TURN_END, TurnPhase.TURN_START
+        };
+        for (TurnPhase next : expected) {
+            phase = phase.next();
+            Assert.assertEquals(next, phase);
+        }
+
+        Assert.assertEquals(ActivityType.TURN_START, TurnPhase.TURN_START.getActivityType());
+        Assert.assertEquals(ActivityType.SELECT_CATEGORY, TurnPhase.SELECT_CATEGORY.getActivityType());
+        Assert.assertEquals(ActivityType.SELECT_QUESTION, TurnPhase.SELECT_QUESTION.getActivityType());
+        Assert.assertEquals(ActivityType.ANSWER_QUESTION, TurnPhase.ANSWER.getActivityType());
+        Assert.assertEquals(ActivityType.TURN_END, TurnPhase.TURN_END.getActivityType());
+    }
+
+    @Test
+    public void testStopsMidTurn() {
+        TurnStateMachine machine = new TurnStateMachine();
+        CountingHandler handler = new CountingHandler(0);
+        machine.run(handler);
+        Assert.assertEquals(1, handler.phasesHandled);
+        Assert.assertEquals(TurnPhase.SELECT_CATEGORY, machine.getPhase());
+
+        machine.reset();
+        Assert.assertEquals(TurnPhase.TURN_START, machine.getPhase());
+    }
+
+    @Test
+    public void testMillionTurnEnduranceHasConstantStackDepth() {
+        TurnStateMachine machine = new TurnStateMachine();
+        CountingHandler handler = new CountingHandler(ENDURANCE_TURNS);
+        machine.run(handler);
+
+        Assert.assertEquals(ENDURANCE_TURNS, handler.turnsStarted);
+        Assert.assertEquals(ENDURANCE_TURNS * TurnPhase.values().length + 1, handler.phasesHandled);
+        Assert.assertEquals(ENDURANCE_TURNS / 100_000, handler.stackDepths.size());
+        for (int depth : handler.stackDepths) {
+            Assert.assertEquals(handler.stackDepths.get(0).intValue(), depth);
+        }
+    }
+}
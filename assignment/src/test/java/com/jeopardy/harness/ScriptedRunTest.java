@@ -0,0 +1,111 @@
+package com.jeopardy.harness;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jeopardy.game.PhaseTimer;
+import com.jeopardy.game.TurnPhase;
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.logging.ActivityLogBuilder;
+import com.jeopardy.utils.ActivityType;
+import com.jeopardy.utils.GameConstants;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests for the deterministic scripted run mode.
+ *
+ * Verifies:
+ * - Two runs of the same script and seed publish identical activity logs
+ * - The seed decides the board, so another seed gives other logs
+ * - Every turn phase is timed
+ * - Runs on several threads at once still publish identical activity logs
+ * - A script that ends early stops the game, and other games keep the system clock
+ */
+public class ScriptedRunTest {
+
+    private static final int BOARD_SIZE = 25;
+
+    private static List<String> script() throws IOException {
+        return ScriptedRun.readScript(GameConstants.DATA_DIRECTORY.resolve("sample_script.txt"));
+    }
+
+    private static List<String> csv(ScriptedRun.Result result) {
+        List<String> lines = new ArrayList<>();
+        for (ActivityLog log : result.getActivityLogs()) {
+            lines.add(log.toCSVString());
+        }
+        return lines;
+    }
+
+    @Test
+    public void testRunsOfOneScriptAreIdentical() throws IOException {
+        ScriptedRun scriptedRun = new ScriptedRun(script(), 42);
+        ScriptedRun.Result first = scriptedRun.run();
+        ScriptedRun.Result second = scriptedRun.run();
+
+        Assert.assertTrue(first.isFinished());
+        Assert.assertEquals(csv(first), csv(second));
+        Assert.assertEquals(first.getDigest(), second.getDigest());
+        long answers = first.getActivityLogs().stream().filter(l -> l.getActivity() == ActivityType.ANSWER_QUESTION).count();
+        Assert.assertEquals(BOARD_SIZE, answers);
+        Assert.assertEquals(ActivityType.GAME_OVER, first.getActivityLogs().get(first.getActivityLogs().size() - 1).getActivity());
+
+        ScriptedRun.Result reseeded = new ScriptedRun(script(), 43).run();
+        Assert.assertTrue(reseeded.isFinished());
+        Assert.assertNotEquals(csv(first), csv(reseeded));
+    }
+
+    @Test
+    public void testConcurrentRunsAreIdentical() throws Exception {
+        ScriptedRun scriptedRun = new ScriptedRun(script(), 42);
+        List<String> expected = csv(scriptedRun.run());
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ScriptedRun.Result>> runs = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                runs.add(pool.submit(scriptedRun::run));
+            }
+            for (Future<ScriptedRun.Result> run : runs) {
+                Assert.assertEquals(expected, csv(run.get()));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testEveryPhaseIsTimed() throws IOException {
+        ScriptedRun.Result result = new ScriptedRun(script(), 42).run();
+        PhaseTimer timer = result.getPhaseTimer();
+
+        Assert.assertEquals(BOARD_SIZE + 1, timer.getCount(TurnPhase.TURN_START));
+        for (TurnPhase phase : new TurnPhase[] {TurnPhase.SELECT_CATEGORY, TurnPhase.SELECT_QUESTION, TurnPhase.ANSWER, TurnPhase.TURN_END}) {
+            Assert.assertEquals(BOARD_SIZE, timer.getCount(phase));
+            Assert.assertTrue(timer.getMinNanos(phase) <= timer.getMeanNanos(phase));
+            Assert.assertTrue(timer.getMeanNanos(phase) <= timer.getMaxNanos(phase));
+        }
+        Assert.assertTrue(result.getSetupNanos() > 0);
+        Assert.assertTrue(timer.toString().contains("SELECT_QUESTION"));
+    }
+
+    @Test
+    public void testScriptEndingEarlyStopsTheGame() throws IOException {
+        List<String> script = script();
+        ScriptedRun.Result result = new ScriptedRun(script.subList(0, script.size() - 10), 42).run();
+
+        Assert.assertFalse(result.isFinished());
+        long answers = result.getActivityLogs().stream().filter(l -> l.getActivity() == ActivityType.ANSWER_QUESTION).count();
+        Assert.assertEquals(BOARD_SIZE - 4, answers);
+
+        Instant now = new ActivityLogBuilder().setTimestamp().createActivityLog().getTimestamp();
+        Assert.assertTrue(now.isAfter(Instant.parse("2025-01-01T00:00:00Z")));
+    }
+}
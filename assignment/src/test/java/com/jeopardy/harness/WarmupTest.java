@@ -0,0 +1,59 @@
+package com.jeopardy.harness;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jeopardy.question.Question;
+import com.jeopardy.question.QuestionService;
+import com.jeopardy.utils.GameConstants;
+
+/**
+ * Tests for the JIT warm-up.
+ *
+ * Verifies:
+ * - Every warm-up game is played to the end on the in-memory bank
+ * - Warm-up games publish only to their own subscriber and never change the bank
+ * - The first turn of a console game can be measured
+ */
+public class WarmupTest {
+
+    private static final int BOARD_SIZE = GameConstants.BOARD_CATEGORIES * GameConstants.BOARD_VALUES;
+
+    @Test
+    public void testGamesArePlayedToTheEnd() {
+        Warmup warmup = new Warmup(3);
+        Assert.assertEquals(0, warmup.getFormattedChars());
+        Assert.assertEquals(3 * BOARD_SIZE, warmup.run());
+        Assert.assertTrue(warmup.getFormattedChars() > 0);
+    }
+
+    @Test
+    public void testBankIsOneUnansweredBoard() {
+        Warmup warmup = new Warmup(1);
+        QuestionService bank = warmup.getBank();
+        Assert.assertEquals(BOARD_SIZE, bank.getQuestions().size());
+        Assert.assertEquals(GameConstants.BOARD_CATEGORIES, bank.getCategories().size());
+        warmup.run();
+        for (Question q : bank.getQuestions()) {
+            Assert.assertFalse(q.getIsAnswered());
+        }
+    }
+
+    @Test
+    public void testInterruptedWarmupStops() throws InterruptedException {
+        Thread.currentThread().interrupt();
+        try {
+            Assert.assertEquals(0, new Warmup(5).run());
+        } finally {
+            Thread.interrupted();
+        }
+        Thread thread = new Warmup(1).start();
+        thread.join();
+        Assert.assertTrue(thread.isDaemon());
+    }
+
+    @Test
+    public void testFirstTurnIsMeasured() {
+        Assert.assertTrue(FirstTurnBenchmark.measureFirstTurn() > 0);
+    }
+}
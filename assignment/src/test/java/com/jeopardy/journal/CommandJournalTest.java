@@ -0,0 +1,209 @@
+package com.jeopardy.journal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jeopardy.Timings;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the crash-safe command journal.
+ *
+ * Verifies:
+ * - Records round-trip through the file, including non-ASCII text
+ * - A torn or corrupt tail is dropped and appending continues cleanly
+ * - One sync writes everything appended before it (group commit)
+ * - Concurrent committers lose no records and share fsyncs
+ * - After a failed write no later record is reported durable
+ * - Appending a turn's records costs microseconds (with -Pperformance)
+ */
+public class CommandJournalTest {
+
+    private static final int THREADS = 8;
+    private static final int COMMITS_PER_THREAD = 200;
+    private static final int TIMED_TURNS = 100_000;
+
+    private static JournalRecord record(int turn) {
+        return new JournalRecord(JournalRecord.Type.ANSWER, "case-1", Integer.toString(turn), "A");
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        Path file = Files.createTempDirectory("journal").resolve("game.journal");
+        try (CommandJournal journal = CommandJournal.open(file, true)) {
+            journal.commit(new JournalRecord(JournalRecord.Type.GAME, "case-1"));
+            journal.commit(new JournalRecord(JournalRecord.Type.PLAYER, "case-1", "Zoë"));
+            journal.commit(new JournalRecord(JournalRecord.Type.QUESTION, "case-1", "Café", "200", "Qu'est-ce que c'est?", "B", "Oui", "Non"));
+        }
+
+        List<JournalRecord> records = CommandJournal.read(file);
+        Assert.assertEquals(3, records.size());
+        Assert.assertEquals(JournalRecord.Type.GAME, records.get(0).getType());
+        Assert.assertEquals(0, records.get(0).getFieldCount());
+        Assert.assertEquals("Zoë", records.get(1).getField(0));
+        JournalRecord question = records.get(2);
+        Assert.assertEquals("case-1", question.getCaseId());
+        Assert.assertEquals(200, question.getIntField(1));
+        Assert.assertEquals("Non", question.getField(5));
+        Assert.assertTrue(CommandJournal.read(file.resolveSibling("missing.journal")).isEmpty());
+    }
+
+    @Test
+    public void testTornTailIsDroppedOnRecovery() throws IOException {
+        Path file = Files.createTempDirectory("journal").resolve("game.journal");
+        try (CommandJournal journal = CommandJournal.open(file, false)) {
+            for (int turn = 0; turn < 3; turn++) {
+                journal.commit(record(turn));
+            }
+        }
+        long intact = Files.size(file);
+
+        // A crash mid-write: a frame header promising more bytes than were written
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.APPEND)) {
+            ByteBuffer torn = ByteBuffer.allocate(10);
+            torn.putInt(100).putInt(0).putShort((short) 7).flip();
+            channel.write(torn);
+        }
+        Assert.assertEquals(3, CommandJournal.read(file).size());
+        Assert.assertEquals(3, CommandJournal.recover(file).size());
+        Assert.assertEquals(intact, Files.size(file));
+
+        try (CommandJournal journal = CommandJournal.open(file, false)) {
+            journal.commit(record(3));
+        }
+        List<JournalRecord> records = CommandJournal.read(file);
+        Assert.assertEquals(4, records.size());
+        Assert.assertEquals(3, records.get(3).getIntField(0));
+    }
+
+    @Test
+    public void testCorruptRecordStopsReading() throws IOException {
+        Path file = Files.createTempDirectory("journal").resolve("game.journal");
+        try (CommandJournal journal = CommandJournal.open(file, false)) {
+            for (int turn = 0; turn < 3; turn++) {
+                journal.commit(record(turn));
+            }
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        int frame = bytes.length / 3;
+        bytes[frame + 12] ^= 0x40;
+        Files.write(file, bytes);
+
+        Assert.assertEquals(1, CommandJournal.read(file).size());
+    }
+
+    @Test
+    public void testOneSyncCoversEverythingAppended() throws IOException {
+        Path file = Files.createTempDirectory("journal").resolve("game.journal");
+        try (CommandJournal journal = CommandJournal.open(file, true)) {
+            long last = 0;
+            for (int turn = 0; turn < 100; turn++) {
+                last = journal.append(record(turn));
+            }
+            journal.sync(last / 2);
+            Assert.assertEquals(1, journal.getSyncCount());
+            journal.sync(last);
+            Assert.assertEquals(1, journal.getSyncCount());
+            Assert.assertEquals(100, CommandJournal.read(file).size());
+        }
+    }
+
+    @Test
+    public void testConcurrentCommitsShareFsyncs() throws Exception {
+        Path file = Files.createTempDirectory("journal").resolve("game.journal");
+        long syncs;
+        try (CommandJournal journal = CommandJournal.open(file, true)) {
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                final String caseId = "case-" + t;
+                Thread thread = new Thread(() -> {
+                    try {
+                        for (int turn = 0; turn < COMMITS_PER_THREAD; turn++) {
+                            journal.commit(new JournalRecord(JournalRecord.Type.ANSWER, caseId, Integer.toString(turn), "A"));
+                        }
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            syncs = journal.getSyncCount();
+        }
+
+        List<JournalRecord> records = CommandJournal.read(file);
+        Assert.assertEquals(THREADS * COMMITS_PER_THREAD, records.size());
+        int[] nextTurn = new int[THREADS];
+        for (JournalRecord r : records) {
+            int t = Integer.parseInt(r.getCaseId().substring("case-".length()));
+            Assert.assertEquals(nextTurn[t]++, r.getIntField(0));
+        }
+        Assert.assertTrue(syncs <= THREADS * COMMITS_PER_THREAD);
+    }
+
+    @Test
+    public void testFailedWriteIsNeverReportedDurable() throws IOException {
+        Path file = Files.createTempDirectory("journal").resolve("game.journal");
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        CommandJournal journal = new CommandJournal(channel, true);
+        journal.commit(record(0));
+
+        // The disk goes away between appending and syncing
+        long lost = journal.append(record(1));
+        channel.close();
+        try {
+            journal.sync(lost);
+            Assert.fail("A failed write must not be reported durable");
+        } catch (IOException expected) {
+            // The failing batch is reported
+        }
+        try {
+            journal.sync(lost);
+            Assert.fail("A failed journal must keep failing");
+        } catch (IOException expected) {
+            // Later syncs report the earlier failure
+        }
+        try {
+            journal.append(record(2));
+            Assert.fail("A failed journal must refuse appends");
+        } catch (IllegalStateException expected) {
+            // Nothing more is buffered
+        }
+        journal.sync(1);
+        Assert.assertEquals(1, journal.getSyncCount());
+        Assert.assertEquals(1, CommandJournal.read(file).size());
+    }
+
+    @Test
+    public void testBatchedTurnsCostMicroseconds() throws IOException {
+        Timings.assumeEnabled();
+        Path file = Files.createTempDirectory("journal").resolve("game.journal");
+        try (CommandJournal journal = CommandJournal.open(file, false)) {
+            long start = 0;
+            for (int turn = 0; turn < 2 * TIMED_TURNS; turn++) {
+                if (turn == TIMED_TURNS) {
+                    start = System.nanoTime();
+                }
+                journal.append(new JournalRecord(JournalRecord.Type.CATEGORY, "case-1", Integer.toString(turn), "Science"));
+                journal.append(new JournalRecord(JournalRecord.Type.SELECT, "case-1", Integer.toString(turn), "Science", "300", "What is H2O?"));
+                long last = journal.append(record(turn));
+                if (turn % 64 == 63) {
+                    journal.sync(last);
+                }
+            }
+            double microsPerTurn = (System.nanoTime() - start) / 1_000.0 / TIMED_TURNS;
+            Assert.assertTrue("Journaling too slow: " + microsPerTurn + " us", microsPerTurn < 50);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.jeopardy.journal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jeopardy.QuestionFixtures;
+import com.jeopardy.game.GameEngine;
+import com.jeopardy.game.GameState;
+import com.jeopardy.game.Player;
+import com.jeopardy.question.Question;
+import com.jeopardy.ui.HeadlessGameIO;
+import com.jeopardy.utils.GameConstants;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Tests for rebuilding games from the command journal.
+ *
+ * Verifies:
+ * - A game that dies mid-turn is rebuilt at the start of that turn with the same scores
+ * - The rebuilt game can be resumed and played to the end
+ * - Finished games are not offered for recovery
+ * - A turn that ran out of time is replayed as a turn with no score
+ */
+public class JournalReplayerTest {
+
+    private static final int BOARD_SIZE = GameConstants.BOARD_CATEGORIES * GameConstants.BOARD_VALUES;
+
+    /**
+     * Scripts the given number of turns alternating correct and wrong answers,
+     * then the category and value of one more turn that never gets answered.
+     */
+    private static List<String> turns(int count) {
+        List<String> input = new ArrayList<>();
+        for (int t = 0; t < count; t++) {
+            Collections.addAll(input, "1", "1", t % 2 == 0 ? "A" : "B");
+        }
+        Collections.addAll(input, "1", "1");
+        return input;
+    }
+
+    @Test
+    public void testCrashedGameIsRebuiltAndResumed() throws Exception {
+        Path file = Files.createTempDirectory("journal").resolve("game.journal");
+        int played = 7;
+
+        HeadlessGameIO io = new HeadlessGameIO().submit("2", "Ann", "Bob");
+        io.submit(turns(played).toArray(new String[0]));
+        GameState original = new GameState(new Random(3));
+        original.setCaseId("case-7");
+        original.setBank(QuestionFixtures.board());
+        GameEngine engine = new GameEngine(original, io);
+        try (CommandJournal journal = CommandJournal.open(file, true)) {
+            engine.setJournal(new GameJournal(journal, "case-7"));
+            engine.start();
+            Assert.fail("Expected the game to stop when input ran out");
+        } catch (NoSuchElementException crashed) {
+            // The process "dies" while the eighth question is on screen
+        }
+
+        Map<String, GameState> unfinished = JournalReplayer.recoverUnfinished(CommandJournal.recover(file));
+        Assert.assertEquals(1, unfinished.size());
+        GameState recovered = unfinished.get("case-7");
+        Assert.assertEquals("case-7", recovered.getCaseId());
+        Assert.assertEquals(played, recovered.getCurrentTurn());
+        Assert.assertEquals(BOARD_SIZE - played, recovered.getQuestionService().getUnansweredQuestions().size());
+        for (int p = 0; p < 2; p++) {
+            Player before = original.getPlayers().get(p);
+            Player after = recovered.getPlayers().get(p);
+            Assert.assertEquals(before.getId(), after.getId());
+            Assert.assertEquals(before.getCurrentScore(), after.getCurrentScore());
+        }
+        Assert.assertEquals(original.getCurrentPlayer().getId(), recovered.getCurrentPlayer().getId());
+
+        // The question open at the crash is still unanswered in the rebuilt game
+        Question open = original.getCurrentQuestion();
+        boolean stillOpen = false;
+        for (Question q : recovered.getQuestionService().getUnansweredQuestions()) {
+            stillOpen |= q.getQuestion().equals(open.getQuestion());
+        }
+        Assert.assertTrue(stillOpen);
+
+        String[] turn = {"1", "1", "A"};
+        int[] next = {0};
+        GameEngine resumed = new GameEngine(new GameState(), new HeadlessGameIO(() -> turn[next[0]++ % turn.length]));
+        try (CommandJournal journal = CommandJournal.open(file, true)) {
+            resumed.setJournal(new GameJournal(journal, "case-7"));
+            resumed.resume(recovered);
+        }
+        Assert.assertTrue(resumed.isGameOver());
+        Assert.assertEquals(0, recovered.getQuestionService().getUnansweredQuestions().size());
+        Assert.assertTrue(JournalReplayer.recoverUnfinished(CommandJournal.read(file)).isEmpty());
+    }
+
+    @Test
+    public void testTimedOutTurnIsReplayed() {
+        List<JournalRecord> records = new ArrayList<>();
+        records.add(new JournalRecord(JournalRecord.Type.GAME, "console"));
+        records.add(new JournalRecord(JournalRecord.Type.PLAYER, "console", "Ann"));
+        records.add(new JournalRecord(JournalRecord.Type.QUESTION, "console", "Science", "100", "What is H2O?", "A", "Water", "Salt"));
+        records.add(new JournalRecord(JournalRecord.Type.QUESTION, "console", "Science", "200", "What is NaCl?", "B", "Water", "Salt"));
+        records.add(new JournalRecord(JournalRecord.Type.CATEGORY, "console", "0", "Science"));
+        records.add(new JournalRecord(JournalRecord.Type.SELECT, "console", "0", "Science", "100", "What is H2O?"));
+        records.add(new JournalRecord(JournalRecord.Type.TIMEOUT, "console", "0"));
+
+        GameState state = JournalReplayer.recoverUnfinished(records).get("console");
+        Assert.assertEquals(1, state.getCurrentTurn());
+        Assert.assertEquals(0, state.getPlayers().get(0).getCurrentScore());
+        List<Question> open = state.getQuestionService().getUnansweredQuestions();
+        Assert.assertEquals(1, open.size());
+        Assert.assertEquals(200, open.get(0).getValue());
+    }
+
+    @Test
+    public void testRestartedCaseReplacesEarlierGame() {
+        List<JournalRecord> records = new ArrayList<>();
+        records.add(new JournalRecord(JournalRecord.Type.GAME, "console"));
+        records.add(new JournalRecord(JournalRecord.Type.PLAYER, "console", "Old"));
+        records.add(new JournalRecord(JournalRecord.Type.GAME, "console"));
+        records.add(new JournalRecord(JournalRecord.Type.PLAYER, "console", "New"));
+        records.add(new JournalRecord(JournalRecord.Type.QUESTION, "console", "Science", "100", "What is H2O?", "A", "Water", "Salt"));
+        records.add(new JournalRecord(JournalRecord.Type.GAME, "other"));
+        records.add(new JournalRecord(JournalRecord.Type.END, "other"));
+
+        Map<String, GameState> unfinished = JournalReplayer.recoverUnfinished(records);
+        Assert.assertEquals(1, unfinished.size());
+        GameState state = unfinished.get("console");
+        Assert.assertEquals(1, state.getPlayers().size());
+        Assert.assertEquals("New", state.getPlayers().get(0).getId());
+        Question q = state.getQuestionService().getQuestions().get(0);
+        Assert.assertEquals("Water", q.getOption("A"));
+        Assert.assertTrue(q.isCorrect("A"));
+    }
+}
@@ -0,0 +1,136 @@
+package com.jeopardy.leaderboard;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.logging.ActivityLogBuilder;
+import com.jeopardy.utils.ActivityType;
+import com.jeopardy.utils.GameConstants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tests for the global leaderboard.
+ *
+ * Verifies:
+ * - Answer events from any game update the players' totals; other events are ignored
+ * - Rank, top-K and neighbour queries agree with a sorted list of the totals
+ * - Concurrent updates from many threads lose nothing
+ */
+public class LeaderboardTest {
+
+    private static final int THREADS = 8;
+    private static final int UPDATES_PER_THREAD = 50_000;
+    private static final int PLAYERS = 5_000;
+
+    private static ActivityLog answer(String caseId, String playerId, String result, int value) {
+        return new ActivityLogBuilder()
+                .setCaseId(caseId)
+                .setPlayerId(playerId)
+                .setActivity(ActivityType.ANSWER_QUESTION)
+                .setTimestamp()
+                .setResult(result)
+                .setQuestionValue(value)
+                .createActivityLog();
+    }
+
+    private static List<String> names(List<Standing> standings) {
+        List<String> names = new ArrayList<>();
+        for (Standing standing : standings) {
+            names.add(standing.getPlayerId());
+        }
+        return names;
+    }
+
+    @Test
+    public void testAnswerEventsFromManyGames() {
+        Leaderboard board = new Leaderboard();
+        board.update(answer("game1", "Ann", GameConstants.RESULT_CORRECT, 500));
+        board.update(answer("game2", "Bob", GameConstants.RESULT_CORRECT, 300));
+        board.update(answer("game1", "Cy", GameConstants.RESULT_INCORRECT, 400));
+        board.update(answer("game2", "Dee", GameConstants.RESULT_CORRECT, 200));
+        board.update(answer("game3", "Bob", GameConstants.RESULT_CORRECT, 200));
+        board.update(answer("game3", "Dee", GameConstants.RESULT_CORRECT, 300));
+        board.update(answer("game3", "Dee", GameConstants.RESULT_INCORRECT, 100));
+        board.update(new ActivityLogBuilder().setCaseId("game1").setPlayerId(GameConstants.SYSTEM_PLAYER_ID)
+                .setActivity(ActivityType.GAME_OVER).setTimestamp().createActivityLog());
+
+        Assert.assertEquals(4, board.size());
+        Assert.assertEquals(Arrays.asList("Ann", "Bob", "Dee", "Cy"), names(board.getTop(10)));
+        Assert.assertEquals(Arrays.asList("Ann", "Bob"), names(board.getTop(2)));
+        Assert.assertEquals(1, board.getRank("Ann"));
+        Assert.assertEquals(1, board.getRank("Bob"));
+        Assert.assertEquals(1, board.getRank("Dee"));
+        Assert.assertEquals(4, board.getRank("Cy"));
+        Assert.assertEquals(-1, board.getRank("Eve"));
+        Assert.assertEquals(3, board.getStanding("Dee").getAnswers());
+        Assert.assertEquals(0, board.getStanding("Cy").getScore());
+
+        Assert.assertEquals(Arrays.asList("Bob", "Dee", "Cy"), names(board.getNeighbours("Dee", 1)));
+        Assert.assertEquals(Arrays.asList("Ann", "Bob"), names(board.getNeighbours("Ann", 1)));
+        Assert.assertTrue(board.getNeighbours("Eve", 1).isEmpty());
+
+        board.record("Cy", 1000);
+        Assert.assertEquals(Arrays.asList("Cy", "Ann"), names(board.getTop(2)));
+        Assert.assertEquals(2, board.getRank("Dee"));
+    }
+
+    @Test
+    public void testConcurrentUpdatesLoseNothing() throws InterruptedException {
+        Leaderboard board = new Leaderboard();
+        AtomicLongArray expected = new AtomicLongArray(PLAYERS);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            long seed = t;
+            threads.add(new Thread(() -> {
+                Random random = new Random(seed);
+                for (int u = 0; u < UPDATES_PER_THREAD; u++) {
+                    int player = random.nextInt(PLAYERS);
+                    int points = random.nextBoolean() ? 100 * (1 + random.nextInt(5)) : 0;
+                    board.record("Player " + player, points);
+                    expected.addAndGet(player, points);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        long[] sorted = new long[PLAYERS];
+        for (int p = 0; p < PLAYERS; p++) {
+            sorted[p] = expected.get(p);
+            Assert.assertEquals(expected.get(p), board.getStanding("Player " + p).getScore());
+        }
+        Arrays.sort(sorted);
+        Assert.assertEquals(PLAYERS, board.size());
+
+        for (int p = 0; p < PLAYERS; p++) {
+            long score = expected.get(p);
+            int above = 0;
+            while (above < PLAYERS && sorted[PLAYERS - 1 - above] > score) {
+                above++;
+            }
+            Assert.assertEquals(above + 1, board.getRank("Player " + p));
+        }
+
+        List<Standing> all = board.getTop(PLAYERS);
+        Assert.assertEquals(PLAYERS, all.size());
+        for (int i = 0; i < PLAYERS; i++) {
+            Assert.assertEquals(sorted[PLAYERS - 1 - i], all.get(i).getScore());
+            if (i > 0) {
+                Assert.assertTrue(all.get(i - 1).compareTo(all.get(i)) < 0);
+            }
+        }
+
+        String middle = all.get(PLAYERS / 2).getPlayerId();
+        Assert.assertEquals(all.subList(PLAYERS / 2 - 3, PLAYERS / 2 + 4), board.getNeighbours(middle, 3));
+    }
+}
@@ -0,0 +1,92 @@
+package com.jeopardy.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the latency histograms.
+ *
+ * Verifies:
+ * - Every value lands in a bucket within about 3% of it, and percentiles follow
+ * - Threads recording at once lose no counts
+ * - snapshotAndReset hands each value to exactly one snapshot
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketsAreAccurate() {
+        Assert.assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+        Assert.assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueOf(LatencyHistogram.BUCKET_COUNT - 1));
+        for (long value = 0; value < 1L << 62; value += value / 4 + 1) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            long highest = LatencyHistogram.highestValueOf(bucket);
+            Assert.assertTrue(value <= highest);
+            Assert.assertTrue(highest - value <= value / 32);
+            Assert.assertEquals(bucket, LatencyHistogram.bucketOf(highest));
+        }
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int v = 1; v <= 1_000; v++) {
+            histogram.record(v * 1_000L);
+        }
+        histogram.record(-5);
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        Assert.assertEquals(1_001, snapshot.getCount());
+        Assert.assertEquals(1_000_000, snapshot.getMaxNanos());
+        Assert.assertEquals(500_500_000L, snapshot.getTotalNanos());
+        Assert.assertEquals(0, snapshot.getPercentile(0));
+        Assert.assertEquals(500_000, snapshot.getPercentile(50), 500_000 / 32);
+        Assert.assertEquals(990_000, snapshot.getPercentile(99), 990_000 / 32);
+        Assert.assertEquals(1_000_000, snapshot.getPercentile(100));
+        Assert.assertTrue(snapshot.getPercentile(50) >= 500_000);
+        Assert.assertTrue(snapshot.toString().startsWith("count=1001 "));
+    }
+
+    @Test
+    public void testConcurrentRecordingLosesNoCounts() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        int threads = 4;
+        int perThread = 100_000;
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long offset = t;
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    histogram.record(i % 1_000 + offset);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        Assert.assertEquals((long) threads * perThread, snapshot.getCount());
+        Assert.assertEquals(999 + threads - 1, snapshot.getMaxNanos());
+    }
+
+    @Test
+    public void testSnapshotAndResetEmptiesTheHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(100);
+        histogram.record(200);
+
+        HistogramSnapshot first = histogram.snapshotAndReset();
+        Assert.assertEquals(2, first.getCount());
+        Assert.assertEquals(150.0, first.getMeanNanos(), 0.0);
+
+        HistogramSnapshot empty = histogram.snapshot();
+        Assert.assertEquals(0, empty.getCount());
+        Assert.assertEquals(0, empty.getMaxNanos());
+        Assert.assertEquals(0, empty.getPercentile(99));
+
+        histogram.record(300);
+        Assert.assertEquals(1, histogram.snapshotAndReset().getCount());
+    }
+}
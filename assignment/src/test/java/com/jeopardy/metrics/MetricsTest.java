@@ -0,0 +1,44 @@
+package com.jeopardy.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jeopardy.harness.ScriptedRun;
+import com.jeopardy.utils.GameConstants;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for the game's probes.
+ * Run in their own fork with -Djeopardy.metrics=true (see the pom), since Metrics
+ * reads the switch once and every other test runs with the probes off.
+ *
+ * Verifies:
+ * - A scripted game records into the engine, command, publisher and lookup probes
+ */
+public class MetricsTest {
+
+    private static final int BOARD_SIZE = 25;
+
+    @Test
+    public void testScriptedGameRecordsIntoProbes() throws IOException {
+        Assert.assertTrue("MetricsTest runs with -Djeopardy.metrics=true", Metrics.isEnabled());
+        List<String> script = ScriptedRun.readScript(GameConstants.DATA_DIRECTORY.resolve("sample_script.txt"));
+        Metrics.reset();
+        Assert.assertTrue(new ScriptedRun(script, 42).run().isFinished());
+
+        Map<Probe, HistogramSnapshot> snapshots = Metrics.snapshotAndReset();
+        Assert.assertEquals(BOARD_SIZE, snapshots.get(Probe.CATEGORY_SELECTION).getCount());
+        Assert.assertEquals(BOARD_SIZE, snapshots.get(Probe.QUESTION_SELECTION).getCount());
+        Assert.assertEquals(BOARD_SIZE, snapshots.get(Probe.ANSWER_PROMPT).getCount());
+        Assert.assertEquals(BOARD_SIZE, snapshots.get(Probe.ANSWER).getCount());
+        Assert.assertEquals(BOARD_SIZE, snapshots.get(Probe.EVALUATION).getCount());
+        Assert.assertTrue(snapshots.get(Probe.QUESTION_LOOKUP).getCount() >= 2 * BOARD_SIZE);
+        Assert.assertTrue(snapshots.get(Probe.NOTIFY_SUBSCRIBERS).getCount() >= 3 * BOARD_SIZE);
+        Assert.assertTrue(snapshots.get(Probe.ANSWER).getMaxNanos() > 0);
+        Assert.assertTrue(Metrics.report(snapshots).contains("QUESTION_SELECTION"));
+        Assert.assertEquals(0, Metrics.snapshot().get(Probe.ANSWER).getCount());
+    }
+}
@@ -0,0 +1,211 @@
+package com.jeopardy.profile;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jeopardy.QuestionFixtures;
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.logging.ActivityLogBuilder;
+import com.jeopardy.question.QuestionService;
+import com.jeopardy.simulation.BotStrategy;
+import com.jeopardy.tournament.Entrant;
+import com.jeopardy.tournament.GameResult;
+import com.jeopardy.tournament.Tournament;
+import com.jeopardy.tournament.TournamentResult;
+import com.jeopardy.utils.ActivityType;
+import com.jeopardy.utils.GameConstants;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests for the persistent player profile store.
+ *
+ * Verifies:
+ * - Game statistics accumulate per player and survive closing the store
+ * - An unclean shutdown rebuilds the index and cuts off a torn last record
+ * - Hundreds of thousands of profiles are stored and looked up through index growth
+ * - ProfileRecorder saves every player's finished games from activity logs
+ * - ProfileRecorder saves seated players who never answered, with their last score,
+ *   and saves nothing for games without a game over
+ */
+public class ProfileStoreTest {
+
+    private static final int MANY = 200_000;
+
+    private static ActivityLog log(String caseId, String playerId, ActivityType activity, String result, int score) {
+        return new ActivityLogBuilder()
+            .setCaseId(caseId)
+            .setPlayerId(playerId)
+            .setActivity(activity)
+            .setCategory("Science")
+            .setResult(result)
+            .setScoreAfterPlay(score)
+            .setTimestamp()
+            .createActivityLog();
+    }
+
+    private static PlayerProfile game(String playerId, int score, boolean won, String category, int correct, int wrong) {
+        PlayerProfile game = new PlayerProfile(playerId);
+        for (int i = 0; i < correct; i++) {
+            game.recordAnswer(category, true);
+        }
+        for (int i = 0; i < wrong; i++) {
+            game.recordAnswer(category, false);
+        }
+        game.recordGame(score, won);
+        return game;
+    }
+
+    @Test
+    public void testGamesAccumulateAcrossReopening() throws IOException {
+        Path directory = Files.createTempDirectory("profiles");
+        try (ProfileStore store = ProfileStore.open(directory)) {
+            Assert.assertNull(store.get("Ann"));
+            store.merge(game("Ann", 900, true, "Science", 3, 1));
+            store.merge(game("Bob", 300, false, "Science", 1, 3));
+            PlayerProfile ann = store.merge(game("Ann", 400, false, "History", 1, 1));
+            Assert.assertEquals(2, ann.getGamesPlayed());
+        }
+
+        try (ProfileStore store = ProfileStore.open(directory)) {
+            Assert.assertEquals(2, store.size());
+            PlayerProfile ann = store.get("Ann");
+            Assert.assertEquals(2, ann.getGamesPlayed());
+            Assert.assertEquals(1, ann.getGamesWon());
+            Assert.assertEquals(1300, ann.getTotalScore());
+            Assert.assertEquals(900, ann.getBestScore());
+            Assert.assertEquals(6, ann.getAnswered());
+            Assert.assertEquals(4.0 / 6, ann.getAccuracy(), 1e-9);
+            Assert.assertEquals(0.75, ann.getAccuracy("Science"), 1e-9);
+            Assert.assertEquals(0.5, ann.getAccuracy("History"), 1e-9);
+            Assert.assertEquals(0, ann.getAnswered("Art"));
+            Assert.assertEquals(0.25, store.get("Bob").getAccuracy(), 1e-9);
+        }
+    }
+
+    @Test
+    public void testUncleanShutdownRebuildsIndex() throws IOException {
+        Path directory = Files.createTempDirectory("profiles");
+        ProfileStore crashed = ProfileStore.open(directory);
+        for (int g = 0; g < 3; g++) {
+            crashed.merge(game("Ann", 100 * g, g == 2, "Science", g, 1));
+            crashed.merge(game("Player " + g, 0, false, "Art", 0, 1));
+        }
+        Path data = directory.resolve(ProfileStore.DATA_FILE);
+        long intact = Files.size(data);
+
+        // The process dies mid-append: a frame header promising more bytes than were written
+        try (FileChannel channel = FileChannel.open(data, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.allocate(10).putInt(500).putInt(0).flip());
+        }
+
+        try (ProfileStore store = ProfileStore.open(directory)) {
+            Assert.assertEquals(intact, Files.size(data));
+            Assert.assertEquals(4, store.size());
+            PlayerProfile ann = store.get("Ann");
+            Assert.assertEquals(3, ann.getGamesPlayed());
+            Assert.assertEquals(1, ann.getGamesWon());
+            Assert.assertEquals(300, ann.getTotalScore());
+            Assert.assertEquals(6, ann.getAnswered());
+
+            store.merge(game("Ann", 500, true, "Art", 1, 0));
+            Assert.assertEquals(4, store.get("Ann").getGamesPlayed());
+        }
+    }
+
+    @Test
+    public void testManyProfiles() throws IOException {
+        Path directory = Files.createTempDirectory("profiles");
+        try (ProfileStore store = ProfileStore.open(directory)) {
+            for (int p = 0; p < MANY; p++) {
+                store.merge(game("Player " + p, p % 1000, p % 3 == 0, "Category " + p % 7, 2, 3));
+            }
+            Assert.assertEquals(MANY, store.size());
+        }
+
+        Random random = new Random(1);
+        try (ProfileStore store = ProfileStore.open(directory)) {
+            Assert.assertEquals(MANY, store.size());
+            for (int i = 0; i < MANY; i++) {
+                int p = random.nextInt(MANY);
+                PlayerProfile profile = store.get("Player " + p);
+                Assert.assertEquals(p % 1000, profile.getTotalScore());
+                Assert.assertEquals(0.4, profile.getAccuracy("Category " + p % 7), 1e-9);
+            }
+            Assert.assertNull(store.get("Player " + MANY));
+        }
+    }
+
+    @Test
+    public void testRecorderSavesFinishedGames() throws IOException {
+        QuestionService bank = QuestionFixtures.bank(5, 1);
+        List<Entrant> entrants = new ArrayList<>();
+        for (int e = 0; e < 16; e++) {
+            entrants.add(new Entrant("Player " + e, BotStrategy.forName(e % 2 == 0 ? "greedy" : "random", e)));
+        }
+        TournamentResult result = new Tournament(bank, entrants, 3).run();
+
+        try (ProfileStore store = ProfileStore.open(Files.createTempDirectory("profiles"))) {
+            result.publishTo(new ProfileRecorder(store));
+
+            Assert.assertEquals(16, store.size());
+            PlayerProfile champion = store.get(result.getChampion().getName());
+            Assert.assertEquals(result.getRoundCount(), champion.getGamesPlayed());
+            Assert.assertEquals(result.getRoundCount(), champion.getGamesWon());
+
+            int answered = 0;
+            long scored = 0;
+            for (int r = 1; r <= result.getRoundCount(); r++) {
+                for (GameResult game : result.getRound(r)) {
+                    answered += 25;
+                    for (int s = 0; s < game.getEntrants().size(); s++) {
+                        scored += game.getScore(s);
+                    }
+                }
+            }
+            int storedAnswers = 0;
+            long storedScore = 0;
+            for (Entrant entrant : entrants) {
+                storedAnswers += store.get(entrant.getName()).getAnswered();
+                storedScore += store.get(entrant.getName()).getTotalScore();
+            }
+            Assert.assertEquals(answered, storedAnswers);
+            Assert.assertEquals(scored, storedScore);
+        }
+    }
+
+    @Test
+    public void testRecorderSavesEverySeatedPlayer() throws IOException {
+        try (ProfileStore store = ProfileStore.open(Files.createTempDirectory("profiles"))) {
+            ProfileRecorder recorder = new ProfileRecorder(store);
+            // A resumed game: Bob scored before the restart and never answers again
+            recorder.update(log("resumed", "Ann", ActivityType.ENTER_PLAYER_NAME, "N/A", 0));
+            recorder.update(log("resumed", "Bob", ActivityType.ENTER_PLAYER_NAME, "N/A", 300));
+            recorder.update(log("resumed", "Cat", ActivityType.ENTER_PLAYER_NAME, "N/A", 0));
+            recorder.update(log("resumed", "Ann", ActivityType.ANSWER_QUESTION, GameConstants.RESULT_CORRECT, 200));
+            recorder.update(log("resumed", "Cat", ActivityType.TIMEOUT, GameConstants.RESULT_INCORRECT, 0));
+            recorder.update(log("quit", "Dan", ActivityType.ENTER_PLAYER_NAME, "N/A", 0));
+            recorder.update(log("quit", "Dan", ActivityType.ANSWER_QUESTION, GameConstants.RESULT_CORRECT, 100));
+            recorder.update(log("resumed", GameConstants.SYSTEM_PLAYER_ID, ActivityType.GAME_OVER, null, 0));
+
+            Assert.assertEquals(3, store.size());
+            PlayerProfile bob = store.get("Bob");
+            Assert.assertEquals(1, bob.getGamesPlayed());
+            Assert.assertEquals(1, bob.getGamesWon());
+            Assert.assertEquals(300, bob.getTotalScore());
+            Assert.assertEquals(0, bob.getAnswered());
+            Assert.assertEquals(200, store.get("Ann").getTotalScore());
+            Assert.assertEquals(1, store.get("Cat").getAnswered());
+            Assert.assertEquals(0, store.get("Cat").getGamesWon());
+            Assert.assertNull(store.get("Dan"));
+        }
+    }
+}
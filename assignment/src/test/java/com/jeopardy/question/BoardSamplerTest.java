@@ -0,0 +1,110 @@
+package com.jeopardy.question;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.jeopardy.QuestionFixtures;
+import com.jeopardy.Timings;
+import com.jeopardy.utils.GameConstants;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Random;
+
+/**
+ * Tests for QuestionIndex and BoardSampler.
+ *
+ * Verifies:
+ * - Boards have the requested shape with distinct categories and ascending values
+ * - The same seed always draws the same board
+ * - Drawing from a million-question bank does not scan the bank (with -Pperformance)
+ */
+public class BoardSamplerTest {
+
+    private static final int CATEGORIES = 20_000;
+    private static final int VALUES = GameConstants.BOARD_VALUES;
+    private static final int PER_SLOT = 10;
+
+    private static QuestionIndex largeIndex;
+
+    @BeforeClass
+    public static void buildLargeBank() {
+        ArrayList<Question> bank = QuestionFixtures.questions(CATEGORIES, PER_SLOT);
+        largeIndex = new QuestionIndex(bank);
+    }
+
+    @Test
+    public void testIndexShape() {
+        Assert.assertEquals(CATEGORIES, largeIndex.getCategoryCount());
+        Assert.assertEquals(CATEGORIES * VALUES * PER_SLOT, largeIndex.size());
+        Assert.assertEquals(VALUES, largeIndex.getValueCount(0));
+        Assert.assertEquals(100, largeIndex.getValue(0, 0));
+        Assert.assertEquals(PER_SLOT, largeIndex.getQuestionCount(0, 0));
+    }
+
+    @Test
+    public void testBoardShape() {
+        Board board = new BoardSampler(largeIndex).sample(6, 5, new Random(7));
+        Assert.assertEquals(6, board.getCategoryCount());
+        Assert.assertEquals(5, board.getValueCount());
+        Assert.assertEquals(6, new HashSet<>(board.getCategories()).size());
+
+        for (int c = 0; c < board.getCategoryCount(); c++) {
+            for (int s = 1; s < board.getValueCount(); s++) {
+                Assert.assertTrue(board.getQuestion(c, s - 1).getValue() < board.getQuestion(c, s).getValue());
+            }
+            Assert.assertEquals(board.getCategories().get(c), board.getQuestion(c, 0).getCategory());
+        }
+    }
+
+    @Test
+    public void testSameSeedSameBoard() {
+        BoardSampler sampler = new BoardSampler(largeIndex);
+        Board first = sampler.sample(5, 5, new Random(42));
+        Board second = sampler.sample(5, 5, new Random(42));
+        Assert.assertEquals(first.getCategories(), second.getCategories());
+        for (int c = 0; c < 5; c++) {
+            for (int s = 0; s < 5; s++) {
+                Assert.assertSame(first.getQuestion(c, s), second.getQuestion(c, s));
+            }
+        }
+    }
+
+    @Test
+    public void testBoardNarrowedToEligibleCategories() {
+        ArrayList<Question> bank = new ArrayList<>();
+        for (int v = 1; v <= 3; v++) {
+            Question q = new Question();
+            q.setCategory("Only");
+            q.setValue(v * 100);
+            bank.add(q);
+        }
+        Board board = new BoardSampler(new QuestionIndex(bank)).sample(5, 3, new Random(1));
+        Assert.assertEquals(1, board.getCategoryCount());
+        Assert.assertEquals(3, board.getQuestions().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotEnoughValues() {
+        new BoardSampler(largeIndex).sample(5, VALUES + 1, new Random(1));
+    }
+
+    @Test
+    public void testSamplingDoesNotScanBank() {
+        Timings.assumeEnabled();
+        BoardSampler sampler = new BoardSampler(largeIndex);
+        Random random = new Random(3);
+        for (int i = 0; i < 10_000; i++) {
+            sampler.sample(5, 5, random);
+        }
+
+        int rounds = 10_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            sampler.sample(5, 5, random);
+        }
+        long perBoard = (System.nanoTime() - start) / rounds;
+        Assert.assertTrue("Sampling a board took " + perBoard + " ns", perBoard < 1_000_000);
+    }
+}
@@ -2,6 +2,7 @@ package com.jeopardy.question;
 
 import com.jeopardy.question.loader.CSVQuestionLoader;
 import com.jeopardy.question.loader.JSONQuestionLoader;
+import com.jeopardy.question.loader.QuestionLoaders;
 import com.jeopardy.question.loader.XMLQuestionLoader;
 import com.jeopardy.utils.GameConstants;
 import org.junit.Assert;
@@ -13,6 +14,7 @@ import java.util.ArrayList;
  *
  * Verifies:
  * - Each loader loads questions from sample files
+ * - Loader formats are discovered in menu order and matched by file extension
  * - Question model stores and retrieves data correctly
  * - QuestionService manages questions and queries
  */
@@ -82,6 +84,31 @@ public class LoaderAndServiceIntegrationTest {
         Assert.assertEquals(4, q.getOptions().size());
     }
 
+    @Test
+    public void testQuestionOptionsAndPrompt() {
+        Question q = new Question();
+        q.setQuestion("Which keyword exits a loop?");
+        q.setOptions(new String[] {"stop", "break", "exit", "end"});
+        q.setCorrectAnswer("B");
+
+        Assert.assertEquals("break", q.getOption("B"));
+        Assert.assertEquals("break", q.getOption("b"));
+        Assert.assertNull(q.getOption("E"));
+        Assert.assertNull(q.getOption("AB"));
+        Assert.assertFalse(q.hasOption(""));
+        Assert.assertEquals("[A, B, C, D]", q.getOptions().keySet().toString());
+
+        String prompt = q.promptString();
+        Assert.assertEquals("A) stop\nB) break\nC) exit\nD) end\nWhich keyword exits a loop? ", prompt);
+        Assert.assertSame(prompt, q.promptString());
+
+        q.setQuestion("Which keyword leaves a loop?");
+        Assert.assertTrue(q.promptString().endsWith("Which keyword leaves a loop? "));
+        Assert.assertTrue(q.toString().contains("Is Answered: false"));
+        Assert.assertTrue(q.evaluate("b"));
+        Assert.assertTrue(q.toString().contains("Is Answered: true"));
+    }
+
     @Test
     public void testQuestionService() {
         // Use CSV loader for sample data
@@ -100,4 +127,14 @@ public class LoaderAndServiceIntegrationTest {
         Assert.assertEquals(1, service.getAnsweredQuestions().size());
         Assert.assertEquals(total - 1, service.getUnansweredQuestions().size());
     }
+
+    @Test
+    public void testLoaderDiscovery() {
+        Assert.assertArrayEquals(new String[] {"CSV", "JSON", "XML"}, QuestionLoaders.getFormats());
+        Assert.assertEquals("JSON", QuestionLoaders.forFile("Sample_Game.JSON").getFormat());
+        Assert.assertNull(QuestionLoaders.forFile("notes.txt"));
+
+        ArrayList<Question> questions = QuestionLoaders.forFile(xmlFile).create().load(xmlFile);
+        Assert.assertFalse(questions.isEmpty());
+    }
 }
@@ -0,0 +1,145 @@
+package com.jeopardy.question;
+
+import com.jeopardy.question.dedup.DeduplicatingQuestionLoader;
+import com.jeopardy.question.dedup.MinHasher;
+import com.jeopardy.question.dedup.NearDuplicateDetector;
+import com.jeopardy.question.loader.CSVQuestionLoader;
+import com.jeopardy.question.loader.JSONQuestionLoader;
+import com.jeopardy.utils.GameConstants;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests for MinHash/LSH near-duplicate detection.
+ *
+ * Verifies:
+ * - Reworded questions are grouped, unrelated questions are not
+ * - Duplicates are found across merged banks
+ * - The deduplicating loader leaves the sample banks intact
+ * - The deduplicating loader only compares questions within a category
+ * - Detection over a large bank runs in roughly linear time, even of exact copies
+ */
+public class NearDuplicateDetectorTest {
+
+    private static Question question(String text, String... options) {
+        return questionIn("Test", text, options);
+    }
+
+    private static Question questionIn(String category, String text, String... options) {
+        Question q = new Question();
+        q.setCategory(category);
+        q.setValue(100);
+        q.setQuestion(text);
+        q.setOptions(options);
+        q.setCorrectAnswer("A");
+        return q;
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            int word = random.nextInt(50_000);
+            for (int c = 0; c < 6; c++) {
+                sb.append((char) ('a' + word % 26));
+                word = word / 26 + c * 7;
+            }
+            sb.append(' ');
+        }
+        return sb.toString().trim();
+    }
+
+    @Test
+    public void testSimilarityOfRewording() {
+        MinHasher hasher = new MinHasher();
+        int[] a = hasher.signature(question("Which data type is used to store a single character?", "string", "char", "bool", "text"));
+        int[] b = hasher.signature(question("Which data type is used to store a single character ?", "String", "char", "bool", "text"));
+        int[] c = hasher.signature(question("What keyword exits a loop early?", "stop", "break", "exit", "end"));
+
+        Assert.assertEquals(1.0, MinHasher.similarity(a, b), 0.0);
+        Assert.assertTrue(MinHasher.similarity(a, c) < 0.3);
+    }
+
+    @Test
+    public void testFindsRewordedDuplicates() {
+        List<Question> questions = new ArrayList<>();
+        questions.add(question("Which data type is used to store a single character value?", "string", "char", "bool", "text"));
+        questions.add(question("What keyword exits a loop early?", "stop", "break", "exit", "end"));
+        questions.add(question("Which data type is used to store one single character value?", "string", "char", "bool", "text"));
+        questions.add(question("Which header declares std::cout?", "iostream", "stdio.h", "cout.h", "string"));
+
+        List<List<Question>> groups = new NearDuplicateDetector().findDuplicateGroups(questions);
+        Assert.assertEquals(1, groups.size());
+        Assert.assertSame(questions.get(0), groups.get(0).get(0));
+        Assert.assertSame(questions.get(2), groups.get(0).get(1));
+
+        ArrayList<Question> unique = new NearDuplicateDetector().removeDuplicates(questions);
+        Assert.assertEquals(3, unique.size());
+        Assert.assertFalse(unique.contains(questions.get(2)));
+    }
+
+    @Test
+    public void testFindsDuplicatesAcrossBanks() {
+        String csvFile = GameConstants.DATA_DIRECTORY.resolve("sample_game_CSV.csv").toString();
+        String jsonFile = GameConstants.DATA_DIRECTORY.resolve("sample_game_JSON.json").toString();
+
+        ArrayList<Question> csv = new CSVQuestionLoader().load(csvFile);
+        ArrayList<Question> merged = new ArrayList<>(csv);
+        merged.addAll(new JSONQuestionLoader().load(jsonFile));
+
+        Assert.assertEquals(csv.size(), new NearDuplicateDetector().removeDuplicates(merged).size());
+    }
+
+    @Test
+    public void testLoaderKeepsDistinctSampleQuestions() {
+        String csvFile = GameConstants.DATA_DIRECTORY.resolve("sample_game_CSV.csv").toString();
+        int plain = new CSVQuestionLoader().load(csvFile).size();
+        int deduplicated = new DeduplicatingQuestionLoader(new CSVQuestionLoader()).load(csvFile).size();
+        Assert.assertEquals(plain, deduplicated);
+    }
+
+    @Test
+    public void testLoaderComparesWithinCategories() {
+        ArrayList<Question> loaded = new ArrayList<>();
+        loaded.add(questionIn("Loops", "What keyword exits a loop early?", "stop", "break", "exit", "end"));
+        loaded.add(questionIn("Switch", "What keyword exits a loop early?", "stop", "break", "exit", "end"));
+        loaded.add(questionIn("Loops", "What keyword exits a loop early ?", "stop", "break", "exit", "end"));
+
+        ArrayList<Question> unique = new DeduplicatingQuestionLoader(filename -> new ArrayList<>(loaded)).load("bank");
+        Assert.assertEquals(2, unique.size());
+        Assert.assertSame(loaded.get(0), unique.get(0));
+        Assert.assertSame(loaded.get(1), unique.get(1));
+    }
+
+    @Test
+    public void testBankOfExactCopiesRunsInLinearTime() {
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            questions.add(question("What keyword exits a loop early?", "stop", "break", "exit", "end"));
+        }
+
+        ArrayList<Question> unique = new NearDuplicateDetector().removeDuplicates(questions);
+        Assert.assertEquals(1, unique.size());
+    }
+
+    @Test
+    public void testLargeBankRunsInLinearTime() {
+        Random random = new Random(11);
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            questions.add(question(words(random, 10), words(random, 2), words(random, 2), words(random, 2), words(random, 2)));
+        }
+        for (int i = 0; i < 1_000; i++) {
+            Question original = questions.get(i * 20);
+            questions.add(question(original.getQuestion().toUpperCase() + "?",
+                original.getOptions().get("A"), original.getOptions().get("B"),
+                original.getOptions().get("C"), original.getOptions().get("D")));
+        }
+
+        ArrayList<Question> unique = new NearDuplicateDetector().removeDuplicates(questions);
+        Assert.assertEquals(20_000, unique.size());
+    }
+}
@@ -0,0 +1,116 @@
+package com.jeopardy.question;
+
+import com.jeopardy.game.SeenQuestionStore;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Tests for per-player seen-question history.
+ *
+ * Verifies:
+ * - The Bloom filter has no false negatives and a low false-positive rate
+ * - Filters survive serialization and a round trip through the store
+ * - Board sampling and value lookups prefer unseen questions
+ */
+public class SeenQuestionFilterTest {
+
+    private static Question question(String category, int value, String text) {
+        Question q = new Question();
+        q.setCategory(category);
+        q.setValue(value);
+        q.setQuestion(text);
+        q.setCorrectAnswer("A");
+        return q;
+    }
+
+    @Test
+    public void testNoFalseNegativesAndLowFalsePositives() {
+        SeenQuestionFilter filter = new SeenQuestionFilter();
+        for (int i = 0; i < 3_000; i++) {
+            filter.add(question("Seen", 100, "Question " + i));
+        }
+        for (int i = 0; i < 3_000; i++) {
+            Assert.assertTrue(filter.contains(question("Seen", 100, "Question " + i)));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.contains(question("Unseen", 100, "Question " + i))) {
+                falsePositives++;
+            }
+        }
+        Assert.assertTrue("False positives: " + falsePositives, falsePositives < 5_000);
+        Assert.assertEquals(4096, filter.getSizeInBytes());
+    }
+
+    @Test
+    public void testSerializationRoundTrip() {
+        SeenQuestionFilter filter = new SeenQuestionFilter();
+        Question q = question("Arrays", 200, "What is an index?");
+        filter.add(q);
+
+        SeenQuestionFilter restored = SeenQuestionFilter.fromBytes(filter.toBytes());
+        Assert.assertTrue(restored.contains(q));
+        Assert.assertFalse(restored.contains(question("Arrays", 200, "What is a pointer?")));
+    }
+
+    @Test
+    public void testStorePersistsByPlayerId() throws Exception {
+        Path directory = Files.createTempDirectory("seen");
+        Question q = question("Functions", 300, "What is recursion?");
+
+        SeenQuestionStore store = new SeenQuestionStore(directory);
+        store.load("Alice").add(q);
+        store.saveAll();
+
+        SeenQuestionStore reopened = new SeenQuestionStore(directory);
+        Assert.assertTrue(reopened.load("Alice").contains(q));
+        Assert.assertFalse(reopened.load("Bob").contains(q));
+    }
+
+    @Test
+    public void testValueLookupPrefersUnseen() {
+        ArrayList<Question> questions = new ArrayList<>();
+        questions.add(question("Loops", 100, "First"));
+        questions.add(question("Loops", 100, "Second"));
+
+        QuestionService service = new QuestionService();
+        service.setQuestions(questions);
+
+        SeenQuestionFilter filter = new SeenQuestionFilter();
+        filter.add(questions.get(0));
+
+        Assert.assertSame(questions.get(1), service.getCategoryQuestionByValue("Loops", 100, filter::contains));
+        filter.add(questions.get(1));
+        Assert.assertSame(questions.get(0), service.getCategoryQuestionByValue("Loops", 100, filter::contains));
+    }
+
+    @Test
+    public void testBoardPrefersUnseen() {
+        ArrayList<Question> bank = new ArrayList<>();
+        SeenQuestionFilter filter = new SeenQuestionFilter();
+        for (int v = 1; v <= 5; v++) {
+            for (int i = 0; i < 4; i++) {
+                Question q = question("Loops", v * 100, "Question " + v + "-" + i);
+                bank.add(q);
+                if (i > 0) {
+                    filter.add(q);
+                }
+            }
+        }
+
+        BoardSampler sampler = new BoardSampler(new QuestionIndex(bank));
+        Random random = new Random(5);
+        for (int round = 0; round < 100; round++) {
+            Board board = sampler.sample(1, 5, random, filter::contains);
+            for (Question q : board.getQuestions()) {
+                Assert.assertFalse(filter.contains(q));
+            }
+        }
+    }
+}
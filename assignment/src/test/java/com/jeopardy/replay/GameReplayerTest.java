@@ -0,0 +1,245 @@
+package com.jeopardy.replay;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jeopardy.QuestionFixtures;
+import com.jeopardy.Timings;
+import com.jeopardy.game.GameEngine;
+import com.jeopardy.game.GameState;
+import com.jeopardy.game.Player;
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.logging.ActivityLogBuilder;
+import com.jeopardy.session.CommandSession;
+import com.jeopardy.session.SessionCommand;
+import com.jeopardy.session.SessionManager;
+import com.jeopardy.ui.HeadlessGameIO;
+import com.jeopardy.utils.ActivityType;
+import com.jeopardy.utils.GameConstants;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for replaying games from CSV event logs.
+ *
+ * Verifies:
+ * - Exported logs read back into the same activity logs
+ * - Replay rebuilds the scores, turn and current player of a played game at every turn
+ * - Timed-out turns replay as incorrect answers
+ * - The audit reports tampered scores and out-of-turn moves
+ * - Thousands of archived games replay per second (timed with -Pperformance)
+ */
+public class GameReplayerTest {
+
+    private static final String HEADER =
+        "Case_ID,Player_ID,Activity,Timestamp,Category,Question_Value,Answer_Given,Result,Score_After_Play\n";
+    private static final int BOARD_SIZE = GameConstants.BOARD_CATEGORIES * GameConstants.BOARD_VALUES;
+    private static final int ARCHIVED_GAMES = 2000;
+
+    /**
+     * Plays a whole game with three players who answer at random, collecting its logs
+     * and the scores after every turn.
+     */
+    private static GameEngine play(String caseId, long seed, List<ActivityLog> logs, List<int[]> scoresByTurn) {
+        Random answers = new Random(seed);
+        String[] moves = {"1", "1", null};
+        int[] next = {0};
+        HeadlessGameIO io = new HeadlessGameIO(() -> {
+            int move = next[0]++ % moves.length;
+            return move < 2 ? moves[move] : (answers.nextBoolean() ? "A" : "B");
+        }).submit("3", "Ann", "Bob", "Cy");
+
+        GameState state = new GameState(new Random(seed));
+        state.setCaseId(caseId);
+        state.setBank(QuestionFixtures.board());
+        GameEngine engine = new GameEngine(state, io);
+        engine.subscribe(log -> {
+            logs.add(log);
+            if (log.getActivity() == ActivityType.ANSWER_QUESTION) {
+                int[] scores = new int[state.getPlayers().size()];
+                for (int p = 0; p < scores.length; p++) {
+                    scores[p] = state.getPlayers().get(p).getCurrentScore();
+                }
+                scoresByTurn.add(scores);
+            }
+        });
+        engine.start();
+        return engine;
+    }
+
+    private static String toCsv(List<ActivityLog> logs) {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (ActivityLog log : logs) {
+            csv.append(log.toCSVString());
+        }
+        return csv.toString();
+    }
+
+    @Test
+    public void testReadsExportedRows() throws Exception {
+        ActivityLog original = new ActivityLogBuilder()
+            .setCaseId("case-1")
+            .setPlayerId("Ann")
+            .setActivity(ActivityType.ANSWER_QUESTION)
+            .setTimestamp(Instant.parse("2026-01-02T03:04:05.678Z"))
+            .setCategory("Arts, Music, and Film")
+            .setQuestionValue(300)
+            .setAnswerGiven("B")
+            .setResult(GameConstants.RESULT_INCORRECT)
+            .setScoreAfterPlay(200)
+            .createActivityLog();
+
+        List<ActivityLog> read = ActivityLogCsvReader.read(new BufferedReader(new StringReader(
+            HEADER + original.toCSVString() + "not,a,row\n" + "case-1,System,GAME_OVER,2026-01-02T03:04:06Z,null,0,null,null,0\n")));
+        Assert.assertEquals(2, read.size());
+
+        ActivityLog log = read.get(0);
+        Assert.assertEquals(original.toCSVString(), log.toCSVString());
+        Assert.assertEquals("Arts, Music, and Film", log.getCategory());
+        Assert.assertEquals(300, log.getQuestionValue());
+        Assert.assertEquals(200, log.getScoreAfterPlay());
+        Assert.assertEquals(original.getTimestamp(), log.getTimestamp());
+
+        for (String text : new String[] {"2026-10-19T23:59:59Z", "1999-12-31T00:00:00.1Z",
+                "2026-02-28T12:30:45.123456Z", "2026-03-01T01:02:03.123456789Z", "+12026-01-01T00:00:00Z"}) {
+            Assert.assertEquals(Instant.parse(text), ActivityLogCsvReader.parseInstant(text));
+        }
+
+        Assert.assertEquals(ActivityType.GAME_OVER, read.get(1).getActivity());
+        Assert.assertNull(read.get(1).getCategory());
+        Assert.assertNull(read.get(1).getResult());
+    }
+
+    @Test
+    public void testReplayMatchesPlayedGameAtEveryTurn() throws Exception {
+        List<ActivityLog> logs = new ArrayList<>();
+        List<int[]> scoresByTurn = new ArrayList<>();
+        GameEngine engine = play("case-7", 7, logs, scoresByTurn);
+
+        Path file = Files.createTempFile("events", ".csv");
+        Files.write(file, toCsv(logs).getBytes(StandardCharsets.UTF_8));
+        Map<String, GameReplayer> games = GameReplayer.byCase(ActivityLogCsvReader.read(file));
+        Assert.assertEquals(1, games.size());
+
+        GameReplayer replayer = games.get("case-7");
+        Assert.assertTrue(replayer.isFinished());
+        Assert.assertEquals(BOARD_SIZE, replayer.getTurnCount());
+        Assert.assertTrue(replayer.audit().isEmpty());
+
+        GameState played = engine.getState();
+        for (int turn = 0; turn <= BOARD_SIZE; turn++) {
+            GameState state = replayer.replayTo(turn);
+            Assert.assertEquals(turn, state.getCurrentTurn());
+            Assert.assertEquals(played.getPlayers().get(turn % 3).getId(), state.getCurrentPlayer().getId());
+            Assert.assertEquals(turn, state.getQuestionService().getQuestions().size());
+            Assert.assertTrue(state.getQuestionService().getUnansweredQuestions().isEmpty());
+            for (int p = 0; p < 3; p++) {
+                int expected = turn == 0 ? 0 : scoresByTurn.get(turn - 1)[p];
+                Assert.assertEquals(expected, state.getPlayers().get(p).getCurrentScore());
+            }
+        }
+
+        GameState last = replayer.replay();
+        Assert.assertEquals("case-7", last.getCaseId());
+        Assert.assertEquals(BOARD_SIZE, last.getQuestionService().getQuestions().size());
+        for (int p = 0; p < 3; p++) {
+            Player before = played.getPlayers().get(p);
+            Player after = last.getPlayers().get(p);
+            Assert.assertEquals(before.getId(), after.getId());
+            Assert.assertEquals(before.getCurrentScore(), after.getCurrentScore());
+        }
+    }
+
+    @Test
+    public void testTimedOutTurnsReplayAsIncorrect() throws Exception {
+        List<ActivityLog> logs = new CopyOnWriteArrayList<>();
+        SessionManager manager = new SessionManager(QuestionFixtures.board());
+        manager.setMoveTimeout(5, TimeUnit.MILLISECONDS);
+        CommandSession session = manager.createCommandSession(Arrays.asList("Ann", "Bob"), Collections.singletonList(logs::add));
+
+        // Ann answers the first question; every later move times out
+        session.submit(SessionCommand.selectCategory("Ann", 0, "Category 1"));
+        session.submit(SessionCommand.selectQuestion("Ann", 0, 500));
+        Assert.assertTrue(session.submit(SessionCommand.answer("Ann", 0, "A")).getResult().get(5, TimeUnit.SECONDS).isApplied());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (manager.getActiveSessionCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        Assert.assertTrue(session.isOver());
+        Assert.assertTrue(manager.shutdown(5, TimeUnit.SECONDS));
+
+        GameReplayer replayer = GameReplayer.byCase(ActivityLogCsvReader.read(
+            new BufferedReader(new StringReader(toCsv(logs))))).get(session.getId());
+        Assert.assertTrue(replayer.isFinished());
+        Assert.assertEquals(BOARD_SIZE, replayer.getTurnCount());
+        Assert.assertTrue(replayer.audit().toString(), replayer.audit().isEmpty());
+        GameState last = replayer.replay();
+        Assert.assertEquals(500, last.getPlayers().get(0).getCurrentScore());
+        Assert.assertEquals(0, last.getPlayers().get(1).getCurrentScore());
+        Assert.assertEquals(BOARD_SIZE, last.getQuestionService().getQuestions().size());
+    }
+
+    @Test
+    public void testAuditReportsTamperedLogs() throws Exception {
+        List<ActivityLog> logs = new ArrayList<>();
+        play("case-9", 9, logs, new ArrayList<>());
+        String csv = toCsv(logs);
+
+        // Credit Bob with points he never won, and let Cy take Ann's first turn
+        String tampered = csv.replaceFirst("(case-9,Bob,ANSWER_QUESTION,[^\\n]*,)(\\d+)\\n", "$1" + "9999\n");
+        String outOfTurn = csv.replaceFirst("case-9,Ann,SELECT_QUESTION", "case-9,Cy,SELECT_QUESTION")
+            .replaceFirst("case-9,Ann,ANSWER_QUESTION", "case-9,Cy,ANSWER_QUESTION");
+
+        List<String> scoreProblems = GameReplayer.byCase(ActivityLogCsvReader.read(
+            new BufferedReader(new StringReader(tampered)))).get("case-9").audit();
+        Assert.assertEquals(1, scoreProblems.size());
+        Assert.assertTrue(scoreProblems.get(0).contains("log says 9999"));
+
+        List<String> turnProblems = GameReplayer.byCase(ActivityLogCsvReader.read(
+            new BufferedReader(new StringReader(outOfTurn)))).get("case-9").audit();
+        Assert.assertFalse(turnProblems.isEmpty());
+        Assert.assertTrue(turnProblems.get(0).contains("it was Ann's turn"));
+    }
+
+    @Test
+    public void testReplaysThousandsOfGamesPerSecond() throws Exception {
+        List<ActivityLog> logs = new ArrayList<>();
+        play("template", 11, logs, new ArrayList<>());
+        String template = toCsv(logs).substring(HEADER.length());
+
+        StringBuilder archive = new StringBuilder(HEADER);
+        for (int g = 0; g < ARCHIVED_GAMES; g++) {
+            archive.append(template.replace("template,", "game-" + g + ","));
+        }
+        String csv = archive.toString();
+
+        // Warm up, then time reading and replaying the whole archive
+        GameReplayer.byCase(ActivityLogCsvReader.read(new BufferedReader(new StringReader(csv))))
+            .values().forEach(GameReplayer::replay);
+        long start = System.nanoTime();
+        Map<String, GameReplayer> games = GameReplayer.byCase(
+            ActivityLogCsvReader.read(new BufferedReader(new StringReader(csv))));
+        for (GameReplayer game : games.values()) {
+            game.replay();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Assert.assertEquals(ARCHIVED_GAMES, games.size());
+        if (Timings.ENABLED) {
+            Assert.assertTrue("Replayed " + games.size() / seconds + " games/s", games.size() / seconds > 1000);
+        }
+    }
+}
@@ -12,6 +12,7 @@ import com.jeopardy.game.Player;
 import com.jeopardy.report.format.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * Integration tests for report generation in all supported formats.
@@ -259,4 +260,21 @@ public class ReportGenerationTest {
         reportGenerator.update(sampleLogs.get(0));
         Assert.assertEquals("Valid log should be added", 1, reportGenerator.getActivityCount());
     }
+
+    /**
+     * Test report format discovery.
+     * Verifies that every format is found by name and unknown names are rejected.
+     */
+    @Test
+    public void testFormatDiscovery() {
+        Assert.assertEquals(Arrays.asList("PDF", "DOCX", "TXT", "CSV"), ReportFormats.getNames());
+        Assert.assertTrue(ReportFormats.create(ReportFormats.EVENT_LOG) instanceof CSVReportFormat);
+        Assert.assertTrue(ReportFormats.create("TXT") instanceof TXTReportFormat);
+        try {
+            ReportFormats.create("HTML");
+            Assert.fail("Unknown format should be rejected");
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().contains("HTML"));
+        }
+    }
 }
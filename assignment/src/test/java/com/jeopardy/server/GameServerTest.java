@@ -0,0 +1,246 @@
+package com.jeopardy.server;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jeopardy.QuestionFixtures;
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.question.Question;
+import com.jeopardy.question.QuestionService;
+import com.jeopardy.utils.ActivityType;
+import com.jeopardy.utils.GameConstants;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the NIO game server.
+ *
+ * Verifies:
+ * - The line protocol enforces joining, starting, turn order and turn phases
+ * - Moves run through the game's commands, publish activity logs and feed the leaderboard
+ * - In buzz-in games the first buzz answers and later buzzes get their delta
+ * - Moves that run out of time lose the turn
+ * - A line that fails on the server does not stop the connection's later lines
+ * - Hundreds of loopback clients play their games to the end
+ */
+public class GameServerTest {
+
+    private static final int LOAD_CONNECTIONS = 400;
+    private static final int BOARD_SIZE = 25;
+
+    private GameServer server;
+    private final List<ActivityLog> published = new CopyOnWriteArrayList<>();
+
+    /**
+     * A blocking test client.
+     */
+    private static final class Client implements AutoCloseable {
+        private final Socket socket;
+        private final BufferedReader in;
+        private final PrintWriter out;
+
+        Client(int port) throws IOException {
+            this.socket = new Socket("localhost", port);
+            this.socket.setSoTimeout(5_000);
+            this.in = new BufferedReader(new InputStreamReader(this.socket.getInputStream(), StandardCharsets.UTF_8));
+            this.out = new PrintWriter(this.socket.getOutputStream(), true);
+        }
+
+        /**
+         * Sends a line and returns the first following line that starts with OK or ERR.
+         */
+        String call(String line) throws IOException {
+            this.out.println(line);
+            return await("OK", "ERR");
+        }
+
+        /**
+         * Reads lines until one starts with any of the prefixes.
+         */
+        String await(String... prefixes) throws IOException {
+            String line;
+            while ((line = this.in.readLine()) != null) {
+                for (String prefix : prefixes) {
+                    if (line.startsWith(prefix)) {
+                        return line;
+                    }
+                }
+            }
+            throw new IOException("Connection closed");
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.socket.close();
+        }
+    }
+
+    @Before
+    public void startServer() throws IOException {
+        this.server = new GameServer(QuestionFixtures.board(), 0, 2);
+        this.server.subscribe(this.published::add);
+        this.server.start();
+    }
+
+    @After
+    public void stopServer() throws InterruptedException {
+        this.server.stop();
+    }
+
+    @Test
+    public void testProtocolEnforcesTurns() throws IOException {
+        int port = this.server.getPort();
+        try (Client alice = new Client(port); Client bob = new Client(port)) {
+            alice.out.println("PING");
+            Assert.assertEquals("PONG", alice.await("PONG"));
+            Assert.assertEquals("ERR join a room first", alice.call("START"));
+            Assert.assertEquals("OK JOINED room1 0", alice.call("JOIN room1 Alice"));
+            Assert.assertEquals("ERR name already taken", bob.call("JOIN room1 Alice"));
+            Assert.assertEquals("OK JOINED room1 1", bob.call("JOIN room1 Bob"));
+            Assert.assertEquals("ERR game not started", alice.call("CATEGORY 1"));
+
+            Assert.assertEquals("OK STARTED", bob.call("START"));
+            Assert.assertEquals("EVENT TURN Alice 0", bob.await("EVENT TURN"));
+            Assert.assertEquals("ERR not your turn", bob.call("CATEGORY 1"));
+            Assert.assertEquals("ERR expected SELECT_CATEGORY", alice.call("ANSWER A"));
+            alice.out.println("BOARD");
+            Assert.assertTrue(alice.await("BOARD").startsWith("BOARD 1 "));
+            Assert.assertEquals("OK BOARD 5", alice.await("OK"));
+
+            Assert.assertEquals("OK CATEGORY Category 0", alice.call("CATEGORY Category 0"));
+            Assert.assertEquals("OK VALUE 300", alice.call("VALUE 300"));
+            Assert.assertTrue(bob.await("EVENT QUESTION").startsWith("EVENT QUESTION 300 Question 0-3 | A) Yes | B) No"));
+            Assert.assertEquals("ERR [Error]: Invalid answer. Please enter a valid option.", alice.call("ANSWER Z"));
+            Assert.assertEquals("OK ANSWER", alice.call("ANSWER a"));
+            Assert.assertEquals("EVENT RESULT Alice Correct 300", bob.await("EVENT RESULT"));
+            Assert.assertEquals("EVENT TURN Bob 0", bob.await("EVENT TURN"));
+            Assert.assertEquals("OK SCORES Alice=300 Bob=0", bob.call("SCORES"));
+            Assert.assertEquals("OK LEADERBOARD Alice=300", bob.call("LEADERBOARD"));
+        }
+
+        boolean answerLogged = false;
+        for (ActivityLog log : this.published) {
+            answerLogged |= log.getActivity() == ActivityType.ANSWER_QUESTION;
+        }
+        Assert.assertTrue(answerLogged);
+    }
+
+    @Test
+    public void testBuzzInRound() throws IOException {
+        int port = this.server.getPort();
+        try (Client alice = new Client(port); Client bob = new Client(port)) {
+            Assert.assertEquals("OK JOINED buzz1 0", alice.call("JOIN buzz1 Alice"));
+            Assert.assertEquals("OK JOINED buzz1 1", bob.call("JOIN buzz1 Bob"));
+            Assert.assertEquals("ERR unknown mode FAST", alice.call("START FAST"));
+            Assert.assertEquals("OK STARTED BUZZ", alice.call("START BUZZ"));
+            Assert.assertEquals("ERR buzzers closed", bob.call("BUZZ"));
+
+            Assert.assertEquals("OK CATEGORY Category 1", alice.call("CATEGORY Category 1"));
+            Assert.assertEquals("OK VALUE 200", alice.call("VALUE 200"));
+            bob.await("EVENT BUZZ OPEN");
+            Assert.assertEquals("ERR buzz in first", alice.call("ANSWER A"));
+
+            Assert.assertTrue(bob.call("BUZZ").startsWith("OK BUZZ WON "));
+            Assert.assertTrue(alice.await("EVENT BUZZ Bob").startsWith("EVENT BUZZ Bob "));
+            Assert.assertTrue(alice.call("BUZZ").startsWith("OK BUZZ LATE "));
+            Assert.assertEquals("ERR already buzzed", bob.call("BUZZ"));
+            Assert.assertEquals("ERR not your question", alice.call("ANSWER A"));
+
+            Assert.assertEquals("OK ANSWER", bob.call("ANSWER A"));
+            Assert.assertEquals("EVENT RESULT Bob Correct 200", alice.await("EVENT RESULT"));
+            Assert.assertEquals("EVENT TURN Bob 200", alice.await("EVENT TURN"));
+            Assert.assertEquals("ERR buzzers closed", alice.call("BUZZ"));
+            Assert.assertEquals("OK SCORES Alice=0 Bob=200", alice.call("SCORES"));
+        }
+
+        boolean buzzLogged = false;
+        for (ActivityLog log : this.published) {
+            buzzLogged |= log.getActivity() == ActivityType.BUZZ_IN && "Bob".equals(log.getPlayerId());
+        }
+        Assert.assertTrue(buzzLogged);
+    }
+
+    @Test
+    public void testMoveTimeoutPassesTheTurn() throws Exception {
+        this.server.stop();
+        this.server = new GameServer(QuestionFixtures.board(), 0, 2);
+        this.server.subscribe(this.published::add);
+        this.server.setMoveTimeout(200, TimeUnit.MILLISECONDS);
+        this.server.start();
+
+        int port = this.server.getPort();
+        try (Client alice = new Client(port); Client bob = new Client(port)) {
+            Assert.assertEquals("OK JOINED slow1 0", alice.call("JOIN slow1 Alice"));
+            Assert.assertEquals("OK JOINED slow1 1", bob.call("JOIN slow1 Bob"));
+            Assert.assertEquals("OK STARTED", alice.call("START"));
+
+            Assert.assertEquals("EVENT TIMEOUT Alice SELECT_CATEGORY 0", bob.await("EVENT TIMEOUT"));
+            Assert.assertEquals("EVENT TURN Bob 0", bob.await("EVENT TURN"));
+            Assert.assertEquals("ERR not your turn", alice.call("CATEGORY 1"));
+
+            Assert.assertEquals("OK CATEGORY Category 3", bob.call("CATEGORY Category 3"));
+            Assert.assertEquals("OK VALUE 400", bob.call("VALUE 400"));
+            Assert.assertEquals("EVENT TIMEOUT Bob ANSWER 0", alice.await("EVENT TIMEOUT"));
+            Assert.assertEquals("EVENT TURN Alice 0", alice.await("EVENT TURN"));
+            Assert.assertEquals("ERR not your turn", bob.call("ANSWER A"));
+            Assert.assertEquals("OK CATEGORY Category 3", alice.call("CATEGORY Category 3"));
+            Assert.assertEquals("ERR unknown value", alice.call("VALUE 400"));
+        }
+
+        List<ActivityLog> timeouts = new ArrayList<>();
+        for (ActivityLog log : this.published) {
+            if (log.getActivity() == ActivityType.TIMEOUT) {
+                timeouts.add(log);
+            }
+        }
+        Assert.assertTrue(timeouts.size() >= 2);
+        Assert.assertEquals("Alice", timeouts.get(0).getPlayerId());
+        Assert.assertEquals(100, timeouts.get(0).getQuestionValue());
+        Assert.assertEquals("Bob", timeouts.get(1).getPlayerId());
+        Assert.assertEquals(400, timeouts.get(1).getQuestionValue());
+        Assert.assertEquals(GameConstants.RESULT_INCORRECT, timeouts.get(1).getResult());
+    }
+
+    @Test
+    public void testFailingLineKeepsConnectionReading() throws Exception {
+        QuestionService broken = QuestionFixtures.board();
+        for (Question q : broken.getQuestions()) {
+            q.setCorrectAnswer(null);
+        }
+        this.server.stop();
+        this.server = new GameServer(broken, 0, 2);
+        this.server.start();
+
+        try (Client alice = new Client(this.server.getPort())) {
+            Assert.assertEquals("OK JOINED broken1 0", alice.call("JOIN broken1 Alice"));
+            Assert.assertEquals("OK STARTED", alice.call("START"));
+            Assert.assertEquals("OK CATEGORY Category 0", alice.call("CATEGORY Category 0"));
+            Assert.assertEquals("OK VALUE 100", alice.call("VALUE 100"));
+            Assert.assertEquals("ERR internal error", alice.call("ANSWER A"));
+            alice.out.println("PING");
+            Assert.assertEquals("PONG", alice.await("PONG"));
+            Assert.assertEquals("OK SCORES Alice=0", alice.call("SCORES"));
+        }
+    }
+
+    @Test
+    public void testLoopbackLoad() throws IOException {
+        LoadTestClient.Result result = LoadTestClient.run(
+            new InetSocketAddress("localhost", this.server.getPort()), LOAD_CONNECTIONS, 2, 60_000);
+
+        Assert.assertEquals(LOAD_CONNECTIONS, result.getFinished());
+        Assert.assertEquals(LOAD_CONNECTIONS / 2 * BOARD_SIZE, result.getTurns());
+    }
+}
@@ -0,0 +1,193 @@
+package com.jeopardy.session;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jeopardy.QuestionFixtures;
+import com.jeopardy.game.GameState;
+import com.jeopardy.game.TurnPhase;
+import com.jeopardy.logging.ActivityLog;
+import com.jeopardy.logging.observer.Subscriber;
+import com.jeopardy.timer.TimingWheel;
+import com.jeopardy.utils.ActivityType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for sessions driven by a command queue.
+ *
+ * Verifies:
+ * - A bot can queue a whole game ahead and every move is applied in order, in batches
+ * - Moves for a turn or phase the game has left are stale; invalid moves are rejected
+ * - Moves sent after the session closes are rejected at once
+ * - Moves that run out of time are resolved as incorrect and logged as timeouts
+ * - Command sessions are hosted by the SessionManager
+ */
+public class CommandSessionTest {
+
+    private static final int BOARD_SIZE = 25;
+
+    private static CommandSession session(List<Subscriber> subscribers) {
+        return new CommandSession("queued", new GameState(new Random(1)), QuestionFixtures.board(), Arrays.asList("Ann", "Bob"), subscribers);
+    }
+
+    /**
+     * Queues the three moves of a turn: the category and value the turn clears, then an answer.
+     */
+    private static List<SessionCommand> turn(CommandSession session, int turn, String answer) {
+        String player = turn % 2 == 0 ? "Ann" : "Bob";
+        return Arrays.asList(
+            session.submit(SessionCommand.selectCategory(player, turn, "Category " + turn / 5)),
+            session.submit(SessionCommand.selectQuestion(player, turn, (turn % 5 + 1) * 100)),
+            session.submit(SessionCommand.answer(player, turn, answer)));
+    }
+
+    private static CommandResult result(SessionCommand command) throws Exception {
+        return command.getResult().get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testPipelinedGameIsAppliedInOrderAndInBatches() throws Exception {
+        List<ActivityLog> logs = Collections.synchronizedList(new ArrayList<>());
+        CommandSession session = session(Collections.singletonList(logs::add));
+
+        // The bot queues the whole game before the session starts draining
+        List<SessionCommand> moves = new ArrayList<>();
+        for (int t = 0; t < BOARD_SIZE; t++) {
+            moves.addAll(turn(session, t, t % 2 == 0 ? "A" : "b"));
+        }
+        session.run();
+
+        for (int i = 0; i < moves.size(); i++) {
+            CommandResult result = result(moves.get(i));
+            Assert.assertTrue(result.toString(), result.isApplied());
+            Assert.assertEquals(i, result.getSequence());
+        }
+        Assert.assertTrue(session.isOver());
+        Assert.assertEquals(TurnPhase.TURN_END, session.getPhase());
+        Assert.assertEquals(BOARD_SIZE, session.getTurn());
+        Assert.assertEquals(3 * BOARD_SIZE, session.getAppliedCount());
+        Assert.assertEquals((3 * BOARD_SIZE + CommandSession.MAX_BATCH - 1) / CommandSession.MAX_BATCH, session.getBatchCount());
+
+        // Ann answered every even turn correctly: 100+300+500 from categories 0, 2, 4 and 200+400 from 1, 3
+        Assert.assertEquals(3 * (100 + 300 + 500) + 2 * (200 + 400), session.getState().getPlayers().get(0).getCurrentScore());
+        Assert.assertEquals(0, session.getState().getPlayers().get(1).getCurrentScore());
+
+        Assert.assertEquals(ActivityType.START_GAME, logs.get(0).getActivity());
+        Assert.assertEquals(ActivityType.SELECT_PLAYER_COUNT, logs.get(1).getActivity());
+        Assert.assertEquals("2", logs.get(1).getResult());
+        Assert.assertEquals(ActivityType.GAME_OVER, logs.get(logs.size() - 1).getActivity());
+        Assert.assertEquals(3 * BOARD_SIZE + 3, logs.size());
+        Assert.assertEquals("Bob", logs.get(5).getPlayerId());
+        Assert.assertEquals(ActivityType.SELECT_CATEGORY, logs.get(5).getActivity());
+    }
+
+    @Test
+    public void testStaleAndInvalidMovesAreRefused() throws Exception {
+        CommandSession session = session(Collections.emptyList());
+        Thread consumer = new Thread(session);
+        consumer.start();
+
+        Assert.assertEquals(CommandResult.Status.REJECTED,
+            result(session.submit(SessionCommand.selectCategory("Bob", 0, "Category 0"))).getStatus());
+        Assert.assertEquals(CommandResult.Status.REJECTED,
+            result(session.submit(SessionCommand.selectCategory("Ann", 0, "Nope"))).getStatus());
+        Assert.assertEquals(CommandResult.Status.STALE,
+            result(session.submit(SessionCommand.answer("Ann", 0, "A"))).getStatus());
+
+        List<SessionCommand> first = turn(session, 0, "A");
+        // A double click: the second answer arrives after the turn has passed to Bob
+        SessionCommand repeat = session.submit(SessionCommand.answer("Ann", 0, "A"));
+        for (SessionCommand move : first) {
+            Assert.assertTrue(result(move).isApplied());
+        }
+        CommandResult stale = result(repeat);
+        Assert.assertEquals(CommandResult.Status.STALE, stale.getStatus());
+        Assert.assertEquals("Expected turn 1 SELECT_CATEGORY", stale.getMessage());
+        Assert.assertEquals(1, session.getTurn());
+
+        Assert.assertTrue(result(session.submit(SessionCommand.selectCategory("Bob", 1, "Category 0"))).isApplied());
+        Assert.assertEquals(CommandResult.Status.REJECTED,
+            result(session.submit(SessionCommand.selectQuestion("Bob", 1, 100))).getStatus());
+        Assert.assertTrue(result(session.submit(SessionCommand.selectQuestion("Bob", 1, 200))).isApplied());
+        Assert.assertEquals(CommandResult.Status.REJECTED,
+            result(session.submit(SessionCommand.answer("Bob", 1, "Z"))).getStatus());
+        Assert.assertEquals(TurnPhase.ANSWER, session.getPhase());
+        Assert.assertEquals(100, session.getState().getPlayers().get(0).getCurrentScore());
+
+        session.close();
+        consumer.join(5_000);
+        Assert.assertFalse(consumer.isAlive());
+        CommandResult closed = result(session.submit(SessionCommand.answer("Bob", 1, "A")));
+        Assert.assertEquals(CommandResult.Status.REJECTED, closed.getStatus());
+        Assert.assertEquals(-1, closed.getSequence());
+    }
+
+    @Test
+    public void testManagerHostsCommandSessions() throws Exception {
+        SessionManager manager = new SessionManager(QuestionFixtures.board());
+        CommandSession session = manager.createCommandSession(Collections.singletonList("Solo"), Collections.emptyList());
+        Assert.assertEquals(1, manager.getActiveSessionCount());
+
+        SessionCommand last = null;
+        for (int t = 0; t < BOARD_SIZE; t++) {
+            session.submit(SessionCommand.selectCategory("Solo", t, "Category " + t / 5));
+            session.submit(SessionCommand.selectQuestion("Solo", t, (t % 5 + 1) * 100));
+            last = session.submit(SessionCommand.answer("Solo", t, "A"));
+        }
+        Assert.assertTrue(result(last).isApplied());
+        Assert.assertTrue(session.isOver());
+        Assert.assertEquals(CommandResult.Status.REJECTED,
+            result(session.submit(SessionCommand.selectCategory("Solo", BOARD_SIZE, "Category 0"))).getStatus());
+
+        Assert.assertTrue(manager.shutdown(5, TimeUnit.SECONDS));
+        Assert.assertEquals(0, manager.getActiveSessionCount());
+        Assert.assertEquals(7500, session.getState().getPlayers().get(0).getCurrentScore());
+    }
+
+    @Test
+    public void testExpiredMovesAreResolvedAsIncorrect() throws Exception {
+        List<ActivityLog> logs = Collections.synchronizedList(new ArrayList<>());
+        CommandSession session = session(Collections.singletonList(logs::add));
+        try (TimingWheel timer = new TimingWheel("test-timer", 1, TimeUnit.MILLISECONDS, 64)) {
+            session.setMoveTimeout(timer, 20, TimeUnit.MILLISECONDS);
+            Thread consumer = new Thread(session);
+            consumer.start();
+
+            // Ann picks a question, then lets the answer deadline pass
+            Assert.assertTrue(result(session.submit(SessionCommand.selectCategory("Ann", 0, "Category 2"))).isApplied());
+            Assert.assertTrue(result(session.submit(SessionCommand.selectQuestion("Ann", 0, 300))).isApplied());
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (session.getTurn() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            Assert.assertEquals(CommandResult.Status.STALE,
+                result(session.submit(SessionCommand.answer("Ann", 0, "A"))).getStatus());
+
+            // Nobody moves again: every turn times out and the game still ends
+            consumer.join(10_000);
+            Assert.assertFalse(consumer.isAlive());
+        }
+
+        Assert.assertTrue(session.isOver());
+        Assert.assertEquals(0, session.getState().getPlayers().get(0).getCurrentScore());
+        List<ActivityLog> timeouts = new ArrayList<>();
+        for (ActivityLog log : logs) {
+            if (log.getActivity() == ActivityType.TIMEOUT) {
+                timeouts.add(log);
+            }
+        }
+        Assert.assertEquals(BOARD_SIZE, timeouts.size());
+        Assert.assertEquals("Ann", timeouts.get(0).getPlayerId());
+        Assert.assertEquals(300, timeouts.get(0).getQuestionValue());
+        Assert.assertEquals("Category 2", timeouts.get(0).getCategory());
+        Assert.assertEquals("Bob", timeouts.get(1).getPlayerId());
+        Assert.assertEquals(100, timeouts.get(1).getQuestionValue());
+        Assert.assertEquals(ActivityType.GAME_OVER, logs.get(logs.size() - 1).getActivity());
+    }
+}
@@ -0,0 +1,94 @@
+package com.jeopardy.session;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jeopardy.QuestionFixtures;
+import com.jeopardy.question.QuestionService;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for hosting several games in one JVM.
+ *
+ * Verifies:
+ * - Many idle sessions can be started and shut down cleanly
+ * - A session reports when it is parked on a prompt, and not once input is queued
+ * - Sessions play on copies, so the shared bank is never modified
+ * - Each session logs under its own case ID
+ * - Each session writes its screens to its own output, never to System.out
+ */
+public class SessionManagerTest {
+
+    private static final int IDLE_SESSIONS = 1_000;
+
+    private static void awaitEnd(GameSession session) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!session.isEnded() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        Assert.assertTrue("Session did not end: " + session.getId(), session.isEnded());
+    }
+
+    @Test
+    public void testManyIdleSessionsStartAndShutDown() throws Exception {
+        SessionManager manager = new SessionManager(QuestionFixtures.board());
+        List<GameSession> sessions = new ArrayList<>();
+        for (int i = 0; i < IDLE_SESSIONS; i++) {
+            sessions.add(manager.createSession());
+        }
+        Assert.assertEquals(IDLE_SESSIONS, manager.getActiveSessionCount());
+
+        Assert.assertTrue(manager.shutdown(30, TimeUnit.SECONDS));
+        for (GameSession session : sessions) {
+            Assert.assertEquals(GameSession.Status.DISCONNECTED, session.getStatus());
+        }
+        Assert.assertEquals(0, manager.getActiveSessionCount());
+    }
+
+    @Test
+    public void testSessionReportsWhenAwaitingInput() throws Exception {
+        SessionManager manager = new SessionManager(QuestionFixtures.board());
+        GameSession session = manager.createSession();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!session.isAwaitingInput() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        Assert.assertTrue(session.isAwaitingInput());
+        Assert.assertEquals(GameSession.Status.RUNNING, session.getStatus());
+
+        Assert.assertTrue(manager.shutdown(10, TimeUnit.SECONDS));
+        Assert.assertFalse(session.isAwaitingInput());
+    }
+
+    @Test
+    public void testSessionPlaysOnCopiesOfSharedBank() throws Exception {
+        QuestionService bank = QuestionFixtures.board();
+        SessionManager manager = new SessionManager(bank);
+
+        ByteArrayOutputStream screen = new ByteArrayOutputStream();
+        GameSession session = manager.createSession(screen);
+        Assert.assertSame(session, manager.getSession(session.getId()));
+        Assert.assertEquals(session.getId(), session.getState().getCaseId());
+
+        session.send("1");
+        session.send("Session Player");
+        session.send("1");
+        session.send("1");
+        session.send("A");
+        session.send("");
+        session.close();
+        awaitEnd(session);
+
+        Assert.assertEquals(GameSession.Status.DISCONNECTED, session.getStatus());
+        Assert.assertEquals(24, session.getState().getQuestionService().getUnansweredQuestions().size());
+        Assert.assertEquals(25, bank.getUnansweredQuestions().size());
+        Assert.assertNull(manager.getSession(session.getId()));
+        Assert.assertTrue(screen.toString(StandardCharsets.UTF_8).contains("Session Player"));
+        Assert.assertTrue(manager.shutdown(5, TimeUnit.SECONDS));
+    }
+}
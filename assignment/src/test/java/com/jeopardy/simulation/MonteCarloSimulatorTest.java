@@ -0,0 +1,108 @@
+package com.jeopardy.simulation;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jeopardy.QuestionFixtures;
+import com.jeopardy.question.Question;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tests for the Monte Carlo game simulator.
+ *
+ * Verifies:
+ * - Results do not depend on how games are split across threads
+ * - Recorded points add up across seats and category opening positions
+ * - Strategies behave as described (greedy beats random, wrong answers are wrong)
+ */
+public class MonteCarloSimulatorTest {
+
+    private static final int GAMES = 2_000;
+
+    private static void assertSameStats(SimulationStats expected, SimulationStats actual) {
+        Assert.assertEquals(expected.getGames(), actual.getGames());
+        Assert.assertEquals(expected.getTies(), actual.getTies());
+        Assert.assertEquals(expected.getMeanSpread(), actual.getMeanSpread(), 0);
+        for (int s = 0; s < expected.getSeats(); s++) {
+            Assert.assertEquals(expected.getWins(s), actual.getWins(s));
+            Assert.assertEquals(expected.getMeanScore(s), actual.getMeanScore(s), 0);
+            Assert.assertEquals(expected.getScoreStdDev(s), actual.getScoreStdDev(s), 0);
+        }
+        for (int k = 0; k < expected.getOpeningOrderCount(); k++) {
+            Assert.assertEquals(expected.getMeanPointsByOpeningOrder(k), actual.getMeanPointsByOpeningOrder(k), 0);
+        }
+    }
+
+    @Test
+    public void testResultsIndependentOfParallelism() {
+        List<BotStrategy> seats = Arrays.asList(
+            new RandomBotStrategy(), new GreedyBotStrategy(0.6), AccuracyWeightedBotStrategy.withSkillSeed(7));
+        MonteCarloSimulator simulator = new MonteCarloSimulator(QuestionFixtures.bank(8, 2), seats, 11);
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+        try {
+            SimulationStats sequential = simulator.run(GAMES, single);
+            SimulationStats parallel = simulator.run(GAMES, several);
+
+            Assert.assertEquals(GAMES, sequential.getGames());
+            assertSameStats(sequential, parallel);
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    @Test
+    public void testPointsAddUp() {
+        List<BotStrategy> seats = Arrays.asList(new GreedyBotStrategy(0.5), new GreedyBotStrategy(0.5));
+        SimulationStats stats = new MonteCarloSimulator(QuestionFixtures.bank(8, 2), seats, 3).run(GAMES);
+
+        double bySeat = 0;
+        for (int s = 0; s < stats.getSeats(); s++) {
+            bySeat += stats.getMeanScore(s);
+        }
+        double byCategory = 0;
+        for (int k = 0; k < stats.getOpeningOrderCount(); k++) {
+            byCategory += stats.getMeanPointsByOpeningOrder(k);
+        }
+        Assert.assertEquals(5, stats.getOpeningOrderCount());
+        Assert.assertEquals(bySeat, byCategory, 1e-6);
+        Assert.assertTrue(bySeat <= 5 * 1500);
+
+        long outcomes = stats.getTies();
+        for (int s = 0; s < stats.getSeats(); s++) {
+            outcomes += stats.getWins(s);
+        }
+        Assert.assertEquals(stats.getGames(), outcomes);
+    }
+
+    @Test
+    public void testPerfectGreedyBeatsRandom() {
+        List<BotStrategy> seats = Arrays.asList(new RandomBotStrategy(), new GreedyBotStrategy(1.0));
+        SimulationStats stats = new MonteCarloSimulator(QuestionFixtures.bank(8, 2), seats, 5).run(GAMES);
+
+        Assert.assertTrue(stats.getWinRate(1) > 0.95);
+        Assert.assertTrue(stats.getMeanScore(1) > stats.getMeanScore(0));
+    }
+
+    @Test
+    public void testWrongAnswersAreNeverCorrect() {
+        Random random = new Random(1);
+        Question q = new Question();
+        q.setOptions(new String[] {"One", "Two", "Three"});
+        for (String correct : new String[] {"A", "B", "C"}) {
+            q.setCorrectAnswer(correct);
+            for (int i = 0; i < 100; i++) {
+                String answer = BotStrategy.answer(q, false, random);
+                Assert.assertTrue(q.hasOption(answer));
+                Assert.assertFalse(q.isCorrect(answer));
+            }
+            Assert.assertTrue(q.isCorrect(BotStrategy.answer(q, true, random)));
+        }
+    }
+}
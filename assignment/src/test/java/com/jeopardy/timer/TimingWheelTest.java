@@ -0,0 +1,111 @@
+package com.jeopardy.timer;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the hashed timing wheel.
+ *
+ * Verifies:
+ * - Timeouts run after their delay, never before it
+ * - Cancelled timeouts never run, including ones due after several rotations
+ * - Hundreds of thousands of deadlines are scheduled and cancelled in constant time
+ */
+public class TimingWheelTest {
+
+    private static final int MANY = 200_000;
+
+    private TimingWheel wheel;
+
+    @After
+    public void closeWheel() {
+        if (this.wheel != null) {
+            this.wheel.close();
+        }
+    }
+
+    @Test
+    public void testTimeoutRunsAfterItsDelay() throws Exception {
+        this.wheel = new TimingWheel("test-timer", 1, TimeUnit.MILLISECONDS, 8);
+        CountDownLatch fired = new CountDownLatch(2);
+        long[] elapsed = new long[2];
+        long start = System.nanoTime();
+
+        Timeout shortDelay = this.wheel.schedule(() -> {
+            elapsed[0] = System.nanoTime() - start;
+            fired.countDown();
+        }, 20, TimeUnit.MILLISECONDS);
+        // 60 ticks on an 8-bucket wheel: due after several rotations
+        this.wheel.schedule(() -> {
+            elapsed[1] = System.nanoTime() - start;
+            fired.countDown();
+        }, 60, TimeUnit.MILLISECONDS);
+
+        Assert.assertTrue(fired.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(shortDelay.isExpired());
+        Assert.assertFalse(shortDelay.cancel());
+        Assert.assertTrue(elapsed[0] >= TimeUnit.MILLISECONDS.toNanos(20));
+        Assert.assertTrue(elapsed[1] >= TimeUnit.MILLISECONDS.toNanos(60));
+        Assert.assertEquals(0, this.wheel.getPendingCount());
+    }
+
+    @Test
+    public void testCancelledTimeoutNeverRuns() throws Exception {
+        // Deadlines far enough out that a busy machine still cancels them in time
+        this.wheel = new TimingWheel("test-timer", 10, TimeUnit.MILLISECONDS, 8);
+        AtomicInteger runs = new AtomicInteger();
+        Timeout early = this.wheel.schedule(runs::incrementAndGet, 500, TimeUnit.MILLISECONDS);
+        // 80 ticks on an 8-bucket wheel: due after several rotations
+        Timeout late = this.wheel.schedule(runs::incrementAndGet, 800, TimeUnit.MILLISECONDS);
+        CountDownLatch marker = new CountDownLatch(1);
+        this.wheel.schedule(marker::countDown, 1_000, TimeUnit.MILLISECONDS);
+
+        Assert.assertTrue(early.cancel());
+        Assert.assertFalse(early.cancel());
+        // Let the wheel hash the late deadline into its bucket before cancelling it
+        Thread.sleep(50);
+        Assert.assertTrue(late.cancel());
+
+        Assert.assertTrue(marker.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(0, runs.get());
+        Assert.assertTrue(early.isCancelled());
+        Assert.assertFalse(late.isExpired());
+        Assert.assertEquals(0, this.wheel.getPendingCount());
+    }
+
+    @Test
+    public void testManyPendingDeadlines() throws Exception {
+        this.wheel = new TimingWheel("test-timer");
+        AtomicInteger runs = new AtomicInteger();
+        List<Timeout> timeouts = new ArrayList<>(MANY);
+
+        for (int i = 0; i < MANY; i++) {
+            timeouts.add(this.wheel.schedule(runs::incrementAndGet, 30 + i % 60, TimeUnit.SECONDS));
+        }
+        Assert.assertEquals(MANY, this.wheel.getPendingCount());
+
+        // Let the wheel hash them into its buckets, then cancel every one
+        Thread.sleep(50);
+        for (Timeout timeout : timeouts) {
+            Assert.assertTrue(timeout.cancel());
+        }
+
+        Assert.assertEquals(0, this.wheel.getPendingCount());
+        Assert.assertEquals(0, runs.get());
+
+        // The wheel keeps expiring new deadlines once the cancelled ones are unlinked
+        CountDownLatch fired = new CountDownLatch(1_000);
+        for (int i = 0; i < 1_000; i++) {
+            this.wheel.schedule(fired::countDown, i % 50, TimeUnit.MILLISECONDS);
+        }
+        Assert.assertTrue(fired.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(0, runs.get());
+    }
+}
@@ -0,0 +1,134 @@
+package com.jeopardy.tournament;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jeopardy.QuestionFixtures;
+import com.jeopardy.game.GameState;
+import com.jeopardy.game.Player;
+import com.jeopardy.replay.GameReplayer;
+import com.jeopardy.report.ReportGenerator;
+import com.jeopardy.simulation.BotStrategy;
+import com.jeopardy.utils.GameConstants;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tests for the tournament engine.
+ *
+ * Verifies:
+ * - Rounds are split into balanced games within the player limit
+ * - The highest score at each table advances, ties going to the earliest seat
+ * - The bracket does not depend on the pool's parallelism
+ * - The consolidated activity logs replay every game and feed a report
+ */
+public class TournamentTest {
+
+    private static final int ENTRANTS = 300;
+
+    private static List<Entrant> entrants(int count) {
+        String[] strategies = {"greedy", "random", "accuracy"};
+        List<Entrant> entrants = new ArrayList<>();
+        for (int e = 0; e < count; e++) {
+            entrants.add(new Entrant("Player " + (e + 1), BotStrategy.forName(strategies[e % strategies.length], e)));
+        }
+        return entrants;
+    }
+
+    private static TournamentResult play(int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return new Tournament(QuestionFixtures.bank(8, 1), entrants(ENTRANTS), 7).run(pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testBracketAdvancesTableWinners() {
+        TournamentResult result = play(4);
+
+        Assert.assertEquals(5, result.getRoundCount());
+        Assert.assertEquals(75 + 19 + 5 + 2 + 1, result.getGameCount());
+
+        Set<String> field = new HashSet<>();
+        for (Entrant entrant : entrants(ENTRANTS)) {
+            field.add(entrant.getName());
+        }
+        for (int r = 1; r <= result.getRoundCount(); r++) {
+            Set<String> seated = new HashSet<>();
+            Set<String> winners = new HashSet<>();
+            int smallest = Integer.MAX_VALUE;
+            int largest = 0;
+            for (GameResult game : result.getRound(r)) {
+                int seats = game.getEntrants().size();
+                smallest = Math.min(smallest, seats);
+                largest = Math.max(largest, seats);
+                for (int s = 0; s < seats; s++) {
+                    Assert.assertTrue(seated.add(game.getEntrants().get(s).getName()));
+                    if (s < game.getWinnerSeat()) {
+                        Assert.assertTrue(game.getScore(s) < game.getScore(game.getWinnerSeat()));
+                    } else {
+                        Assert.assertTrue(game.getScore(s) <= game.getScore(game.getWinnerSeat()));
+                    }
+                }
+                winners.add(game.getWinner().getName());
+            }
+            Assert.assertEquals(field, seated);
+            Assert.assertTrue(smallest >= 2);
+            Assert.assertTrue(largest <= GameConstants.MAX_PLAYERS);
+            Assert.assertTrue(largest - smallest <= 1);
+            Assert.assertTrue(result.getRoundNanos(r) >= result.getSlowestGameNanos(r));
+            field = winners;
+        }
+        Assert.assertEquals(1, field.size());
+        Assert.assertTrue(field.contains(result.getChampion().getName()));
+    }
+
+    @Test
+    public void testBracketDoesNotDependOnParallelism() {
+        TournamentResult serial = play(1);
+        TournamentResult parallel = play(4);
+
+        Assert.assertEquals(serial.getChampion().getName(), parallel.getChampion().getName());
+        for (int r = 1; r <= serial.getRoundCount(); r++) {
+            List<GameResult> expected = serial.getRound(r);
+            List<GameResult> actual = parallel.getRound(r);
+            Assert.assertEquals(expected.size(), actual.size());
+            for (int g = 0; g < expected.size(); g++) {
+                Assert.assertEquals(expected.get(g).toString(), actual.get(g).toString());
+            }
+        }
+    }
+
+    @Test
+    public void testConsolidatedLogsReplayEveryGame() {
+        TournamentResult result = play(2);
+
+        Map<String, GameReplayer> games = GameReplayer.byCase(result.getActivityLogs());
+        Assert.assertEquals(result.getGameCount(), games.size());
+        for (int r = 1; r <= result.getRoundCount(); r++) {
+            for (GameResult game : result.getRound(r)) {
+                GameReplayer replayer = games.get(game.getCaseId());
+                Assert.assertTrue(replayer.isFinished());
+                Assert.assertTrue(replayer.audit().isEmpty());
+
+                GameState state = replayer.replay();
+                for (int s = 0; s < game.getEntrants().size(); s++) {
+                    Player player = state.getPlayers().get(s);
+                    Assert.assertEquals(game.getEntrants().get(s).getName(), player.getId());
+                    Assert.assertEquals(game.getScore(s), player.getCurrentScore());
+                }
+            }
+        }
+
+        ReportGenerator reports = new ReportGenerator();
+        result.publishTo(reports);
+        Assert.assertEquals(result.getActivityLogs().size(), reports.getActivityCount());
+    }
+}
@@ -0,0 +1,109 @@
+package com.jeopardy.ui;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jeopardy.exception.MoveTimeoutException;
+import com.jeopardy.game.GameEngine;
+import com.jeopardy.game.GameState;
+import com.jeopardy.game.SeenQuestionStore;
+import com.jeopardy.timer.TimingWheel;
+import com.jeopardy.utils.ActivityType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for console move deadlines on the terminal.
+ *
+ * Verifies:
+ * - Lines typed in time are read, and a move with no input times out
+ * - The marker of a move already made never times out a later read
+ * - A console game whose player stops typing still ends, every turn timing out
+ */
+public class TerminalGameIOTest {
+
+    private static final long MOVE_TIMEOUT_MILLIS = 30;
+
+    private TimingWheel timer;
+    private PipedOutputStream keyboard;
+    private TerminalGameIO terminal;
+
+    @Before
+    public void setUp() throws IOException {
+        this.timer = new TimingWheel("test-timer", 1, TimeUnit.MILLISECONDS, 64);
+        this.keyboard = new PipedOutputStream();
+        this.terminal = new TerminalGameIO(new PipedInputStream(this.keyboard), OutputStream.nullOutputStream(),
+            StandardCharsets.UTF_8);
+        this.terminal.setMoveTimeout(this.timer, MOVE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        this.keyboard.close();
+        this.timer.close();
+    }
+
+    private void type(String text) throws IOException {
+        this.keyboard.write(text.getBytes(StandardCharsets.UTF_8));
+        this.keyboard.flush();
+    }
+
+    @Test
+    public void testMoveWithoutInputTimesOut() throws Exception {
+        type("first\n");
+        this.terminal.beginMove();
+        Assert.assertEquals("first", this.terminal.readLine());
+        this.terminal.endMove();
+
+        this.terminal.beginMove();
+        try {
+            this.terminal.readLine();
+            Assert.fail("Expected the move to time out");
+        } catch (MoveTimeoutException e) {
+            // expected
+        } finally {
+            this.terminal.endMove();
+        }
+    }
+
+    @Test
+    public void testExpiredMarkerOfFinishedMoveIsSkipped() throws Exception {
+        type("start\nearly\n");
+        Assert.assertEquals("start", this.terminal.readLine());
+        this.terminal.beginMove();
+        Thread.sleep(MOVE_TIMEOUT_MILLIS * 4);
+        // The deadline expired behind a line typed in time, which still counts
+        Assert.assertEquals("early", this.terminal.readLine());
+        this.terminal.endMove();
+
+        type("late\n");
+        Assert.assertEquals("late", this.terminal.readLine());
+    }
+
+    @Test
+    public void testIdleConsoleGameEndsOnTimeouts() throws Exception {
+        AtomicInteger timeouts = new AtomicInteger();
+        GameEngine engine = new GameEngine(new GameState(new Random(42), new SeenQuestionStore(null)), this.terminal);
+        engine.subscribe(log -> {
+            if (log.getActivity() == ActivityType.TIMEOUT) {
+                timeouts.incrementAndGet();
+            }
+        });
+        type("1\nAlice\n1\n");
+
+        engine.start();
+
+        Assert.assertTrue(engine.isGameOver());
+        Assert.assertEquals(engine.getState().getQuestionService().getQuestions().size(), timeouts.get());
+        Assert.assertEquals(0, engine.getState().getPlayers().get(0).getCurrentScore());
+    }
+}
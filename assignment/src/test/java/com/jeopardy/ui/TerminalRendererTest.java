@@ -0,0 +1,132 @@
+package com.jeopardy.ui;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.jeopardy.game.GameEngine;
+import com.jeopardy.game.GameState;
+import com.jeopardy.game.SeenQuestionStore;
+import com.jeopardy.question.Question;
+import com.jeopardy.question.QuestionService;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests for the diff-based terminal renderer and the board view.
+ *
+ * Verifies:
+ * - The first frame clears the screen and later frames send only the rows that changed
+ * - Echoed input is treated as already on screen
+ * - A frame taller than the terminal is scrolled to its last rows
+ * - The board shows open questions and blanks answered ones
+ * - A whole game sends far fewer bytes than redrawing every screen in full
+ */
+public class TerminalRendererTest {
+
+    private static final int BOARD_SIZE = 25;
+
+    private static String text(ByteArrayOutputStream out) {
+        String sent = out.toString(StandardCharsets.UTF_8);
+        out.reset();
+        return sent;
+    }
+
+    @Test
+    public void testOnlyChangedRowsAreSent() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TerminalRenderer renderer = new TerminalRenderer(out, StandardCharsets.UTF_8);
+
+        renderer.write("Title\nAlice 100\nBob 200\nChoice? ");
+        renderer.present();
+        Assert.assertEquals("\033[H\033[2J\033[1;1HTitle\033[K\033[2;1HAlice 100\033[K\033[3;1HBob 200\033[K"
+            + "\033[4;1HChoice? \033[K\033[4;9H", text(out));
+        Assert.assertEquals(4, renderer.getRowsWritten());
+
+        renderer.echo("2");
+        renderer.clear();
+        renderer.write("Title\nAlice 100\nBob 400\nChoice? ");
+        renderer.present();
+        Assert.assertEquals("\033[3;1HBob 400\033[K\033[4;1HChoice? \033[K\033[5;1H\033[J\033[4;9H", text(out));
+
+        renderer.clear();
+        renderer.write("Title\nAlice 100\nBob 400\nChoice? ");
+        renderer.present();
+        Assert.assertEquals("\033[4;9H", text(out));
+        Assert.assertEquals(6, renderer.getRowsWritten());
+    }
+
+    @Test
+    public void testTallFrameScrollsToTerminalHeight() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TerminalRenderer renderer = new TerminalRenderer(out, StandardCharsets.UTF_8, 3);
+
+        renderer.write("Title\n1) Yes\n2) No\nChoice? ");
+        renderer.present();
+        Assert.assertEquals("\033[H\033[2J\033[1;1H1) Yes\033[K\033[2;1H2) No\033[K"
+            + "\033[3;1HChoice? \033[K\033[3;9H", text(out));
+
+        renderer.echo("9");
+        renderer.write("Invalid\nChoice? ");
+        renderer.present();
+        Assert.assertEquals("\033[1;1HChoice? 9\033[K\033[2;1HInvalid\033[K\033[3;1HChoice? \033[K\033[3;9H",
+            text(out));
+        Assert.assertEquals(6, renderer.getRowsWritten());
+    }
+
+    @Test
+    public void testBoardBlanksAnsweredQuestions() {
+        ArrayList<Question> questions = new ArrayList<>();
+        for (String category : new String[] {"History", "A Very Long Category Name"}) {
+            for (int value = 100; value <= 200; value += 100) {
+                Question q = new Question();
+                q.setCategory(category);
+                q.setValue(value);
+                questions.add(q);
+            }
+        }
+        questions.get(1).tryClaim();
+        QuestionService board = new QuestionService();
+        board.setQuestions(questions);
+
+        List<String> rows = BoardView.render(board);
+        Assert.assertEquals(4, rows.size());
+        Assert.assertEquals("| History          | A Very Long Cat. |", rows.get(0));
+        Assert.assertEquals("+------------------+------------------+", rows.get(1));
+        Assert.assertEquals("|       $100       |       $100       |", rows.get(2));
+        Assert.assertEquals("|                  |       $200       |", rows.get(3));
+        Assert.assertTrue(BoardView.render(new QuestionService()).isEmpty());
+    }
+
+    @Test
+    public void testGameSendsFewerBytesThanFullRedraws() {
+        StringBuilder input = new StringBuilder("2\nAlice\nBob\n1\n");
+        for (int turn = 0; turn < BOARD_SIZE; turn++) {
+            input.append("1\n1\nA\n\n");
+        }
+        byte[] script = input.toString().getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream full = new ByteArrayOutputStream();
+        GameEngine console = new GameEngine(new GameState(new Random(42), new SeenQuestionStore(null)),
+            new ConsoleGameIO(new ByteArrayInputStream(script), new PrintStream(full, true, StandardCharsets.UTF_8)));
+        console.start();
+
+        ByteArrayOutputStream diffed = new ByteArrayOutputStream();
+        TerminalGameIO terminal = new TerminalGameIO(new ByteArrayInputStream(script), diffed, StandardCharsets.UTF_8);
+        GameEngine engine = new GameEngine(new GameState(new Random(42), new SeenQuestionStore(null)), terminal);
+        engine.start();
+
+        Assert.assertTrue(console.isGameOver());
+        Assert.assertTrue(engine.isGameOver());
+        Assert.assertEquals(diffed.size(), terminal.getRenderer().getBytesWritten());
+        String sent = diffed.toString(StandardCharsets.UTF_8);
+        Assert.assertTrue(sent.contains("$500"));
+        Assert.assertTrue(diffed.size() * 3 < full.size());
+    }
+}